@@ -0,0 +1,78 @@
+package com.example.orderservice.archive;
+
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 처리된 주문 (COMPLETED / CANCELLED 후 보관 기간이 지난 주문)
+ * 원본 orders 행을 ID 그대로 옮겨 온 읽기 전용 사본
+ */
+@Entity
+@Table(name = "orders_archive", indexes = {
+    @Index(name = "idx_orders_archive_member_date", columnList = "memberId, orderDate")
+})
+public class ArchivedOrder {
+
+  @Id
+  private Long id;
+
+  @Column(nullable = false)
+  private Long memberId;
+
+  @Column(nullable = false)
+  private Integer totalPrice;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private OrderStatus status;
+
+  @Column(nullable = false)
+  private LocalDateTime orderDate;
+
+  @Column(nullable = false)
+  private LocalDateTime archivedAt;
+
+  public ArchivedOrder() {
+  }
+
+  public ArchivedOrder(final Order order, final LocalDateTime archivedAt) {
+    this.id = order.getId();
+    this.memberId = order.getMemberId();
+    this.totalPrice = order.getTotalPrice();
+    this.status = order.getStatus();
+    this.orderDate = order.getOrderDate();
+    this.archivedAt = archivedAt;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getMemberId() {
+    return memberId;
+  }
+
+  public Integer getTotalPrice() {
+    return totalPrice;
+  }
+
+  public OrderStatus getStatus() {
+    return status;
+  }
+
+  public LocalDateTime getOrderDate() {
+    return orderDate;
+  }
+
+  public LocalDateTime getArchivedAt() {
+    return archivedAt;
+  }
+}
@@ -0,0 +1,69 @@
+package com.example.orderservice.archive;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * 보관 처리된 주문 상품 (원본 order_items 행의 읽기 전용 사본)
+ */
+@Entity
+@Table(name = "order_items_archive", indexes = {
+    @Index(name = "idx_order_items_archive_order", columnList = "orderId")
+})
+public class ArchivedOrderItem {
+
+  @Id
+  private Long id;
+
+  @Column(nullable = false)
+  private Long orderId;
+
+  @Column(nullable = false)
+  private Long productId;
+
+  @Column(nullable = false)
+  private String productName;
+
+  @Column(nullable = false)
+  private Integer productPrice;
+
+  @Column(nullable = false)
+  private Integer orderQuantity;
+
+  @Column(nullable = false)
+  private Integer totalPrice;
+
+  public ArchivedOrderItem() {
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getOrderId() {
+    return orderId;
+  }
+
+  public Long getProductId() {
+    return productId;
+  }
+
+  public String getProductName() {
+    return productName;
+  }
+
+  public Integer getProductPrice() {
+    return productPrice;
+  }
+
+  public Integer getOrderQuantity() {
+    return orderQuantity;
+  }
+
+  public Integer getTotalPrice() {
+    return totalPrice;
+  }
+}
@@ -0,0 +1,12 @@
+package com.example.orderservice.archive;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedOrderItemRepository {
+
+  List<ArchivedOrderItem> findByOrderId(Long orderId);
+
+  // order_items 의 해당 주문 상품을 보관 테이블로 복사 (복사한 행 수 반환)
+  int copyFromOrderItems(Collection<Long> orderIds);
+}
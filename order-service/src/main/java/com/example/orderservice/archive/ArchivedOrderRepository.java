@@ -0,0 +1,16 @@
+package com.example.orderservice.archive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArchivedOrderRepository {
+
+  Optional<ArchivedOrder> findById(Long id);
+
+  // 주문일 최신순
+  List<ArchivedOrder> findByMemberId(Long memberId);
+
+  // orders 의 해당 주문을 보관 테이블로 복사 (복사한 행 수 반환)
+  int copyFromOrders(Collection<Long> orderIds);
+}
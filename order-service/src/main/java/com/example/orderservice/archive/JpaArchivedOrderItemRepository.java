@@ -0,0 +1,28 @@
+package com.example.orderservice.archive;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaArchivedOrderItemRepository extends ArchivedOrderItemRepository,
+    JpaRepository<ArchivedOrderItem, Long> {
+
+  List<ArchivedOrderItem> findByOrderIdOrderByIdAsc(Long orderId);
+
+  @Override
+  @Modifying
+  @Query("INSERT INTO ArchivedOrderItem (id, orderId, productId, productName, productPrice, orderQuantity, totalPrice)"
+      + " SELECT i.id, i.orderId, i.productId, i.productName, i.productPrice, i.orderQuantity, i.totalPrice"
+      + " FROM OrderItem i WHERE i.orderId IN :orderIds")
+  int copyFromOrderItems(@Param("orderIds") Collection<Long> orderIds);
+
+  @Override
+  default List<ArchivedOrderItem> findByOrderId(final Long orderId) {
+    return findByOrderIdOrderByIdAsc(orderId);
+  }
+}
@@ -0,0 +1,27 @@
+package com.example.orderservice.archive;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaArchivedOrderRepository extends ArchivedOrderRepository, JpaRepository<ArchivedOrder, Long> {
+
+  List<ArchivedOrder> findByMemberIdOrderByOrderDateDesc(Long memberId);
+
+  @Override
+  @Modifying
+  @Query("INSERT INTO ArchivedOrder (id, memberId, totalPrice, status, orderDate, archivedAt)"
+      + " SELECT o.id, o.memberId, o.totalPrice, o.status, o.orderDate, LOCAL_DATETIME"
+      + " FROM Order o WHERE o.id IN :orderIds")
+  int copyFromOrders(@Param("orderIds") Collection<Long> orderIds);
+
+  @Override
+  default List<ArchivedOrder> findByMemberId(final Long memberId) {
+    return findByMemberIdOrderByOrderDateDesc(memberId);
+  }
+}
@@ -0,0 +1,125 @@
+package com.example.orderservice.archive;
+
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.repository.OrderItemRepository;
+import com.example.orderservice.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보관 기간이 지난 COMPLETED / CANCELLED 주문을 orders / order_items 에서 보관 테이블로 옮긴다
+ * - batchSize 건씩 별도 트랜잭션: 대상 ID 조회 → 상품/주문 복사(INSERT ... SELECT) → 원본 삭제
+ * - 복사/삭제 건수가 대상 수와 다르면(그 사이 상태가 바뀐 주문 등) 예외로 롤백하고 다음 실행에서 다시 시도
+ * - 한 번 실행에 최대 maxBatchesPerRun 배치까지만 처리해 운영 중 부하를 제한한다
+ * - 주문 이력 조회 모델(order_history)은 옮기지 않으므로 my-orders 응답은 보관 여부와 무관하다
+ */
+@Component
+@ConditionalOnProperty(name = "order.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchiver {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderArchiver.class);
+  private static final Set<OrderStatus> ARCHIVABLE = Set.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED);
+
+  private final OrderRepository orderRepository;
+  private final OrderItemRepository orderItemRepository;
+  private final ArchivedOrderRepository archivedOrderRepository;
+  private final ArchivedOrderItemRepository archivedOrderItemRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final Duration retention;
+  private final int batchSize;
+  private final int maxBatchesPerRun;
+
+  public OrderArchiver(final OrderRepository orderRepository,
+      final OrderItemRepository orderItemRepository,
+      final ArchivedOrderRepository archivedOrderRepository,
+      final ArchivedOrderItemRepository archivedOrderItemRepository,
+      final TransactionTemplate transactionTemplate,
+      final MeterRegistry meterRegistry,
+      @Value("${order.archive.retention-days:90}") final int retentionDays,
+      @Value("${order.archive.batch-size:500}") final int batchSize,
+      @Value("${order.archive.max-batches-per-run:20}") final int maxBatchesPerRun) {
+    this.orderRepository = orderRepository;
+    this.orderItemRepository = orderItemRepository;
+    this.archivedOrderRepository = archivedOrderRepository;
+    this.archivedOrderItemRepository = archivedOrderItemRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.meterRegistry = meterRegistry;
+    this.retention = Duration.ofDays(retentionDays);
+    this.batchSize = batchSize;
+    this.maxBatchesPerRun = maxBatchesPerRun;
+  }
+
+  @Scheduled(initialDelayString = "${order.archive.interval-ms:3600000}",
+      fixedDelayString = "${order.archive.interval-ms:3600000}")
+  public void poll() {
+    try {
+      archive();
+    } catch (RuntimeException e) {
+      log.error("주문 보관 처리 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 보관 대상 주문을 옮기고 처리 결과를 반환
+   */
+  public ArchiveResult archive() {
+    final long start = System.nanoTime();
+    final LocalDateTime before = LocalDateTime.now().minus(retention);
+
+    int batches = 0;
+    int archived = 0;
+    while (batches < maxBatchesPerRun) {
+      final int moved = transactionTemplate.execute(status -> archiveBatch(before));
+      if (moved == 0) {
+        break;
+      }
+      batches++;
+      archived += moved;
+      meterRegistry.counter("order.archive.orders").increment(moved);
+      if (moved < batchSize) {
+        break;
+      }
+    }
+
+    final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    if (archived > 0) {
+      log.info("주문 보관 처리 - {}배치, {}건, {}ms", batches, archived, elapsedMillis);
+    }
+    return new ArchiveResult(batches, archived, elapsedMillis);
+  }
+
+  private int archiveBatch(final LocalDateTime before) {
+    final List<Long> orderIds = orderRepository.findArchivableOrderIds(ARCHIVABLE, before, batchSize);
+    if (orderIds.isEmpty()) {
+      return 0;
+    }
+
+    final int copiedItems = archivedOrderItemRepository.copyFromOrderItems(orderIds);
+    final int copiedOrders = archivedOrderRepository.copyFromOrders(orderIds);
+    final int deletedItems = orderItemRepository.deleteByOrderIds(orderIds);
+    final int deletedOrders = orderRepository.deleteByIds(orderIds);
+
+    if (copiedOrders != orderIds.size() || deletedOrders != orderIds.size() || copiedItems != deletedItems) {
+      throw new ApplicationException(String.format(
+          "주문 보관 건수 불일치 - 대상: %d, 주문 복사/삭제: %d/%d, 상품 복사/삭제: %d/%d",
+          orderIds.size(), copiedOrders, deletedOrders, copiedItems, deletedItems));
+    }
+    return orderIds.size();
+  }
+
+  public record ArchiveResult(int batches, int orders, long elapsedMillis) {
+  }
+}
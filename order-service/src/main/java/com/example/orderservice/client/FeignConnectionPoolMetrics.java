@@ -0,0 +1,29 @@
+package com.example.orderservice.client;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign HC5 커넥션 풀 지표
+ * - httpcomponents.httpclient.pool.total.connections{state=leased|available}, pool.total.pending 등
+ */
+@Configuration
+public class FeignConnectionPoolMetrics {
+
+  private static final String POOL_NAME = "feign";
+
+  @Bean
+  public MeterBinder feignConnectionPoolMeterBinder(
+      final ObjectProvider<HttpClientConnectionManager> connectionManagers) {
+    return registry -> connectionManagers.orderedStream()
+        .filter(PoolingHttpClientConnectionManager.class::isInstance)
+        .map(PoolingHttpClientConnectionManager.class::cast)
+        .findFirst()
+        .ifPresent(pool -> new PoolingHttpClientConnectionManagerMetricsBinder(pool, POOL_NAME).bindTo(registry));
+  }
+}
@@ -1,13 +1,41 @@
 package com.example.orderservice.client;
 
+import com.example.orderservice.dto.request.ReduceProductRequest;
+import com.example.orderservice.dto.request.RestoreProductRequest;
+import com.example.orderservice.dto.request.RestoreStockBatchRequest;
+import com.example.orderservice.dto.response.ProductChangeHeadResponse;
+import com.example.orderservice.dto.response.ProductChangeResponse;
 import com.example.orderservice.dto.response.ProductResponse;
+import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "product-client", url = "${product-service.api-url}")
+@FeignClient(name = "product-client", url = "${product-service.api-url}", primary = false, qualifiers = {"productFeignClient"})
 public interface ProductClient {
 
   @GetMapping("/{id}")
   ProductResponse findProductById(@PathVariable("id") Long productId);
-}
\ No newline at end of file
+
+  @GetMapping
+  List<ProductResponse> findAllProducts();
+
+  @GetMapping("/changes")
+  List<ProductChangeResponse> findChanges(@RequestParam("after") Long afterChangeId, @RequestParam("limit") int limit);
+
+  @GetMapping("/changes/head")
+  ProductChangeHeadResponse findChangeHead();
+
+  @PutMapping("/{id}/reduce")
+  void reduceStock(@PathVariable("id") Long productId, @RequestBody ReduceProductRequest request);
+
+  @PutMapping("/{id}/restore")
+  void restoreStock(@PathVariable("id") Long productId, @RequestBody RestoreProductRequest request);
+
+  @PostMapping("/restore-stock")
+  void restoreStocks(@RequestBody RestoreStockBatchRequest request);
+}
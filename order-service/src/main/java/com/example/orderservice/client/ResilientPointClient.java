@@ -0,0 +1,49 @@
+package com.example.orderservice.client;
+
+import com.example.orderservice.dto.request.DeductPointsRequest;
+import com.example.orderservice.dto.request.RefundPointsRequest;
+import com.example.orderservice.dto.response.DeductPointsResponse;
+import com.example.orderservice.resilience.CallPolicy;
+import com.example.orderservice.resilience.DependencyGuard;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * PointClient 에 마감 시간 / 서킷 브레이커를 적용한 구현
+ * - 차감/환불은 멱등하지 않으므로 재시도와 헤징을 하지 않는다 (환불 재시도는 CompensationWorker 담당)
+ */
+@Primary
+@Component
+public class ResilientPointClient implements PointClient {
+
+  private final PointClient delegate;
+  private final DependencyGuard guard;
+  private final CallPolicy deductPolicy;
+  private final CallPolicy refundPolicy;
+
+  public ResilientPointClient(@Qualifier("pointFeignClient") final PointClient delegate,
+      @Qualifier("pointServiceGuard") final DependencyGuard guard,
+      @Value("${order.resilience.point-service.deduct.timeout-ms:2000}") final long deductTimeoutMillis,
+      @Value("${order.resilience.point-service.refund.timeout-ms:2000}") final long refundTimeoutMillis) {
+    this.delegate = delegate;
+    this.guard = guard;
+    this.deductPolicy = CallPolicy.of(Duration.ofMillis(deductTimeoutMillis));
+    this.refundPolicy = CallPolicy.of(Duration.ofMillis(refundTimeoutMillis));
+  }
+
+  @Override
+  public DeductPointsResponse deductPoints(final DeductPointsRequest request) {
+    return guard.call("deductPoints", deductPolicy, () -> delegate.deductPoints(request));
+  }
+
+  @Override
+  public void refundPoints(final RefundPointsRequest request) {
+    guard.call("refundPoints", refundPolicy, () -> {
+      delegate.refundPoints(request);
+      return null;
+    });
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.orderservice.client;
+
+import com.example.orderservice.dto.request.ReduceProductRequest;
+import com.example.orderservice.dto.request.RestoreProductRequest;
+import com.example.orderservice.dto.request.RestoreStockBatchRequest;
+import com.example.orderservice.dto.response.ProductChangeHeadResponse;
+import com.example.orderservice.dto.response.ProductChangeResponse;
+import com.example.orderservice.dto.response.ProductResponse;
+import com.example.orderservice.resilience.CallPolicy;
+import com.example.orderservice.resilience.DependencyGuard;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProductClient 에 마감 시간 / 서킷 브레이커 / 재시도 예산 / 헤징을 적용한 구현
+ * - 상품 조회(GET)만 재시도와 헤징 대상, 재고 차감/복구는 멱등하지 않으므로 마감 시간만 적용
+ *   (일괄 복구는 restoreKey 로 멱등하지만 재시도는 CompensationWorker 가 백오프로 담당)
+ */
+@Primary
+@Component
+public class ResilientProductClient implements ProductClient {
+
+  private final ProductClient delegate;
+  private final DependencyGuard guard;
+  private final CallPolicy findPolicy;
+  private final CallPolicy writePolicy;
+  private final CallPolicy catalogPolicy;
+
+  public ResilientProductClient(@Qualifier("productFeignClient") final ProductClient delegate,
+      @Qualifier("productServiceGuard") final DependencyGuard guard,
+      @Value("${order.resilience.product-service.find.timeout-ms:500}") final long findTimeoutMillis,
+      @Value("${order.resilience.product-service.find.max-retries:1}") final int findMaxRetries,
+      @Value("${order.resilience.product-service.find.hedge-delay-ms:0}") final long findHedgeDelayMillis,
+      @Value("${order.resilience.product-service.write.timeout-ms:2000}") final long writeTimeoutMillis,
+      @Value("${order.resilience.product-service.catalog.timeout-ms:3000}") final long catalogTimeoutMillis) {
+    this.delegate = delegate;
+    this.guard = guard;
+    this.findPolicy = CallPolicy.idempotent(Duration.ofMillis(findTimeoutMillis), findMaxRetries,
+        Duration.ofMillis(findHedgeDelayMillis));
+    this.writePolicy = CallPolicy.of(Duration.ofMillis(writeTimeoutMillis));
+    this.catalogPolicy = CallPolicy.of(Duration.ofMillis(catalogTimeoutMillis));
+  }
+
+  @Override
+  public ProductResponse findProductById(final Long productId) {
+    return guard.call("findProductById", findPolicy, () -> delegate.findProductById(productId));
+  }
+
+  @Override
+  public List<ProductResponse> findAllProducts() {
+    return guard.call("findAllProducts", catalogPolicy, delegate::findAllProducts);
+  }
+
+  @Override
+  public List<ProductChangeResponse> findChanges(final Long afterChangeId, final int limit) {
+    return guard.call("findChanges", catalogPolicy, () -> delegate.findChanges(afterChangeId, limit));
+  }
+
+  @Override
+  public ProductChangeHeadResponse findChangeHead() {
+    return guard.call("findChangeHead", catalogPolicy, delegate::findChangeHead);
+  }
+
+  @Override
+  public void reduceStock(final Long productId, final ReduceProductRequest request) {
+    guard.call("reduceStock", writePolicy, () -> {
+      delegate.reduceStock(productId, request);
+      return null;
+    });
+  }
+
+  @Override
+  public void restoreStock(final Long productId, final RestoreProductRequest request) {
+    guard.call("restoreStock", writePolicy, () -> {
+      delegate.restoreStock(productId, request);
+      return null;
+    });
+  }
+
+  @Override
+  public void restoreStocks(final RestoreStockBatchRequest request) {
+    guard.call("restoreStocks", writePolicy, () -> {
+      delegate.restoreStocks(request);
+      return null;
+    });
+  }
+}
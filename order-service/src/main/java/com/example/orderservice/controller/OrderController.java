@@ -1,16 +1,34 @@
 package com.example.orderservice.controller;
 
+import com.example.orderservice.dto.request.BatchStatusChangeRequest;
 import com.example.orderservice.dto.request.CreateOrderRequest;
+import com.example.orderservice.dto.response.BatchStatusChangeResponse;
+import com.example.orderservice.dto.response.OrderHistoryResponse;
 import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.dto.response.PaymentStatusResponse;
+import com.example.orderservice.history.OrderHistoryService;
+import com.example.orderservice.idempotency.IdempotencyService;
+import com.example.orderservice.payment.AsyncPaymentService;
+import com.example.orderservice.payment.PaymentMethod;
+import com.example.orderservice.ratelimit.OrderRateLimiter;
+import com.example.orderservice.saga.OrderCancellationService;
+import com.example.orderservice.saga.OrderSagaOrchestrator;
 import com.example.orderservice.service.OrderService;
+import com.example.orderservice.service.OrderStatusBatchService;
+import java.net.URI;
 import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /*
 ✅ 필수 구현
@@ -22,38 +40,108 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/orders")
 public class OrderController {
 
+  private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
   private final OrderService orderService;
+  private final OrderSagaOrchestrator orderSagaOrchestrator;
+  private final IdempotencyService idempotencyService;
+  private final AsyncPaymentService asyncPaymentService;
+  private final OrderHistoryService orderHistoryService;
+  private final OrderStatusBatchService orderStatusBatchService;
+  private final OrderCancellationService orderCancellationService;
+  private final OrderRateLimiter orderRateLimiter;
 
-  public OrderController(final OrderService orderService) {
+  public OrderController(final OrderService orderService,
+      final OrderSagaOrchestrator orderSagaOrchestrator,
+      final IdempotencyService idempotencyService,
+      final AsyncPaymentService asyncPaymentService,
+      final OrderHistoryService orderHistoryService,
+      final OrderStatusBatchService orderStatusBatchService,
+      final OrderCancellationService orderCancellationService,
+      final OrderRateLimiter orderRateLimiter) {
     this.orderService = orderService;
+    this.orderSagaOrchestrator = orderSagaOrchestrator;
+    this.idempotencyService = idempotencyService;
+    this.asyncPaymentService = asyncPaymentService;
+    this.orderHistoryService = orderHistoryService;
+    this.orderStatusBatchService = orderStatusBatchService;
+    this.orderCancellationService = orderCancellationService;
+    this.orderRateLimiter = orderRateLimiter;
   }
   
-  // 내 주문 목록 조회
+  // 내 주문 목록 조회 (주문 이력 조회 모델)
   @GetMapping("/{userId}/my-orders")
   public List<OrderResponse> findMyOrders(@PathVariable Long userId) {
-    return orderService.findMyOrders(userId);
+    return orderHistoryService.findMyOrders(userId);
+  }
+
+  // 주문 상품 요약을 포함한 주문 이력
+  @GetMapping("/{userId}/history")
+  public List<OrderHistoryResponse> findOrderHistory(@PathVariable final Long userId) {
+    return orderHistoryService.findOrderHistory(userId);
   }
 
-  // 주문 ID로 주문 상세 조회
+  // 주문 ID로 주문 상세 조회 (주문 이력 조회 모델)
   @GetMapping("/{id}")
   public OrderResponse findOrderById(@PathVariable final Long id) {
-    return orderService.findOrderById(id);
+    return orderHistoryService.findOrderById(id);
   }
 
-  // 주문 생성
+  // 주문 생성 (요청 제한 초과 시 429)
   @PostMapping
-  public OrderResponse createOrder(@RequestBody final CreateOrderRequest request) {
-    return orderService.createOrder(request);
+  public OrderResponse createOrder(@RequestBody final CreateOrderRequest request,
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey) {
+    orderRateLimiter.acquire(request.memberId());
+    return idempotencyService.execute("create-order", idempotencyKey, request, OrderResponse.class,
+        () -> orderService.createOrder(request));
   }
 
-  // 주문 취소
+  // 주문 생성 → 재고 차감 → 결제 → 확정 (사가, 요청 제한 초과 시 429)
+  @PostMapping("/checkout")
+  public OrderResponse checkout(@RequestBody final CreateOrderRequest request) {
+    orderRateLimiter.acquire(request.memberId());
+    return orderSagaOrchestrator.checkout(request);
+  }
+
+  // 주문 취소 (결제 완료 주문은 재고 복구 + 포인트 환불)
   @PutMapping("/{id}/cancel")
   public OrderResponse cancelOrder(@PathVariable final Long id) {
-    return orderService.cancelOrder(id);
+    return orderCancellationService.cancel(id);
+  }
+
+  // 배송 처리용 일괄 상태 변경 (SHIPPED / DELIVERED / COMPLETED), 주문별 결과 반환
+  @PutMapping("/status")
+  public BatchStatusChangeResponse changeOrderStatuses(@RequestBody final BatchStatusChangeRequest request) {
+    return orderStatusBatchService.changeStatus(request);
   }
 
   @PutMapping("/{id}/payment")
-  public OrderResponse paymentOrder(@PathVariable final Long id) {
-    return orderService.processOrderPayment(id);
+  public OrderResponse paymentOrder(@PathVariable final Long id,
+      @RequestParam(defaultValue = "POINT") final PaymentMethod method,
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey) {
+    return idempotencyService.execute("pay-order", idempotencyKey, id + ":" + method, OrderResponse.class,
+        () -> orderService.processOrderPayment(id, method));
+  }
+
+  // 비동기 결제 접수 - 202 와 결제 ID 를 바로 반환
+  @PostMapping("/{id}/payment/async")
+  public ResponseEntity<PaymentStatusResponse> requestPayment(@PathVariable final Long id,
+      @RequestParam(defaultValue = "POINT") final PaymentMethod method) {
+    final PaymentStatusResponse response = asyncPaymentService.requestPayment(id, method);
+    return ResponseEntity.accepted()
+        .location(URI.create("/api/orders/payments/" + response.paymentId()))
+        .body(response);
+  }
+
+  // 비동기 결제 상태 조회 (polling)
+  @GetMapping("/payments/{paymentId}")
+  public PaymentStatusResponse findPaymentStatus(@PathVariable final Long paymentId) {
+    return asyncPaymentService.findPaymentStatus(paymentId);
+  }
+
+  // 비동기 결제 상태 구독 (SSE)
+  @GetMapping(value = "/payments/{paymentId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribePaymentStatus(@PathVariable final Long paymentId) {
+    return asyncPaymentService.subscribe(paymentId);
   }
 }
@@ -0,0 +1,8 @@
+package com.example.orderservice.dto.request;
+
+import com.example.orderservice.entity.OrderStatus;
+import java.util.List;
+
+public record BatchStatusChangeRequest(List<Long> orderIds, OrderStatus targetStatus) {
+
+}
@@ -1,5 +1,9 @@
 package com.example.orderservice.dto.request;
 
-public record DeductPointsRequest(Long userId, Integer balance) {
+// idempotencyKey 가 같은 요청은 point-service 가 한 번만 차감한다
+public record DeductPointsRequest(Long userId, Integer balance, Long orderId, String idempotencyKey) {
 
+  public DeductPointsRequest(Long userId, Integer balance) {
+    this(userId, balance, null, null);
+  }
 }
@@ -1,5 +1,9 @@
 package com.example.orderservice.dto.request;
 
-public record ReduceProductRequest(Long id, Integer quantity) {
+// reservationKey 가 같은 차감은 product-service 가 한 번만 반영한다 (주문 항목 단위)
+public record ReduceProductRequest(Long id, Integer quantity, String reservationKey) {
 
+  public ReduceProductRequest(Long id, Integer quantity) {
+    this(id, quantity, null);
+  }
 }
@@ -0,0 +1,9 @@
+package com.example.orderservice.dto.request;
+
+// idempotencyKey 가 같은 요청은 point-service 가 한 번만 환불한다
+public record RefundPointsRequest(Long userId, Integer amount, Long orderId, String idempotencyKey) {
+
+  public RefundPointsRequest(Long userId, Integer amount) {
+    this(userId, amount, null, null);
+  }
+}
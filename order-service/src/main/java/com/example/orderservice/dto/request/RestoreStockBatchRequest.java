@@ -0,0 +1,20 @@
+package com.example.orderservice.dto.request;
+
+import java.util.List;
+
+/**
+ * 여러 상품 재고 일괄 복구 요청
+ * restoreKey 는 항목마다 고유 (보상 작업 ID 기반) - 재시도해도 product-service 가 중복 복구하지 않는다
+ * reservationKey 가 있으면 그 키로 실제로 차감된 경우에만 복구한다 (차감 전이면 이후의 같은 키 차감을 막는다)
+ */
+public record RestoreStockBatchRequest(
+    List<Item> items
+) {
+
+  public record Item(String restoreKey, Long productId, Integer quantity, String reservationKey) {
+
+    public Item(String restoreKey, Long productId, Integer quantity) {
+      this(restoreKey, productId, quantity, null);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.example.orderservice.dto.response;
+
+import com.example.orderservice.entity.OrderStatus;
+import java.util.List;
+
+public record BatchStatusChangeResponse(
+    OrderStatus targetStatus,
+    int requested,
+    int updated,
+    int failed,
+    long elapsedMillis,
+    List<OrderStatusChangeResult> results
+) {
+}
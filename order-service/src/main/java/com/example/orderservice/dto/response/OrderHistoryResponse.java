@@ -0,0 +1,27 @@
+package com.example.orderservice.dto.response;
+
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.history.OrderHistory;
+import java.time.LocalDateTime;
+
+public record OrderHistoryResponse(
+    Long id,
+    Long memberId,
+    Integer totalPrice,
+    OrderStatus status,
+    LocalDateTime orderDate,
+    Integer itemCount,
+    String itemSummary
+) {
+  public static OrderHistoryResponse of(final OrderHistory history) {
+    return new OrderHistoryResponse(
+        history.getOrderId(),
+        history.getMemberId(),
+        history.getTotalPrice(),
+        history.getStatus(),
+        history.getOrderDate(),
+        history.getItemCount(),
+        history.getItemSummary()
+    );
+  }
+}
@@ -1,7 +1,9 @@
 package com.example.orderservice.dto.response;
 
+import com.example.orderservice.archive.ArchivedOrder;
 import com.example.orderservice.entity.Order;
 import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.history.OrderHistory;
 import java.time.LocalDateTime;
 
 public record OrderResponse(
@@ -20,4 +22,24 @@ public record OrderResponse(
         order.getOrderDate()
     );
   }
+
+  public static OrderResponse of(final OrderHistory history) {
+    return new OrderResponse(
+        history.getOrderId(),
+        history.getMemberId(),
+        history.getTotalPrice(),
+        history.getStatus(),
+        history.getOrderDate()
+    );
+  }
+
+  public static OrderResponse of(final ArchivedOrder archived) {
+    return new OrderResponse(
+        archived.getId(),
+        archived.getMemberId(),
+        archived.getTotalPrice(),
+        archived.getStatus(),
+        archived.getOrderDate()
+    );
+  }
 }
@@ -0,0 +1,16 @@
+package com.example.orderservice.dto.response;
+
+import com.example.orderservice.entity.OrderStatus;
+
+/**
+ * 일괄 상태 변경의 주문별 결과
+ * - previousStatus: 변경 시도 시점의 상태 (주문이 없으면 null)
+ */
+public record OrderStatusChangeResult(Long orderId, Outcome outcome, OrderStatus previousStatus) {
+
+  public enum Outcome {
+    UPDATED,
+    NOT_FOUND,
+    INVALID_TRANSITION
+  }
+}
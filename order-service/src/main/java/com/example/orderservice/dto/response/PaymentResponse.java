@@ -8,6 +8,6 @@ public record PaymentResponse(PaymentStatus status, String transactionId, String
   }
 
   public static PaymentResponse failure(String reason) {
-    return new PaymentResponse(PaymentStatus.SUCCESS, null, reason);
+    return new PaymentResponse(PaymentStatus.FAILED, null, reason);
   }
 }
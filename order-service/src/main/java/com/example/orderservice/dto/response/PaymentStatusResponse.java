@@ -0,0 +1,32 @@
+package com.example.orderservice.dto.response;
+
+import com.example.orderservice.payment.Payment;
+import com.example.orderservice.payment.PaymentMethod;
+import com.example.orderservice.payment.PaymentStatus;
+import java.time.LocalDateTime;
+
+public record PaymentStatusResponse(
+    Long paymentId,
+    Long orderId,
+    Integer amount,
+    PaymentMethod method,
+    PaymentStatus status,
+    String transactionId,
+    String failureReason,
+    LocalDateTime requestedAt,
+    LocalDateTime completedAt
+) {
+  public static PaymentStatusResponse of(final Payment payment) {
+    return new PaymentStatusResponse(
+        payment.getId(),
+        payment.getOrderId(),
+        payment.getAmount(),
+        payment.getMethod(),
+        payment.getStatus(),
+        payment.getTransactionId(),
+        payment.getFailureReason(),
+        payment.getRequestedAt(),
+        payment.getCompletedAt()
+    );
+  }
+}
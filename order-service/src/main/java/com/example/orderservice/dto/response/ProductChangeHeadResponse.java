@@ -0,0 +1,4 @@
+package com.example.orderservice.dto.response;
+
+public record ProductChangeHeadResponse(Long latestChangeId) {
+}
@@ -0,0 +1,8 @@
+package com.example.orderservice.dto.response;
+
+import com.example.orderservice.replica.ProductChangeType;
+import java.time.LocalDateTime;
+
+public record ProductChangeResponse(Long changeId, Long productId, ProductChangeType type, String name,
+                                    Integer price, LocalDateTime changedAt) {
+}
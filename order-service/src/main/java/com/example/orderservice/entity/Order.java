@@ -1,22 +1,24 @@
 package com.example.orderservice.entity;
 
 import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_status_order_date", columnList = "status, orderDate")
+})
 public class Order {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @SnowflakeId
   private Long id;
 
   @Column(nullable = false)
@@ -43,12 +45,26 @@ public class Order {
   }
 
   public void complete() {
-    if (this.status != OrderStatus.PAID) {
+    if (!this.status.canTransitionTo(OrderStatus.COMPLETED)) {
       throw new ApplicationException("결제 완료 주문만 완료 처리할 수 있습니다.");
     }
     this.status = OrderStatus.COMPLETED;
   }
 
+  public void ship() {
+    if (!this.status.canTransitionTo(OrderStatus.SHIPPED)) {
+      throw new ApplicationException("결제 완료 주문만 배송 처리할 수 있습니다.");
+    }
+    this.status = OrderStatus.SHIPPED;
+  }
+
+  public void deliver() {
+    if (!this.status.canTransitionTo(OrderStatus.DELIVERED)) {
+      throw new ApplicationException("배송 중인 주문만 배송 완료 처리할 수 있습니다.");
+    }
+    this.status = OrderStatus.DELIVERED;
+  }
+
   public void markAsPaid() {
     if (this.status != OrderStatus.PENDING) {
       throw new ApplicationException("대기 중인 주문만 취소 처리할 수 있습니다.");
@@ -63,6 +79,16 @@ public class Order {
     this.status = OrderStatus.CANCELLED;
   }
 
+  /**
+   * 결제 완료 주문 취소 - 재고 복구/포인트 환불은 호출하는 쪽에서 보상 작업으로 처리
+   */
+  public void cancelPaid() {
+    if (this.status != OrderStatus.PAID) {
+      throw new ApplicationException("결제 완료 주문만 결제 취소할 수 있습니다.");
+    }
+    this.status = OrderStatus.CANCELLED;
+  }
+
   public Long getId() {
     return id;
   }
@@ -1,18 +1,20 @@
 package com.example.orderservice.entity;
 
+import com.example.orderservice.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+    @Index(name = "idx_order_items_order", columnList = "orderId")
+})
 public class OrderItem {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @SnowflakeId
   private Long id;
 
   @Column(nullable = false)
@@ -72,4 +74,9 @@ public class OrderItem {
   public Integer getTotalPrice() {
     return totalPrice;
   }
+
+  // product-service 재고 차감 / 복구의 멱등 키 - 같은 주문 항목의 차감은 한 번만 반영된다
+  public String reservationKey() {
+    return "order-" + orderId + "-item-" + id;
+  }
 }
\ No newline at end of file
@@ -1,8 +1,40 @@
 package com.example.orderservice.entity;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 주문 상태와 허용되는 전이
+ * PENDING → PAID → SHIPPED → DELIVERED → COMPLETED
+ * PENDING → CANCELLED, PAID → CANCELLED (재고 복구 + 환불), PAID → COMPLETED (배송 없이 완료)
+ */
 public enum OrderStatus {
   PENDING,
   PAID,
+  SHIPPED,
+  DELIVERED,
   COMPLETED,
-  CANCELLED
-}
\ No newline at end of file
+  CANCELLED;
+
+  public boolean canTransitionTo(final OrderStatus target) {
+    return switch (this) {
+      case PENDING -> target == PAID || target == CANCELLED;
+      case PAID -> target == SHIPPED || target == COMPLETED || target == CANCELLED;
+      case SHIPPED -> target == DELIVERED;
+      case DELIVERED -> target == COMPLETED;
+      case COMPLETED, CANCELLED -> false;
+    };
+  }
+
+  /**
+   * target 으로 전이할 수 있는 현재 상태들 (조건부 일괄 UPDATE 의 WHERE 절에 사용)
+   */
+  public static Set<OrderStatus> sourcesOf(final OrderStatus target) {
+    final Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+    Arrays.stream(values())
+        .filter(status -> status.canTransitionTo(target))
+        .forEach(sources::add);
+    return sources;
+  }
+}
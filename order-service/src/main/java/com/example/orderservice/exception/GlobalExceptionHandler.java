@@ -1,5 +1,10 @@
 package com.example.orderservice.exception;
 
+import com.example.orderservice.idempotency.IdempotencyConflictException;
+import com.example.orderservice.payment.PaymentBulkheadFullException;
+import com.example.orderservice.payment.PaymentQueueFullException;
+import com.example.orderservice.ratelimit.RateLimitExceededException;
+import com.example.orderservice.resilience.DependencyUnavailableException;
 import feign.FeignException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,6 +32,38 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
   }
 
+  @ExceptionHandler(IdempotencyConflictException.class)
+  public ResponseEntity<ErrorResponse> handleIdempotencyConflict(IdempotencyConflictException e) {
+    ErrorResponse errorResponse = ErrorResponse.of(409, e.getMessage());
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+  }
+
+  @ExceptionHandler(RateLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException e) {
+    ErrorResponse errorResponse = ErrorResponse.of(429, e.getMessage());
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header("Retry-After", String.valueOf(e.getRetryAfterSeconds()))
+        .body(errorResponse);
+  }
+
+  @ExceptionHandler(PaymentQueueFullException.class)
+  public ResponseEntity<ErrorResponse> handlePaymentQueueFull(PaymentQueueFullException e) {
+    ErrorResponse errorResponse = ErrorResponse.of(503, e.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").body(errorResponse);
+  }
+
+  @ExceptionHandler(PaymentBulkheadFullException.class)
+  public ResponseEntity<ErrorResponse> handlePaymentBulkheadFull(PaymentBulkheadFullException e) {
+    ErrorResponse errorResponse = ErrorResponse.of(503, e.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").body(errorResponse);
+  }
+
+  @ExceptionHandler(DependencyUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleDependencyUnavailable(DependencyUnavailableException e) {
+    ErrorResponse errorResponse = ErrorResponse.of(503, e.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+  }
+
   @ExceptionHandler(ApplicationException.class)
   public ResponseEntity<ErrorResponse> handleOrderException(ApplicationException e) {
     ErrorResponse errorResponse = ErrorResponse.of(400, e.getMessage());
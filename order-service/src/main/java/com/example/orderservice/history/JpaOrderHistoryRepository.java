@@ -0,0 +1,33 @@
+package com.example.orderservice.history;
+
+import com.example.orderservice.entity.OrderStatus;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaOrderHistoryRepository extends OrderHistoryRepository, JpaRepository<OrderHistory, Long> {
+
+  List<OrderHistory> findByMemberIdOrderByOrderDateDesc(Long memberId);
+
+  List<OrderHistory> findByOrderIdIn(Collection<Long> orderIds);
+
+  @Override
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE OrderHistory h SET h.status = :status, h.projectedAt = LOCAL_DATETIME WHERE h.orderId IN :orderIds")
+  int updateStatus(@Param("orderIds") Collection<Long> orderIds, @Param("status") OrderStatus status);
+
+  @Override
+  default List<OrderHistory> findByOrderIds(final Collection<Long> orderIds) {
+    return findByOrderIdIn(orderIds);
+  }
+
+  @Override
+  default List<OrderHistory> findByMemberId(final Long memberId) {
+    return findByMemberIdOrderByOrderDateDesc(memberId);
+  }
+}
@@ -0,0 +1,163 @@
+package com.example.orderservice.history;
+
+import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.exception.ApplicationException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 "내 주문 목록" 캐시
+ * - 같은 회원의 동시 캐시 미스는 DB 조회 1번으로 합친다 (single-flight)
+ * - 주문 이력 조회 모델이 갱신되면(OrderHistoryUpdatedEvent) 해당 회원 항목을 무효화
+ * - 무효화 전에 시작된 조회 결과는 반환만 하고 캐시에 넣지 않는다 (커밋 전 데이터가 남지 않도록)
+ * - ttl 은 아웃박스를 거치지 않는 변경에 대한 안전망
+ */
+@Component
+public class MyOrdersCache {
+
+  private final Map<Long, Entry> entries;
+  private final Map<Long, CompletableFuture<List<OrderResponse>>> inFlight = new ConcurrentHashMap<>();
+  private final Duration ttl;
+  private final Clock clock;
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+
+  @Autowired
+  public MyOrdersCache(final MeterRegistry meterRegistry,
+      @Value("${order.my-orders.cache.max-entries:10000}") final int maxEntries,
+      @Value("${order.my-orders.cache.ttl-ms:60000}") final long ttlMillis) {
+    this(meterRegistry, maxEntries, Duration.ofMillis(ttlMillis), Clock.systemUTC());
+  }
+
+  public MyOrdersCache(final MeterRegistry meterRegistry, final int maxEntries, final Duration ttl,
+      final Clock clock) {
+    this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Long, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    });
+    this.ttl = ttl;
+    this.clock = clock;
+
+    FunctionCounter.builder("order.my-orders.cache.requests", requests, LongAdder::sum)
+        .register(meterRegistry);
+    FunctionCounter.builder("order.my-orders.cache.db.loads", loads, LongAdder::sum)
+        .register(meterRegistry);
+    Gauge.builder("order.my-orders.cache.hit.ratio", this, MyOrdersCache::hitRatio)
+        .description("캐시에서 바로 응답한 비율")
+        .register(meterRegistry);
+    Gauge.builder("order.my-orders.cache.db.load.reduction", this, MyOrdersCache::loadReduction)
+        .description("캐시와 요청 합치기로 줄어든 DB 조회 비율 (1 - DB 조회 수 / 요청 수)")
+        .register(meterRegistry);
+    Gauge.builder("order.my-orders.cache.size", entries, Map::size)
+        .register(meterRegistry);
+  }
+
+  public List<OrderResponse> get(final Long memberId, final Supplier<List<OrderResponse>> loader) {
+    requests.increment();
+
+    final Entry cached = entries.get(memberId);
+    if (cached != null && cached.expiresAt().isAfter(clock.instant())) {
+      hits.increment();
+      return cached.orders();
+    }
+
+    final CompletableFuture<List<OrderResponse>> mine = new CompletableFuture<>();
+    final CompletableFuture<List<OrderResponse>> leader = inFlight.putIfAbsent(memberId, mine);
+    if (leader != null) {
+      coalesced.increment();
+      return await(leader);
+    }
+
+    try {
+      loads.increment();
+      final List<OrderResponse> orders = List.copyOf(loader.get());
+      store(memberId, mine, orders);
+      mine.complete(orders);
+      return orders;
+    } catch (RuntimeException e) {
+      inFlight.remove(memberId, mine);
+      mine.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  @EventListener
+  public void onHistoryUpdated(final OrderHistoryUpdatedEvent event) {
+    invalidate(event.memberId());
+  }
+
+  public void invalidate(final Long memberId) {
+    // inFlight 키 잠금 안에서 처리해 store 와 순서가 섞이지 않게 한다
+    inFlight.compute(memberId, (id, current) -> {
+      entries.remove(id);
+      return null;
+    });
+  }
+
+  public double hitRatio() {
+    final long total = requests.sum();
+    return total == 0 ? 0.0 : (double) hits.sum() / total;
+  }
+
+  public double loadReduction() {
+    final long total = requests.sum();
+    return total == 0 ? 0.0 : 1.0 - (double) loads.sum() / total;
+  }
+
+  long loadCount() {
+    return loads.sum();
+  }
+
+  long coalescedCount() {
+    return coalesced.sum();
+  }
+
+  /**
+   * 아직 이 조회가 진행 중인 조회로 등록돼 있을 때만 캐시에 넣는다 - 그 사이 무효화됐으면 버린다
+   */
+  private void store(final Long memberId, final CompletableFuture<List<OrderResponse>> mine,
+      final List<OrderResponse> orders) {
+    inFlight.computeIfPresent(memberId, (id, current) -> {
+      if (current != mine) {
+        return current;
+      }
+      entries.put(id, new Entry(orders, clock.instant().plus(ttl)));
+      return null;
+    });
+  }
+
+  private static List<OrderResponse> await(final CompletableFuture<List<OrderResponse>> leader) {
+    try {
+      return leader.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new ApplicationException("주문 목록 조회에 실패했습니다.", e);
+    }
+  }
+
+  private record Entry(List<OrderResponse> orders, Instant expiresAt) {
+  }
+}
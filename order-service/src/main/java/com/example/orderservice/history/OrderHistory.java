@@ -0,0 +1,144 @@
+package com.example.orderservice.history;
+
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderItem;
+import com.example.orderservice.entity.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 주문 이력 조회 모델 (주문 1건 = 1행, 주문 상품 요약 포함)
+ * - orders / order_items 에서 만들어지는 비정규화 사본이며 직접 수정하지 않는다
+ * - 쓰기 경로(주문 행 잠금)와 분리해 목록/상세 조회를 이 테이블에서 처리
+ */
+@Entity
+@Table(name = "order_history", indexes = {
+    @Index(name = "idx_order_history_member_date", columnList = "memberId, orderDate")
+})
+public class OrderHistory implements Persistable<Long> {
+
+  static final int SUMMARY_MAX_LENGTH = 1000;
+
+  @Id
+  private Long orderId;
+
+  @Column(nullable = false)
+  private Long memberId;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private OrderStatus status;
+
+  @Column(nullable = false)
+  private Integer totalPrice;
+
+  @Column(nullable = false)
+  private LocalDateTime orderDate;
+
+  @Column(nullable = false)
+  private Integer itemCount;
+
+  @Column(nullable = false, length = SUMMARY_MAX_LENGTH)
+  private String itemSummary;
+
+  @Column(nullable = false)
+  private LocalDateTime projectedAt;
+
+  // 주문 ID 를 직접 할당하므로 save 시 merge(SELECT) 없이 INSERT 하도록 신규 여부를 따로 관리
+  @Transient
+  private boolean isNew = true;
+
+  public OrderHistory() {
+  }
+
+  public static OrderHistory of(final Order order, final List<OrderItem> items) {
+    final OrderHistory history = new OrderHistory();
+    history.orderId = order.getId();
+    history.refresh(order, items);
+    return history;
+  }
+
+  /**
+   * 원본 주문 상태로 다시 맞춘다 (이벤트 내용이 아닌 원본을 읽으므로 중복/순서 역전에 안전)
+   */
+  public void refresh(final Order order, final List<OrderItem> items) {
+    this.memberId = order.getMemberId();
+    this.status = order.getStatus();
+    this.totalPrice = order.getTotalPrice();
+    this.orderDate = order.getOrderDate();
+    this.itemCount = items.stream().mapToInt(OrderItem::getOrderQuantity).sum();
+    this.itemSummary = summarize(items);
+    this.projectedAt = LocalDateTime.now();
+  }
+
+  // 예: "연필 x2, 지우개 x1"
+  static String summarize(final List<OrderItem> items) {
+    final String summary = items.stream()
+        .map(item -> item.getProductName() + " x" + item.getOrderQuantity())
+        .collect(Collectors.joining(", "));
+    if (summary.length() <= SUMMARY_MAX_LENGTH) {
+      return summary;
+    }
+    return summary.substring(0, SUMMARY_MAX_LENGTH - 3) + "...";
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+
+  @Override
+  public Long getId() {
+    return orderId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  public Long getOrderId() {
+    return orderId;
+  }
+
+  public Long getMemberId() {
+    return memberId;
+  }
+
+  public OrderStatus getStatus() {
+    return status;
+  }
+
+  public Integer getTotalPrice() {
+    return totalPrice;
+  }
+
+  public LocalDateTime getOrderDate() {
+    return orderDate;
+  }
+
+  public Integer getItemCount() {
+    return itemCount;
+  }
+
+  public String getItemSummary() {
+    return itemSummary;
+  }
+
+  public LocalDateTime getProjectedAt() {
+    return projectedAt;
+  }
+}
@@ -0,0 +1,218 @@
+package com.example.orderservice.history;
+
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderItem;
+import com.example.orderservice.outbox.OrderEvent;
+import com.example.orderservice.outbox.OutboxEvent;
+import com.example.orderservice.outbox.OutboxEventRepository;
+import com.example.orderservice.repository.OrderItemRepository;
+import com.example.orderservice.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 이벤트를 받아 주문 이력 조회 모델을 비동기로 갱신
+ * - 커밋 후 이벤트를 받아 워커 레인에 넣는다. 같은 주문은 항상 같은 레인(단일 스레드)에서 처리되어 순서가 섞이지 않는다
+ * - 이벤트 내용 대신 원본 주문/주문 상품을 다시 읽어 덮어쓰므로 중복·누락된 중간 이벤트에 안전
+ * - 반영 여부는 주문 변경과 같은 트랜잭션에 기록되는 아웃박스(order_outbox)에 남긴다.
+ *   큐 포화, 처리 실패, 커밋 직후 재시작으로 놓친 주문은 미반영 아웃박스 이벤트를 주기적으로 읽어 다시 반영
+ */
+@Component
+public class OrderHistoryProjector {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderHistoryProjector.class);
+
+  private final OrderRepository orderRepository;
+  private final OrderItemRepository orderItemRepository;
+  private final OrderHistoryRepository orderHistoryRepository;
+  private final OutboxEventRepository outboxEventRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final List<ThreadPoolExecutor> lanes;
+  private final Duration drainDelay;
+  private final int drainBatchSize;
+  private final Counter projectedCounter;
+  private final Counter failedCounter;
+
+  // 재구축 중 들어온 이벤트의 주문 ID (재구축이 덮어쓸 수 있으므로 끝난 뒤 다시 반영)
+  private volatile Set<Long> touchedDuringRebuild;
+
+  public OrderHistoryProjector(final OrderRepository orderRepository,
+      final OrderItemRepository orderItemRepository,
+      final OrderHistoryRepository orderHistoryRepository,
+      final OutboxEventRepository outboxEventRepository,
+      final TransactionTemplate transactionTemplate,
+      final ApplicationEventPublisher eventPublisher,
+      final MeterRegistry meterRegistry,
+      @Value("${order.history.projector.workers:4}") final int workers,
+      @Value("${order.history.projector.queue-capacity:10000}") final int queueCapacity,
+      @Value("${order.history.projector.drain-delay-ms:5000}") final long drainDelayMillis,
+      @Value("${order.history.projector.drain-batch-size:500}") final int drainBatchSize) {
+    this.orderRepository = orderRepository;
+    this.orderItemRepository = orderItemRepository;
+    this.orderHistoryRepository = orderHistoryRepository;
+    this.outboxEventRepository = outboxEventRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.eventPublisher = eventPublisher;
+    this.lanes = newLanes(workers, Math.max(1, queueCapacity / workers));
+    this.drainDelay = Duration.ofMillis(drainDelayMillis);
+    this.drainBatchSize = drainBatchSize;
+    this.projectedCounter = meterRegistry.counter("order.history.projected");
+    this.failedCounter = meterRegistry.counter("order.history.projection.failed");
+
+    Gauge.builder("order.history.projection.backlog", this, OrderHistoryProjector::backlog)
+        .description("반영 대기 중인 주문 이력 갱신 수")
+        .register(meterRegistry);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onOrderChanged(final OrderEvent event) {
+    enqueue(event.orderId());
+  }
+
+  /**
+   * 기록된 지 drainDelay 가 지나도록 반영되지 않은 아웃박스 이벤트의 주문을 다시 넣는다
+   * - 커밋 직후 이벤트로 바로 반영되는 주문과 겹치지 않도록 지연을 두고, 레인을 거쳐 순서를 지킨다
+   */
+  @Scheduled(fixedDelayString = "${order.history.projector.drain-interval-ms:5000}")
+  public int drainUnprojected() {
+    final List<OutboxEvent> events = outboxEventRepository.findUnprojectedEvents(
+        LocalDateTime.now().minus(drainDelay), drainBatchSize);
+    final Set<Long> orderIds = new LinkedHashSet<>();
+    events.forEach(event -> orderIds.add(event.getAggregateId()));
+    orderIds.forEach(this::enqueue);
+    if (!orderIds.isEmpty()) {
+      log.info("미반영 주문 이력 재처리 - 주문 {}건", orderIds.size());
+    }
+    return orderIds.size();
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    for (final ThreadPoolExecutor lane : lanes) {
+      lane.shutdown();
+    }
+    for (final ThreadPoolExecutor lane : lanes) {
+      if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+        lane.shutdownNow();
+      }
+    }
+  }
+
+  void beginRebuild() {
+    touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * 재구축이 끝나면 그동안 바뀐 주문을 다시 반영해, 재구축이 읽은 이전 상태가 남지 않게 한다
+   */
+  int endRebuild() {
+    final Set<Long> touched = touchedDuringRebuild;
+    touchedDuringRebuild = null;
+    if (touched == null) {
+      return 0;
+    }
+    touched.forEach(this::enqueue);
+    return touched.size();
+  }
+
+  private void enqueue(final Long orderId) {
+    final Set<Long> touched = touchedDuringRebuild;
+    if (touched != null) {
+      touched.add(orderId);
+    }
+    try {
+      lanes.get(laneOf(orderId)).execute(() -> projectOrDefer(orderId));
+    } catch (RejectedExecutionException e) {
+      log.warn("주문 이력 갱신 대기열 포화 - 아웃박스에서 다시 반영. orderId: {}", orderId);
+    }
+  }
+
+  // Snowflake ID 의 하위 비트는 대부분 시퀀스 0 이므로 비트를 섞은 뒤 레인을 고른다
+  private int laneOf(final Long orderId) {
+    long h = orderId;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    return Math.floorMod(h, lanes.size());
+  }
+
+  private void projectOrDefer(final Long orderId) {
+    try {
+      project(orderId);
+    } catch (RuntimeException e) {
+      failedCounter.increment();
+      log.warn("주문 이력 갱신 실패 - 아웃박스에서 다시 반영. orderId: {}, 원인: {}", orderId, e.getMessage());
+    }
+  }
+
+  /**
+   * 주문 1건을 원본 테이블 기준으로 다시 만든다
+   * - 미반영 아웃박스 이벤트를 먼저 반영 완료로 표시한 뒤 주문을 읽는다. 표시된 이벤트의 변경은 그 전에 커밋됐으므로
+   *   이어지는 조회에 보이고, 그 뒤에 커밋된 이벤트는 표시되지 않은 채 남는다 (같은 트랜잭션이라 실패하면 함께 롤백)
+   */
+  void project(final Long orderId) {
+    final OrderHistory projected = transactionTemplate.execute(status -> {
+      outboxEventRepository.markHistoryProjected(orderId);
+      final Optional<Order> order = orderRepository.findById(orderId);
+      if (order.isEmpty()) {
+        return null;
+      }
+      final List<OrderItem> items = orderItemRepository.findByOrderId(orderId);
+      final OrderHistory history = orderHistoryRepository.findById(orderId)
+          .map(existing -> {
+            existing.refresh(order.get(), items);
+            return existing;
+          })
+          .orElseGet(() -> OrderHistory.of(order.get(), items));
+      return orderHistoryRepository.save(history);
+    });
+    if (projected == null) {
+      return;
+    }
+    projectedCounter.increment();
+    eventPublisher.publishEvent(new OrderHistoryUpdatedEvent(projected.getOrderId(), projected.getMemberId()));
+  }
+
+  private int backlog() {
+    return lanes.stream().mapToInt(lane -> lane.getQueue().size()).sum();
+  }
+
+  private static List<ThreadPoolExecutor> newLanes(final int workers, final int queueCapacityPerLane) {
+    final List<ThreadPoolExecutor> lanes = new ArrayList<>();
+    for (int i = 0; i < workers; i++) {
+      final String name = "order-history-" + (i + 1);
+      lanes.add(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(queueCapacityPerLane),
+          runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+          },
+          new ThreadPoolExecutor.AbortPolicy()));
+    }
+    return List.copyOf(lanes);
+  }
+}
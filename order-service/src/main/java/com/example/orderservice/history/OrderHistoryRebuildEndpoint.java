@@ -0,0 +1,33 @@
+package com.example.orderservice.history;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 이력 조회 모델 재구축 (운영용, POST /actuator/orderhistory)
+ * - 공개 API 가 아니라 actuator 엔드포인트 - 기본 설정에서는 웹에 노출하지 않는다
+ * - 이미 재구축 중이면 409 로 거절한다
+ */
+@Component
+@WebEndpoint(id = "orderhistory")
+public class OrderHistoryRebuildEndpoint {
+
+  private final OrderHistoryRebuilder orderHistoryRebuilder;
+
+  public OrderHistoryRebuildEndpoint(final OrderHistoryRebuilder orderHistoryRebuilder) {
+    this.orderHistoryRebuilder = orderHistoryRebuilder;
+  }
+
+  @WriteOperation
+  public WebEndpointResponse<Object> rebuild() {
+    try {
+      return new WebEndpointResponse<>(orderHistoryRebuilder.rebuild());
+    } catch (OrderHistoryRebuildInProgressException e) {
+      return new WebEndpointResponse<>(Map.of("message", e.getMessage()), HttpStatus.CONFLICT.value());
+    }
+  }
+}
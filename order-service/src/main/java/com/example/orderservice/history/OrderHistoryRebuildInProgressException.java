@@ -0,0 +1,10 @@
+package com.example.orderservice.history;
+
+import com.example.orderservice.exception.ApplicationException;
+
+public class OrderHistoryRebuildInProgressException extends ApplicationException {
+
+  public OrderHistoryRebuildInProgressException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,165 @@
+package com.example.orderservice.history;
+
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderItem;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.repository.OrderItemRepository;
+import com.example.orderservice.repository.OrderRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 원본 테이블(orders, order_items)에서 주문 이력 조회 모델을 다시 만든다
+ * - 주문 ID 를 키셋 페이지(chunkSize 건)로 잘라 구간을 만들고 parallelism 개 스레드에서 병렬 처리, 구간마다 별도 트랜잭션
+ *   (Snowflake ID 는 값 사이 간격이 크므로 ID 값 범위가 아니라 실제 주문 수 기준으로 나눈다)
+ * - 구간 안에서는 주문 상품을 IN 조회 한 번으로 가져와 N+1 을 피한다
+ * - 재구축 중 들어온 주문 이벤트는 끝난 뒤 프로젝터가 다시 반영한다
+ * - 한 번에 하나만 실행 - 진행 중에 다시 요청하면 거절한다
+ */
+@Component
+public class OrderHistoryRebuilder {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderHistoryRebuilder.class);
+  private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+  private final OrderRepository orderRepository;
+  private final OrderItemRepository orderItemRepository;
+  private final OrderHistoryRepository orderHistoryRepository;
+  private final OrderHistoryProjector projector;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int parallelism;
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  public OrderHistoryRebuilder(final OrderRepository orderRepository,
+      final OrderItemRepository orderItemRepository,
+      final OrderHistoryRepository orderHistoryRepository,
+      final OrderHistoryProjector projector,
+      final TransactionTemplate transactionTemplate,
+      @Value("${order.history.rebuild.chunk-size:1000}") final int chunkSize,
+      @Value("${order.history.rebuild.parallelism:4}") final int parallelism) {
+    this.orderRepository = orderRepository;
+    this.orderItemRepository = orderItemRepository;
+    this.orderHistoryRepository = orderHistoryRepository;
+    this.projector = projector;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+    this.parallelism = parallelism;
+  }
+
+  public RebuildResult rebuild() {
+    if (!running.compareAndSet(false, true)) {
+      throw new OrderHistoryRebuildInProgressException("주문 이력 재구축이 이미 진행 중입니다.");
+    }
+    final long start = System.nanoTime();
+    final ExecutorService executor = Executors.newFixedThreadPool(parallelism, newThreadFactory());
+    projector.beginRebuild();
+    try {
+      final List<Future<Integer>> chunks = new ArrayList<>();
+      long afterId = 0;
+      while (true) {
+        final List<Long> ids = orderRepository.findOrderIdsAfter(afterId, chunkSize);
+        if (ids.isEmpty()) {
+          break;
+        }
+        final long from = ids.get(0);
+        final long to = ids.get(ids.size() - 1) + 1;
+        chunks.add(executor.submit(() -> rebuildChunkWithRetry(from, to)));
+        afterId = to - 1;
+      }
+
+      int rows = 0;
+      for (final Future<Integer> chunk : chunks) {
+        rows += await(chunk);
+      }
+      final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      log.info("주문 이력 재구축 완료 - 구간 {}개, {}건, {}ms", chunks.size(), rows, elapsedMillis);
+      return new RebuildResult(chunks.size(), rows, elapsedMillis);
+    } finally {
+      executor.shutdownNow();
+      projector.endRebuild();
+      running.set(false);
+    }
+  }
+
+  private int rebuildChunkWithRetry(final long fromId, final long toId) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return rebuildChunk(fromId, toId);
+      } catch (RuntimeException e) {
+        // 같은 주문을 프로젝터가 동시에 처음 저장한 경우 등 - 구간을 다시 읽어 재시도
+        if (attempt >= MAX_CHUNK_ATTEMPTS) {
+          throw e;
+        }
+        log.info("주문 이력 재구축 구간 재시도 - [{}, {}), 원인: {}", fromId, toId, e.getMessage());
+      }
+    }
+  }
+
+  int rebuildChunk(final long fromId, final long toId) {
+    final Integer rows = transactionTemplate.execute(status -> {
+      final List<Order> orders = orderRepository.findOrdersByIdRange(fromId, toId);
+      if (orders.isEmpty()) {
+        return 0;
+      }
+      final List<Long> orderIds = orders.stream().map(Order::getId).toList();
+      final Map<Long, List<OrderItem>> itemsByOrderId = orderItemRepository.findByOrderIdIn(orderIds).stream()
+          .collect(Collectors.groupingBy(OrderItem::getOrderId));
+      final Map<Long, OrderHistory> existing = orderHistoryRepository.findByOrderIds(orderIds).stream()
+          .collect(Collectors.toMap(OrderHistory::getOrderId, Function.identity()));
+
+      final List<OrderHistory> histories = new ArrayList<>(orders.size());
+      for (final Order order : orders) {
+        final List<OrderItem> items = itemsByOrderId.getOrDefault(order.getId(), List.of());
+        final OrderHistory history = existing.get(order.getId());
+        if (history == null) {
+          histories.add(OrderHistory.of(order, items));
+        } else {
+          history.refresh(order, items);
+          histories.add(history);
+        }
+      }
+      orderHistoryRepository.saveAll(histories);
+      return histories.size();
+    });
+    return rows == null ? 0 : rows;
+  }
+
+  private static int await(final Future<Integer> chunk) {
+    try {
+      return chunk.get();
+    } catch (ExecutionException e) {
+      throw new ApplicationException("주문 이력 재구축 실패: " + e.getCause().getMessage(), e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApplicationException("주문 이력 재구축이 중단되었습니다.");
+    }
+  }
+
+  private static ThreadFactory newThreadFactory() {
+    final AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      final Thread thread = new Thread(runnable, "order-history-rebuild-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  public record RebuildResult(int chunks, int rows, long elapsedMillis) {
+  }
+}
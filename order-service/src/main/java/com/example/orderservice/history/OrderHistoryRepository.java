@@ -0,0 +1,23 @@
+package com.example.orderservice.history;
+
+import com.example.orderservice.entity.OrderStatus;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderHistoryRepository {
+
+  OrderHistory save(OrderHistory history);
+
+  <S extends OrderHistory> List<S> saveAll(Iterable<S> histories);
+
+  Optional<OrderHistory> findById(Long orderId);
+
+  List<OrderHistory> findByOrderIds(Collection<Long> orderIds);
+
+  // 최근 주문 순
+  List<OrderHistory> findByMemberId(Long memberId);
+
+  // 일괄 상태 변경 시 원본과 같은 트랜잭션에서 조회 모델도 함께 갱신
+  int updateStatus(Collection<Long> orderIds, OrderStatus status);
+}
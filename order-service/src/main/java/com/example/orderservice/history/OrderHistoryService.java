@@ -0,0 +1,53 @@
+package com.example.orderservice.history;
+
+import com.example.orderservice.archive.ArchivedOrderRepository;
+import com.example.orderservice.dto.response.OrderHistoryResponse;
+import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.repository.OrderRepository;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * 주문 조회(내 주문 목록, 주문 상세)를 주문 이력 조회 모델에서 처리
+ * - 조회 모델은 비동기로 갱신되므로 방금 바뀐 주문은 잠시 이전 상태로 보일 수 있다
+ * - 상세 조회는 조회 모델에 아직 없는 주문(방금 생성)이면 원본 테이블, 그래도 없으면 보관 테이블에서 읽는다
+ */
+@Service
+public class OrderHistoryService {
+
+  private final OrderHistoryRepository orderHistoryRepository;
+  private final OrderRepository orderRepository;
+  private final ArchivedOrderRepository archivedOrderRepository;
+  private final MyOrdersCache myOrdersCache;
+
+  public OrderHistoryService(final OrderHistoryRepository orderHistoryRepository,
+      final OrderRepository orderRepository,
+      final ArchivedOrderRepository archivedOrderRepository,
+      final MyOrdersCache myOrdersCache) {
+    this.orderHistoryRepository = orderHistoryRepository;
+    this.orderRepository = orderRepository;
+    this.archivedOrderRepository = archivedOrderRepository;
+    this.myOrdersCache = myOrdersCache;
+  }
+
+  public List<OrderResponse> findMyOrders(final Long memberId) {
+    return myOrdersCache.get(memberId, () -> orderHistoryRepository.findByMemberId(memberId).stream()
+        .map(OrderResponse::of)
+        .toList());
+  }
+
+  public List<OrderHistoryResponse> findOrderHistory(final Long memberId) {
+    return orderHistoryRepository.findByMemberId(memberId).stream()
+        .map(OrderHistoryResponse::of)
+        .toList();
+  }
+
+  public OrderResponse findOrderById(final Long orderId) {
+    return orderHistoryRepository.findById(orderId)
+        .map(OrderResponse::of)
+        .or(() -> orderRepository.findById(orderId).map(OrderResponse::of))
+        .or(() -> archivedOrderRepository.findById(orderId).map(OrderResponse::of))
+        .orElseThrow(() -> new ApplicationException("주문 정보를 찾을 수 없습니다."));
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.orderservice.history;
+
+/**
+ * 주문 이력 조회 모델이 갱신됨 - 조회 모델을 읽는 캐시가 무효화에 사용
+ */
+public record OrderHistoryUpdatedEvent(Long orderId, Long memberId) {
+}
@@ -0,0 +1,19 @@
+package com.example.orderservice.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 엔티티 ID 를 Snowflake ID 로 발급 (IDENTITY 와 달리 INSERT 전에 ID 가 정해져 JDBC 배치 INSERT 가 가능)
+ * 노드 ID 는 Hibernate 설정 {@value #NODE_ID_SETTING} (spring.jpa.properties 아래)로 지정
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+
+  String NODE_ID_SETTING = "commerce.id.node-id";
+}
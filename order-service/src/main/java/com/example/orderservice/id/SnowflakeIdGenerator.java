@@ -0,0 +1,66 @@
+package com.example.orderservice.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 정렬되는 64비트 ID 생성기 (Snowflake 방식)
+ * [부호 1][타임스탬프 41 - EPOCH 기준 ms, 약 69년][노드 10 - 0~1023][시퀀스 12 - ms 당 4096개]
+ *
+ * - 마지막으로 발급한 (타임스탬프, 시퀀스)를 AtomicLong 하나에 담아 CAS 로 갱신 - 락도, 발급마다 객체 생성도 없다
+ * - 같은 ms 에 4096개를 넘기거나 시계가 뒤로 가면 기다리지 않고 다음 ms 를 앞당겨 쓴다 (ID 는 계속 증가)
+ * - 노드 ID 가 서로 다른 인스턴스끼리는 DB 없이도 겹치지 않는다. 같은 노드 ID 를 두 인스턴스에 주면 안 된다
+ * - 재시작 직후 시계가 이전 실행보다 뒤에 있으면 겹칠 수 있으므로 시계 동기화(NTP)를 전제로 한다
+ */
+public final class SnowflakeIdGenerator {
+
+  public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+  static final int NODE_BITS = 10;
+  static final int SEQUENCE_BITS = 12;
+  public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+  private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+  private final long nodeBits;
+  private final LongSupplier clock;
+  // (EPOCH 기준 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+  private final AtomicLong lastState = new AtomicLong();
+
+  public SnowflakeIdGenerator(final long nodeId) {
+    this(nodeId, System::currentTimeMillis);
+  }
+
+  SnowflakeIdGenerator(final long nodeId, final LongSupplier clock) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("노드 ID 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+    }
+    this.nodeBits = nodeId << SEQUENCE_BITS;
+    this.clock = clock;
+  }
+
+  public long nextId() {
+    while (true) {
+      final long last = lastState.get();
+      final long now = clock.getAsLong() - EPOCH_MILLIS;
+      // 새 ms 면 시퀀스 0 부터, 아니면 마지막 값 + 1 (시퀀스가 넘치면 타임스탬프로 올림)
+      final long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+      if (lastState.compareAndSet(last, next)) {
+        return ((next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | nodeBits | (next & SEQUENCE_MASK);
+      }
+    }
+  }
+
+  public static long timestampOf(final long id) {
+    return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+  }
+
+  public static long nodeIdOf(final long id) {
+    return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+  }
+
+  public static long sequenceOf(final long id) {
+    return id & SEQUENCE_MASK;
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.orderservice.id;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * {@link SnowflakeId} 를 붙인 ID 에 값을 채우는 Hibernate 생성기
+ * 같은 노드 ID 의 엔티티들은 생성기 하나를 공유해 테이블이 달라도 ID 가 겹치지 않는다
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+  private static final Map<Long, SnowflakeIdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+  private final SnowflakeIdGenerator generator;
+
+  public SnowflakeIdentifierGenerator(final SnowflakeId config, final Member member,
+      final CustomIdGeneratorCreationContext context) {
+    final Object nodeId = context.getServiceRegistry().requireService(ConfigurationService.class)
+        .getSettings().getOrDefault(SnowflakeId.NODE_ID_SETTING, "0");
+    this.generator = GENERATORS.computeIfAbsent(Long.parseLong(nodeId.toString().trim()), SnowflakeIdGenerator::new);
+  }
+
+  @Override
+  public Object generate(final SharedSessionContractImplementor session, final Object owner,
+      final Object currentValue, final EventType eventType) {
+    return generator.nextId();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
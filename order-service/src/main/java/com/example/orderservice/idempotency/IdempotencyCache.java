@@ -0,0 +1,44 @@
+package com.example.orderservice.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 완료된 응답의 인메모리 캐시
+ * - access-order LinkedHashMap 으로 조회/저장 O(1), maxEntries 를 넘으면 가장 오래 안 쓰인 항목부터 제거
+ * - 만료된 항목은 조회 시점에 제거
+ */
+class IdempotencyCache {
+
+  record Entry(String requestHash, Object response, LocalDateTime expiresAt) {
+  }
+
+  private final Map<String, Entry> entries;
+
+  IdempotencyCache(final int maxEntries) {
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  synchronized Entry get(final String key, final LocalDateTime now) {
+    final Entry entry = entries.get(key);
+    if (entry != null && entry.expiresAt().isBefore(now)) {
+      entries.remove(key);
+      return null;
+    }
+    return entry;
+  }
+
+  synchronized void put(final String key, final Entry entry) {
+    entries.put(key, entry);
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+}
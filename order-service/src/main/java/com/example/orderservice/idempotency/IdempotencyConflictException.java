@@ -0,0 +1,10 @@
+package com.example.orderservice.idempotency;
+
+import com.example.orderservice.exception.ApplicationException;
+
+public class IdempotencyConflictException extends ApplicationException {
+
+  public IdempotencyConflictException(String message) {
+    super(message);
+  }
+}
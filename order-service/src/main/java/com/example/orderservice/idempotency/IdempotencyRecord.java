@@ -0,0 +1,128 @@
+package com.example.orderservice.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 요청 처리 기록 (scope + Idempotency-Key 단위)
+ * - 작업 전에 IN_PROGRESS 로 선점하고, 끝나면 응답 스냅샷과 함께 COMPLETED 로 바꾼다
+ * - IN_PROGRESS 의 expiresAt 은 선점 유효 시간 - 처리 도중 종료된 선점은 만료 후 다시 선점할 수 있다
+ * - 작업 후 응답을 저장하지 못하면 NEEDS_RECONCILIATION 으로 남겨 보관 기간 동안 재실행을 막는다
+ */
+@Entity
+@Table(name = "idempotency_records", indexes = {
+    @Index(name = "idx_idempotency_records_expires", columnList = "expiresAt")
+})
+public class IdempotencyRecord implements Persistable<String> {
+
+  @Id
+  @Column(length = 200)
+  private String idempotencyKey;
+
+  @Column(nullable = false, length = 64)
+  private String requestHash;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private IdempotencyStatus status;
+
+  @Column(length = 4000)
+  private String responseBody;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(nullable = false)
+  private LocalDateTime expiresAt;
+
+  // 키를 직접 할당하므로 save 시 merge 없이 INSERT 해서, 이미 선점된 키면 PK 충돌로 실패하게 한다
+  @Transient
+  private boolean isNew = true;
+
+  public IdempotencyRecord() {
+  }
+
+  public static IdempotencyRecord claim(final String idempotencyKey, final String requestHash,
+      final LocalDateTime now, final LocalDateTime leaseExpiresAt) {
+    final IdempotencyRecord record = new IdempotencyRecord();
+    record.idempotencyKey = idempotencyKey;
+    record.requestHash = requestHash;
+    record.status = IdempotencyStatus.IN_PROGRESS;
+    record.createdAt = now;
+    record.expiresAt = leaseExpiresAt;
+    return record;
+  }
+
+  public void complete(final String responseBody, final LocalDateTime expiresAt) {
+    this.status = IdempotencyStatus.COMPLETED;
+    this.responseBody = responseBody;
+    this.expiresAt = expiresAt;
+  }
+
+  public void needsReconciliation(final LocalDateTime expiresAt) {
+    this.status = IdempotencyStatus.NEEDS_RECONCILIATION;
+    this.expiresAt = expiresAt;
+  }
+
+  public boolean isCompleted() {
+    return status == IdempotencyStatus.COMPLETED;
+  }
+
+  public boolean isNeedsReconciliation() {
+    return status == IdempotencyStatus.NEEDS_RECONCILIATION;
+  }
+
+  public boolean isExpired(final LocalDateTime now) {
+    return expiresAt.isBefore(now);
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+
+  @Override
+  public String getId() {
+    return idempotencyKey;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  public String getIdempotencyKey() {
+    return idempotencyKey;
+  }
+
+  public String getRequestHash() {
+    return requestHash;
+  }
+
+  public IdempotencyStatus getStatus() {
+    return status;
+  }
+
+  public String getResponseBody() {
+    return responseBody;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public LocalDateTime getExpiresAt() {
+    return expiresAt;
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.orderservice.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository {
+
+  IdempotencyRecord save(IdempotencyRecord record);
+
+  Optional<IdempotencyRecord> findById(String idempotencyKey);
+
+  void deleteById(String idempotencyKey);
+
+  int deleteExpired(LocalDateTime now);
+
+  int deleteExpiredByKey(String idempotencyKey, LocalDateTime now);
+}
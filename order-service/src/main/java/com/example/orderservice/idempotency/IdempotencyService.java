@@ -0,0 +1,277 @@
+package com.example.orderservice.idempotency;
+
+import com.example.orderservice.exception.ApplicationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Idempotency-Key 기반 중복 실행 방지
+ * - 완료된 응답은 인메모리(LRU + TTL)와 DB 에 저장하고 재시도 시 그대로 재생
+ * - 같은 키의 동시 요청은 먼저 들어온 실행의 결과를 기다린다 (재실행하지 않음)
+ * - 작업 전에 키를 IN_PROGRESS 로 선점해 커밋하므로, 다른 인스턴스의 같은 키 요청은 작업(원격 포인트 차감 등)을 실행하지 않는다
+ * - 작업이 실패하면 선점을 풀어 같은 키로 다시 시도할 수 있다
+ * - 작업 후 응답 저장이 계속 실패하면 키를 NEEDS_RECONCILIATION 으로 남겨, 선점 만료 후에도 다시 실행하지 않는다
+ */
+@Service
+public class IdempotencyService {
+
+  private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+  private static final int COMPLETE_ATTEMPTS = 3;
+
+  private final IdempotencyRecordRepository idempotencyRecordRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final IdempotencyCache cache;
+  private final ConcurrentHashMap<String, CompletableFuture<IdempotencyCache.Entry>> inFlight =
+      new ConcurrentHashMap<>();
+  private final Duration ttl;
+  private final long inFlightWaitMillis;
+  private final Duration claimLease;
+
+  public IdempotencyService(final IdempotencyRecordRepository idempotencyRecordRepository,
+      final ObjectMapper objectMapper,
+      final TransactionTemplate transactionTemplate,
+      @Value("${order.idempotency.max-entries:10000}") final int maxEntries,
+      @Value("${order.idempotency.ttl-minutes:1440}") final long ttlMinutes,
+      @Value("${order.idempotency.in-flight-wait-ms:10000}") final long inFlightWaitMillis,
+      @Value("${order.idempotency.claim-lease-ms:60000}") final long claimLeaseMillis) {
+    this.idempotencyRecordRepository = idempotencyRecordRepository;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = transactionTemplate;
+    this.cache = new IdempotencyCache(maxEntries);
+    this.ttl = Duration.ofMinutes(ttlMinutes);
+    this.inFlightWaitMillis = inFlightWaitMillis;
+    this.claimLease = Duration.ofMillis(claimLeaseMillis);
+  }
+
+  /**
+   * 키가 없으면 그대로 실행, 있으면 최초 1회만 실행하고 이후에는 저장된 응답을 반환
+   */
+  public <T> T execute(final String scope, final String idempotencyKey, final Object request,
+      final Class<T> responseType, final Supplier<T> action) {
+    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+      return action.get();
+    }
+
+    final String key = scope + ":" + idempotencyKey;
+    final String requestHash = hash(request);
+
+    final IdempotencyCache.Entry cached = cache.get(key, LocalDateTime.now());
+    if (cached != null) {
+      return replay(cached, requestHash, responseType);
+    }
+
+    final CompletableFuture<IdempotencyCache.Entry> mine = new CompletableFuture<>();
+    final CompletableFuture<IdempotencyCache.Entry> running = inFlight.putIfAbsent(key, mine);
+    if (running != null) {
+      return replay(awaitInFlight(running), requestHash, responseType);
+    }
+
+    try {
+      final IdempotencyCache.Entry entry = loadOrExecute(key, requestHash, responseType, action);
+      cache.put(key, entry);
+      mine.complete(entry);
+      return replay(entry, requestHash, responseType);
+
+    } catch (RuntimeException e) {
+      mine.completeExceptionally(e);
+      throw e;
+
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${order.idempotency.purge-interval-ms:600000}")
+  public void purgeExpired() {
+    final int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+    if (deleted > 0) {
+      log.info("만료된 멱등성 기록 삭제 - {}건", deleted);
+    }
+  }
+
+  private <T> IdempotencyCache.Entry loadOrExecute(final String key, final String requestHash,
+      final Class<T> responseType, final Supplier<T> action) {
+    final Optional<IdempotencyCache.Entry> completed = claim(key, requestHash, responseType);
+    if (completed.isPresent()) {
+      return completed.get();
+    }
+
+    final T response;
+    try {
+      response = action.get();
+    } catch (RuntimeException e) {
+      release(key);
+      throw e;
+    }
+    return complete(key, requestHash, response);
+  }
+
+  /**
+   * 키를 IN_PROGRESS 로 INSERT 하고 커밋한다 - 이미 완료된 키면 저장된 응답을 돌려준다
+   * 다른 인스턴스가 처리 중인 키는 실행하지 않고 충돌로 응답하고, 선점이 만료된 키는 지우고 다시 선점한다
+   */
+  private <T> Optional<IdempotencyCache.Entry> claim(final String key, final String requestHash,
+      final Class<T> responseType) {
+    for (int attempt = 0; attempt < 2; attempt++) {
+      final LocalDateTime now = LocalDateTime.now();
+      final Optional<IdempotencyRecord> stored = idempotencyRecordRepository.findById(key);
+      if (stored.isPresent() && !stored.get().isExpired(now)) {
+        final IdempotencyRecord record = stored.get();
+        if (record.isCompleted()) {
+          return Optional.of(toEntry(record, responseType));
+        }
+        if (record.isNeedsReconciliation()) {
+          throw new IdempotencyConflictException("이미 처리된 요청이지만 결과를 확인할 수 없습니다. 확인 후 다시 시도해주세요.");
+        }
+        if (!record.getRequestHash().equals(requestHash)) {
+          throw new IdempotencyConflictException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+        throw new IdempotencyConflictException("같은 Idempotency-Key 요청이 아직 처리 중입니다.");
+      }
+
+      try {
+        transactionTemplate.executeWithoutResult(status -> {
+          if (stored.isPresent()) {
+            idempotencyRecordRepository.deleteExpiredByKey(key, now);
+          }
+          idempotencyRecordRepository.save(IdempotencyRecord.claim(key, requestHash, now, now.plus(claimLease)));
+        });
+        return Optional.empty();
+
+      } catch (DataIntegrityViolationException e) {
+        // 다른 인스턴스가 같은 키를 먼저 선점했다 → 다시 읽어서 완료 여부를 확인
+        log.debug("멱등성 키 선점 경합 - key: {}", key);
+      }
+    }
+    throw new IdempotencyConflictException("같은 Idempotency-Key 요청이 아직 처리 중입니다.");
+  }
+
+  /**
+   * 응답을 저장해 키를 COMPLETED 로 바꾼다 - 작업은 이미 실행됐으므로 실패해도 응답은 그대로 돌려준다
+   * 재시도해도 저장하지 못하면 NEEDS_RECONCILIATION 으로 표시해, 선점이 만료돼도 같은 키로 다시 실행되지 않게 한다
+   */
+  private <T> IdempotencyCache.Entry complete(final String key, final String requestHash, final T response) {
+    final LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+    final IdempotencyCache.Entry entry = new IdempotencyCache.Entry(requestHash, response, expiresAt);
+    final String responseBody;
+    try {
+      responseBody = serialize(response);
+    } catch (RuntimeException e) {
+      log.error("멱등성 응답 직렬화 실패 - key: {}", key, e);
+      markNeedsReconciliation(key, expiresAt);
+      return entry;
+    }
+
+    for (int attempt = 1; attempt <= COMPLETE_ATTEMPTS; attempt++) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.findById(key)
+            .ifPresent(record -> {
+              record.complete(responseBody, expiresAt);
+              idempotencyRecordRepository.save(record);
+            }));
+        return entry;
+
+      } catch (RuntimeException e) {
+        log.warn("멱등성 응답 저장 실패 - key: {}, attempt: {}/{}", key, attempt, COMPLETE_ATTEMPTS, e);
+      }
+    }
+    markNeedsReconciliation(key, expiresAt);
+    return entry;
+  }
+
+  private void markNeedsReconciliation(final String key, final LocalDateTime expiresAt) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.findById(key)
+          .ifPresent(record -> {
+            record.needsReconciliation(expiresAt);
+            idempotencyRecordRepository.save(record);
+          }));
+      log.error("멱등성 응답 저장 실패 - 확인 필요 상태로 전환 - key: {}", key);
+
+    } catch (RuntimeException e) {
+      // 여기까지 실패하면 이 인스턴스의 인메모리 캐시만 재실행을 막는다 - 수동 확인 필요
+      log.error("멱등성 키 확인 필요 상태 전환 실패 - 선점 만료 후 재실행될 수 있음 - key: {}", key, e);
+    }
+  }
+
+  private void release(final String key) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.deleteById(key));
+    } catch (RuntimeException e) {
+      log.warn("멱등성 키 선점 해제 실패 - 선점 만료 후 재시도 가능 - key: {}", key, e);
+    }
+  }
+
+  private IdempotencyCache.Entry awaitInFlight(final CompletableFuture<IdempotencyCache.Entry> running) {
+    try {
+      return running.get(inFlightWaitMillis, TimeUnit.MILLISECONDS);
+
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new ApplicationException("멱등성 요청 처리에 실패했습니다.", e.getCause());
+
+    } catch (TimeoutException e) {
+      throw new IdempotencyConflictException("같은 Idempotency-Key 요청이 아직 처리 중입니다.");
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IdempotencyConflictException("같은 Idempotency-Key 요청이 아직 처리 중입니다.");
+    }
+  }
+
+  private <T> T replay(final IdempotencyCache.Entry entry, final String requestHash, final Class<T> responseType) {
+    if (!entry.requestHash().equals(requestHash)) {
+      throw new IdempotencyConflictException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+    }
+    return responseType.cast(entry.response());
+  }
+
+  private <T> IdempotencyCache.Entry toEntry(final IdempotencyRecord record, final Class<T> responseType) {
+    try {
+      final T response = objectMapper.readValue(record.getResponseBody(), responseType);
+      return new IdempotencyCache.Entry(record.getRequestHash(), response, record.getExpiresAt());
+    } catch (JsonProcessingException e) {
+      throw new ApplicationException("저장된 응답을 읽을 수 없습니다.", e);
+    }
+  }
+
+  private String serialize(final Object response) {
+    try {
+      return objectMapper.writeValueAsString(response);
+    } catch (JsonProcessingException e) {
+      throw new ApplicationException("응답 직렬화에 실패했습니다.", e);
+    }
+  }
+
+  private String hash(final Object request) {
+    try {
+      return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+    } catch (JsonProcessingException e) {
+      throw new ApplicationException("요청 직렬화에 실패했습니다.", e);
+    }
+  }
+
+  int cachedEntries() {
+    return cache.size();
+  }
+}
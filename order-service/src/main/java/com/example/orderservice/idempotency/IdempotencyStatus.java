@@ -0,0 +1,8 @@
+package com.example.orderservice.idempotency;
+
+public enum IdempotencyStatus {
+  IN_PROGRESS,
+  COMPLETED,
+  // 작업은 끝났지만 응답 저장에 실패 - 재실행하지 않고 수동 확인을 기다린다
+  NEEDS_RECONCILIATION
+}
@@ -0,0 +1,26 @@
+package com.example.orderservice.idempotency;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface JpaIdempotencyRecordRepository extends IdempotencyRecordRepository,
+    JpaRepository<IdempotencyRecord, String> {
+
+  @Override
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
+
+  @Override
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :idempotencyKey AND r.expiresAt < :now")
+  int deleteExpiredByKey(@Param("idempotencyKey") String idempotencyKey, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,33 @@
+package com.example.orderservice.outbox;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 배치를 HTTP 엔드포인트로 전달하는 싱크
+ * 2xx 외의 응답은 RestClient 예외로 올라가 릴레이가 재시도한다.
+ */
+@Component
+@ConditionalOnProperty(name = "order.outbox.sink.type", havingValue = "http")
+public class HttpOutboxSink implements OutboxSink {
+
+  private final RestClient restClient;
+
+  public HttpOutboxSink(final RestClient.Builder restClientBuilder,
+      @Value("${order.outbox.sink.http.url}") final String url) {
+    this.restClient = restClientBuilder.baseUrl(url).build();
+  }
+
+  @Override
+  public void publish(final List<OutboxMessage> messages) {
+    restClient.post()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(messages)
+        .retrieve()
+        .toBodilessEntity();
+  }
+}
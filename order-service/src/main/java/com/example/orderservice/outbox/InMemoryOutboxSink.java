@@ -0,0 +1,60 @@
+package com.example.orderservice.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 개발 / 테스트용 인메모리 싱크 - order.outbox.sink.type=memory 로 명시했을 때만 등록된다
+ * 꺼내 가는 소비자가 없으므로 용량이 차면 가장 오래된 메시지부터 버린다 (릴레이를 멈추지 않음)
+ */
+@Component
+@ConditionalOnProperty(name = "order.outbox.sink.type", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+  private static final Logger log = LoggerFactory.getLogger(InMemoryOutboxSink.class);
+
+  private final BlockingQueue<OutboxMessage> queue;
+  private final AtomicLong dropped = new AtomicLong();
+
+  public InMemoryOutboxSink(@Value("${order.outbox.sink.memory.capacity:10000}") final int capacity) {
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  @Override
+  public synchronized void publish(final List<OutboxMessage> messages) {
+    int discarded = 0;
+    for (final OutboxMessage message : messages) {
+      while (!queue.offer(message)) {
+        if (queue.poll() != null) {
+          discarded++;
+        }
+      }
+    }
+    if (discarded > 0) {
+      dropped.addAndGet(discarded);
+      log.debug("인메모리 싱크 용량 초과 - 오래된 메시지 {}건 버림", discarded);
+    }
+  }
+
+  public List<OutboxMessage> drain(final int maxMessages) {
+    final List<OutboxMessage> drained = new ArrayList<>();
+    queue.drainTo(drained, maxMessages);
+    return drained;
+  }
+
+  public int size() {
+    return queue.size();
+  }
+
+  public long droppedCount() {
+    return dropped.get();
+  }
+}
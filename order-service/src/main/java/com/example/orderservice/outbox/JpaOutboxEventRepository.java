@@ -0,0 +1,54 @@
+package com.example.orderservice.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface JpaOutboxEventRepository extends OutboxEventRepository, JpaRepository<OutboxEvent, Long> {
+
+  List<OutboxEvent> findByStatusOrderByIdAsc(OutboxStatus status, Limit limit);
+
+  long countByStatus(OutboxStatus status);
+
+  List<OutboxEvent> findByHistoryProjectedFalseAndCreatedAtBeforeOrderByIdAsc(LocalDateTime before, Limit limit);
+
+  @Override
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.historyProjected = true"
+      + " WHERE e.aggregateId = :aggregateId AND e.historyProjected = false")
+  int markHistoryProjected(@Param("aggregateId") Long aggregateId);
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE OutboxEvent e SET e.status = :status, e.sentAt = :sentAt WHERE e.id IN :ids")
+  int updateStatus(@Param("ids") List<Long> ids, @Param("status") OutboxStatus status,
+      @Param("sentAt") LocalDateTime sentAt);
+
+  @Override
+  default List<OutboxEvent> findPendingEvents(final int limit) {
+    return findByStatusOrderByIdAsc(OutboxStatus.PENDING, Limit.of(limit));
+  }
+
+  @Override
+  default List<OutboxEvent> findUnprojectedEvents(final LocalDateTime before, final int limit) {
+    return findByHistoryProjectedFalseAndCreatedAtBeforeOrderByIdAsc(before, Limit.of(limit));
+  }
+
+  @Override
+  default long countPendingEvents() {
+    return countByStatus(OutboxStatus.PENDING);
+  }
+
+  @Override
+  @Transactional
+  default int markAsSent(final List<Long> ids, final LocalDateTime sentAt) {
+    return updateStatus(ids, OutboxStatus.SENT, sentAt);
+  }
+}
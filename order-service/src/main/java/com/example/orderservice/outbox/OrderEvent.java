@@ -0,0 +1,28 @@
+package com.example.orderservice.outbox;
+
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 이벤트 (아웃박스 payload)
+ */
+public record OrderEvent(
+    Long orderId,
+    Long memberId,
+    Integer totalPrice,
+    OrderStatus status,
+    OrderEventType eventType,
+    LocalDateTime occurredAt
+) {
+  public static OrderEvent of(final Order order, final OrderEventType eventType) {
+    return new OrderEvent(
+        order.getId(),
+        order.getMemberId(),
+        order.getTotalPrice(),
+        order.getStatus(),
+        eventType,
+        LocalDateTime.now()
+    );
+  }
+}
@@ -0,0 +1,10 @@
+package com.example.orderservice.outbox;
+
+public enum OrderEventType {
+  ORDER_CREATED,
+  ORDER_PAID,
+  ORDER_CANCELLED,
+  ORDER_SHIPPED,
+  ORDER_DELIVERED,
+  ORDER_COMPLETED
+}
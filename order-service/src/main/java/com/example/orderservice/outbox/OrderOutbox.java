@@ -0,0 +1,73 @@
+package com.example.orderservice.outbox;
+
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.exception.ApplicationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 상태 변경을 같은 트랜잭션 안에서 아웃박스 테이블에 기록
+ * - 같은 이벤트를 애플리케이션 이벤트로도 발행 (캐시 무효화 등 프로세스 내부 구독용)
+ */
+@Component
+public class OrderOutbox {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public OrderOutbox(final OutboxEventRepository outboxEventRepository,
+      final ObjectMapper objectMapper) {
+    this(outboxEventRepository, objectMapper, event -> {
+    });
+  }
+
+  @Autowired
+  public OrderOutbox(final OutboxEventRepository outboxEventRepository,
+      final ObjectMapper objectMapper,
+      final ApplicationEventPublisher eventPublisher) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.objectMapper = objectMapper;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(final Order order, final OrderEventType eventType) {
+    final OrderEvent event = OrderEvent.of(order, eventType);
+
+    outboxEventRepository.save(
+        new OutboxEvent(order.getId(), eventType, serialize(event), event.occurredAt())
+    );
+    eventPublisher.publishEvent(event);
+  }
+
+  /**
+   * 일괄 상태 변경용 - 이벤트를 한 번에 저장하고 프로세스 내부 이벤트는 발행하지 않는다
+   * (호출 측이 조회 모델을 같은 트랜잭션에서 직접 갱신하므로 이력 반영 완료로 저장)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void appendAll(final List<OrderEvent> events) {
+    outboxEventRepository.saveAll(events.stream()
+        .map(event -> {
+          final OutboxEvent outboxEvent = new OutboxEvent(event.orderId(), event.eventType(), serialize(event),
+              event.occurredAt());
+          outboxEvent.markHistoryProjected();
+          return outboxEvent;
+        })
+        .toList());
+  }
+
+  private String serialize(final OrderEvent event) {
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new ApplicationException("주문 이벤트 직렬화에 실패했습니다.", e);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.example.orderservice.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "order_outbox", indexes = {
+    @Index(name = "idx_order_outbox_status_id", columnList = "status, id"),
+    @Index(name = "idx_order_outbox_history_projected_id", columnList = "historyProjected, id"),
+    @Index(name = "idx_order_outbox_aggregate_id", columnList = "aggregateId, historyProjected")
+})
+public class OutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long aggregateId;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private OrderEventType eventType;
+
+  @Column(nullable = false, length = 2000)
+  private String payload;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private OutboxStatus status;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  private LocalDateTime sentAt;
+
+  // 주문 이력 조회 모델(OrderHistoryProjector)에 반영됐는지 - 릴레이 전송 상태(status)와 별개
+  @Column(nullable = false)
+  private boolean historyProjected;
+
+  public OutboxEvent() {
+  }
+
+  public OutboxEvent(final Long aggregateId, final OrderEventType eventType, final String payload,
+      final LocalDateTime createdAt) {
+    this.aggregateId = aggregateId;
+    this.eventType = eventType;
+    this.payload = payload;
+    this.status = OutboxStatus.PENDING;
+    this.createdAt = createdAt;
+  }
+
+  public void markAsSent(final LocalDateTime sentAt) {
+    this.status = OutboxStatus.SENT;
+    this.sentAt = sentAt;
+  }
+
+  public void markHistoryProjected() {
+    this.historyProjected = true;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getAggregateId() {
+    return aggregateId;
+  }
+
+  public OrderEventType getEventType() {
+    return eventType;
+  }
+
+  public String getPayload() {
+    return payload;
+  }
+
+  public OutboxStatus getStatus() {
+    return status;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public LocalDateTime getSentAt() {
+    return sentAt;
+  }
+
+  public boolean isHistoryProjected() {
+    return historyProjected;
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.orderservice.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository {
+
+  OutboxEvent save(OutboxEvent event);
+
+  <S extends OutboxEvent> List<S> saveAll(Iterable<S> events);
+
+  List<OutboxEvent> findPendingEvents(int limit);
+
+  long countPendingEvents();
+
+  int markAsSent(List<Long> ids, LocalDateTime sentAt);
+
+  // before 이전에 기록됐지만 아직 주문 이력에 반영되지 않은 이벤트 (ID 순, 최대 limit 개)
+  List<OutboxEvent> findUnprojectedEvents(LocalDateTime before, int limit);
+
+  // 주문의 미반영 이벤트를 모두 반영 완료로 표시 (변경된 행 수 반환)
+  int markHistoryProjected(Long aggregateId);
+}
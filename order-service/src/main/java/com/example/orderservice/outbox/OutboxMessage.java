@@ -0,0 +1,21 @@
+package com.example.orderservice.outbox;
+
+import java.time.LocalDateTime;
+
+public record OutboxMessage(
+    Long id,
+    Long orderId,
+    OrderEventType eventType,
+    String payload,
+    LocalDateTime occurredAt
+) {
+  public static OutboxMessage of(final OutboxEvent event) {
+    return new OutboxMessage(
+        event.getId(),
+        event.getAggregateId(),
+        event.getEventType(),
+        event.getPayload(),
+        event.getCreatedAt()
+    );
+  }
+}
@@ -0,0 +1,126 @@
+package com.example.orderservice.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 폴링 릴레이
+ * - 한 번의 폴링에서 최대 maxBatchesPerPoll 개의 배치만 전달
+ * - 싱크 실패 시 지수 백오프로 폴링을 건너뛴다 (배압)
+ * - 전달된 배치는 한 번의 UPDATE 로 SENT 처리 (at-least-once)
+ */
+@Component
+@ConditionalOnProperty(name = "order.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxSink outboxSink;
+  private final int batchSize;
+  private final int maxBatchesPerPoll;
+  private final long initialBackoffMillis;
+  private final long maxBackoffMillis;
+
+  private final Counter publishedCounter;
+  private final Counter failureCounter;
+  private final Timer batchTimer;
+  private final AtomicLong backlog = new AtomicLong();
+  private final AtomicLong backoffMillis = new AtomicLong();
+
+  private long resumeAtMillis;
+
+  public OutboxRelay(final OutboxEventRepository outboxEventRepository,
+      final OutboxSink outboxSink,
+      final MeterRegistry meterRegistry,
+      @Value("${order.outbox.relay.batch-size:100}") final int batchSize,
+      @Value("${order.outbox.relay.max-batches-per-poll:10}") final int maxBatchesPerPoll,
+      @Value("${order.outbox.relay.initial-backoff-ms:500}") final long initialBackoffMillis,
+      @Value("${order.outbox.relay.max-backoff-ms:30000}") final long maxBackoffMillis) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.outboxSink = outboxSink;
+    this.batchSize = batchSize;
+    this.maxBatchesPerPoll = maxBatchesPerPoll;
+    this.initialBackoffMillis = initialBackoffMillis;
+    this.maxBackoffMillis = maxBackoffMillis;
+
+    this.publishedCounter = Counter.builder("order.outbox.relay.published")
+        .description("싱크로 전달된 아웃박스 이벤트 수")
+        .register(meterRegistry);
+    this.failureCounter = Counter.builder("order.outbox.relay.failures")
+        .description("싱크 전달에 실패한 배치 수")
+        .register(meterRegistry);
+    this.batchTimer = Timer.builder("order.outbox.relay.batch")
+        .description("배치 전달 + SENT 처리 소요 시간")
+        .register(meterRegistry);
+    meterRegistry.gauge("order.outbox.backlog", backlog);
+    meterRegistry.gauge("order.outbox.relay.backoff", backoffMillis);
+  }
+
+  @Scheduled(fixedDelayString = "${order.outbox.relay.poll-interval-ms:500}")
+  public void poll() {
+    relay();
+  }
+
+  /**
+   * 대기 중인 이벤트를 배치 단위로 전달하고 전달한 이벤트 수를 반환
+   */
+  public synchronized int relay() {
+    if (System.currentTimeMillis() < resumeAtMillis) {
+      return 0;
+    }
+
+    int relayed = 0;
+    for (int i = 0; i < maxBatchesPerPoll; i++) {
+      final List<OutboxEvent> batch = outboxEventRepository.findPendingEvents(batchSize);
+      if (batch.isEmpty() || !publish(batch)) {
+        break;
+      }
+
+      relayed += batch.size();
+      if (batch.size() < batchSize) {
+        break;
+      }
+    }
+
+    backlog.set(outboxEventRepository.countPendingEvents());
+    return relayed;
+  }
+
+  private boolean publish(final List<OutboxEvent> batch) {
+    final Timer.Sample sample = Timer.start();
+    try {
+      outboxSink.publish(batch.stream().map(OutboxMessage::of).toList());
+      outboxEventRepository.markAsSent(batch.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+
+      sample.stop(batchTimer);
+      publishedCounter.increment(batch.size());
+      backoffMillis.set(0);
+      return true;
+
+    } catch (RuntimeException e) {
+      failureCounter.increment();
+      final long nextBackoff = Math.min(Math.max(backoffMillis.get() * 2, initialBackoffMillis), maxBackoffMillis);
+      backoffMillis.set(nextBackoff);
+      resumeAtMillis = System.currentTimeMillis() + nextBackoff;
+
+      log.warn("아웃박스 이벤트 전달 실패 - 배치크기: {}, {}ms 후 재시도, 에러: {}",
+          batch.size(), nextBackoff, e.getMessage());
+      return false;
+    }
+  }
+
+  public long getBacklog() {
+    return backlog.get();
+  }
+}
@@ -0,0 +1,12 @@
+package com.example.orderservice.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 발행 대상
+ * 배치 전체가 전달되지 않으면 예외를 던져 릴레이가 재시도하도록 한다.
+ */
+public interface OutboxSink {
+
+  void publish(List<OutboxMessage> messages);
+}
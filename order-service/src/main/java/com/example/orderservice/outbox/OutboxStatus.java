@@ -0,0 +1,6 @@
+package com.example.orderservice.outbox;
+
+public enum OutboxStatus {
+  PENDING,
+  SENT
+}
@@ -0,0 +1,326 @@
+package com.example.orderservice.payment;
+
+import com.example.orderservice.client.PointClient;
+import com.example.orderservice.dto.request.PaymentRequest;
+import com.example.orderservice.dto.request.RefundPointsRequest;
+import com.example.orderservice.dto.response.PaymentResponse;
+import com.example.orderservice.dto.response.PaymentStatusResponse;
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OrderOutbox;
+import com.example.orderservice.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 비동기 결제 파이프라인
+ * - 요청 스레드는 결제를 PENDING 으로 저장하고 바로 반환 (202)
+ * - 포인트 차감은 크기가 고정된 워커 풀에서 처리해, point-service 가 느려져도 톰캣 스레드와 커넥션을 잡지 않는다
+ * - 큐가 가득 차면 결제를 FAILED 로 남기고 503 으로 거절
+ * - 응답 유실 등으로 차감 여부를 알 수 없으면 UNKNOWN 으로 남겨 수동 확인 (주문은 다시 결제할 수 없다)
+ */
+@Service
+public class AsyncPaymentService {
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncPaymentService.class);
+
+  private final OrderRepository orderRepository;
+  private final PaymentRepository paymentRepository;
+  private final PaymentProcessorRegistry paymentProcessorRegistry;
+  private final PointClient pointClient;
+  private final OrderOutbox orderOutbox;
+  private final PaymentStatusNotifier notifier;
+  private final TransactionTemplate transactionTemplate;
+  private final ThreadPoolExecutor executor;
+  private final Set<Long> queuedPaymentIds = ConcurrentHashMap.newKeySet();
+  private final Duration staleAfter;
+  private final int recoveryBatchSize;
+  private final Counter rejectedCounter;
+
+  public AsyncPaymentService(final OrderRepository orderRepository,
+      final PaymentRepository paymentRepository,
+      final PaymentProcessorRegistry paymentProcessorRegistry,
+      final PointClient pointClient,
+      final OrderOutbox orderOutbox,
+      final PaymentStatusNotifier notifier,
+      final TransactionTemplate transactionTemplate,
+      final MeterRegistry meterRegistry,
+      @Value("${order.payment.async.workers:8}") final int workers,
+      @Value("${order.payment.async.queue-capacity:1000}") final int queueCapacity,
+      @Value("${order.payment.async.stale-after-ms:60000}") final long staleAfterMillis,
+      @Value("${order.payment.async.recovery-batch-size:100}") final int recoveryBatchSize) {
+    this.orderRepository = orderRepository;
+    this.paymentRepository = paymentRepository;
+    this.paymentProcessorRegistry = paymentProcessorRegistry;
+    this.pointClient = pointClient;
+    this.orderOutbox = orderOutbox;
+    this.notifier = notifier;
+    this.transactionTemplate = transactionTemplate;
+    this.executor = newExecutor(workers, queueCapacity);
+    this.staleAfter = Duration.ofMillis(staleAfterMillis);
+    this.recoveryBatchSize = recoveryBatchSize;
+    this.rejectedCounter = meterRegistry.counter("order.payment.async.rejected");
+
+    Gauge.builder("order.payment.async.queue", executor, e -> e.getQueue().size())
+        .description("처리 대기 중인 비동기 결제 수")
+        .register(meterRegistry);
+    Gauge.builder("order.payment.async.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("처리 중인 비동기 결제 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 결제를 접수하고 즉시 반환한다
+   * - 같은 주문에 진행 중이거나 완료된 결제가 있으면 새로 만들지 않고 그 결제를 돌려준다
+   */
+  public PaymentStatusResponse requestPayment(final Long orderId) {
+    return requestPayment(orderId, PaymentMethod.POINT);
+  }
+
+  public PaymentStatusResponse requestPayment(final Long orderId, final PaymentMethod method) {
+    if (!paymentProcessorRegistry.supports(method)) {
+      throw new ApplicationException("지원하지 않는 결제 수단입니다: " + method);
+    }
+
+    final Optional<Payment> active = paymentRepository.findActivePaymentByOrderId(orderId);
+    if (active.isPresent()) {
+      return PaymentStatusResponse.of(active.get());
+    }
+
+    final Accepted accepted = transactionTemplate.execute(status -> {
+      final Order order = findOrderWithLock(orderId);
+      // 주문 행을 잠근 뒤 다시 확인 - 같은 주문의 동시 요청은 잠금에서 줄을 서므로 결제는 하나만 만들어진다
+      final Optional<Payment> existing = paymentRepository.findActivePaymentByOrderId(orderId);
+      if (existing.isPresent()) {
+        return new Accepted(existing.get(), false);
+      }
+      if (order.getStatus() != OrderStatus.PENDING) {
+        throw new ApplicationException("결제 대기 중인 주문이 아닙니다. 현재 상태: " + order.getStatus());
+      }
+      return new Accepted(paymentRepository.save(
+          new Payment(order.getId(), order.getMemberId(), order.getTotalPrice(), method)), true);
+    });
+    final Payment payment = accepted.payment();
+    if (!accepted.created()) {
+      return PaymentStatusResponse.of(payment);
+    }
+
+    // 워커가 곧바로 상태를 바꿀 수 있으므로 접수 시점(PENDING)의 응답을 제출 전에 만들어 둔다
+    final PaymentStatusResponse response = PaymentStatusResponse.of(payment);
+    if (!submit(payment.getId())) {
+      final Payment rejected = transactionTemplate.execute(status -> {
+        final Payment p = findPayment(payment.getId());
+        p.fail("결제 대기열이 가득 찼습니다.");
+        return paymentRepository.save(p);
+      });
+      notifier.publish(PaymentStatusResponse.of(rejected));
+      throw new PaymentQueueFullException();
+    }
+
+    return response;
+  }
+
+  public PaymentStatusResponse findPaymentStatus(final Long paymentId) {
+    return PaymentStatusResponse.of(findPayment(paymentId));
+  }
+
+  public SseEmitter subscribe(final Long paymentId) {
+    findPayment(paymentId);
+    return notifier.subscribe(paymentId, () -> findPaymentStatus(paymentId));
+  }
+
+  /**
+   * 재시작 등으로 큐에서 사라진 PENDING 결제를 다시 넣는다
+   * - PROCESSING 결제는 포인트 차감 여부를 알 수 없으므로 자동으로 재처리하지 않는다
+   */
+  @Scheduled(fixedDelayString = "${order.payment.async.recovery-interval-ms:30000}")
+  public int resubmitStalePayments() {
+    final List<Payment> stale = paymentRepository.findStalePendingPayments(
+        LocalDateTime.now().minus(staleAfter), recoveryBatchSize);
+
+    int resubmitted = 0;
+    for (final Payment payment : stale) {
+      if (queuedPaymentIds.contains(payment.getId())) {
+        continue;
+      }
+      if (!submit(payment.getId())) {
+        break; // 큐가 찼으면 다음 주기에 다시 시도
+      }
+      resubmitted++;
+    }
+    if (resubmitted > 0) {
+      log.info("대기 결제 재접수 - {}건", resubmitted);
+    }
+    return resubmitted;
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+      executor.shutdownNow();
+    }
+  }
+
+  private boolean submit(final Long paymentId) {
+    if (!queuedPaymentIds.add(paymentId)) {
+      return true;
+    }
+    try {
+      executor.execute(() -> {
+        try {
+          process(paymentId);
+        } finally {
+          queuedPaymentIds.remove(paymentId);
+        }
+      });
+      return true;
+    } catch (RejectedExecutionException e) {
+      queuedPaymentIds.remove(paymentId);
+      rejectedCounter.increment();
+      log.warn("결제 대기열 포화 - paymentId: {}", paymentId);
+      return false;
+    }
+  }
+
+  void process(final Long paymentId) {
+    final Payment processing;
+    try {
+      processing = transactionTemplate.execute(status -> {
+        final Payment payment = findPayment(paymentId);
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+          return null;
+        }
+        payment.startProcessing();
+        return paymentRepository.save(payment);
+      });
+    } catch (ObjectOptimisticLockingFailureException e) {
+      log.info("다른 워커가 처리 중인 결제 - paymentId: {}", paymentId);
+      return;
+    }
+    if (processing == null) {
+      return;
+    }
+    notifier.publish(PaymentStatusResponse.of(processing));
+
+    // 원격 호출은 트랜잭션 밖에서 수행
+    final PaymentResponse result;
+    try {
+      result = charge(processing);
+    } catch (PaymentOutcomeUnknownException e) {
+      // 차감됐을 수 있으므로 실패로 닫지 않는다 - OrderSagaOrchestrator.pay 와 같이 확인 대상으로 남긴다
+      log.error("결제 결과를 확인할 수 없는 결제 - 수동 확인 필요. paymentId: {}, orderId: {}",
+          paymentId, processing.getOrderId(), e);
+      final Payment unknown = transactionTemplate.execute(status -> {
+        final Payment payment = findPayment(paymentId);
+        payment.markOutcomeUnknown("결제 결과 확인 필요: " + e.getMessage());
+        return paymentRepository.save(payment);
+      });
+      notifier.publish(PaymentStatusResponse.of(unknown));
+      return;
+    }
+
+    final Payment finished = transactionTemplate.execute(status -> complete(paymentId, result));
+    if (result.status() == PaymentStatus.SUCCESS && finished.getStatus() == PaymentStatus.FAILED) {
+      refund(finished);
+    }
+    notifier.publish(PaymentStatusResponse.of(finished));
+  }
+
+  private PaymentResponse charge(final Payment payment) {
+    try {
+      return paymentProcessorRegistry.processPayment(new PaymentRequest(
+          payment.getOrderId(), payment.getMemberId(), payment.getAmount(), payment.getMethod()));
+    } catch (PaymentOutcomeUnknownException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      log.error("결제 처리 중 예외 - paymentId: {}", payment.getId(), e);
+      return PaymentResponse.failure("결제 처리 중 오류가 발생했습니다: " + e.getMessage());
+    }
+  }
+
+  private Payment complete(final Long paymentId, final PaymentResponse result) {
+    final Payment payment = findPayment(paymentId);
+
+    if (result.status() != PaymentStatus.SUCCESS) {
+      payment.fail(result.failureReason());
+      return paymentRepository.save(payment);
+    }
+
+    // 결제 도중 주문이 취소된 경우 - 결제는 실패로 남기고 승인된 금액은 환불
+    // 취소(OrderCancellationService)와 같은 주문 행 잠금 안에서 상태를 확인하고 바꾼다
+    final Order order = findOrderWithLock(payment.getOrderId());
+    if (order.getStatus() != OrderStatus.PENDING) {
+      payment.fail("결제 중 주문 상태가 변경되었습니다: " + order.getStatus());
+      return paymentRepository.save(payment);
+    }
+
+    order.markAsPaid();
+    orderOutbox.append(order, OrderEventType.ORDER_PAID);
+    payment.succeed(result.transactionId());
+    return paymentRepository.save(payment);
+  }
+
+  private void refund(final Payment payment) {
+    if (payment.getMethod() != PaymentMethod.POINT) {
+      log.error("카드 결제 승인 취소 필요 - paymentId: {}, orderId: {}", payment.getId(), payment.getOrderId());
+      return;
+    }
+    try {
+      pointClient.refundPoints(new RefundPointsRequest(payment.getMemberId(), payment.getAmount(),
+          payment.getOrderId(), "payment-refund-" + payment.getId()));
+      log.info("취소된 주문의 결제 환불 - paymentId: {}, orderId: {}", payment.getId(), payment.getOrderId());
+    } catch (Exception e) {
+      log.error("결제 환불 실패 - 수동 환불 필요. paymentId: {}, memberId: {}, amount: {}",
+          payment.getId(), payment.getMemberId(), payment.getAmount(), e);
+    }
+  }
+
+  private Order findOrderWithLock(final Long orderId) {
+    return orderRepository.findByIdWithLock(orderId)
+        .orElseThrow(() -> new ApplicationException("주문 정보를 찾을 수 없습니다."));
+  }
+
+  private Payment findPayment(final Long paymentId) {
+    return paymentRepository.findById(paymentId)
+        .orElseThrow(() -> new ApplicationException("결제 정보를 찾을 수 없습니다."));
+  }
+
+  private record Accepted(Payment payment, boolean created) {
+  }
+
+  private static ThreadPoolExecutor newExecutor(final int workers, final int queueCapacity) {
+    final AtomicInteger sequence = new AtomicInteger();
+    return new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          final Thread thread = new Thread(runnable, "payment-worker-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+}
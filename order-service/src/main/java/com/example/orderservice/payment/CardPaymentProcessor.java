@@ -0,0 +1,46 @@
+package com.example.orderservice.payment;
+
+import com.example.orderservice.dto.request.PaymentRequest;
+import com.example.orderservice.dto.response.PaymentResponse;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카드 결제 (로컬 스텁 게이트웨이)
+ * - 실제 PG 연동 전까지 설정된 지연만큼 대기 후 승인한다
+ */
+@Component
+public class CardPaymentProcessor implements PaymentProcessor {
+
+  private static final Logger log = LoggerFactory.getLogger(CardPaymentProcessor.class);
+  private static final String TRANSACTION_ID_START = "CARD_";
+
+  private final long gatewayLatencyMillis;
+
+  public CardPaymentProcessor(@Value("${order.payment.card.stub-latency-ms:200}") final long gatewayLatencyMillis) {
+    this.gatewayLatencyMillis = gatewayLatencyMillis;
+  }
+
+  @Override
+  public PaymentMethod method() {
+    return PaymentMethod.CARD;
+  }
+
+  @Override
+  public PaymentResponse processPayment(final PaymentRequest request) {
+    log.info("카드 결제 시작 - orderId: {}, userId: {}, amount: {}",
+        request.orderId(), request.userId(), request.amount());
+
+    try {
+      Thread.sleep(gatewayLatencyMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return PaymentResponse.failure("카드 결제 승인 대기 중 중단되었습니다");
+    }
+
+    return PaymentResponse.success(TRANSACTION_ID_START + UUID.randomUUID());
+  }
+}
@@ -0,0 +1,35 @@
+package com.example.orderservice.payment;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaPaymentRepository extends PaymentRepository, JpaRepository<Payment, Long> {
+
+  Optional<Payment> findFirstByOrderIdAndStatusIn(Long orderId, Collection<PaymentStatus> statuses);
+
+  List<Payment> findByStatusAndRequestedAtBeforeOrderByIdAsc(PaymentStatus status, LocalDateTime requestedBefore,
+      Limit limit);
+
+  @Override
+  default Optional<Payment> findActivePaymentByOrderId(final Long orderId) {
+    return findFirstByOrderIdAndStatusIn(orderId,
+        List.of(PaymentStatus.PENDING, PaymentStatus.PROCESSING, PaymentStatus.UNKNOWN,
+            PaymentStatus.SUCCESS));
+  }
+
+  @Override
+  default Optional<Payment> findSucceededPaymentByOrderId(final Long orderId) {
+    return findFirstByOrderIdAndStatusIn(orderId, List.of(PaymentStatus.SUCCESS));
+  }
+
+  @Override
+  default List<Payment> findStalePendingPayments(final LocalDateTime requestedBefore, final int limit) {
+    return findByStatusAndRequestedAtBeforeOrderByIdAsc(PaymentStatus.PENDING, requestedBefore, Limit.of(limit));
+  }
+}
@@ -0,0 +1,159 @@
+package com.example.orderservice.payment;
+
+import com.example.orderservice.exception.ApplicationException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 결제 요청 (PENDING → PROCESSING → SUCCESS / FAILED)
+ */
+@Entity
+@Table(name = "payments", indexes = {
+    @Index(name = "idx_payments_order", columnList = "orderId"),
+    @Index(name = "idx_payments_status_requested", columnList = "status, requestedAt")
+})
+public class Payment {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long orderId;
+
+  @Column(nullable = false)
+  private Long memberId;
+
+  @Column(nullable = false)
+  private Integer amount;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private PaymentMethod method;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private PaymentStatus status;
+
+  private String transactionId;
+
+  private String failureReason;
+
+  @Column(nullable = false)
+  private LocalDateTime requestedAt;
+
+  private LocalDateTime completedAt;
+
+  // 대기 결제를 두 워커가 동시에 집어가는 것을 막는다
+  @Version
+  private Long version;
+
+  public Payment() {
+  }
+
+  public Payment(final Long orderId, final Long memberId, final Integer amount, final PaymentMethod method) {
+    this.orderId = orderId;
+    this.memberId = memberId;
+    this.amount = amount;
+    this.method = method;
+    this.status = PaymentStatus.PENDING;
+    this.requestedAt = LocalDateTime.now();
+  }
+
+  /**
+   * 동기 결제(PUT /orders/{id}/payment)는 승인 결과만 기록 - 취소 시 결제 수단별로 되돌리기 위해 남긴다
+   */
+  public static Payment completed(final Long orderId, final Long memberId, final Integer amount,
+      final PaymentMethod method, final String transactionId) {
+    final Payment payment = new Payment(orderId, memberId, amount, method);
+    payment.status = PaymentStatus.SUCCESS;
+    payment.transactionId = transactionId;
+    payment.completedAt = payment.requestedAt;
+    return payment;
+  }
+
+  public void startProcessing() {
+    if (this.status != PaymentStatus.PENDING) {
+      throw new ApplicationException("대기 중인 결제만 처리할 수 있습니다. 현재 상태: " + this.status);
+    }
+    this.status = PaymentStatus.PROCESSING;
+  }
+
+  public void succeed(final String transactionId) {
+    requireProcessing();
+    this.status = PaymentStatus.SUCCESS;
+    this.transactionId = transactionId;
+    this.completedAt = LocalDateTime.now();
+  }
+
+  // 차감 여부를 알 수 없는 결제 - 실패로 닫으면 같은 주문을 다시 결제할 수 있으므로 열어 둔 채 수동 확인을 기다린다
+  public void markOutcomeUnknown(final String reason) {
+    requireProcessing();
+    this.status = PaymentStatus.UNKNOWN;
+    this.failureReason = reason;
+  }
+
+  public void fail(final String failureReason) {
+    if (this.status.isFinished()) {
+      throw new ApplicationException("이미 종료된 결제입니다. 현재 상태: " + this.status);
+    }
+    this.status = PaymentStatus.FAILED;
+    this.failureReason = failureReason;
+    this.completedAt = LocalDateTime.now();
+  }
+
+  private void requireProcessing() {
+    if (this.status != PaymentStatus.PROCESSING) {
+      throw new ApplicationException("처리 중인 결제가 아닙니다. 현재 상태: " + this.status);
+    }
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getOrderId() {
+    return orderId;
+  }
+
+  public Long getMemberId() {
+    return memberId;
+  }
+
+  public Integer getAmount() {
+    return amount;
+  }
+
+  public PaymentMethod getMethod() {
+    return method;
+  }
+
+  public PaymentStatus getStatus() {
+    return status;
+  }
+
+  public String getTransactionId() {
+    return transactionId;
+  }
+
+  public String getFailureReason() {
+    return failureReason;
+  }
+
+  public LocalDateTime getRequestedAt() {
+    return requestedAt;
+  }
+
+  public LocalDateTime getCompletedAt() {
+    return completedAt;
+  }
+}
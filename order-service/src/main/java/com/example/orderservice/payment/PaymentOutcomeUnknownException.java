@@ -0,0 +1,14 @@
+package com.example.orderservice.payment;
+
+import com.example.orderservice.exception.ApplicationException;
+
+/**
+ * 결제 요청은 보냈지만 응답을 받지 못해(타임아웃, 5xx) 승인 여부를 알 수 없는 경우
+ * - 실패로 보고 보상하면 이미 차감된 금액을 놓칠 수 있으므로 호출한 쪽에서 확인 대상으로 남긴다
+ */
+public class PaymentOutcomeUnknownException extends ApplicationException {
+
+  public PaymentOutcomeUnknownException(final String message, final Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -5,5 +5,8 @@ import com.example.orderservice.dto.response.PaymentResponse;
 
 public interface PaymentProcessor {
 
+  // 이 프로세서가 처리하는 결제 수단 (PaymentProcessorRegistry 라우팅 키)
+  PaymentMethod method();
+
   PaymentResponse processPayment(PaymentRequest request);
 }
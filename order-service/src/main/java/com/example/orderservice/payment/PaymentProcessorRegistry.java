@@ -0,0 +1,133 @@
+package com.example.orderservice.payment;
+
+import com.example.orderservice.dto.request.PaymentRequest;
+import com.example.orderservice.dto.response.PaymentResponse;
+import com.example.orderservice.exception.ApplicationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 수단별 PaymentProcessor 라우팅
+ * - 수단마다 세마포어 벌크헤드를 둬서, 느린 카드 게이트웨이가 포인트 결제까지 막지 못하게 한다
+ * - 허용 동시 호출 수를 넘으면 잠깐 기다린 뒤 PaymentBulkheadFullException (503)
+ */
+@Component
+public class PaymentProcessorRegistry {
+
+  private static final int DEFAULT_MAX_CONCURRENT_CALLS = 20;
+
+  private final Map<PaymentMethod, Route> routes = new EnumMap<>(PaymentMethod.class);
+  private final long acquireTimeoutMillis;
+
+  @Autowired
+  public PaymentProcessorRegistry(final List<PaymentProcessor> processors,
+      final MeterRegistry meterRegistry,
+      @Value("${order.payment.bulkhead.point.max-concurrent-calls:50}") final int pointMaxConcurrentCalls,
+      @Value("${order.payment.bulkhead.card.max-concurrent-calls:4}") final int cardMaxConcurrentCalls,
+      @Value("${order.payment.bulkhead.acquire-timeout-ms:100}") final long acquireTimeoutMillis) {
+    this(processors, meterRegistry,
+        Map.of(PaymentMethod.POINT, pointMaxConcurrentCalls, PaymentMethod.CARD, cardMaxConcurrentCalls),
+        acquireTimeoutMillis);
+  }
+
+  public PaymentProcessorRegistry(final List<PaymentProcessor> processors,
+      final MeterRegistry meterRegistry,
+      final Map<PaymentMethod, Integer> maxConcurrentCalls,
+      final long acquireTimeoutMillis) {
+    this.acquireTimeoutMillis = acquireTimeoutMillis;
+
+    for (final PaymentProcessor processor : processors) {
+      final PaymentMethod method = processor.method();
+      if (routes.containsKey(method)) {
+        throw new IllegalStateException("결제 수단에 프로세서가 중복 등록되었습니다: " + method);
+      }
+      final int limit = maxConcurrentCalls.getOrDefault(method, DEFAULT_MAX_CONCURRENT_CALLS);
+      routes.put(method, new Route(processor, limit, meterRegistry));
+    }
+  }
+
+  public PaymentResponse processPayment(final PaymentRequest request) {
+    final Route route = routes.get(request.paymentMethod());
+    if (route == null) {
+      throw new ApplicationException("지원하지 않는 결제 수단입니다: " + request.paymentMethod());
+    }
+    return route.process(request);
+  }
+
+  public boolean supports(final PaymentMethod method) {
+    return routes.containsKey(method);
+  }
+
+  int availableCalls(final PaymentMethod method) {
+    return routes.get(method).bulkhead.availablePermits();
+  }
+
+  private final class Route {
+
+    private final PaymentProcessor processor;
+    private final Semaphore bulkhead;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter rejectedCounter;
+
+    private Route(final PaymentProcessor processor, final int limit, final MeterRegistry meterRegistry) {
+      this.processor = processor;
+      this.bulkhead = new Semaphore(limit);
+
+      final String method = processor.method().name();
+      this.successTimer = Timer.builder("order.payment.latency")
+          .tags("method", method, "outcome", "success")
+          .publishPercentiles(0.5, 0.99)
+          .register(meterRegistry);
+      this.failureTimer = Timer.builder("order.payment.latency")
+          .tags("method", method, "outcome", "failure")
+          .publishPercentiles(0.5, 0.99)
+          .register(meterRegistry);
+      this.rejectedCounter = Counter.builder("order.payment.bulkhead.rejected")
+          .tag("method", method)
+          .register(meterRegistry);
+      Gauge.builder("order.payment.bulkhead.saturation", bulkhead,
+              b -> (double) (limit - b.availablePermits()) / limit)
+          .tag("method", method)
+          .description("벌크헤드 사용률 (0.0 ~ 1.0)")
+          .register(meterRegistry);
+    }
+
+    private PaymentResponse process(final PaymentRequest request) {
+      if (!acquire()) {
+        rejectedCounter.increment();
+        throw new PaymentBulkheadFullException(processor.method());
+      }
+
+      final long start = System.nanoTime();
+      PaymentResponse result = null;
+      try {
+        result = processor.processPayment(request);
+        return result;
+      } finally {
+        bulkhead.release();
+        final Timer timer = result != null && result.status() == PaymentStatus.SUCCESS ? successTimer : failureTimer;
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    private boolean acquire() {
+      try {
+        return bulkhead.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+  }
+}
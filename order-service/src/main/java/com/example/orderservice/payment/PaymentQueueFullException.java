@@ -0,0 +1,10 @@
+package com.example.orderservice.payment;
+
+import com.example.orderservice.exception.ApplicationException;
+
+public class PaymentQueueFullException extends ApplicationException {
+
+  public PaymentQueueFullException() {
+    super("결제 요청이 많아 잠시 후 다시 시도해주세요.");
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.orderservice.payment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentRepository {
+
+  Payment save(Payment payment);
+
+  Optional<Payment> findById(Long id);
+
+  Optional<Payment> findActivePaymentByOrderId(Long orderId);
+
+  // 주문의 승인된 결제 (취소 시 결제 수단 확인)
+  Optional<Payment> findSucceededPaymentByOrderId(Long orderId);
+
+  List<Payment> findStalePendingPayments(LocalDateTime requestedBefore, int limit);
+}
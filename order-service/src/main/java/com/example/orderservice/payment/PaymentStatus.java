@@ -1,5 +1,15 @@
 package com.example.orderservice.payment;
 
 public enum PaymentStatus {
-  SUCCESS, FAILED, CANCELLED
+  // UNKNOWN: 차감 요청 후 응답을 받지 못해 결과를 알 수 없음 - 자동으로 처리하지 않고 수동 확인 대상으로 남긴다
+  PENDING, PROCESSING, UNKNOWN, SUCCESS, FAILED, CANCELLED;
+
+  public boolean isFinished() {
+    return this == SUCCESS || this == FAILED || this == CANCELLED;
+  }
+
+  // 워커가 더 이상 바꾸지 않는 상태 (UNKNOWN 은 수동 확인 후에만 바뀐다)
+  public boolean isSettled() {
+    return isFinished() || this == UNKNOWN;
+  }
 }
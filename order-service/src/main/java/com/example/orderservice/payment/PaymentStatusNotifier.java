@@ -0,0 +1,82 @@
+package com.example.orderservice.payment;
+
+import com.example.orderservice.dto.response.PaymentStatusResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 결제 상태 변경을 SSE 구독자에게 전달
+ * - 구독 즉시 현재 상태를 한 번 보내고, 이후 변경될 때마다 push
+ * - 종료 상태(SUCCESS / FAILED / CANCELLED)를 보내면 스트림을 닫는다
+ */
+@Component
+public class PaymentStatusNotifier {
+
+  private static final String EVENT_NAME = "payment-status";
+
+  private final ConcurrentHashMap<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+  private final long timeoutMillis;
+
+  public PaymentStatusNotifier(@Value("${order.payment.async.sse-timeout-ms:60000}") final long timeoutMillis) {
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  public SseEmitter subscribe(final Long paymentId, final Supplier<PaymentStatusResponse> currentStatus) {
+    final SseEmitter emitter = new SseEmitter(timeoutMillis);
+    // 등록을 먼저 해야 현재 상태 조회와 상태 변경 사이의 이벤트를 놓치지 않는다
+    subscribers.computeIfAbsent(paymentId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+    emitter.onCompletion(() -> unsubscribe(paymentId, emitter));
+    emitter.onTimeout(() -> unsubscribe(paymentId, emitter));
+    emitter.onError(e -> unsubscribe(paymentId, emitter));
+
+    final PaymentStatusResponse current = currentStatus.get();
+    send(emitter, current);
+    if (current.status().isSettled()) {
+      emitter.complete();
+    }
+    return emitter;
+  }
+
+  public void publish(final PaymentStatusResponse status) {
+    final List<SseEmitter> emitters = status.status().isSettled()
+        ? subscribers.remove(status.paymentId())
+        : subscribers.get(status.paymentId());
+    if (emitters == null) {
+      return;
+    }
+
+    for (final SseEmitter emitter : emitters) {
+      send(emitter, status);
+      if (status.status().isSettled()) {
+        emitter.complete();
+      }
+    }
+  }
+
+  int subscriberCount(final Long paymentId) {
+    final List<SseEmitter> emitters = subscribers.get(paymentId);
+    return emitters == null ? 0 : emitters.size();
+  }
+
+  private void send(final SseEmitter emitter, final PaymentStatusResponse status) {
+    try {
+      emitter.send(SseEmitter.event().name(EVENT_NAME).data(status));
+    } catch (IOException | IllegalStateException e) {
+      // 클라이언트가 끊긴 경우 - 구독만 정리하고 결제 처리에는 영향을 주지 않는다
+      emitter.completeWithError(e);
+    }
+  }
+
+  private void unsubscribe(final Long paymentId, final SseEmitter emitter) {
+    subscribers.computeIfPresent(paymentId, (id, emitters) -> {
+      emitters.remove(emitter);
+      return emitters.isEmpty() ? null : emitters;
+    });
+  }
+}
@@ -6,13 +6,16 @@ import com.example.orderservice.dto.request.PaymentRequest;
 import com.example.orderservice.dto.response.DeductPointsResponse;
 import com.example.orderservice.dto.response.PaymentResponse;
 import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.resilience.DependencyTimeoutException;
+import com.example.orderservice.resilience.DependencyUnavailableException;
+import feign.FeignException;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 @Component
-public class PointPaymentProcessor implements PaymentProcessor{
+public class PointPaymentProcessor implements PaymentProcessor {
 
   private static final Logger log = LoggerFactory.getLogger(PointPaymentProcessor.class);
   private static final String TRANSACTION_ID_START = "POINT_";
@@ -24,13 +27,20 @@ public class PointPaymentProcessor implements PaymentProcessor{
     this.pointClient = pointClient;
   }
 
+  @Override
+  public PaymentMethod method() {
+    return PaymentMethod.POINT;
+  }
+
   @Override
   public PaymentResponse processPayment(final PaymentRequest request) {
     log.info("포인트 결제 시작 - orderId: {}, userId: {}, amount: {}",
         request.orderId(), request.userId(), request.amount());
 
     try {
-      DeductPointsRequest deductRequest = new DeductPointsRequest(request.userId(), request.amount());
+      // 주문당 한 번만 차감되도록 주문 번호를 멱등 키로 (응답 유실 후 재시도해도 이중 차감 없음)
+      DeductPointsRequest deductRequest = new DeductPointsRequest(request.userId(), request.amount(),
+          request.orderId(), "order-payment-" + request.orderId());
 
       DeductPointsResponse response = pointClient.deductPoints(deductRequest);
 
@@ -41,6 +51,27 @@ public class PointPaymentProcessor implements PaymentProcessor{
 
       return PaymentResponse.success(transactionId);
 
+    } catch (DependencyTimeoutException e) {
+      // 차감 요청이 이미 도착했을 수 있다 - 실패로 단정하지 않는다
+      log.error("포인트 결제 결과 확인 불가 - orderId: {}, userId: {}, amount: {}",
+          request.orderId(), request.userId(), request.amount(), e);
+      throw new PaymentOutcomeUnknownException("포인트 결제 응답 시간 초과: " + e.getMessage(), e);
+
+    } catch (FeignException e) {
+      if (e.status() < 0 || e.status() >= 500) {
+        log.error("포인트 결제 결과 확인 불가 - orderId: {}, userId: {}, amount: {}, status: {}",
+            request.orderId(), request.userId(), request.amount(), e.status(), e);
+        throw new PaymentOutcomeUnknownException("포인트 서비스 오류 응답: " + e.status(), e);
+      }
+      log.warn("포인트 결제 거절 - userId: {}, 요청금액: {}, status: {}",
+          request.userId(), request.amount(), e.status());
+      return PaymentResponse.failure("포인트 결제가 거절되었습니다: " + e.getMessage());
+
+    } catch (DependencyUnavailableException e) {
+      log.warn("포인트 서비스 응답 없음 - userId: {}, amount: {}, 에러: {}",
+          request.userId(), request.amount(), e.getMessage());
+      return PaymentResponse.failure("포인트 서비스가 응답하지 않습니다: " + e.getMessage());
+
     } catch (ApplicationException e) {
       log.warn("포인트 부족 - userId: {}, 요청금액: {}, 에러: {}",
           request.userId(), request.amount(), e.getMessage());
@@ -0,0 +1,121 @@
+package com.example.orderservice.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생성 요청 제한 (회원별 + 전체)
+ * - 상품 조회 / DB 쓰기 전에 컨트롤러에서 호출해, 초과 요청은 원격 호출 없이 바로 429 로 돌려보낸다
+ * - 회원별 버킷을 먼저 확인해 한 회원의 폭주가 전체 버킷을 소진하지 않도록 한다
+ * - 회원별 버킷은 회원 ID 기준으로 나눈 stripe(ConcurrentHashMap) 에 보관, 가득 찬(= 한동안 요청이 없던) 버킷은 주기적으로 제거
+ * - 버킷 갱신은 CAS 한 번이라 락 경합이 없다
+ */
+@Component
+public class OrderRateLimiter {
+
+  private final boolean enabled;
+  private final double memberRatePerSecond;
+  private final int memberBurst;
+  private final TokenBucket globalBucket;
+  private final ConcurrentHashMap<Long, TokenBucket>[] stripes;
+  private final LongSupplier nanoClock;
+  private final Counter memberRejected;
+  private final Counter globalRejected;
+
+  @Autowired
+  public OrderRateLimiter(final MeterRegistry meterRegistry,
+      @Value("${order.rate-limit.enabled:true}") final boolean enabled,
+      @Value("${order.rate-limit.member.rate-per-second:5}") final double memberRatePerSecond,
+      @Value("${order.rate-limit.member.burst:10}") final int memberBurst,
+      @Value("${order.rate-limit.global.rate-per-second:2000}") final double globalRatePerSecond,
+      @Value("${order.rate-limit.global.burst:4000}") final int globalBurst,
+      @Value("${order.rate-limit.stripes:16}") final int stripes) {
+    this(meterRegistry, enabled, memberRatePerSecond, memberBurst, globalRatePerSecond, globalBurst, stripes,
+        System::nanoTime);
+  }
+
+  @SuppressWarnings("unchecked")
+  public OrderRateLimiter(final MeterRegistry meterRegistry, final boolean enabled,
+      final double memberRatePerSecond, final int memberBurst,
+      final double globalRatePerSecond, final int globalBurst,
+      final int stripes, final LongSupplier nanoClock) {
+    this.enabled = enabled;
+    this.memberRatePerSecond = memberRatePerSecond;
+    this.memberBurst = memberBurst;
+    this.nanoClock = nanoClock;
+    this.globalBucket = new TokenBucket(globalRatePerSecond, globalBurst, nanoClock.getAsLong());
+    this.stripes = new ConcurrentHashMap[Integer.highestOneBit(Math.max(1, stripes))];
+    Arrays.setAll(this.stripes, i -> new ConcurrentHashMap<Long, TokenBucket>());
+
+    this.memberRejected = meterRegistry.counter("order.rate-limit.rejected", "scope", "member");
+    this.globalRejected = meterRegistry.counter("order.rate-limit.rejected", "scope", "global");
+    Gauge.builder("order.rate-limit.tracked-members", this, OrderRateLimiter::trackedMembers)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 주문 요청 1건을 허용하거나 RateLimitExceededException 을 던진다 (memberId 가 없으면 전체 제한만 적용)
+   */
+  public void acquire(final Long memberId) {
+    if (!enabled) {
+      return;
+    }
+    final long now = nanoClock.getAsLong();
+    if (memberId != null) {
+      final TokenBucket bucket = stripeOf(memberId)
+          .computeIfAbsent(memberId, id -> new TokenBucket(memberRatePerSecond, memberBurst, now));
+      if (!bucket.tryAcquire(now)) {
+        memberRejected.increment();
+        throw new RateLimitExceededException(retryAfterSeconds(bucket, now));
+      }
+    }
+    if (!globalBucket.tryAcquire(now)) {
+      globalRejected.increment();
+      throw new RateLimitExceededException(retryAfterSeconds(globalBucket, now));
+    }
+  }
+
+  /**
+   * 가득 찬 회원 버킷 제거 - 새로 만든 버킷과 상태가 같으므로 제한이 느슨해지지 않는다
+   * (제거와 동시에 들어온 요청은 제거된 버킷을 쓸 수 있어 최대 1건 더 허용될 수 있다)
+   * @return 제거한 버킷 수
+   */
+  @Scheduled(fixedDelayString = "${order.rate-limit.eviction-interval-ms:60000}")
+  public int evictIdle() {
+    final long now = nanoClock.getAsLong();
+    int evicted = 0;
+    for (final ConcurrentHashMap<Long, TokenBucket> stripe : stripes) {
+      final int before = stripe.size();
+      stripe.values().removeIf(bucket -> bucket.isFull(now));
+      evicted += before - stripe.size();
+    }
+    return evicted;
+  }
+
+  public int trackedMembers() {
+    int size = 0;
+    for (final ConcurrentHashMap<Long, TokenBucket> stripe : stripes) {
+      size += stripe.size();
+    }
+    return size;
+  }
+
+  private ConcurrentHashMap<Long, TokenBucket> stripeOf(final Long memberId) {
+    long h = memberId * 0x9E3779B97F4A7C15L;
+    h ^= h >>> 32;
+    return stripes[(int) h & (stripes.length - 1)];
+  }
+
+  private static long retryAfterSeconds(final TokenBucket bucket, final long now) {
+    return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilAvailable(now) + 999_999_999L));
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.orderservice.ratelimit;
+
+import com.example.orderservice.exception.ApplicationException;
+
+public class RateLimitExceededException extends ApplicationException {
+
+  private final long retryAfterSeconds;
+
+  public RateLimitExceededException(final long retryAfterSeconds) {
+    super("주문 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  // 거절은 정상 흐름이라 스택 트레이스를 만들지 않는다 (429 응답 비용을 줄이기 위해)
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
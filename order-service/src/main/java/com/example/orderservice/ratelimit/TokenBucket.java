@@ -0,0 +1,57 @@
+package com.example.orderservice.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CAS 기반 토큰 버킷 (GCRA 방식)
+ * - 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각(TAT)" 하나만 AtomicLong 으로 저장해 락 없이 갱신한다
+ * - 요청 1건마다 TAT 를 토큰 1개 간격만큼 뒤로 미루고, TAT 가 now + burst 구간을 넘으면 거절
+ * - TAT 가 현재 시각 이전이면 버킷이 가득 찬 상태 - 새 버킷과 같으므로 제거해도 동작이 바뀌지 않는다
+ */
+public class TokenBucket {
+
+  private final long intervalNanos;
+  private final long burstNanos;
+  private final AtomicLong theoreticalArrival;
+
+  /**
+   * @param ratePerSecond 초당 보충되는 토큰 수
+   * @param burst         가득 찼을 때 한 번에 쓸 수 있는 토큰 수
+   */
+  public TokenBucket(final double ratePerSecond, final int burst, final long nowNanos) {
+    if (ratePerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException("ratePerSecond 와 burst 는 양수여야 합니다.");
+    }
+    this.intervalNanos = Math.max(1L, Math.round(1_000_000_000L / ratePerSecond));
+    this.burstNanos = intervalNanos * burst;
+    this.theoreticalArrival = new AtomicLong(nowNanos);
+  }
+
+  /**
+   * 토큰 1개를 쓰고 허용 여부를 반환
+   */
+  public boolean tryAcquire(final long nowNanos) {
+    while (true) {
+      final long current = theoreticalArrival.get();
+      final long next = Math.max(current, nowNanos) + intervalNanos;
+      if (next - nowNanos > burstNanos) {
+        return false;
+      }
+      if (theoreticalArrival.compareAndSet(current, next)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * 다음 토큰이 생길 때까지 남은 시간 (지금 허용 가능하면 0)
+   */
+  public long nanosUntilAvailable(final long nowNanos) {
+    final long wait = theoreticalArrival.get() + intervalNanos - burstNanos - nowNanos;
+    return Math.max(0L, wait);
+  }
+
+  public boolean isFull(final long nowNanos) {
+    return theoreticalArrival.get() - nowNanos <= 0;
+  }
+}
@@ -0,0 +1,5 @@
+package com.example.orderservice.replica;
+
+public enum ProductChangeType {
+  CREATED, UPDATED, DELETED
+}
@@ -0,0 +1,148 @@
+package com.example.orderservice.replica;
+
+import com.example.orderservice.dto.response.ProductChangeResponse;
+import com.example.orderservice.dto.response.ProductResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * product-service 카탈로그(이름/가격)의 읽기 전용 로컬 복제본
+ * - ProductReplicaSynchronizer 가 변경 이력을 받아 갱신한다
+ * - 마지막으로 변경 이력 끝까지 따라잡은 시점이 maxStaleness 보다 오래되면 조회하지 않는다 (호출 측이 원격 조회로 대체)
+ * - 재고는 담지 않는다. 재고 확인은 주문 시 원격 재고 차감에서 이루어진다
+ */
+@Component
+public class ProductReplica {
+
+  private final Map<Long, Entry> products = new ConcurrentHashMap<>();
+  private final Duration maxStaleness;
+  private final Clock clock;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter staleCounter;
+
+  // 마지막으로 반영한 변경 ID
+  private volatile long cursor;
+  // 마지막으로 변경 이력 끝까지 따라잡은 시각 (null 이면 아직 적재 전)
+  private volatile Instant lastSyncedAt;
+
+  @Autowired
+  public ProductReplica(final MeterRegistry meterRegistry,
+      @Value("${order.product-replica.max-staleness-ms:10000}") final long maxStalenessMillis) {
+    this(meterRegistry, Duration.ofMillis(maxStalenessMillis), Clock.systemUTC());
+  }
+
+  public ProductReplica(final MeterRegistry meterRegistry, final Duration maxStaleness, final Clock clock) {
+    this.maxStaleness = maxStaleness;
+    this.clock = clock;
+    this.hitCounter = meterRegistry.counter("order.product.replica.lookups", "result", "hit");
+    this.missCounter = meterRegistry.counter("order.product.replica.lookups", "result", "miss");
+    this.staleCounter = meterRegistry.counter("order.product.replica.lookups", "result", "stale");
+
+    Gauge.builder("order.product.replica.size", products, Map::size)
+        .register(meterRegistry);
+    Gauge.builder("order.product.replica.lag", this, replica -> replica.lag().toMillis() / 1000.0)
+        .description("마지막 동기화 이후 경과 시간 (초)")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 복제본이 최신이면 상품 정보(재고 제외)를 반환, 오래됐거나 없으면 empty
+   */
+  public Optional<ProductResponse> find(final Long productId) {
+    if (!isFresh()) {
+      staleCounter.increment();
+      return Optional.empty();
+    }
+    final Entry entry = products.get(productId);
+    if (entry == null) {
+      missCounter.increment();
+      return Optional.empty();
+    }
+    hitCounter.increment();
+    return Optional.of(new ProductResponse(entry.id(), entry.name(), entry.price(), null));
+  }
+
+  public boolean isFresh() {
+    return lastSyncedAt != null && lag().compareTo(maxStaleness) <= 0;
+  }
+
+  public boolean isLoaded() {
+    return lastSyncedAt != null;
+  }
+
+  public long cursor() {
+    return cursor;
+  }
+
+  public int size() {
+    return products.size();
+  }
+
+  /**
+   * 전체 상품으로 초기 적재 - headChangeId 는 목록 조회 "전에" 읽은 값이어야 이후 변경을 놓치지 않는다
+   */
+  synchronized void load(final List<ProductResponse> all, final long headChangeId) {
+    products.clear();
+    for (final ProductResponse product : all) {
+      products.put(product.id(), new Entry(product.id(), product.name(), product.price(), headChangeId));
+    }
+    cursor = headChangeId;
+  }
+
+  /**
+   * 변경 1건 반영 - 이미 더 최신 변경을 반영한 상품이면 무시 (재전송/순서 역전에 안전)
+   */
+  synchronized void apply(final ProductChangeResponse change) {
+    products.compute(change.productId(), (id, current) -> {
+      if (current != null && current.changeId() >= change.changeId()) {
+        return current;
+      }
+      if (change.type() == ProductChangeType.DELETED) {
+        return null;
+      }
+      return new Entry(id, change.name(), change.price(), change.changeId());
+    });
+    cursor = Math.max(cursor, change.changeId());
+  }
+
+  void markSynced() {
+    lastSyncedAt = clock.instant();
+  }
+
+  Snapshot toSnapshot() {
+    return new Snapshot(cursor, lastSyncedAt, new ArrayList<>(products.values()));
+  }
+
+  synchronized void restore(final Snapshot snapshot) {
+    products.clear();
+    snapshot.products().forEach(entry -> products.put(entry.id(), entry));
+    cursor = snapshot.cursor();
+    // 저장 시각을 그대로 써서, 오래된 스냅샷이면 다음 동기화 전까지 stale 로 취급된다
+    lastSyncedAt = snapshot.syncedAt();
+  }
+
+  private Duration lag() {
+    final Instant synced = lastSyncedAt;
+    return synced == null ? Duration.ZERO : Duration.between(synced, clock.instant());
+  }
+
+  record Entry(Long id, String name, Integer price, long changeId) {
+  }
+
+  record Snapshot(long cursor, Instant syncedAt, List<Entry> products) {
+  }
+}
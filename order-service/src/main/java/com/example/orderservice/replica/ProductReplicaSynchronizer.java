@@ -0,0 +1,128 @@
+package com.example.orderservice.replica;
+
+import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.dto.response.ProductChangeResponse;
+import com.example.orderservice.dto.response.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * product-service 변경 이력(GET /api/products/changes)을 주기적으로 받아 ProductReplica 를 갱신
+ * - 최초 1회: 변경 head 조회 → 전체 상품 적재 (스냅샷이 있으면 스냅샷부터 이어받음)
+ * - 이후: cursor 이후 변경을 배치로 반영, 끝까지 따라잡았을 때만 동기화 시각 갱신
+ * - 커밋 순서가 ID 순서와 다를 수 있어 replayOverlap 만큼 겹쳐 읽는다 (반영은 상품별 changeId 로 멱등)
+ */
+@Component
+@ConditionalOnProperty(name = "order.product-replica.enabled", havingValue = "true")
+public class ProductReplicaSynchronizer {
+
+  private static final Logger log = LoggerFactory.getLogger(ProductReplicaSynchronizer.class);
+
+  private final ProductClient productClient;
+  private final ProductReplica replica;
+  private final ObjectMapper objectMapper;
+  private final int batchSize;
+  private final int maxBatchesPerSync;
+  private final int replayOverlap;
+  private final Path snapshotPath;
+
+  public ProductReplicaSynchronizer(final ProductClient productClient,
+      final ProductReplica replica,
+      final ObjectMapper objectMapper,
+      @Value("${order.product-replica.batch-size:500}") final int batchSize,
+      @Value("${order.product-replica.max-batches-per-sync:20}") final int maxBatchesPerSync,
+      @Value("${order.product-replica.replay-overlap:50}") final int replayOverlap,
+      @Value("${order.product-replica.snapshot-path:}") final String snapshotPath) {
+    this.productClient = productClient;
+    this.replica = replica;
+    this.objectMapper = objectMapper;
+    this.batchSize = batchSize;
+    this.maxBatchesPerSync = maxBatchesPerSync;
+    this.replayOverlap = replayOverlap;
+    this.snapshotPath = snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+  }
+
+  @PostConstruct
+  public void restoreSnapshot() {
+    if (snapshotPath == null || !Files.exists(snapshotPath)) {
+      return;
+    }
+    try {
+      final ProductReplica.Snapshot snapshot =
+          objectMapper.readValue(snapshotPath.toFile(), ProductReplica.Snapshot.class);
+      replica.restore(snapshot);
+      log.info("상품 복제본 스냅샷 복원 - {}건, cursor: {}", replica.size(), replica.cursor());
+    } catch (IOException e) {
+      log.warn("상품 복제본 스냅샷 복원 실패 - 전체 적재로 대체: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * @return 이번 동기화에서 반영한 변경 건수 (초기 적재 시 적재한 상품 수)
+   */
+  @Scheduled(fixedDelayString = "${order.product-replica.poll-interval-ms:1000}")
+  public int sync() {
+    try {
+      final int applied = replica.isLoaded() ? pullChanges() : bootstrap();
+      if (applied > 0) {
+        saveSnapshot();
+      }
+      return applied;
+    } catch (RuntimeException e) {
+      // 동기화가 밀리면 복제본이 stale 이 되어 조회 측이 원격 조회로 대체한다
+      log.warn("상품 복제본 동기화 실패 - cursor: {}, 원인: {}", replica.cursor(), e.getMessage());
+      return 0;
+    }
+  }
+
+  private int bootstrap() {
+    final long head = productClient.findChangeHead().latestChangeId();
+    final List<ProductResponse> products = productClient.findAllProducts();
+    replica.load(products, head);
+    log.info("상품 복제본 초기 적재 - {}건, cursor: {}", products.size(), head);
+    return products.size() + pullChanges();
+  }
+
+  private int pullChanges() {
+    int applied = 0;
+    for (int batch = 0; batch < maxBatchesPerSync; batch++) {
+      final long cursor = replica.cursor();
+      final long after = Math.max(0, cursor - (batch == 0 ? replayOverlap : 0));
+      final List<ProductChangeResponse> changes = productClient.findChanges(after, batchSize);
+      changes.forEach(replica::apply);
+      applied += (int) changes.stream().filter(change -> change.changeId() > cursor).count();
+
+      if (changes.size() < batchSize) {
+        replica.markSynced();
+        return applied;
+      }
+    }
+    // 한 주기에 다 따라잡지 못함 - 동기화 시각을 갱신하지 않아 지연이 계속되면 stale 로 전환
+    log.info("상품 변경 이력 적체 - cursor: {}", replica.cursor());
+    return applied;
+  }
+
+  private void saveSnapshot() {
+    if (snapshotPath == null) {
+      return;
+    }
+    try {
+      final Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+      objectMapper.writeValue(temp.toFile(), replica.toSnapshot());
+      Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.warn("상품 복제본 스냅샷 저장 실패: {}", e.getMessage());
+    }
+  }
+}
@@ -1,10 +1,26 @@
 package com.example.orderservice.repository;
 
 import com.example.orderservice.entity.OrderItem;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface JpaOrderItemRepository extends OrderItemRepository ,JpaRepository<OrderItem, Long> {
 
+  List<OrderItem> findByOrderIdOrderByIdAsc(Long orderId);
+
+  @Override
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM OrderItem i WHERE i.orderId IN :orderIds")
+  int deleteByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+  @Override
+  default List<OrderItem> findByOrderId(final Long orderId) {
+    return findByOrderIdOrderByIdAsc(orderId);
+  }
 }
@@ -1,14 +1,69 @@
 package com.example.orderservice.repository;
 
 import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface JpaOrderRepository extends OrderRepository, JpaRepository<Order, Long> {
+  @Override
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT o FROM Order o WHERE o.id = :id")
+  Optional<Order> findByIdWithLock(@Param("id") Long id);
+
   @Query("SELECT o FROM Order o WHERE o.memberId = :userId ORDER BY o.orderDate DESC")
   List<Order> findOrdersByUserId(@Param("userId") Long userId);
+
+  List<Order> findByIdGreaterThanEqualAndIdLessThanOrderByIdAsc(Long fromId, Long toId);
+
+  @Query("SELECT o.id FROM Order o WHERE o.id > :afterId ORDER BY o.id ASC")
+  List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+  @Override
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT new com.example.orderservice.repository.OrderStatusView(o.id, o.memberId, o.totalPrice, o.status)"
+      + " FROM Order o WHERE o.id IN :ids")
+  List<OrderStatusView> findStatusViewsWithLock(@Param("ids") Collection<Long> ids);
+
+  @Override
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE Order o SET o.status = :toStatus WHERE o.id IN :ids AND o.status IN :fromStatuses")
+  int updateStatus(@Param("ids") Collection<Long> ids, @Param("fromStatuses") Collection<OrderStatus> fromStatuses,
+      @Param("toStatus") OrderStatus toStatus);
+
+  @Query("SELECT o.id FROM Order o WHERE o.status IN :statuses AND o.orderDate < :before ORDER BY o.id ASC")
+  List<Long> findArchivableIds(@Param("statuses") Collection<OrderStatus> statuses,
+      @Param("before") LocalDateTime before, Limit limit);
+
+  @Override
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM Order o WHERE o.id IN :ids")
+  int deleteByIds(@Param("ids") Collection<Long> ids);
+
+  @Override
+  default List<Order> findOrdersByIdRange(final Long fromId, final Long toId) {
+    return findByIdGreaterThanEqualAndIdLessThanOrderByIdAsc(fromId, toId);
+  }
+
+  @Override
+  default List<Long> findOrderIdsAfter(final Long afterId, final int limit) {
+    return findIdsAfter(afterId, Limit.of(limit));
+  }
+
+  @Override
+  default List<Long> findArchivableOrderIds(final Collection<OrderStatus> statuses, final LocalDateTime before,
+      final int limit) {
+    return findArchivableIds(statuses, before, Limit.of(limit));
+  }
 }
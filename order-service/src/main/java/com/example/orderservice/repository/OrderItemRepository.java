@@ -1,8 +1,17 @@
 package com.example.orderservice.repository;
 
 import com.example.orderservice.entity.OrderItem;
+import java.util.Collection;
+import java.util.List;
 
 public interface OrderItemRepository {
 
   OrderItem save(OrderItem orderItems);
+
+  List<OrderItem> findByOrderId(Long orderId);
+
+  List<OrderItem> findByOrderIdIn(Collection<Long> orderIds);
+
+  // 삭제된 행 수 반환
+  int deleteByOrderIds(Collection<Long> orderIds);
 }
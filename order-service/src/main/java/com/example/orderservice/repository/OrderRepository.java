@@ -1,12 +1,29 @@
 package com.example.orderservice.repository;
 
 import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
   List<Order> findAll();
   Optional<Order> findById(Long id);
+  // 주문 행을 트랜잭션 끝까지 잠근다 (SELECT ... FOR UPDATE) - 상태를 읽고 바꾸는 작업끼리 순서를 맞춘다
+  Optional<Order> findByIdWithLock(Long id);
   Order save(Order order);
   List<Order> findOrdersByUserId(Long userId);
+  // [fromId, toId) 범위의 주문 (ID 순)
+  List<Order> findOrdersByIdRange(Long fromId, Long toId);
+  // afterId 보다 큰 주문 ID 를 오름차순으로 최대 limit 개 (키셋 페이지)
+  List<Long> findOrderIdsAfter(Long afterId, int limit);
+  // 상태를 읽으며 주문 행을 트랜잭션 끝까지 잠근다 (SELECT ... FOR UPDATE)
+  List<OrderStatusView> findStatusViewsWithLock(Collection<Long> ids);
+  // 현재 상태가 fromStatuses 중 하나인 주문만 toStatus 로 변경 (변경된 행 수 반환)
+  int updateStatus(Collection<Long> ids, Collection<OrderStatus> fromStatuses, OrderStatus toStatus);
+  // 상태가 statuses 중 하나이고 before 이전에 주문된 주문 ID 를 오름차순으로 최대 limit 개 (보관 대상)
+  List<Long> findArchivableOrderIds(Collection<OrderStatus> statuses, LocalDateTime before, int limit);
+  // 삭제된 행 수 반환
+  int deleteByIds(Collection<Long> ids);
 }
@@ -0,0 +1,9 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.entity.OrderStatus;
+
+/**
+ * 일괄 상태 변경에 필요한 주문 컬럼만 담은 조회 결과 (엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+public record OrderStatusView(Long id, Long memberId, Integer totalPrice, OrderStatus status) {
+}
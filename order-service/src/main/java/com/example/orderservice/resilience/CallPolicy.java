@@ -0,0 +1,26 @@
+package com.example.orderservice.resilience;
+
+import java.time.Duration;
+
+/**
+ * 엔드포인트별 호출 정책
+ *
+ * @param timeout    시도 1회의 마감 시간
+ * @param maxRetries 실패 시 추가 시도 횟수 (멱등한 호출에만 사용)
+ * @param hedgeDelay 이 시간 안에 응답이 없으면 같은 요청을 한 번 더 보낸다 (null 이면 사용 안 함, 멱등한 GET 전용)
+ */
+public record CallPolicy(Duration timeout, int maxRetries, Duration hedgeDelay) {
+
+  public static CallPolicy of(final Duration timeout) {
+    return new CallPolicy(timeout, 0, null);
+  }
+
+  public static CallPolicy idempotent(final Duration timeout, final int maxRetries, final Duration hedgeDelay) {
+    final boolean hedged = hedgeDelay != null && !hedgeDelay.isZero() && hedgeDelay.compareTo(timeout) < 0;
+    return new CallPolicy(timeout, maxRetries, hedged ? hedgeDelay : null);
+  }
+
+  public boolean isHedged() {
+    return hedgeDelay != null;
+  }
+}
@@ -0,0 +1,131 @@
+package com.example.orderservice.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 횟수 기반 서킷 브레이커
+ * - CLOSED: 최근 windowSize 건의 실패율이 임계치를 넘으면 OPEN
+ * - OPEN: openDuration 동안 호출을 바로 거절
+ * - HALF_OPEN: halfOpenCalls 건만 시험 호출, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final int windowSize;
+  private final int minimumCalls;
+  private final double failureRateThreshold;
+  private final long openDurationNanos;
+  private final int halfOpenCalls;
+  private final LongSupplier nanoClock;
+
+  // 최근 결과를 담는 원형 버퍼 (true = 실패)
+  private final boolean[] outcomes;
+  private int next;
+  private int recorded;
+  private int failures;
+
+  private State state = State.CLOSED;
+  private long openedAt;
+  private int halfOpenPermits;
+  private int halfOpenSuccesses;
+
+  public CircuitBreaker(final int windowSize, final int minimumCalls, final double failureRateThreshold,
+      final Duration openDuration, final int halfOpenCalls) {
+    this(windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls, System::nanoTime);
+  }
+
+  CircuitBreaker(final int windowSize, final int minimumCalls, final double failureRateThreshold,
+      final Duration openDuration, final int halfOpenCalls, final LongSupplier nanoClock) {
+    this.windowSize = windowSize;
+    this.minimumCalls = Math.min(minimumCalls, windowSize);
+    this.failureRateThreshold = failureRateThreshold;
+    this.openDurationNanos = openDuration.toNanos();
+    this.halfOpenCalls = halfOpenCalls;
+    this.nanoClock = nanoClock;
+    this.outcomes = new boolean[windowSize];
+  }
+
+  /**
+   * 호출 허용 여부. 허용된 호출은 반드시 onSuccess / onFailure 중 하나로 끝나야 한다
+   */
+  public synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN) {
+      if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+        return false;
+      }
+      transitionTo(State.HALF_OPEN);
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenPermits >= halfOpenCalls) {
+        return false;
+      }
+      halfOpenPermits++;
+    }
+    return true;
+  }
+
+  public synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      if (++halfOpenSuccesses >= halfOpenCalls) {
+        transitionTo(State.CLOSED);
+      }
+      return;
+    }
+    record(false);
+  }
+
+  public synchronized void onFailure() {
+    if (state == State.HALF_OPEN) {
+      transitionTo(State.OPEN);
+      return;
+    }
+    record(true);
+    if (recorded >= minimumCalls && failureRate() >= failureRateThreshold) {
+      transitionTo(State.OPEN);
+    }
+  }
+
+  public synchronized State state() {
+    return state;
+  }
+
+  private void record(final boolean failed) {
+    if (state == State.OPEN) {
+      return; // OPEN 전에 시작된 호출의 결과는 무시
+    }
+    if (recorded == windowSize) {
+      if (outcomes[next]) {
+        failures--;
+      }
+    } else {
+      recorded++;
+    }
+    outcomes[next] = failed;
+    if (failed) {
+      failures++;
+    }
+    next = (next + 1) % windowSize;
+  }
+
+  private double failureRate() {
+    return (double) failures / recorded;
+  }
+
+  private void transitionTo(final State newState) {
+    state = newState;
+    halfOpenPermits = 0;
+    halfOpenSuccesses = 0;
+    if (newState == State.OPEN) {
+      openedAt = nanoClock.getAsLong();
+    }
+    if (newState == State.CLOSED) {
+      next = 0;
+      recorded = 0;
+      failures = 0;
+    }
+  }
+}
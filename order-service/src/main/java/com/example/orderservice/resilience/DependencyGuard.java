@@ -0,0 +1,251 @@
+package com.example.orderservice.resilience;
+
+import com.example.orderservice.exception.ApplicationException;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 외부 서비스 하나에 대한 호출 보호막
+ * - 서비스별 전용 스레드 풀(벌크헤드)에서 호출하고, 엔드포인트별 마감 시간이 지나면 기다리지 않는다
+ *   (마감 시간이 지난 호출은 인터럽트해 풀 스레드를 돌려받는다)
+ * - 서킷 브레이커: 실패율이 높으면 일정 시간 호출 자체를 차단
+ * - 재시도 예산: 멱등한 호출만, 전체 요청 대비 일정 비율 안에서만 재시도
+ * - 헤징: 멱등한 GET 이 hedgeDelay 안에 응답하지 않으면 한 번 더 보내고 먼저 온 응답을 쓴다
+ * 4xx 응답(비즈니스 오류)은 장애로 세지 않고 원래 예외를 그대로 던진다.
+ */
+public class DependencyGuard {
+
+  private static final Logger log = LoggerFactory.getLogger(DependencyGuard.class);
+
+  private final String dependency;
+  private final CircuitBreaker circuitBreaker;
+  private final RetryBudget retryBudget;
+  private final ThreadPoolExecutor executor;
+  private final MeterRegistry meterRegistry;
+  private final Counter rejectedCounter;
+  private final Counter retryCounter;
+  private final Counter hedgeCounter;
+
+  public DependencyGuard(final String dependency,
+      final CircuitBreaker circuitBreaker,
+      final RetryBudget retryBudget,
+      final int maxConcurrentCalls,
+      final MeterRegistry meterRegistry) {
+    this.dependency = dependency;
+    this.circuitBreaker = circuitBreaker;
+    this.retryBudget = retryBudget;
+    this.executor = newExecutor(dependency, maxConcurrentCalls);
+    this.meterRegistry = meterRegistry;
+    this.rejectedCounter = meterRegistry.counter("order.dependency.rejected", "dependency", dependency);
+    this.retryCounter = meterRegistry.counter("order.dependency.retries", "dependency", dependency);
+    this.hedgeCounter = meterRegistry.counter("order.dependency.hedges", "dependency", dependency);
+
+    Gauge.builder("order.dependency.circuit.state", circuitBreaker, cb -> cb.state().ordinal())
+        .tag("dependency", dependency)
+        .description("0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN")
+        .register(meterRegistry);
+    Gauge.builder("order.dependency.retry.budget", retryBudget, RetryBudget::availableRetries)
+        .tag("dependency", dependency)
+        .register(meterRegistry);
+  }
+
+  public <T> T call(final String endpoint, final CallPolicy policy, final Supplier<T> call) {
+    if (!circuitBreaker.tryAcquirePermission()) {
+      rejectedCounter.increment();
+      throw new DependencyUnavailableException(dependency + " 호출이 일시적으로 차단되었습니다.");
+    }
+    retryBudget.recordRequest();
+
+    final long start = System.nanoTime();
+    int attempt = 0;
+    while (true) {
+      try {
+        final T result = policy.isHedged() ? callHedged(endpoint, policy, call) : callWithDeadline(endpoint, policy, call);
+        circuitBreaker.onSuccess();
+        record(endpoint, "success", start);
+        return result;
+      } catch (RuntimeException e) {
+        if (!isDependencyFailure(e)) {
+          circuitBreaker.onSuccess(); // 응답은 정상적으로 받았음
+          record(endpoint, "client_error", start);
+          throw e;
+        }
+        circuitBreaker.onFailure();
+
+        if (attempt >= policy.maxRetries() || !retryBudget.tryRetry()) {
+          record(endpoint, "failure", start);
+          throw e;
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+          record(endpoint, "failure", start);
+          throw e;
+        }
+        attempt++;
+        retryCounter.increment();
+        log.info("{} {} 재시도 {}회 - 원인: {}", dependency, endpoint, attempt, e.getMessage());
+      }
+    }
+  }
+
+  public CircuitBreaker.State circuitState() {
+    return circuitBreaker.state();
+  }
+
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private <T> T callWithDeadline(final String endpoint, final CallPolicy policy, final Supplier<T> call) {
+    final CompletableFuture<T> future = submit(call);
+    return await(endpoint, future, policy.timeout());
+  }
+
+  private <T> T callHedged(final String endpoint, final CallPolicy policy, final Supplier<T> call) {
+    final CompletableFuture<T> primary = submit(call);
+    try {
+      return primary.get(policy.hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      // 응답이 늦으면 아래에서 헤지 요청을 보낸다
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DependencyUnavailableException(dependency + " 호출이 중단되었습니다.");
+    }
+
+    final Duration remaining = policy.timeout().minus(policy.hedgeDelay());
+    final CompletableFuture<T> hedge;
+    try {
+      hedge = submit(call);
+    } catch (DependencyUnavailableException e) {
+      return await(endpoint, primary, remaining); // 풀이 가득 차면 헤지 없이 원래 요청만 기다린다
+    }
+    hedgeCounter.increment();
+    return await(endpoint, firstSuccessful(List.of(primary, hedge)), remaining);
+  }
+
+  /**
+   * supplyAsync 로 만든 future 는 cancel(true) 해도 실행 중인 스레드를 인터럽트하지 않으므로
+   * executor.submit 의 FutureTask 를 함께 잡아 두고, 결과 future 가 취소되면 그 작업을 인터럽트한다
+   */
+  private <T> CompletableFuture<T> submit(final Supplier<T> call) {
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    final Future<?> task;
+    try {
+      task = executor.submit(() -> {
+        try {
+          result.complete(call.get());
+        } catch (Throwable e) {
+          result.completeExceptionally(e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      throw new DependencyUnavailableException(dependency + " 동시 호출 한도를 초과했습니다.");
+    }
+    result.whenComplete((value, error) -> {
+      if (result.isCancelled()) {
+        task.cancel(true);
+      }
+    });
+    return result;
+  }
+
+  private <T> T await(final String endpoint, final CompletableFuture<T> future, final Duration timeout) {
+    try {
+      return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new DependencyTimeoutException(dependency + " " + endpoint + " 응답 시간 초과 (" + timeout.toMillis() + "ms)");
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    } catch (CancellationException e) {
+      throw new DependencyUnavailableException(dependency + " 호출이 취소되었습니다.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DependencyUnavailableException(dependency + " 호출이 중단되었습니다.");
+    }
+  }
+
+  /**
+   * 먼저 성공한 응답으로 완료, 모두 실패하면 마지막 실패로 완료
+   */
+  private static <T> CompletableFuture<T> firstSuccessful(final List<CompletableFuture<T>> futures) {
+    final CompletableFuture<T> winner = new CompletableFuture<>();
+    final AtomicInteger failed = new AtomicInteger();
+    for (final CompletableFuture<T> future : futures) {
+      future.whenComplete((result, error) -> {
+        if (error == null) {
+          winner.complete(result);
+        } else if (failed.incrementAndGet() == futures.size()) {
+          winner.completeExceptionally(error);
+        }
+      });
+    }
+    winner.whenComplete((result, error) -> futures.forEach(f -> f.cancel(true)));
+    return winner;
+  }
+
+  private RuntimeException unwrap(final ExecutionException e) {
+    Throwable cause = e.getCause();
+    while (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    return new DependencyUnavailableException(dependency + " 호출 실패: " + cause);
+  }
+
+  /**
+   * 서킷/재시도 대상이 되는 장애인지 - 타임아웃, 연결 실패, 5xx
+   */
+  static boolean isDependencyFailure(final RuntimeException e) {
+    if (e instanceof DependencyUnavailableException) {
+      return true;
+    }
+    if (e instanceof FeignException feignException) {
+      return feignException.status() < 0 || feignException.status() >= 500;
+    }
+    return !(e instanceof ApplicationException);
+  }
+
+  private void record(final String endpoint, final String outcome, final long start) {
+    Timer.builder("order.dependency.calls")
+        .tags("dependency", dependency, "endpoint", endpoint, "outcome", outcome)
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+
+  private static ThreadPoolExecutor newExecutor(final String dependency, final int maxConcurrentCalls) {
+    final AtomicInteger sequence = new AtomicInteger();
+    // 큐를 작게 둬서 느린 서비스 호출이 쌓이지 않고 바로 거절되도록 한다
+    return new ThreadPoolExecutor(maxConcurrentCalls, maxConcurrentCalls, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(maxConcurrentCalls),
+        runnable -> {
+          final Thread thread = new Thread(runnable, dependency + "-call-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.orderservice.resilience;
+
+public class DependencyTimeoutException extends DependencyUnavailableException {
+
+  public DependencyTimeoutException(final String message) {
+    super(message);
+  }
+}
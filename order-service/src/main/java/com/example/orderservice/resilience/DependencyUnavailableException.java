@@ -0,0 +1,13 @@
+package com.example.orderservice.resilience;
+
+import com.example.orderservice.exception.ApplicationException;
+
+/**
+ * 외부 서비스가 응답하지 않거나 서킷이 열려 호출하지 않은 경우
+ */
+public class DependencyUnavailableException extends ApplicationException {
+
+  public DependencyUnavailableException(final String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,49 @@
+package com.example.orderservice.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 외부 서비스별 DependencyGuard 등록
+ * - 설정 키: order.resilience.{서비스명}.*
+ */
+@Configuration
+public class ResilienceConfig {
+
+  public static final String PRODUCT_SERVICE = "product-service";
+  public static final String POINT_SERVICE = "point-service";
+
+  @Bean(destroyMethod = "shutdown")
+  public DependencyGuard productServiceGuard(final Environment environment, final MeterRegistry meterRegistry) {
+    return createGuard(PRODUCT_SERVICE, environment, meterRegistry);
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public DependencyGuard pointServiceGuard(final Environment environment, final MeterRegistry meterRegistry) {
+    return createGuard(POINT_SERVICE, environment, meterRegistry);
+  }
+
+  private DependencyGuard createGuard(final String dependency, final Environment environment,
+      final MeterRegistry meterRegistry) {
+    final String prefix = "order.resilience." + dependency + ".";
+
+    final CircuitBreaker circuitBreaker = new CircuitBreaker(
+        environment.getProperty(prefix + "circuit.sliding-window-size", Integer.class, 20),
+        environment.getProperty(prefix + "circuit.minimum-calls", Integer.class, 10),
+        environment.getProperty(prefix + "circuit.failure-rate-threshold", Double.class, 0.5),
+        Duration.ofMillis(environment.getProperty(prefix + "circuit.open-duration-ms", Long.class, 5000L)),
+        environment.getProperty(prefix + "circuit.half-open-calls", Integer.class, 3)
+    );
+    final RetryBudget retryBudget = new RetryBudget(
+        environment.getProperty(prefix + "retry-budget.ratio", Double.class, 0.1),
+        environment.getProperty(prefix + "retry-budget.max-burst", Integer.class, 10)
+    );
+
+    return new DependencyGuard(dependency, circuitBreaker, retryBudget,
+        environment.getProperty(prefix + "max-concurrent-calls", Integer.class, 32),
+        meterRegistry);
+  }
+}
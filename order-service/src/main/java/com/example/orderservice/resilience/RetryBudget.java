@@ -0,0 +1,43 @@
+package com.example.orderservice.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산
+ * - 요청마다 ratio 만큼 토큰을 적립하고, 재시도 1회에 토큰 1개를 쓴다
+ * - 장애 중에도 재시도 트래픽이 원래 요청의 ratio 배를 넘지 않아 재시도 폭주를 막는다
+ */
+public class RetryBudget {
+
+  private static final long SCALE = 1000;
+
+  private final long depositPerRequest;
+  private final long maxTokens;
+  private final AtomicLong tokens;
+
+  public RetryBudget(final double ratio, final int maxRetryBurst) {
+    this.depositPerRequest = Math.round(ratio * SCALE);
+    this.maxTokens = maxRetryBurst * SCALE;
+    this.tokens = new AtomicLong(maxTokens);
+  }
+
+  public void recordRequest() {
+    tokens.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxTokens, current + deposit));
+  }
+
+  public boolean tryRetry() {
+    while (true) {
+      final long current = tokens.get();
+      if (current < SCALE) {
+        return false;
+      }
+      if (tokens.compareAndSet(current, current - SCALE)) {
+        return true;
+      }
+    }
+  }
+
+  public double availableRetries() {
+    return (double) tokens.get() / SCALE;
+  }
+}
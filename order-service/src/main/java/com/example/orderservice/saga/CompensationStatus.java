@@ -0,0 +1,7 @@
+package com.example.orderservice.saga;
+
+public enum CompensationStatus {
+  PENDING,
+  DONE,
+  FAILED
+}
@@ -0,0 +1,196 @@
+package com.example.orderservice.saga;
+
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderItem;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 재시도 가능한 보상 작업
+ * RESTORE_STOCK: targetId = 상품 ID, amount = 복구 수량
+ * REFUND_POINTS: targetId = 회원 ID, amount = 환불 포인트
+ * MANUAL_REFUND: targetId = 회원 ID, amount = 결제 금액 - 처음부터 FAILED 로 저장해 운영자가 수동 환불한다
+ * 사가 없이 결제된 주문의 취소 보상은 sagaId 가 없다
+ */
+@Entity
+@Table(name = "compensation_tasks", indexes = {
+    @Index(name = "idx_compensation_tasks_status_next", columnList = "status, nextAttemptAt"),
+    @Index(name = "idx_compensation_tasks_saga", columnList = "sagaId")
+})
+public class CompensationTask {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  private Long sagaId;
+
+  @Column(nullable = false)
+  private Long orderId;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private CompensationType type;
+
+  @Column(nullable = false)
+  private Long targetId;
+
+  @Column(nullable = false)
+  private Integer amount;
+
+  // RESTORE_STOCK 에서만 사용 - 있으면 이 키로 차감된 경우에만 복구한다
+  @Column(length = 100)
+  private String reservationKey;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private CompensationStatus status;
+
+  @Column(nullable = false)
+  private Integer attempts;
+
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  private String lastError;
+
+  public CompensationTask() {
+  }
+
+  public CompensationTask(final Long sagaId, final Long orderId, final CompensationType type,
+      final Long targetId, final Integer amount) {
+    this.sagaId = sagaId;
+    this.orderId = orderId;
+    this.type = type;
+    this.targetId = targetId;
+    this.amount = amount;
+    this.status = CompensationStatus.PENDING;
+    this.attempts = 0;
+    this.nextAttemptAt = LocalDateTime.now();
+  }
+
+  public static CompensationTask restoreStock(final OrderSaga saga, final Long productId, final Integer quantity) {
+    return new CompensationTask(saga.getId(), saga.getOrderId(), CompensationType.RESTORE_STOCK, productId, quantity);
+  }
+
+  /**
+   * 사가가 차감을 요청한 주문 항목의 재고 복구 - 차감 응답을 받지 못한 항목도 넣는다
+   * product-service 가 예약 키로 실제 차감 여부를 확인하므로 차감되지 않은 항목은 복구되지 않는다
+   */
+  public static CompensationTask releaseReservation(final OrderSaga saga, final OrderItem item) {
+    final CompensationTask task = restoreStock(saga, item.getProductId(), item.getOrderQuantity());
+    task.reservationKey = item.reservationKey();
+    return task;
+  }
+
+  public static CompensationTask refundPoints(final OrderSaga saga) {
+    return new CompensationTask(saga.getId(), saga.getOrderId(), CompensationType.REFUND_POINTS,
+        saga.getMemberId(), saga.getTotalPrice());
+  }
+
+  /**
+   * 사가 없이 결제된 주문 취소 시 포인트 환불
+   */
+  public static CompensationTask refundPoints(final Order order) {
+    return new CompensationTask(null, order.getId(), CompensationType.REFUND_POINTS,
+        order.getMemberId(), order.getTotalPrice());
+  }
+
+  /**
+   * 사가 없이 포인트 외 수단(카드)으로 결제된 주문 취소 - 자동으로 환불할 수 없어 수동 처리 대상으로 남긴다
+   */
+  public static CompensationTask manualRefund(final Order order, final String reason) {
+    final CompensationTask task = new CompensationTask(null, order.getId(), CompensationType.MANUAL_REFUND,
+        order.getMemberId(), order.getTotalPrice());
+    task.status = CompensationStatus.FAILED;
+    task.lastError = reason;
+    return task;
+  }
+
+  /**
+   * 호출한 쪽이 바로 실행하는 동안 워커가 같은 작업을 집어가지 않도록 다음 실행 시각을 미룬다
+   */
+  public void deferUntil(final LocalDateTime nextAttemptAt) {
+    this.nextAttemptAt = nextAttemptAt;
+  }
+
+  // product-service / point-service 가 같은 보상을 두 번 반영하지 않도록 작업마다 고유한 키
+  public String restoreKey() {
+    return "compensation-" + this.id;
+  }
+
+  public void markDone() {
+    this.status = CompensationStatus.DONE;
+    this.attempts = this.attempts + 1;
+    this.lastError = null;
+  }
+
+  /**
+   * 실패 기록 후 재시도 예약, 최대 시도 횟수를 넘기면 FAILED
+   */
+  public void recordFailure(final String error, final LocalDateTime nextAttemptAt, final int maxAttempts) {
+    this.attempts = this.attempts + 1;
+    this.lastError = error;
+    this.nextAttemptAt = nextAttemptAt;
+
+    if (this.attempts >= maxAttempts) {
+      this.status = CompensationStatus.FAILED;
+    }
+  }
+
+  public boolean isFailed() {
+    return this.status == CompensationStatus.FAILED;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getSagaId() {
+    return sagaId;
+  }
+
+  public Long getOrderId() {
+    return orderId;
+  }
+
+  public CompensationType getType() {
+    return type;
+  }
+
+  public Long getTargetId() {
+    return targetId;
+  }
+
+  public String getReservationKey() {
+    return reservationKey;
+  }
+
+  public Integer getAmount() {
+    return amount;
+  }
+
+  public CompensationStatus getStatus() {
+    return status;
+  }
+
+  public Integer getAttempts() {
+    return attempts;
+  }
+
+  public LocalDateTime getNextAttemptAt() {
+    return nextAttemptAt;
+  }
+
+  public String getLastError() {
+    return lastError;
+  }
+}
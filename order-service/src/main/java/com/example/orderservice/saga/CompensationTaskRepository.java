@@ -0,0 +1,16 @@
+package com.example.orderservice.saga;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface CompensationTaskRepository {
+
+  CompensationTask save(CompensationTask task);
+
+  Optional<CompensationTask> findById(Long id);
+
+  List<CompensationTask> findDueTasks(LocalDateTime now, int limit);
+
+  long countUnfinishedBySagaId(Long sagaId);
+}
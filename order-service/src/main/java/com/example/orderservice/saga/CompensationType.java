@@ -0,0 +1,7 @@
+package com.example.orderservice.saga;
+
+public enum CompensationType {
+  RESTORE_STOCK,
+  REFUND_POINTS,
+  MANUAL_REFUND   // 포인트가 아닌 결제(카드) 환불 - 자동 환불 수단이 없어 FAILED 로 저장, 워커가 실행하지 않음
+}
@@ -0,0 +1,217 @@
+package com.example.orderservice.saga;
+
+import com.example.orderservice.client.PointClient;
+import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.dto.request.RefundPointsRequest;
+import com.example.orderservice.dto.request.RestoreStockBatchRequest;
+import com.example.orderservice.exception.ApplicationException;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 저장된 보상 작업을 실행
+ * - 같은 주문의 재고 복구는 product-service 일괄 복구 한 번으로 묶고, 서로 독립인 묶음(재고 복구 / 포인트 환불)은 동시에 호출
+ * - 원격 호출은 트랜잭션 밖에서, 결과 기록만 트랜잭션 안에서 처리하고 실패하면 지수 백오프로 재시도한다
+ * - 사가 상태(보상 완료/실패)는 모든 묶음이 끝난 뒤 한 번에 정리해 동시 갱신 충돌을 피한다
+ */
+@Component
+public class CompensationWorker {
+
+  private static final Logger log = LoggerFactory.getLogger(CompensationWorker.class);
+
+  private final CompensationTaskRepository compensationTaskRepository;
+  private final OrderSagaRepository orderSagaRepository;
+  private final ProductClient productClient;
+  private final PointClient pointClient;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final long initialBackoffMillis;
+  private final ThreadPoolExecutor executor;
+
+  public CompensationWorker(final CompensationTaskRepository compensationTaskRepository,
+      final OrderSagaRepository orderSagaRepository,
+      final ProductClient productClient,
+      final PointClient pointClient,
+      final TransactionTemplate transactionTemplate,
+      @Value("${order.saga.compensation.batch-size:50}") final int batchSize,
+      @Value("${order.saga.compensation.max-attempts:10}") final int maxAttempts,
+      @Value("${order.saga.compensation.initial-backoff-ms:1000}") final long initialBackoffMillis,
+      @Value("${order.saga.compensation.parallelism:8}") final int parallelism) {
+    this.compensationTaskRepository = compensationTaskRepository;
+    this.orderSagaRepository = orderSagaRepository;
+    this.productClient = productClient;
+    this.pointClient = pointClient;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.initialBackoffMillis = initialBackoffMillis;
+    this.executor = newExecutor(parallelism);
+  }
+
+  @Scheduled(fixedDelayString = "${order.saga.compensation.poll-interval-ms:1000}")
+  public void poll() {
+    runDueTasks();
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * 실행 시각이 된 보상 작업을 처리하고 성공한 작업 수를 반환
+   */
+  public int runDueTasks() {
+    return runTasks(compensationTaskRepository.findDueTasks(LocalDateTime.now(), batchSize));
+  }
+
+  /**
+   * 주어진 보상 작업을 묶어서 동시에 실행하고 성공한 작업 수를 반환 (주문 취소는 저장 직후 바로 호출)
+   * 실패한 작업은 재시도가 예약되어 이후 poll 에서 다시 실행된다
+   */
+  public int runTasks(final List<CompensationTask> tasks) {
+    if (tasks.isEmpty()) {
+      return 0;
+    }
+    final Map<Long, String> failedSagas = new ConcurrentHashMap<>();
+    final List<List<CompensationTask>> groups = group(tasks);
+    final List<CompletableFuture<Integer>> futures = groups.stream()
+        .map(group -> CompletableFuture.supplyAsync(() -> executeGroup(group, failedSagas), executor))
+        .toList();
+
+    int succeeded = 0;
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        succeeded += futures.get(i).join();
+      } catch (RuntimeException e) {
+        // 결과 기록 자체가 실패 - 작업은 PENDING 으로 남아 다음 poll 에서 다시 실행된다
+        log.error("보상 결과 기록 실패 - orderId: {}, 에러: {}", groups.get(i).get(0).getOrderId(), e.getMessage());
+      }
+    }
+
+    settleSagas(tasks, failedSagas);
+    return succeeded;
+  }
+
+  // 같은 주문의 재고 복구는 한 묶음, 포인트 환불은 작업마다 한 묶음
+  private static List<List<CompensationTask>> group(final List<CompensationTask> tasks) {
+    final Map<Long, List<CompensationTask>> restoresByOrderId = new LinkedHashMap<>();
+    final List<List<CompensationTask>> groups = new ArrayList<>();
+    for (final CompensationTask task : tasks) {
+      switch (task.getType()) {
+        case RESTORE_STOCK -> restoresByOrderId.computeIfAbsent(task.getOrderId(), id -> new ArrayList<>()).add(task);
+        case REFUND_POINTS -> groups.add(List.of(task));
+        case MANUAL_REFUND -> log.warn("수동 환불 대상은 실행하지 않음 - taskId: {}", task.getId());
+      }
+    }
+    groups.addAll(restoresByOrderId.values());
+    return groups;
+  }
+
+  private int executeGroup(final List<CompensationTask> group, final Map<Long, String> failedSagas) {
+    final CompensationTask first = group.get(0);
+    try {
+      switch (first.getType()) {
+        case RESTORE_STOCK -> productClient.restoreStocks(new RestoreStockBatchRequest(group.stream()
+            .map(task -> new RestoreStockBatchRequest.Item(task.restoreKey(), task.getTargetId(), task.getAmount(),
+                task.getReservationKey()))
+            .toList()));
+        case REFUND_POINTS -> pointClient.refundPoints(new RefundPointsRequest(
+            first.getTargetId(), first.getAmount(), first.getOrderId(), first.restoreKey()));
+      }
+    } catch (RuntimeException e) {
+      recordFailure(group, e.getMessage(), failedSagas);
+      return 0;
+    }
+
+    transactionTemplate.executeWithoutResult(status -> group.forEach(task -> {
+      final CompensationTask current = findTask(task.getId());
+      current.markDone();
+      compensationTaskRepository.save(current);
+    }));
+    return group.size();
+  }
+
+  private void recordFailure(final List<CompensationTask> group, final String error,
+      final Map<Long, String> failedSagas) {
+    transactionTemplate.executeWithoutResult(status -> group.forEach(task -> {
+      final CompensationTask current = findTask(task.getId());
+      final long backoff = initialBackoffMillis << Math.min(current.getAttempts(), 10);
+
+      current.recordFailure(error, LocalDateTime.now().plus(Duration.ofMillis(backoff)), maxAttempts);
+      compensationTaskRepository.save(current);
+
+      if (current.isFailed()) {
+        log.error("보상 작업 최종 실패 - taskId: {}, type: {}, orderId: {}, 에러: {}",
+            current.getId(), current.getType(), current.getOrderId(), error);
+        if (current.getSagaId() != null) {
+          failedSagas.putIfAbsent(current.getSagaId(), "보상 실패: " + current.getType());
+        }
+      } else {
+        log.warn("보상 작업 실패, 재시도 예약 - taskId: {}, 시도: {}, 에러: {}",
+            current.getId(), current.getAttempts(), error);
+      }
+    }));
+  }
+
+  private void settleSagas(final List<CompensationTask> tasks, final Map<Long, String> failedSagas) {
+    tasks.stream()
+        .map(CompensationTask::getSagaId)
+        .filter(Objects::nonNull)
+        .distinct()
+        .forEach(sagaId -> transactionTemplate.executeWithoutResult(status ->
+            orderSagaRepository.findById(sagaId)
+                .filter(saga -> saga.getState() == OrderSagaState.COMPENSATING)
+                .ifPresent(saga -> settle(saga, failedSagas.get(sagaId)))));
+  }
+
+  private void settle(final OrderSaga saga, final String failureReason) {
+    if (failureReason != null) {
+      saga.fail(failureReason);
+      orderSagaRepository.save(saga);
+    } else if (compensationTaskRepository.countUnfinishedBySagaId(saga.getId()) == 0) {
+      saga.markCompensated();
+      orderSagaRepository.save(saga);
+    }
+  }
+
+  private CompensationTask findTask(final Long taskId) {
+    return compensationTaskRepository.findById(taskId)
+        .orElseThrow(() -> new ApplicationException("보상 작업을 찾을 수 없습니다."));
+  }
+
+  // 큐가 차면 호출한 스레드가 직접 실행 - 묶음이 많아도 거절 없이 느려질 뿐이다
+  private static ThreadPoolExecutor newExecutor(final int parallelism) {
+    final AtomicInteger sequence = new AtomicInteger();
+    return new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(parallelism * 16),
+        runnable -> {
+          final Thread thread = new Thread(runnable, "compensation-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+}
@@ -0,0 +1,27 @@
+package com.example.orderservice.saga;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaCompensationTaskRepository extends CompensationTaskRepository,
+    JpaRepository<CompensationTask, Long> {
+
+  List<CompensationTask> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(CompensationStatus status,
+      LocalDateTime now, Limit limit);
+
+  long countBySagaIdAndStatusNot(Long sagaId, CompensationStatus status);
+
+  @Override
+  default List<CompensationTask> findDueTasks(final LocalDateTime now, final int limit) {
+    return findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(CompensationStatus.PENDING, now, Limit.of(limit));
+  }
+
+  @Override
+  default long countUnfinishedBySagaId(final Long sagaId) {
+    return countBySagaIdAndStatusNot(sagaId, CompensationStatus.DONE);
+  }
+}
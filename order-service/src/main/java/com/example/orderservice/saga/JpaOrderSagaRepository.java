@@ -0,0 +1,25 @@
+package com.example.orderservice.saga;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaOrderSagaRepository extends OrderSagaRepository, JpaRepository<OrderSaga, Long> {
+
+  Set<OrderSagaState> IN_PROGRESS_STATES = Set.of(
+      OrderSagaState.ORDER_CREATED, OrderSagaState.STOCK_RESERVED, OrderSagaState.PAYING, OrderSagaState.PAID
+  );
+
+  List<OrderSaga> findByStateInAndUpdatedAtBeforeOrderByIdAsc(Collection<OrderSagaState> states,
+      LocalDateTime updatedBefore, Limit limit);
+
+  @Override
+  default List<OrderSaga> findStuckSagas(final LocalDateTime updatedBefore, final int limit) {
+    return findByStateInAndUpdatedAtBeforeOrderByIdAsc(IN_PROGRESS_STATES, updatedBefore, Limit.of(limit));
+  }
+}
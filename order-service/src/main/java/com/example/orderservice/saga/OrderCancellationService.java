@@ -0,0 +1,145 @@
+package com.example.orderservice.saga;
+
+import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OrderOutbox;
+import com.example.orderservice.payment.Payment;
+import com.example.orderservice.payment.PaymentMethod;
+import com.example.orderservice.payment.PaymentRepository;
+import com.example.orderservice.repository.OrderItemRepository;
+import com.example.orderservice.repository.OrderRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 취소 → 재고 복구 / 포인트 환불
+ * - 주문 취소와 보상 작업 저장을 한 트랜잭션으로 처리해, 원격 호출이 실패해도 보상이 유실되지 않는다
+ * - 커밋 직후 보상 작업을 바로 실행: 재고 복구는 상품 수와 무관하게 일괄 호출 1번, 환불과는 동시에 진행
+ * - 바로 실행하는 동안에는 CompensationWorker 가 같은 작업을 집어가지 않고, 실패하면 백오프 후 워커가 재시도
+ *
+ * 되돌릴 대상
+ * - 사가로 확정된 주문(PAID): 차감한 재고 전부 + 결제 포인트
+ * - 사가 없이 결제된 주문(PAID): 재고는 차감하지 않았으므로 결제만 - 승인된 결제가 포인트면 포인트 환불,
+ *   카드(또는 결제 기록 없음)면 포인트로 돌려주지 않고 수동 환불 대상(MANUAL_REFUND, FAILED)으로 남긴다
+ * - 결제 전 주문(PENDING): 되돌릴 것이 없어 상태만 변경 (진행 중인 사가가 있으면 취소 불가)
+ */
+@Service
+public class OrderCancellationService {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderCancellationService.class);
+  private static final String CANCEL_REASON = "주문 취소";
+
+  private final OrderRepository orderRepository;
+  private final OrderItemRepository orderItemRepository;
+  private final OrderSagaRepository orderSagaRepository;
+  private final CompensationTaskRepository compensationTaskRepository;
+  private final PaymentRepository paymentRepository;
+  private final CompensationWorker compensationWorker;
+  private final OrderOutbox orderOutbox;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration inlineLease;
+
+  public OrderCancellationService(final OrderRepository orderRepository,
+      final OrderItemRepository orderItemRepository,
+      final OrderSagaRepository orderSagaRepository,
+      final CompensationTaskRepository compensationTaskRepository,
+      final PaymentRepository paymentRepository,
+      final CompensationWorker compensationWorker,
+      final OrderOutbox orderOutbox,
+      final TransactionTemplate transactionTemplate,
+      @Value("${order.cancellation.inline-lease-ms:30000}") final long inlineLeaseMillis) {
+    this.orderRepository = orderRepository;
+    this.orderItemRepository = orderItemRepository;
+    this.orderSagaRepository = orderSagaRepository;
+    this.compensationTaskRepository = compensationTaskRepository;
+    this.paymentRepository = paymentRepository;
+    this.compensationWorker = compensationWorker;
+    this.orderOutbox = orderOutbox;
+    this.transactionTemplate = transactionTemplate;
+    this.inlineLease = Duration.ofMillis(inlineLeaseMillis);
+  }
+
+  public OrderResponse cancel(final Long orderId) {
+    final Cancellation cancellation = transactionTemplate.execute(status -> cancelAndSaveTasks(orderId));
+
+    // 수동 환불 대상(FAILED)은 실행하지 않는다
+    final List<CompensationTask> runnable = cancellation.tasks().stream()
+        .filter(task -> task.getStatus() == CompensationStatus.PENDING)
+        .toList();
+    final int succeeded = compensationWorker.runTasks(runnable);
+    if (succeeded < runnable.size()) {
+      log.warn("주문 취소 보상 일부 실패, 재시도 예약 - orderId: {}, 성공: {}/{}",
+          orderId, succeeded, runnable.size());
+    }
+
+    return OrderResponse.of(cancellation.order());
+  }
+
+  private Cancellation cancelAndSaveTasks(final Long orderId) {
+    // 결제 완료 처리(AsyncPaymentService)와 같은 주문 행 잠금으로 순서를 맞춘다
+    final Order order = orderRepository.findByIdWithLock(orderId)
+        .orElseThrow(() -> new ApplicationException("주문 정보를 찾을 수 없습니다."));
+    final Optional<OrderSaga> saga = orderSagaRepository.findByOrderId(orderId);
+    if (saga.isPresent() && saga.get().getState().isInProgress()) {
+      throw new ApplicationException("처리 중인 주문은 취소할 수 없습니다. 주문 번호: " + orderId);
+    }
+
+    final List<CompensationTask> tasks = new ArrayList<>();
+    if (order.getStatus() == OrderStatus.PAID) {
+      order.cancelPaid();
+      saga.ifPresentOrElse(
+          current -> tasks.addAll(startSagaCancellation(current)),
+          () -> tasks.add(refundOf(order)));
+    } else {
+      order.cancel();
+    }
+    orderOutbox.append(order, OrderEventType.ORDER_CANCELLED);
+
+    final LocalDateTime leaseUntil = LocalDateTime.now().plus(inlineLease);
+    tasks.forEach(task -> task.deferUntil(leaseUntil));
+    final List<CompensationTask> saved = tasks.stream()
+        .map(compensationTaskRepository::save)
+        .toList();
+
+    log.info("주문 취소 - orderId: {}, 보상 작업: {}건", orderId, saved.size());
+    return new Cancellation(order, saved);
+  }
+
+  private CompensationTask refundOf(final Order order) {
+    final Optional<Payment> payment = paymentRepository.findSucceededPaymentByOrderId(order.getId());
+    if (payment.isPresent() && payment.get().getMethod() == PaymentMethod.POINT) {
+      return CompensationTask.refundPoints(order);
+    }
+
+    final String reason = payment
+        .map(current -> "카드 결제 수동 환불 필요 - transactionId: " + current.getTransactionId())
+        .orElse("결제 기록이 없어 결제 수단 확인 후 수동 환불 필요");
+    log.warn("주문 취소 수동 환불 대상 - orderId: {}, {}", order.getId(), reason);
+    return CompensationTask.manualRefund(order, reason);
+  }
+
+  private List<CompensationTask> startSagaCancellation(final OrderSaga saga) {
+    saga.startCancellation(CANCEL_REASON);
+    orderSagaRepository.save(saga);
+
+    final List<CompensationTask> tasks = new ArrayList<>();
+    orderItemRepository.findByOrderId(saga.getOrderId()).forEach(item ->
+        tasks.add(CompensationTask.restoreStock(saga, item.getProductId(), item.getOrderQuantity())));
+    tasks.add(CompensationTask.refundPoints(saga));
+    return tasks;
+  }
+
+  private record Cancellation(Order order, List<CompensationTask> tasks) {
+  }
+}
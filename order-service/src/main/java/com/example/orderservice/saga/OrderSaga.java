@@ -0,0 +1,188 @@
+package com.example.orderservice.saga;
+
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.exception.ApplicationException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 사가 상태 머신
+ * ORDER_CREATED → STOCK_RESERVED → PAYING → PAID → CONFIRMED
+ * 실패 시 COMPENSATING → COMPENSATED, 자동 복구가 불가능하면 FAILED
+ * 확정된 주문을 취소하면 CONFIRMED → COMPENSATING
+ */
+@Entity
+@Table(name = "order_sagas", indexes = {
+    @Index(name = "idx_order_sagas_state_updated", columnList = "state, updatedAt")
+})
+public class OrderSaga {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, unique = true)
+  private Long orderId;
+
+  @Column(nullable = false)
+  private Long memberId;
+
+  @Column(nullable = false)
+  private Integer totalPrice;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private OrderSagaState state;
+
+  // 재고 차감이 끝난 주문 아이템 수 (아이템 id 오름차순)
+  @Column(nullable = false)
+  private Integer reservedItemCount;
+
+  private String failureReason;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Version
+  private Long version;
+
+  public OrderSaga() {
+  }
+
+  public OrderSaga(final Order order) {
+    this.orderId = order.getId();
+    this.memberId = order.getMemberId();
+    this.totalPrice = order.getTotalPrice();
+    this.state = OrderSagaState.ORDER_CREATED;
+    this.reservedItemCount = 0;
+    this.createdAt = LocalDateTime.now();
+    this.updatedAt = this.createdAt;
+  }
+
+  public void recordReservation() {
+    requireState(OrderSagaState.ORDER_CREATED);
+    this.reservedItemCount = this.reservedItemCount + 1;
+    touch();
+  }
+
+  public void markStockReserved() {
+    transition(OrderSagaState.ORDER_CREATED, OrderSagaState.STOCK_RESERVED);
+  }
+
+  public void markPaying() {
+    transition(OrderSagaState.STOCK_RESERVED, OrderSagaState.PAYING);
+  }
+
+  public void markPaid() {
+    transition(OrderSagaState.PAYING, OrderSagaState.PAID);
+  }
+
+  public void confirm() {
+    transition(OrderSagaState.PAID, OrderSagaState.CONFIRMED);
+  }
+
+  public void startCompensation(final String reason) {
+    if (!this.state.isInProgress()) {
+      throw new ApplicationException("진행 중인 사가만 보상할 수 있습니다. 현재 상태: " + this.state);
+    }
+    this.state = OrderSagaState.COMPENSATING;
+    this.failureReason = reason;
+    touch();
+  }
+
+  /**
+   * 확정된 주문 취소 - 차감한 재고와 포인트를 되돌리는 보상을 시작
+   */
+  public void startCancellation(final String reason) {
+    requireState(OrderSagaState.CONFIRMED);
+    this.state = OrderSagaState.COMPENSATING;
+    this.failureReason = reason;
+    touch();
+  }
+
+  public void markCompensated() {
+    transition(OrderSagaState.COMPENSATING, OrderSagaState.COMPENSATED);
+  }
+
+  public void fail(final String reason) {
+    if (this.state.isTerminal()) {
+      throw new ApplicationException("이미 종료된 사가입니다. 현재 상태: " + this.state);
+    }
+    this.state = OrderSagaState.FAILED;
+    this.failureReason = reason;
+    touch();
+  }
+
+  public boolean isPaid() {
+    return this.state == OrderSagaState.PAID;
+  }
+
+  // 복구 스캐너의 선점도 이 메서드로 버전을 올려 기존 작업자의 이후 쓰기를 막는다
+  public void touch() {
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  private void transition(final OrderSagaState from, final OrderSagaState to) {
+    requireState(from);
+    this.state = to;
+    touch();
+  }
+
+  private void requireState(final OrderSagaState expected) {
+    if (this.state != expected) {
+      throw new ApplicationException("사가 상태가 올바르지 않습니다. 기대: " + expected + ", 현재: " + this.state);
+    }
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getOrderId() {
+    return orderId;
+  }
+
+  public Long getMemberId() {
+    return memberId;
+  }
+
+  public Integer getTotalPrice() {
+    return totalPrice;
+  }
+
+  public OrderSagaState getState() {
+    return state;
+  }
+
+  public Integer getReservedItemCount() {
+    return reservedItemCount;
+  }
+
+  public String getFailureReason() {
+    return failureReason;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public Long getVersion() {
+    return version;
+  }
+}
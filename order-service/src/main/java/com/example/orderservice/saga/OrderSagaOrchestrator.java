@@ -0,0 +1,259 @@
+package com.example.orderservice.saga;
+
+import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.dto.request.CreateOrderRequest;
+import com.example.orderservice.dto.request.OrderItemRequest;
+import com.example.orderservice.dto.request.PaymentRequest;
+import com.example.orderservice.dto.request.ReduceProductRequest;
+import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.dto.response.PaymentResponse;
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderItem;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OrderOutbox;
+import com.example.orderservice.payment.PaymentMethod;
+import com.example.orderservice.payment.PaymentOutcomeUnknownException;
+import com.example.orderservice.payment.PaymentProcessorRegistry;
+import com.example.orderservice.payment.PaymentStatus;
+import com.example.orderservice.repository.OrderItemRepository;
+import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.service.OrderItemService;
+import com.example.orderservice.service.OrderLine;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 생성 → 재고 차감 → 결제 → 확정 사가
+ * - 원격 호출(상품/포인트)은 트랜잭션 밖에서 실행하고, 각 단계의 결과만 짧은 트랜잭션으로 기록
+ * - 실패 시 보상 작업을 저장하고 CompensationWorker 가 비동기로 재시도하며 처리
+ * - 결제 결과를 알 수 없으면(타임아웃, 5xx) 보상하지 않고 FAILED 로 남겨 수동 확인
+ * - 재고 차감은 주문 항목마다 예약 키를 보내, 재개 시 다시 보내도 한 번만 반영되고
+ *   응답을 받지 못한 항목도 보상에 넣을 수 있다 (product-service 가 실제 차감된 경우에만 복구)
+ */
+@Service
+public class OrderSagaOrchestrator {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderSagaOrchestrator.class);
+
+  private final OrderRepository orderRepository;
+  private final OrderItemRepository orderItemRepository;
+  private final OrderItemService orderItemService;
+  private final OrderSagaRepository orderSagaRepository;
+  private final CompensationTaskRepository compensationTaskRepository;
+  private final ProductClient productClient;
+  private final PaymentProcessorRegistry paymentProcessorRegistry;
+  private final OrderOutbox orderOutbox;
+  private final TransactionTemplate transactionTemplate;
+
+  public OrderSagaOrchestrator(final OrderRepository orderRepository,
+      final OrderItemRepository orderItemRepository,
+      final OrderItemService orderItemService,
+      final OrderSagaRepository orderSagaRepository,
+      final CompensationTaskRepository compensationTaskRepository,
+      final ProductClient productClient,
+      final PaymentProcessorRegistry paymentProcessorRegistry,
+      final OrderOutbox orderOutbox,
+      final TransactionTemplate transactionTemplate) {
+    this.orderRepository = orderRepository;
+    this.orderItemRepository = orderItemRepository;
+    this.orderItemService = orderItemService;
+    this.orderSagaRepository = orderSagaRepository;
+    this.compensationTaskRepository = compensationTaskRepository;
+    this.productClient = productClient;
+    this.paymentProcessorRegistry = paymentProcessorRegistry;
+    this.orderOutbox = orderOutbox;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  public OrderResponse checkout(final CreateOrderRequest request) {
+    final List<OrderItemRequest> items = request.items();
+
+    if (items == null || items.isEmpty()) {
+      throw new ApplicationException("주문 상품이 비어있습니다.");
+    }
+
+    final List<OrderLine> lines = orderItemService.loadOrderLines(items);
+    final int totalPrice = lines.stream().mapToInt(OrderLine::totalPrice).sum();
+
+    final OrderSaga saga = transactionTemplate.execute(status -> {
+      final Order savedOrder = orderRepository.save(request.toDomain(totalPrice));
+      orderItemService.saveOrderLines(lines, savedOrder);
+      orderOutbox.append(savedOrder, OrderEventType.ORDER_CREATED);
+      return orderSagaRepository.save(new OrderSaga(savedOrder));
+    });
+
+    return proceed(saga);
+  }
+
+  /**
+   * 복구 스캐너용 재개 - 사가를 선점(버전 증가)한 뒤 남은 단계를 이어서 실행
+   */
+  public OrderResponse resume(final Long sagaId) {
+    final OrderSaga claimed = updateSaga(findSaga(sagaId), OrderSaga::touch);
+
+    if (claimed.getState() == OrderSagaState.PAYING) {
+      // 결제 요청 도중 중단되어 포인트 차감 여부를 알 수 없다 → 자동 보상하지 않고 수동 확인 대상으로 남긴다
+      log.error("결제 결과를 확인할 수 없는 사가 - sagaId: {}, orderId: {}", sagaId, claimed.getOrderId());
+      updateSaga(claimed, saga -> saga.fail("결제 결과 확인 필요"));
+      throw new ApplicationException("결제 결과를 확인할 수 없는 주문입니다. 주문 번호: " + claimed.getOrderId());
+    }
+
+    return proceed(claimed);
+  }
+
+  private OrderResponse proceed(OrderSaga saga) {
+    while (saga.getState().isInProgress()) {
+      saga = switch (saga.getState()) {
+        case ORDER_CREATED -> reserveStock(saga);
+        case STOCK_RESERVED -> pay(saga);
+        case PAID -> confirm(saga);
+        default -> throw new ApplicationException("진행할 수 없는 사가 상태입니다: " + saga.getState());
+      };
+    }
+
+    if (saga.getState() != OrderSagaState.CONFIRMED) {
+      throw new ApplicationException("주문 처리 실패: " + saga.getFailureReason());
+    }
+
+    return OrderResponse.of(findOrder(saga.getOrderId()));
+  }
+
+  private OrderSaga reserveStock(OrderSaga saga) {
+    final List<OrderItem> items = orderItemRepository.findByOrderId(saga.getOrderId()).stream()
+        .sorted(Comparator.comparing(OrderItem::getId))
+        .toList();
+
+    for (int i = saga.getReservedItemCount(); i < items.size(); i++) {
+      final OrderItem item = items.get(i);
+      try {
+        productClient.reduceStock(item.getProductId(),
+            new ReduceProductRequest(item.getProductId(), item.getOrderQuantity(), item.reservationKey()));
+      } catch (RuntimeException e) {
+        log.warn("재고 차감 실패 - orderId: {}, productId: {}, 에러: {}",
+            saga.getOrderId(), item.getProductId(), e.getMessage());
+        // 타임아웃이면 차감됐을 수 있으므로 이 항목까지 보상한다
+        return compensate(saga, "재고 차감 실패: " + item.getProductName(), i + 1);
+      }
+      saga = updateSaga(saga, OrderSaga::recordReservation);
+    }
+
+    return updateSaga(saga, OrderSaga::markStockReserved);
+  }
+
+  private OrderSaga pay(OrderSaga saga) {
+    saga = updateSaga(saga, OrderSaga::markPaying);
+
+    final PaymentRequest paymentRequest = new PaymentRequest(
+        saga.getOrderId(), saga.getMemberId(), saga.getTotalPrice(), PaymentMethod.POINT
+    );
+
+    PaymentResponse result;
+    try {
+      result = paymentProcessorRegistry.processPayment(paymentRequest);
+    } catch (PaymentOutcomeUnknownException e) {
+      // 차감이 됐는지 알 수 없으므로 보상(환불 없이 취소)하지 않고 resume() 과 같이 확인 대상으로 남긴다
+      log.error("결제 결과를 확인할 수 없는 사가 - sagaId: {}, orderId: {}", saga.getId(), saga.getOrderId(), e);
+      return updateSaga(saga, current -> current.fail("결제 결과 확인 필요: " + e.getMessage()));
+    } catch (RuntimeException e) {
+      // 벌크헤드 포화 등 호출 전에 거절된 경우 - 차감되지 않았다
+      result = PaymentResponse.failure(e.getMessage());
+    }
+
+    if (result.status() != PaymentStatus.SUCCESS) {
+      return compensate(saga, "결제 실패: " + result.failureReason());
+    }
+
+    return updateSaga(saga, OrderSaga::markPaid);
+  }
+
+  private OrderSaga confirm(final OrderSaga saga) {
+    try {
+      return transactionTemplate.execute(status -> {
+        final OrderSaga current = loadForUpdate(saga);
+        final Order order = findOrder(current.getOrderId());
+
+        order.markAsPaid();
+        orderOutbox.append(order, OrderEventType.ORDER_PAID);
+        current.confirm();
+        return orderSagaRepository.save(current);
+      });
+    } catch (ApplicationException e) {
+      return compensate(saga, "주문 확정 실패: " + e.getMessage());
+    }
+  }
+
+  /**
+   * 보상 작업을 사가 상태 전이와 같은 트랜잭션에 저장하고 주문을 취소한다.
+   * 실제 원격 보상 호출은 CompensationWorker 가 비동기로 수행한다.
+   */
+  private OrderSaga compensate(final OrderSaga saga, final String reason) {
+    return compensate(saga, reason, 0);
+  }
+
+  // attemptedItemCount: 차감을 요청한 항목 수 - 기록된 차감 수보다 많으면 응답을 받지 못한 항목까지 보상한다
+  private OrderSaga compensate(final OrderSaga saga, final String reason, final int attemptedItemCount) {
+    return transactionTemplate.execute(status -> {
+      final OrderSaga current = loadForUpdate(saga);
+      final boolean paid = current.isPaid();
+      final List<OrderItem> reservedItems = orderItemRepository.findByOrderId(current.getOrderId()).stream()
+          .sorted(Comparator.comparing(OrderItem::getId))
+          .limit(Math.max(current.getReservedItemCount(), attemptedItemCount))
+          .toList();
+
+      current.startCompensation(reason);
+
+      reservedItems.forEach(item -> compensationTaskRepository.save(
+          CompensationTask.releaseReservation(current, item)));
+      if (paid) {
+        compensationTaskRepository.save(CompensationTask.refundPoints(current));
+      }
+      if (reservedItems.isEmpty() && !paid) {
+        current.markCompensated();
+      }
+
+      final Order order = findOrder(current.getOrderId());
+      if (order.getStatus() == OrderStatus.PENDING) {
+        order.cancel();
+        orderOutbox.append(order, OrderEventType.ORDER_CANCELLED);
+      }
+
+      log.info("사가 보상 시작 - sagaId: {}, orderId: {}, 사유: {}", current.getId(), current.getOrderId(), reason);
+      return orderSagaRepository.save(current);
+    });
+  }
+
+  private OrderSaga updateSaga(final OrderSaga saga, final Consumer<OrderSaga> change) {
+    return transactionTemplate.execute(status -> {
+      final OrderSaga current = loadForUpdate(saga);
+      change.accept(current);
+      return orderSagaRepository.save(current);
+    });
+  }
+
+  // 마지막으로 본 버전과 다르면 다른 작업자(복구 스캐너)가 사가를 가져간 것
+  private OrderSaga loadForUpdate(final OrderSaga expected) {
+    final OrderSaga current = findSaga(expected.getId());
+    if (!Objects.equals(current.getVersion(), expected.getVersion())) {
+      throw new ApplicationException("다른 작업자가 처리 중인 사가입니다. sagaId: " + expected.getId());
+    }
+    return current;
+  }
+
+  private OrderSaga findSaga(final Long sagaId) {
+    return orderSagaRepository.findById(sagaId)
+        .orElseThrow(() -> new ApplicationException("사가 정보를 찾을 수 없습니다."));
+  }
+
+  private Order findOrder(final Long orderId) {
+    return orderRepository.findById(orderId)
+        .orElseThrow(() -> new ApplicationException("주문 정보를 찾을 수 없습니다."));
+  }
+}
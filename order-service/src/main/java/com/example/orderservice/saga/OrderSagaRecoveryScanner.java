@@ -0,0 +1,50 @@
+package com.example.orderservice.saga;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정 시간 이상 진행이 멈춘 사가(프로세스 중단 등)를 찾아 재개
+ * stuck-after 는 원격 호출 타임아웃보다 충분히 길게 잡아 정상 진행 중인 사가를 가로채지 않도록 한다.
+ */
+@Component
+public class OrderSagaRecoveryScanner {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderSagaRecoveryScanner.class);
+
+  private final OrderSagaRepository orderSagaRepository;
+  private final OrderSagaOrchestrator orderSagaOrchestrator;
+  private final long stuckAfterMillis;
+  private final int batchSize;
+
+  public OrderSagaRecoveryScanner(final OrderSagaRepository orderSagaRepository,
+      final OrderSagaOrchestrator orderSagaOrchestrator,
+      @Value("${order.saga.recovery.stuck-after-ms:60000}") final long stuckAfterMillis,
+      @Value("${order.saga.recovery.batch-size:20}") final int batchSize) {
+    this.orderSagaRepository = orderSagaRepository;
+    this.orderSagaOrchestrator = orderSagaOrchestrator;
+    this.stuckAfterMillis = stuckAfterMillis;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${order.saga.recovery.poll-interval-ms:30000}")
+  public void scan() {
+    final LocalDateTime updatedBefore = LocalDateTime.now().minus(Duration.ofMillis(stuckAfterMillis));
+    final List<OrderSaga> stuckSagas = orderSagaRepository.findStuckSagas(updatedBefore, batchSize);
+
+    for (OrderSaga saga : stuckSagas) {
+      try {
+        log.info("멈춘 사가 재개 - sagaId: {}, 상태: {}", saga.getId(), saga.getState());
+        orderSagaOrchestrator.resume(saga.getId());
+      } catch (RuntimeException e) {
+        log.warn("사가 재개 실패 - sagaId: {}, 에러: {}", saga.getId(), e.getMessage());
+      }
+    }
+  }
+}
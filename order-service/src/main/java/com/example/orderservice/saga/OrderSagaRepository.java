@@ -0,0 +1,16 @@
+package com.example.orderservice.saga;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderSagaRepository {
+
+  OrderSaga save(OrderSaga saga);
+
+  Optional<OrderSaga> findById(Long id);
+
+  Optional<OrderSaga> findByOrderId(Long orderId);
+
+  List<OrderSaga> findStuckSagas(LocalDateTime updatedBefore, int limit);
+}
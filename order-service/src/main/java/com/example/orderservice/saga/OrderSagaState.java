@@ -0,0 +1,20 @@
+package com.example.orderservice.saga;
+
+public enum OrderSagaState {
+  ORDER_CREATED,
+  STOCK_RESERVED,
+  PAYING,
+  PAID,
+  CONFIRMED,
+  COMPENSATING,
+  COMPENSATED,
+  FAILED;
+
+  public boolean isTerminal() {
+    return this == CONFIRMED || this == COMPENSATED || this == FAILED;
+  }
+
+  public boolean isInProgress() {
+    return this == ORDER_CREATED || this == STOCK_RESERVED || this == PAYING || this == PAID;
+  }
+}
@@ -4,8 +4,8 @@ import com.example.orderservice.client.ProductClient;
 import com.example.orderservice.dto.request.OrderItemRequest;
 import com.example.orderservice.dto.response.ProductResponse;
 import com.example.orderservice.entity.Order;
-import com.example.orderservice.entity.OrderItem;
 import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.replica.ProductReplica;
 import com.example.orderservice.repository.OrderItemRepository;
 import java.util.List;
 import org.springframework.stereotype.Service;
@@ -15,50 +15,55 @@ public class OrderItemService {
 
   private final OrderItemRepository orderItemsRepository;
   private final ProductClient productClient;
+  private final ProductReplica productReplica;
 
   public OrderItemService(final OrderItemRepository orderItemsRepository,
-      final ProductClient productClient) {
+      final ProductClient productClient,
+      final ProductReplica productReplica) {
     this.orderItemsRepository = orderItemsRepository;
     this.productClient = productClient;
+    this.productReplica = productReplica;
   }
 
   /**
-   * 주문 아이템 저장 및 스냅샷
+   * 상품 조회 + 재고 검증 (상품당 원격 조회 1번)
+   * - 이후 재고 차감 단계가 없는 주문 생성에서 사용하므로 재고를 알 수 없는 복제본은 쓰지 않는다
    */
-  public void saveOrderItems(final List<OrderItemRequest> items, final Order savedOrder) {
-    items.stream()
-        .map(item -> {
-          ProductResponse product = productClient.findProductById(item.productId());
-
-          if (product.stock() < item.quantity()) {
-            throw new ApplicationException("재고 부족: " + product.name());
-          }
-
-          return new OrderItem(
-              savedOrder.getId(),
-              product.id(),
-              product.name(),
-              product.price(),
-              item.quantity()
-          );
-        })
-        .forEach(orderItemsRepository::save);
+  public List<OrderLine> loadOrderLinesWithStockCheck(final List<OrderItemRequest> items) {
+    return items.stream()
+        .map(this::fetchWithStockCheck)
+        .toList();
   }
 
   /**
-   * 총 금액 계산 (상품 조회 + 재고 검증)
+   * 상품 조회 + 재고 검증 (원격 호출이 있을 수 있으므로 트랜잭션 밖에서 호출)
+   * - 로컬 복제본이 최신이면 복제본의 이름/가격을 쓰고, 재고는 이후 재고 차감(reduceStock)에서 원격으로 확인
+   * - 복제본이 오래됐거나 상품이 없으면 원격 조회 + 재고 검증
    */
-  public int calculateTotalPrice(final List<OrderItemRequest> items) {
+  public List<OrderLine> loadOrderLines(final List<OrderItemRequest> items) {
     return items.stream()
-        .mapToInt(item -> {
-          ProductResponse product = productClient.findProductById(item.productId());
+        .map(item -> productReplica.find(item.productId())
+            .map(product -> new OrderLine(product, item.quantity()))
+            .orElseGet(() -> fetchWithStockCheck(item)))
+        .toList();
+  }
+
+  /**
+   * 미리 조회한 상품 스냅샷으로 주문 아이템 저장 (원격 호출 없음)
+   */
+  public void saveOrderLines(final List<OrderLine> lines, final Order savedOrder) {
+    lines.stream()
+        .map(line -> line.toOrderItem(savedOrder.getId()))
+        .forEach(orderItemsRepository::save);
+  }
+
+  private OrderLine fetchWithStockCheck(final OrderItemRequest item) {
+    ProductResponse product = productClient.findProductById(item.productId());
 
-          if (product.stock() < item.quantity()) {
-            throw new ApplicationException("재고 부족: " + product.name());
-          }
+    if (product.stock() < item.quantity()) {
+      throw new ApplicationException("재고 부족: " + product.name());
+    }
 
-          return product.price() * item.quantity();
-        })
-        .sum();
+    return new OrderLine(product, item.quantity());
   }
 }
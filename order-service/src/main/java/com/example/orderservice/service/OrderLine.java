@@ -0,0 +1,18 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.response.ProductResponse;
+import com.example.orderservice.entity.OrderItem;
+
+/**
+ * 조회 시점의 상품 스냅샷과 주문 수량
+ */
+public record OrderLine(ProductResponse product, Integer quantity) {
+
+  public int totalPrice() {
+    return product.price() * quantity;
+  }
+
+  public OrderItem toOrderItem(final Long orderId) {
+    return new OrderItem(orderId, product.id(), product.name(), product.price(), quantity);
+  }
+}
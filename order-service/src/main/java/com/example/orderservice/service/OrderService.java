@@ -7,8 +7,12 @@ import com.example.orderservice.dto.response.OrderResponse;
 import com.example.orderservice.dto.response.PaymentResponse;
 import com.example.orderservice.entity.Order;
 import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OrderOutbox;
+import com.example.orderservice.payment.Payment;
 import com.example.orderservice.payment.PaymentMethod;
-import com.example.orderservice.payment.PaymentProcessor;
+import com.example.orderservice.payment.PaymentProcessorRegistry;
+import com.example.orderservice.payment.PaymentRepository;
 import com.example.orderservice.payment.PaymentStatus;
 import com.example.orderservice.repository.OrderRepository;
 import java.util.List;
@@ -20,26 +24,26 @@ public class OrderService {
 
   private final OrderRepository orderRepository;
   private final OrderItemService orderItemService;
-  private final PaymentProcessor processor;
+  private final PaymentProcessorRegistry paymentProcessorRegistry;
+  private final OrderOutbox orderOutbox;
+  private final PaymentRepository paymentRepository;
 
   public OrderService(final OrderRepository orderRepository,
       final OrderItemService orderItemService,
-      final PaymentProcessor paymentProcessor) {
+      final PaymentProcessorRegistry paymentProcessorRegistry,
+      final OrderOutbox orderOutbox,
+      final PaymentRepository paymentRepository) {
     this.orderRepository = orderRepository;
     this.orderItemService = orderItemService;
-    this.processor = paymentProcessor;
+    this.paymentProcessorRegistry = paymentProcessorRegistry;
+    this.orderOutbox = orderOutbox;
+    this.paymentRepository = paymentRepository;
   }
 
   public List<OrderResponse> findAllOrders() {
     return orderRepository.findAll().stream().map(OrderResponse::of).toList();
   }
 
-  public OrderResponse findOrderById(final Long id) {
-    final Order order = findByOrderId(id);
-
-    return OrderResponse.of(order);
-  }
-
   @Transactional
   public OrderResponse createOrder(final CreateOrderRequest request) {
     final List<OrderItemRequest> items = request.items();
@@ -48,41 +52,55 @@ public class OrderService {
       throw new ApplicationException("주문 상품이 비어있습니다.");
     }
 
-    final Integer totalPrice = orderItemService.calculateTotalPrice(items);
+    final List<OrderLine> lines = orderItemService.loadOrderLinesWithStockCheck(items);
+    final int totalPrice = lines.stream().mapToInt(OrderLine::totalPrice).sum();
 
     final Order order = request.toDomain(totalPrice);
 
     final Order savedOrder = orderRepository.save(order);
 
-    orderItemService.saveOrderItems(items, savedOrder);
+    orderItemService.saveOrderLines(lines, savedOrder);
+
+    orderOutbox.append(savedOrder, OrderEventType.ORDER_CREATED);
 
     return OrderResponse.of(savedOrder);
   }
 
   @Transactional
-  public OrderResponse cancelOrder(final Long orderId) {
-    final Order order = findByOrderId(orderId);
-
-    order.cancel();
-
-    return OrderResponse.of(order);
+  public OrderResponse processOrderPayment(final Long orderId) {
+    return processOrderPayment(orderId, PaymentMethod.POINT);
   }
 
   @Transactional
-  public OrderResponse processOrderPayment(final Long orderId) {
+  public OrderResponse processOrderPayment(final Long orderId, final PaymentMethod method) {
     final Order order = findByOrderId(orderId);
 
     final PaymentRequest paymentRequest = new PaymentRequest(
-        order.getId(), order.getMemberId(), order.getTotalPrice(), PaymentMethod.POINT
+        order.getId(), order.getMemberId(), order.getTotalPrice(), method
     );
 
-    final PaymentResponse result = processor.processPayment(paymentRequest);
+    final PaymentResponse result = paymentProcessorRegistry.processPayment(paymentRequest);
 
     if (result.status() != PaymentStatus.SUCCESS) {
       throw new ApplicationException("결제 실패: " + result.failureReason());
     }
 
     order.markAsPaid();
+    paymentRepository.save(Payment.completed(
+        order.getId(), order.getMemberId(), order.getTotalPrice(), method, result.transactionId()));
+
+    orderOutbox.append(order, OrderEventType.ORDER_PAID);
+
+    return OrderResponse.of(order);
+  }
+
+  @Transactional
+  public OrderResponse completeOrder(final Long orderId) {
+    final Order order = findByOrderId(orderId);
+
+    order.complete();
+
+    orderOutbox.append(order, OrderEventType.ORDER_COMPLETED);
 
     return OrderResponse.of(order);
   }
@@ -91,12 +109,4 @@ public class OrderService {
     return orderRepository.findById(orderId)
         .orElseThrow(() -> new ApplicationException("주문 정보를 찾을 수 없습니다."));
   }
-
-  public List<OrderResponse> findMyOrders(final Long userId) {
-    List<Order> orders = orderRepository.findOrdersByUserId(userId);
-
-    return orders.stream()
-        .map(OrderResponse::of)
-        .toList();
-  }
 }
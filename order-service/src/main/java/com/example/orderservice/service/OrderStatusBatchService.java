@@ -0,0 +1,178 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.dto.request.BatchStatusChangeRequest;
+import com.example.orderservice.dto.response.BatchStatusChangeResponse;
+import com.example.orderservice.dto.response.OrderStatusChangeResult;
+import com.example.orderservice.dto.response.OrderStatusChangeResult.Outcome;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.history.OrderHistoryRepository;
+import com.example.orderservice.history.OrderHistoryUpdatedEvent;
+import com.example.orderservice.outbox.OrderEvent;
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OrderOutbox;
+import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.repository.OrderStatusView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 배송 처리용 주문 상태 일괄 변경 (PAID → SHIPPED → DELIVERED → COMPLETED)
+ * - chunkSize 건씩 별도 트랜잭션으로 처리: 현재 상태 잠금 조회 1회 + 조건부 UPDATE 1회 (+ 조회 모델 UPDATE, 아웃박스 저장)
+ * - 조회할 때 주문 행을 잠가(SELECT ... FOR UPDATE) 조회한 상태와 UPDATE 대상이 어긋나지 않는다
+ *   → 이 UPDATE 가 실제로 바꾼 주문만 UPDATED 로 세고 아웃박스 이벤트를 남긴다
+ * - 주문별 결과(UPDATED / NOT_FOUND / INVALID_TRANSITION)를 반환
+ */
+@Service
+public class OrderStatusBatchService {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderStatusBatchService.class);
+  private static final Set<OrderStatus> BATCH_TARGETS =
+      Set.of(OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.COMPLETED);
+
+  private final OrderRepository orderRepository;
+  private final OrderHistoryRepository orderHistoryRepository;
+  private final OrderOutbox orderOutbox;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MeterRegistry meterRegistry;
+  private final int chunkSize;
+  private final int maxOrdersPerRequest;
+
+  public OrderStatusBatchService(final OrderRepository orderRepository,
+      final OrderHistoryRepository orderHistoryRepository,
+      final OrderOutbox orderOutbox,
+      final TransactionTemplate transactionTemplate,
+      final ApplicationEventPublisher eventPublisher,
+      final MeterRegistry meterRegistry,
+      @Value("${order.status-batch.chunk-size:1000}") final int chunkSize,
+      @Value("${order.status-batch.max-orders-per-request:100000}") final int maxOrdersPerRequest) {
+    this.orderRepository = orderRepository;
+    this.orderHistoryRepository = orderHistoryRepository;
+    this.orderOutbox = orderOutbox;
+    this.transactionTemplate = transactionTemplate;
+    this.eventPublisher = eventPublisher;
+    this.meterRegistry = meterRegistry;
+    this.chunkSize = chunkSize;
+    this.maxOrdersPerRequest = maxOrdersPerRequest;
+  }
+
+  public BatchStatusChangeResponse changeStatus(final BatchStatusChangeRequest request) {
+    final OrderStatus target = request.targetStatus();
+    if (target == null || !BATCH_TARGETS.contains(target)) {
+      throw new ApplicationException("일괄 변경할 수 없는 상태입니다: " + target);
+    }
+    if (request.orderIds() == null || request.orderIds().isEmpty()) {
+      throw new ApplicationException("변경할 주문이 비어있습니다.");
+    }
+    if (request.orderIds().size() > maxOrdersPerRequest) {
+      throw new ApplicationException("한 번에 변경할 수 있는 주문은 " + maxOrdersPerRequest + "건까지입니다.");
+    }
+
+    final long start = System.nanoTime();
+    final List<Long> orderIds = List.copyOf(new LinkedHashSet<>(request.orderIds()));
+    final Set<OrderStatus> sources = OrderStatus.sourcesOf(target);
+    final OrderEventType eventType = eventTypeOf(target);
+
+    final List<OrderStatusChangeResult> results = new ArrayList<>(orderIds.size());
+    for (int from = 0; from < orderIds.size(); from += chunkSize) {
+      final List<Long> chunk = orderIds.subList(from, Math.min(from + chunkSize, orderIds.size()));
+      final ChunkResult chunkResult = transactionTemplate.execute(
+          status -> applyChunk(chunk, target, sources, eventType));
+      results.addAll(chunkResult.results());
+      // 커밋 후 조회 모델 캐시 무효화
+      chunkResult.updated().forEach(view ->
+          eventPublisher.publishEvent(new OrderHistoryUpdatedEvent(view.id(), view.memberId())));
+    }
+
+    final long elapsedNanos = System.nanoTime() - start;
+    final int updated = (int) results.stream().filter(r -> r.outcome() == Outcome.UPDATED).count();
+    record(target, elapsedNanos, updated, results.size() - updated);
+    log.info("주문 상태 일괄 변경 - 대상: {}, 요청: {}건, 변경: {}건, {}ms",
+        target, orderIds.size(), updated, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+    return new BatchStatusChangeResponse(target, orderIds.size(), updated, results.size() - updated,
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), results);
+  }
+
+  private ChunkResult applyChunk(final List<Long> chunk, final OrderStatus target, final Set<OrderStatus> sources,
+      final OrderEventType eventType) {
+    final Map<Long, OrderStatusView> before = orderRepository.findStatusViewsWithLock(chunk).stream()
+        .collect(Collectors.toMap(OrderStatusView::id, Function.identity()));
+    final List<Long> eligible = chunk.stream()
+        .filter(id -> before.containsKey(id) && sources.contains(before.get(id).status()))
+        .toList();
+
+    if (!eligible.isEmpty()) {
+      // 잠근 행만 대상이므로 전부 바뀌어야 한다 - 아니면 청크를 롤백해 결과와 이벤트가 실제 변경과 어긋나지 않게 한다
+      final int updated = orderRepository.updateStatus(eligible, sources, target);
+      if (updated != eligible.size()) {
+        throw new ApplicationException("주문 상태 일괄 변경 중 대상 주문이 변경되었습니다. 대상: "
+            + eligible.size() + "건, 변경: " + updated + "건");
+      }
+    }
+
+    final Set<Long> updatedIds = Set.copyOf(eligible);
+    final List<OrderStatusView> updatedViews = eligible.stream()
+        .map(before::get)
+        .toList();
+    if (!updatedViews.isEmpty()) {
+      orderHistoryRepository.updateStatus(updatedIds, target);
+      final LocalDateTime now = LocalDateTime.now();
+      orderOutbox.appendAll(updatedViews.stream()
+          .map(view -> new OrderEvent(view.id(), view.memberId(), view.totalPrice(), target, eventType, now))
+          .toList());
+    }
+
+    final List<OrderStatusChangeResult> results = new ArrayList<>(chunk.size());
+    for (final Long id : chunk) {
+      final OrderStatusView view = before.get(id);
+      if (view == null) {
+        results.add(new OrderStatusChangeResult(id, Outcome.NOT_FOUND, null));
+      } else if (updatedIds.contains(id)) {
+        results.add(new OrderStatusChangeResult(id, Outcome.UPDATED, view.status()));
+      } else {
+        results.add(new OrderStatusChangeResult(id, Outcome.INVALID_TRANSITION, view.status()));
+      }
+    }
+    return new ChunkResult(results, updatedViews);
+  }
+
+  private static OrderEventType eventTypeOf(final OrderStatus target) {
+    return switch (target) {
+      case SHIPPED -> OrderEventType.ORDER_SHIPPED;
+      case DELIVERED -> OrderEventType.ORDER_DELIVERED;
+      case COMPLETED -> OrderEventType.ORDER_COMPLETED;
+      default -> throw new ApplicationException("일괄 변경할 수 없는 상태입니다: " + target);
+    };
+  }
+
+  private void record(final OrderStatus target, final long elapsedNanos, final int updated, final int failed) {
+    Timer.builder("order.status.batch")
+        .tag("target", target.name())
+        .register(meterRegistry)
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    meterRegistry.counter("order.status.batch.orders", "target", target.name(), "outcome", "updated")
+        .increment(updated);
+    meterRegistry.counter("order.status.batch.orders", "target", target.name(), "outcome", "failed")
+        .increment(failed);
+  }
+
+  private record ChunkResult(List<OrderStatusChangeResult> results, List<OrderStatusView> updated) {
+  }
+}
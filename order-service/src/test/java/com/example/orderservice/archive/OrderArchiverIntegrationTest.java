@@ -0,0 +1,131 @@
+package com.example.orderservice.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.archive.OrderArchiver.ArchiveResult;
+import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.history.OrderHistoryService;
+import com.example.orderservice.id.SnowflakeIdGenerator;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * H2 에 합성 주문을 직접 넣고 보관 작업을 돌려, 옮겨진 행과 조회 결과를 확인
+ */
+@SpringBootTest(properties = {
+    "order.archive.retention-days=30",
+    "order.archive.batch-size=2",
+    "order.archive.max-batches-per-run=10"
+})
+@ActiveProfiles("test")
+class OrderArchiverIntegrationTest {
+
+  private static final long MEMBER_ID = 9_001L;
+
+  @Autowired
+  private OrderArchiver orderArchiver;
+
+  @Autowired
+  private OrderHistoryService orderHistoryService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  // 애플리케이션(노드 0), 벤치마크(노드 1)와 겹치지 않도록 다른 노드 ID 로 발급
+  private final SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(2);
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM order_items_archive WHERE order_id IN (SELECT id FROM orders_archive WHERE member_id = ?)",
+        MEMBER_ID);
+    jdbcTemplate.update("DELETE FROM orders_archive WHERE member_id = ?", MEMBER_ID);
+    jdbcTemplate.update("DELETE FROM order_items WHERE order_id IN (SELECT id FROM orders WHERE member_id = ?)",
+        MEMBER_ID);
+    jdbcTemplate.update("DELETE FROM orders WHERE member_id = ?", MEMBER_ID);
+  }
+
+  @Test
+  void 보관_기간이_지난_완료_취소_주문만_배치로_옮긴다() {
+    // Arrange
+    LocalDateTime old = LocalDateTime.now().minusDays(60).withNano(0);
+    Long oldCompleted1 = insertOrder(OrderStatus.COMPLETED, old);
+    Long oldCompleted2 = insertOrder(OrderStatus.COMPLETED, old.plusDays(1));
+    Long oldCompleted3 = insertOrder(OrderStatus.COMPLETED, old.plusDays(2));
+    Long oldCancelled = insertOrder(OrderStatus.CANCELLED, old.plusDays(3));
+    Long oldPending = insertOrder(OrderStatus.PENDING, old);
+    Long recentCompleted = insertOrder(OrderStatus.COMPLETED, LocalDateTime.now().minusDays(1));
+    List<Long> archivable = List.of(oldCompleted1, oldCompleted2, oldCompleted3, oldCancelled);
+
+    // Act
+    ArchiveResult result = orderArchiver.archive();
+
+    // Assert
+    assertThat(result.orders()).isGreaterThanOrEqualTo(archivable.size());
+    assertThat(result.batches()).isGreaterThanOrEqualTo(2);
+    assertThat(idsIn("orders")).containsExactlyInAnyOrder(oldPending, recentCompleted);
+    assertThat(idsIn("orders_archive")).containsExactlyInAnyOrderElementsOf(archivable);
+    assertThat(itemCountIn("order_items")).isEqualTo(4);
+    assertThat(itemCountIn("order_items_archive")).isEqualTo(8);
+  }
+
+  @Test
+  void 보관된_주문도_상세_조회에서_그대로_조회된다() {
+    // Arrange
+    LocalDateTime old = LocalDateTime.now().minusDays(60).withNano(0);
+    Long archived = insertOrder(OrderStatus.COMPLETED, old);
+    insertOrder(OrderStatus.PAID, LocalDateTime.now().minusDays(1));
+    orderArchiver.archive();
+
+    // Act
+    OrderResponse detail = orderHistoryService.findOrderById(archived);
+
+    // Assert
+    assertThat(idsIn("orders_archive")).containsExactly(archived);
+    assertThat(detail.id()).isEqualTo(archived);
+    assertThat(detail.status()).isEqualTo(OrderStatus.COMPLETED);
+    assertThat(detail.orderDate()).isEqualTo(old);
+  }
+
+  @Test
+  void 보관할_주문이_없으면_아무것도_하지_않는다() {
+    // Arrange
+    Long recent = insertOrder(OrderStatus.COMPLETED, LocalDateTime.now());
+
+    // Act
+    orderArchiver.archive();
+
+    // Assert
+    assertThat(idsIn("orders")).containsExactly(recent);
+    assertThat(idsIn("orders_archive")).isEmpty();
+  }
+
+  // 주문마다 상품 2개
+  private Long insertOrder(final OrderStatus status, final LocalDateTime orderDate) {
+    long orderId = idGenerator.nextId();
+    jdbcTemplate.update("INSERT INTO orders (id, member_id, total_price, status, order_date) VALUES (?, ?, ?, ?, ?)",
+        orderId, MEMBER_ID, 1300, status.name(), Timestamp.valueOf(orderDate));
+    jdbcTemplate.update("INSERT INTO order_items (id, order_id, product_id, product_name, product_price, order_quantity,"
+        + " total_price) VALUES (?, ?, ?, ?, ?, ?, ?)", idGenerator.nextId(), orderId, 1L, "연필", 500, 2, 1000);
+    jdbcTemplate.update("INSERT INTO order_items (id, order_id, product_id, product_name, product_price, order_quantity,"
+        + " total_price) VALUES (?, ?, ?, ?, ?, ?, ?)", idGenerator.nextId(), orderId, 2L, "지우개", 300, 1, 300);
+    return orderId;
+  }
+
+  private List<Long> idsIn(final String table) {
+    return jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE member_id = ?", Long.class, MEMBER_ID);
+  }
+
+  private int itemCountIn(final String itemTable) {
+    String orderTable = itemTable.equals("order_items") ? "orders" : "orders_archive";
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + itemTable + " i JOIN " + orderTable
+        + " o ON o.id = i.order_id WHERE o.member_id = ?", Integer.class, MEMBER_ID);
+  }
+}
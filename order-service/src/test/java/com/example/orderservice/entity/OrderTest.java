@@ -212,6 +212,68 @@ class OrderTest {
             .isInstanceOf(ApplicationException.class)
             .hasMessage("대기 중인 주문만 취소 처리할 수 있습니다.");
       }
+
+      @Test
+      void PAID_상태의_주문은_결제_취소로_CANCELLED가_된다() {
+        // Arrange
+        // paidOrder는 BeforeEach에서 설정됨
+
+        // Act
+        paidOrder.cancelPaid();
+
+        // Assert
+        assertThat(paidOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+      }
+
+      @Test
+      void PAID_가_아닌_주문은_결제_취소할_수_없다() {
+        // Act & Assert
+        assertThatThrownBy(() -> pendingOrder.cancelPaid())
+            .isInstanceOf(ApplicationException.class)
+            .hasMessage("결제 완료 주문만 결제 취소할 수 있습니다.");
+      }
+    }
+
+    @Nested
+    class ShippingTest {
+
+      @Test
+      void PAID_상태의_주문은_배송_후_배송_완료를_거쳐_완료할_수_있다() {
+        // Act
+        paidOrder.ship();
+        paidOrder.deliver();
+        paidOrder.complete();
+
+        // Assert
+        assertThat(paidOrder.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+      }
+
+      @Test
+      void PENDING_상태의_주문은_배송_처리할_수_없다() {
+        // Act & Assert
+        assertThatThrownBy(() -> pendingOrder.ship())
+            .isInstanceOf(ApplicationException.class)
+            .hasMessage("결제 완료 주문만 배송 처리할 수 있습니다.");
+      }
+
+      @Test
+      void 배송_중인_주문은_배송_완료_전에_완료할_수_없다() {
+        // Arrange
+        paidOrder.ship();
+
+        // Act & Assert
+        assertThatThrownBy(() -> paidOrder.complete())
+            .isInstanceOf(ApplicationException.class);
+        assertThatThrownBy(() -> paidOrder.cancel())
+            .isInstanceOf(ApplicationException.class);
+      }
+
+      @Test
+      void 완료로_전이할_수_있는_상태는_PAID와_DELIVERED이다() {
+        // Act & Assert
+        assertThat(OrderStatus.sourcesOf(OrderStatus.COMPLETED))
+            .containsExactlyInAnyOrder(OrderStatus.PAID, OrderStatus.DELIVERED);
+      }
     }
   }
 
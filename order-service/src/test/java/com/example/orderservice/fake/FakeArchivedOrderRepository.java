@@ -0,0 +1,59 @@
+package com.example.orderservice.fake;
+
+import com.example.orderservice.archive.ArchivedOrder;
+import com.example.orderservice.archive.ArchivedOrderRepository;
+import com.example.orderservice.repository.OrderRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class FakeArchivedOrderRepository implements ArchivedOrderRepository {
+
+  private final Map<Long, ArchivedOrder> storage = new HashMap<>();
+  private final OrderRepository orderRepository;
+
+  // copyFromOrders 는 주어진 주문 저장소에서 복사한다
+  public FakeArchivedOrderRepository(OrderRepository orderRepository) {
+    this.orderRepository = orderRepository;
+  }
+
+  @Override
+  public Optional<ArchivedOrder> findById(Long id) {
+    return Optional.ofNullable(storage.get(id));
+  }
+
+  @Override
+  public List<ArchivedOrder> findByMemberId(Long memberId) {
+    return storage.values().stream()
+        .filter(order -> order.getMemberId().equals(memberId))
+        .sorted(Comparator.comparing(ArchivedOrder::getOrderDate).reversed())
+        .toList();
+  }
+
+  @Override
+  public int copyFromOrders(Collection<Long> orderIds) {
+    int copied = 0;
+    for (Long id : orderIds) {
+      Optional<ArchivedOrder> archived = orderRepository.findById(id)
+          .map(order -> new ArchivedOrder(order, LocalDateTime.now()));
+      if (archived.isPresent()) {
+        storage.put(id, archived.get());
+        copied++;
+      }
+    }
+    return copied;
+  }
+
+  // 테스트 헬퍼 메서드
+  public void save(ArchivedOrder archived) {
+    storage.put(archived.getId(), archived);
+  }
+
+  public int size() {
+    return storage.size();
+  }
+}
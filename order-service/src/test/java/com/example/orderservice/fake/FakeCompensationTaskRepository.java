@@ -0,0 +1,64 @@
+package com.example.orderservice.fake;
+
+import com.example.orderservice.saga.CompensationStatus;
+import com.example.orderservice.saga.CompensationTask;
+import com.example.orderservice.saga.CompensationTaskRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+public class FakeCompensationTaskRepository implements CompensationTaskRepository {
+
+  private final Map<Long, CompensationTask> storage = new TreeMap<>();
+  private Long nextId = 1L;
+
+  @Override
+  public synchronized CompensationTask save(CompensationTask task) {
+    if (task.getId() == null) {
+      setIdUsingReflection(task, nextId++);
+    }
+    storage.put(task.getId(), task);
+    return task;
+  }
+
+  @Override
+  public synchronized Optional<CompensationTask> findById(Long id) {
+    return Optional.ofNullable(storage.get(id));
+  }
+
+  @Override
+  public synchronized List<CompensationTask> findDueTasks(LocalDateTime now, int limit) {
+    return storage.values().stream()
+        .filter(task -> task.getStatus() == CompensationStatus.PENDING)
+        .filter(task -> !task.getNextAttemptAt().isAfter(now))
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public synchronized long countUnfinishedBySagaId(Long sagaId) {
+    return storage.values().stream()
+        .filter(task -> Objects.equals(task.getSagaId(), sagaId))
+        .filter(task -> task.getStatus() != CompensationStatus.DONE)
+        .count();
+  }
+
+  private void setIdUsingReflection(CompensationTask task, Long id) {
+    try {
+      java.lang.reflect.Field idField = CompensationTask.class.getDeclaredField("id");
+      idField.setAccessible(true);
+      idField.set(task, id);
+    } catch (Exception e) {
+      throw new RuntimeException("리플렉션으로 ID 설정 실패", e);
+    }
+  }
+
+  // 테스트 헬퍼 메서드들
+  public synchronized List<CompensationTask> findAll() {
+    return new ArrayList<>(storage.values());
+  }
+}
@@ -0,0 +1,65 @@
+package com.example.orderservice.fake;
+
+import com.example.orderservice.idempotency.IdempotencyRecord;
+import com.example.orderservice.idempotency.IdempotencyRecordRepository;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+public class FakeIdempotencyRecordRepository implements IdempotencyRecordRepository {
+
+  private final Map<String, IdempotencyRecord> storage = new ConcurrentHashMap<>();
+  private final AtomicInteger completionFailures = new AtomicInteger();
+
+  @Override
+  public IdempotencyRecord save(IdempotencyRecord record) {
+    if (record.isCompleted() && completionFailures.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+      throw new DataAccessResourceFailureException("응답 저장 실패");
+    }
+    // 새 기록은 INSERT - 이미 있는 키면 PK 충돌
+    IdempotencyRecord existing = storage.putIfAbsent(record.getIdempotencyKey(), record);
+    if (existing != null && existing != record) {
+      if (record.isNew()) {
+        throw new DataIntegrityViolationException("Duplicate idempotency key: " + record.getIdempotencyKey());
+      }
+      storage.put(record.getIdempotencyKey(), record);
+    }
+    return record;
+  }
+
+  @Override
+  public Optional<IdempotencyRecord> findById(String idempotencyKey) {
+    return Optional.ofNullable(storage.get(idempotencyKey));
+  }
+
+  @Override
+  public void deleteById(String idempotencyKey) {
+    storage.remove(idempotencyKey);
+  }
+
+  @Override
+  public int deleteExpired(LocalDateTime now) {
+    int before = storage.size();
+    storage.values().removeIf(record -> record.isExpired(now));
+    return before - storage.size();
+  }
+
+  @Override
+  public int deleteExpiredByKey(String idempotencyKey, LocalDateTime now) {
+    IdempotencyRecord record = storage.get(idempotencyKey);
+    return record != null && record.isExpired(now) && storage.remove(idempotencyKey, record) ? 1 : 0;
+  }
+
+  // 테스트 헬퍼 메서드들
+  public void failCompletions(int times) {
+    completionFailures.set(times);
+  }
+
+  public int size() {
+    return storage.size();
+  }
+}
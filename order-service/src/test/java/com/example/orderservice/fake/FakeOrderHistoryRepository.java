@@ -0,0 +1,85 @@
+package com.example.orderservice.fake;
+
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.history.OrderHistory;
+import com.example.orderservice.history.OrderHistoryRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FakeOrderHistoryRepository implements OrderHistoryRepository {
+
+  private final Map<Long, OrderHistory> storage = new ConcurrentHashMap<>();
+
+  @Override
+  public OrderHistory save(OrderHistory history) {
+    storage.put(history.getOrderId(), history);
+    return history;
+  }
+
+  @Override
+  public <S extends OrderHistory> List<S> saveAll(Iterable<S> histories) {
+    List<S> saved = new ArrayList<>();
+    histories.forEach(history -> {
+      storage.put(history.getOrderId(), history);
+      saved.add(history);
+    });
+    return saved;
+  }
+
+  @Override
+  public Optional<OrderHistory> findById(Long orderId) {
+    return Optional.ofNullable(storage.get(orderId));
+  }
+
+  @Override
+  public List<OrderHistory> findByOrderIds(Collection<Long> orderIds) {
+    return orderIds.stream()
+        .map(storage::get)
+        .filter(history -> history != null)
+        .toList();
+  }
+
+  @Override
+  public List<OrderHistory> findByMemberId(Long memberId) {
+    return storage.values().stream()
+        .filter(history -> history.getMemberId().equals(memberId))
+        .sorted(Comparator.comparing(OrderHistory::getOrderDate).reversed())
+        .toList();
+  }
+
+  @Override
+  public int updateStatus(Collection<Long> orderIds, OrderStatus status) {
+    int updated = 0;
+    for (Long orderId : orderIds) {
+      OrderHistory history = storage.get(orderId);
+      if (history != null) {
+        setStatusUsingReflection(history, status);
+        updated++;
+      }
+    }
+    return updated;
+  }
+
+  private void setStatusUsingReflection(OrderHistory history, OrderStatus status) {
+    try {
+      java.lang.reflect.Field statusField = OrderHistory.class.getDeclaredField("status");
+      statusField.setAccessible(true);
+      statusField.set(history, status);
+    } catch (Exception e) {
+      throw new RuntimeException("리플렉션으로 상태 설정 실패", e);
+    }
+  }
+
+  public int size() {
+    return storage.size();
+  }
+
+  public void clear() {
+    storage.clear();
+  }
+}
@@ -4,6 +4,7 @@ import com.example.orderservice.entity.OrderItem;
 
 import com.example.orderservice.repository.OrderItemRepository;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -62,12 +63,27 @@ public class FakeOrderItemRepository implements OrderItemRepository {
     return new ArrayList<>(storage.values());
   }
 
+  @Override
   public List<OrderItem> findByOrderId(Long orderId) {
     return storage.values().stream()
         .filter(item -> item.getOrderId().equals(orderId))
         .toList();
   }
 
+  @Override
+  public List<OrderItem> findByOrderIdIn(Collection<Long> orderIds) {
+    return storage.values().stream()
+        .filter(item -> orderIds.contains(item.getOrderId()))
+        .toList();
+  }
+
+  @Override
+  public int deleteByOrderIds(Collection<Long> orderIds) {
+    int before = storage.size();
+    storage.values().removeIf(item -> orderIds.contains(item.getOrderId()));
+    return before - storage.size();
+  }
+
   public void clear() {
     storage.clear();
     nextId = 1L;
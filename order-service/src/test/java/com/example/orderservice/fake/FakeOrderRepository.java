@@ -4,8 +4,11 @@ import com.example.orderservice.entity.Order;
 import com.example.orderservice.entity.OrderStatus;
 
 import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.repository.OrderStatusView;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +19,7 @@ public class FakeOrderRepository implements OrderRepository {
 
   private final Map<Long, Order> storage = new HashMap<>();
   private Long nextId = 1L;
+  private Runnable beforeLock = () -> { };
 
   @Override
   public List<Order> findAll() {
@@ -27,6 +31,12 @@ public class FakeOrderRepository implements OrderRepository {
     return Optional.ofNullable(storage.get(id));
   }
 
+  @Override
+  public Optional<Order> findByIdWithLock(Long id) {
+    beforeLock.run();
+    return findById(id);
+  }
+
   @Override
   public Order save(Order order) {
     if (order.getId() == null) {
@@ -46,6 +56,78 @@ public class FakeOrderRepository implements OrderRepository {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public List<Order> findOrdersByIdRange(final Long fromId, final Long toId) {
+    return storage.values().stream()
+        .filter(order -> order.getId() >= fromId && order.getId() < toId)
+        .sorted(Comparator.comparing(Order::getId))
+        .toList();
+  }
+
+  @Override
+  public List<Long> findOrderIdsAfter(final Long afterId, final int limit) {
+    return storage.keySet().stream()
+        .filter(id -> id > afterId)
+        .sorted()
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public List<OrderStatusView> findStatusViewsWithLock(final Collection<Long> ids) {
+    return ids.stream()
+        .map(storage::get)
+        .filter(order -> order != null)
+        .map(order -> new OrderStatusView(order.getId(), order.getMemberId(), order.getTotalPrice(), order.getStatus()))
+        .toList();
+  }
+
+  @Override
+  public int updateStatus(final Collection<Long> ids, final Collection<OrderStatus> fromStatuses,
+      final OrderStatus toStatus) {
+    int updated = 0;
+    for (Long id : ids) {
+      Order order = storage.get(id);
+      if (order != null && fromStatuses.contains(order.getStatus())) {
+        setStatusUsingReflection(order, toStatus);
+        updated++;
+      }
+    }
+    return updated;
+  }
+
+  @Override
+  public List<Long> findArchivableOrderIds(final Collection<OrderStatus> statuses, final LocalDateTime before,
+      final int limit) {
+    return storage.values().stream()
+        .filter(order -> statuses.contains(order.getStatus()) && order.getOrderDate().isBefore(before))
+        .map(Order::getId)
+        .sorted()
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public int deleteByIds(final Collection<Long> ids) {
+    int deleted = 0;
+    for (Long id : ids) {
+      if (storage.remove(id) != null) {
+        deleted++;
+      }
+    }
+    return deleted;
+  }
+
+  private void setStatusUsingReflection(Order order, OrderStatus status) {
+    try {
+      java.lang.reflect.Field statusField = Order.class.getDeclaredField("status");
+      statusField.setAccessible(true);
+      statusField.set(order, status);
+    } catch (Exception e) {
+      throw new RuntimeException("리플렉션으로 상태 설정 실패", e);
+    }
+  }
+
   private Order createOrderWithId(Long id, Order order) {
     try {
       Order newOrder = new Order(
@@ -88,6 +170,11 @@ public class FakeOrderRepository implements OrderRepository {
     return storage.containsKey(id);
   }
 
+  // 잠금을 기다리는 동안 다른 트랜잭션이 먼저 커밋한 경우를 흉내 낸다
+  public void beforeLock(Runnable hook) {
+    this.beforeLock = hook;
+  }
+
   // 테스트용 데이터 추가 메서드
   public Order saveWithId(Long id, Long memberId, Integer totalPrice, OrderStatus status) {
     Order order = new Order(memberId, totalPrice, status, LocalDateTime.now());
@@ -0,0 +1,61 @@
+package com.example.orderservice.fake;
+
+import com.example.orderservice.saga.OrderSaga;
+import com.example.orderservice.saga.OrderSagaRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+public class FakeOrderSagaRepository implements OrderSagaRepository {
+
+  private final Map<Long, OrderSaga> storage = new TreeMap<>();
+  private Long nextId = 1L;
+
+  @Override
+  public OrderSaga save(OrderSaga saga) {
+    if (saga.getId() == null) {
+      setIdUsingReflection(saga, nextId++);
+    }
+    storage.put(saga.getId(), saga);
+    return saga;
+  }
+
+  @Override
+  public Optional<OrderSaga> findById(Long id) {
+    return Optional.ofNullable(storage.get(id));
+  }
+
+  @Override
+  public Optional<OrderSaga> findByOrderId(Long orderId) {
+    return storage.values().stream()
+        .filter(saga -> saga.getOrderId().equals(orderId))
+        .findFirst();
+  }
+
+  @Override
+  public List<OrderSaga> findStuckSagas(LocalDateTime updatedBefore, int limit) {
+    return storage.values().stream()
+        .filter(saga -> saga.getState().isInProgress())
+        .filter(saga -> saga.getUpdatedAt().isBefore(updatedBefore))
+        .limit(limit)
+        .toList();
+  }
+
+  private void setIdUsingReflection(OrderSaga saga, Long id) {
+    try {
+      java.lang.reflect.Field idField = OrderSaga.class.getDeclaredField("id");
+      idField.setAccessible(true);
+      idField.set(saga, id);
+    } catch (Exception e) {
+      throw new RuntimeException("리플렉션으로 ID 설정 실패", e);
+    }
+  }
+
+  // 테스트 헬퍼 메서드들
+  public List<OrderSaga> findAll() {
+    return new ArrayList<>(storage.values());
+  }
+}
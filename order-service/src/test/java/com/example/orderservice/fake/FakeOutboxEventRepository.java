@@ -0,0 +1,100 @@
+package com.example.orderservice.fake;
+
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OutboxEvent;
+import com.example.orderservice.outbox.OutboxEventRepository;
+import com.example.orderservice.outbox.OutboxStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class FakeOutboxEventRepository implements OutboxEventRepository {
+
+  private final Map<Long, OutboxEvent> storage = new TreeMap<>();
+  private Long nextId = 1L;
+
+  @Override
+  public OutboxEvent save(final OutboxEvent event) {
+    if (event.getId() == null) {
+      setIdUsingReflection(event, nextId++);
+    }
+    storage.put(event.getId(), event);
+    return event;
+  }
+
+  @Override
+  public <S extends OutboxEvent> List<S> saveAll(final Iterable<S> events) {
+    final List<S> saved = new ArrayList<>();
+    events.forEach(event -> {
+      save(event);
+      saved.add(event);
+    });
+    return saved;
+  }
+
+  @Override
+  public List<OutboxEvent> findPendingEvents(final int limit) {
+    return storage.values().stream()
+        .filter(event -> event.getStatus() == OutboxStatus.PENDING)
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public long countPendingEvents() {
+    return storage.values().stream()
+        .filter(event -> event.getStatus() == OutboxStatus.PENDING)
+        .count();
+  }
+
+  @Override
+  public int markAsSent(final List<Long> ids, final LocalDateTime sentAt) {
+    ids.forEach(id -> storage.get(id).markAsSent(sentAt));
+    return ids.size();
+  }
+
+  @Override
+  public List<OutboxEvent> findUnprojectedEvents(final LocalDateTime before, final int limit) {
+    return storage.values().stream()
+        .filter(event -> !event.isHistoryProjected() && event.getCreatedAt().isBefore(before))
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public int markHistoryProjected(final Long aggregateId) {
+    final List<OutboxEvent> unprojected = storage.values().stream()
+        .filter(event -> event.getAggregateId().equals(aggregateId) && !event.isHistoryProjected())
+        .toList();
+    unprojected.forEach(OutboxEvent::markHistoryProjected);
+    return unprojected.size();
+  }
+
+  private void setIdUsingReflection(OutboxEvent event, Long id) {
+    try {
+      java.lang.reflect.Field idField = OutboxEvent.class.getDeclaredField("id");
+      idField.setAccessible(true);
+      idField.set(event, id);
+    } catch (Exception e) {
+      throw new RuntimeException("리플렉션으로 ID 설정 실패", e);
+    }
+  }
+
+  // 테스트 헬퍼 메서드들
+  public List<OutboxEvent> findAll() {
+    return new ArrayList<>(storage.values());
+  }
+
+  public List<OrderEventType> findEventTypesByOrderId(Long orderId) {
+    return storage.values().stream()
+        .filter(event -> event.getAggregateId().equals(orderId))
+        .map(OutboxEvent::getEventType)
+        .toList();
+  }
+
+  public int size() {
+    return storage.size();
+  }
+}
@@ -0,0 +1,73 @@
+package com.example.orderservice.fake;
+
+import com.example.orderservice.payment.Payment;
+import com.example.orderservice.payment.PaymentRepository;
+import com.example.orderservice.payment.PaymentStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 워커 스레드에서도 접근하므로 동시성 안전한 Map 사용
+public class FakePaymentRepository implements PaymentRepository {
+
+  private final Map<Long, Payment> storage = new ConcurrentSkipListMap<>();
+  private final AtomicLong nextId = new AtomicLong(1L);
+
+  @Override
+  public Payment save(Payment payment) {
+    if (payment.getId() == null) {
+      setIdUsingReflection(payment, nextId.getAndIncrement());
+    }
+    storage.put(payment.getId(), payment);
+    return payment;
+  }
+
+  @Override
+  public Optional<Payment> findById(Long id) {
+    return Optional.ofNullable(storage.get(id));
+  }
+
+  @Override
+  public Optional<Payment> findActivePaymentByOrderId(Long orderId) {
+    return storage.values().stream()
+        .filter(payment -> payment.getOrderId().equals(orderId))
+        .filter(payment -> payment.getStatus() != PaymentStatus.FAILED
+            && payment.getStatus() != PaymentStatus.CANCELLED)
+        .findFirst();
+  }
+
+  @Override
+  public Optional<Payment> findSucceededPaymentByOrderId(Long orderId) {
+    return storage.values().stream()
+        .filter(payment -> payment.getOrderId().equals(orderId))
+        .filter(payment -> payment.getStatus() == PaymentStatus.SUCCESS)
+        .findFirst();
+  }
+
+  @Override
+  public List<Payment> findStalePendingPayments(LocalDateTime requestedBefore, int limit) {
+    return storage.values().stream()
+        .filter(payment -> payment.getStatus() == PaymentStatus.PENDING)
+        .filter(payment -> payment.getRequestedAt().isBefore(requestedBefore))
+        .limit(limit)
+        .toList();
+  }
+
+  private void setIdUsingReflection(Payment payment, Long id) {
+    try {
+      java.lang.reflect.Field idField = Payment.class.getDeclaredField("id");
+      idField.setAccessible(true);
+      idField.set(payment, id);
+    } catch (Exception e) {
+      throw new RuntimeException("리플렉션으로 ID 설정 실패", e);
+    }
+  }
+
+  // 테스트 헬퍼 메서드들
+  public List<Payment> findAll() {
+    return List.copyOf(storage.values());
+  }
+}
@@ -0,0 +1,60 @@
+package com.example.orderservice.fake;
+
+import com.example.orderservice.client.PointClient;
+import com.example.orderservice.dto.request.DeductPointsRequest;
+import com.example.orderservice.dto.request.RefundPointsRequest;
+import com.example.orderservice.dto.response.DeductPointsResponse;
+import com.example.orderservice.resilience.DependencyTimeoutException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class FakePointClient implements PointClient {
+
+  private final Map<Long, Integer> balances = new HashMap<>();
+  private boolean available = true;
+  private boolean timeoutAfterDeduct = false;
+
+  @Override
+  public DeductPointsResponse deductPoints(DeductPointsRequest request) {
+    checkAvailable();
+    int balance = balanceOf(request.userId());
+    if (balance < request.balance()) {
+      throw new RuntimeException("포인트가 부족합니다: " + request.userId());
+    }
+    balances.put(request.userId(), balance - request.balance());
+    if (timeoutAfterDeduct) {
+      throw new DependencyTimeoutException("point-service deductPoints 응답 시간 초과");
+    }
+    return new DeductPointsResponse(request.userId(), balance - request.balance(), request.balance(), null);
+  }
+
+  @Override
+  public synchronized void refundPoints(RefundPointsRequest request) {
+    checkAvailable();
+    balances.put(request.userId(), balanceOf(request.userId()) + request.amount());
+  }
+
+  private void checkAvailable() {
+    if (!available) {
+      throw new RuntimeException("포인트 서비스 호출 실패");
+    }
+  }
+
+  // 테스트 헬퍼 메서드들
+  public void charge(Long userId, Integer amount) {
+    balances.put(userId, balanceOf(userId) + amount);
+  }
+
+  public synchronized int balanceOf(Long userId) {
+    return balances.getOrDefault(userId, 0);
+  }
+
+  public void setAvailable(boolean available) {
+    this.available = available;
+  }
+
+  // 차감은 반영됐지만 응답이 유실된 경우
+  public void setTimeoutAfterDeduct(boolean timeoutAfterDeduct) {
+    this.timeoutAfterDeduct = timeoutAfterDeduct;
+  }
+}
@@ -1,17 +1,38 @@
 package com.example.orderservice.fake;
 
 import com.example.orderservice.client.ProductClient;
+import com.example.orderservice.dto.request.ReduceProductRequest;
+import com.example.orderservice.dto.request.RestoreProductRequest;
+import com.example.orderservice.dto.request.RestoreStockBatchRequest;
+import com.example.orderservice.dto.response.ProductChangeHeadResponse;
+import com.example.orderservice.dto.response.ProductChangeResponse;
 import com.example.orderservice.dto.response.ProductResponse;
+import com.example.orderservice.replica.ProductChangeType;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class FakeProductClient implements ProductClient {
 
   private final Map<Long, ProductResponse> products = new HashMap<>();
+  private final Set<Long> unavailableProductIds = new HashSet<>();
+  private final List<ProductChangeResponse> changes = new ArrayList<>();
+  private boolean catalogAvailable = true;
+  private final Set<String> restoredKeys = new HashSet<>();
+  // 예약 키 → RESERVED / RELEASED / CANCELLED
+  private final Map<String, String> reservations = new HashMap<>();
+  private final Set<Long> timeoutAfterReduceProductIds = new HashSet<>();
+  private int findProductByIdCalls;
+  private int restoreStocksCalls;
 
   @Override
   public ProductResponse findProductById(Long productId) {
+    findProductByIdCalls++;
     ProductResponse product = products.get(productId);
     if (product == null) {
       throw new RuntimeException("상품을 찾을 수 없습니다: " + productId);
@@ -19,6 +40,106 @@ public class FakeProductClient implements ProductClient {
     return product;
   }
 
+  @Override
+  public List<ProductResponse> findAllProducts() {
+    checkCatalogAvailable();
+    return new ArrayList<>(products.values());
+  }
+
+  @Override
+  public List<ProductChangeResponse> findChanges(Long afterChangeId, int limit) {
+    checkCatalogAvailable();
+    return changes.stream()
+        .filter(change -> change.changeId() > afterChangeId)
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public ProductChangeHeadResponse findChangeHead() {
+    checkCatalogAvailable();
+    return new ProductChangeHeadResponse((long) changes.size());
+  }
+
+  private void checkCatalogAvailable() {
+    if (!catalogAvailable) {
+      throw new RuntimeException("상품 서비스 호출 실패");
+    }
+  }
+
+  @Override
+  public void reduceStock(Long productId, ReduceProductRequest request) {
+    if (unavailableProductIds.contains(productId)) {
+      throw new RuntimeException("상품 서비스 호출 실패: " + productId);
+    }
+    // product-service 와 같이 같은 예약 키의 차감(또는 먼저 도착한 복구)이 있으면 반영하지 않는다
+    if (request.reservationKey() != null && reservations.containsKey(request.reservationKey())) {
+      return;
+    }
+    ProductResponse product = findProductById(productId);
+    if (product.stock() < request.quantity()) {
+      throw new RuntimeException("재고가 부족합니다: " + productId);
+    }
+    changeStock(product, product.stock() - request.quantity());
+    if (request.reservationKey() != null) {
+      reservations.put(request.reservationKey(), "RESERVED");
+    }
+    if (timeoutAfterReduceProductIds.contains(productId)) {
+      throw new RuntimeException("상품 서비스 응답 시간 초과: " + productId);
+    }
+  }
+
+  @Override
+  public void restoreStock(Long productId, RestoreProductRequest request) {
+    if (unavailableProductIds.contains(productId)) {
+      throw new RuntimeException("상품 서비스 호출 실패: " + productId);
+    }
+    ProductResponse product = findProductById(productId);
+    changeStock(product, product.stock() + request.restoreQuantity());
+  }
+
+  // product-service 와 같이 한 트랜잭션처럼 전부 반영하거나 전부 실패, 처리한 restoreKey 는 건너뛴다
+  @Override
+  public synchronized void restoreStocks(RestoreStockBatchRequest request) {
+    restoreStocksCalls++;
+    request.items().forEach(item -> {
+      if (unavailableProductIds.contains(item.productId())) {
+        throw new RuntimeException("상품 서비스 호출 실패: " + item.productId());
+      }
+    });
+    request.items().stream()
+        .filter(item -> restoredKeys.add(item.restoreKey()))
+        .filter(item -> item.reservationKey() == null
+            || "RESERVED".equals(reservations.put(item.reservationKey(),
+                reservations.containsKey(item.reservationKey()) ? "RELEASED" : "CANCELLED")))
+        .forEach(item -> {
+          ProductResponse product = findProductById(item.productId());
+          changeStock(product, product.stock() + item.quantity());
+        });
+  }
+
+  private void changeStock(ProductResponse product, Integer stock) {
+    products.put(product.id(), new ProductResponse(product.id(), product.name(), product.price(), stock));
+  }
+
+  // 재고 차감/복구 호출이 실패하도록 설정
+  public void makeUnavailable(Long productId) {
+    unavailableProductIds.add(productId);
+  }
+
+  // 재고 차감은 반영되지만 응답이 유실된 경우
+  public void timeoutAfterReduce(Long productId) {
+    timeoutAfterReduceProductIds.add(productId);
+  }
+
+  public void makeAvailable(Long productId) {
+    unavailableProductIds.remove(productId);
+  }
+
+  public Integer stockOf(Long productId) {
+    return products.get(productId).stock();
+  }
+
   public void addProduct(ProductResponse product) {
     products.put(product.id(), product);
   }
@@ -28,6 +149,36 @@ public class FakeProductClient implements ProductClient {
     products.put(id, product);
   }
 
+  // 카탈로그 변경 (변경 이력에 기록)
+  public void updateProduct(Long id, String name, Integer price) {
+    ProductResponse product = products.get(id);
+    ProductChangeType type = product == null ? ProductChangeType.CREATED : ProductChangeType.UPDATED;
+    products.put(id, new ProductResponse(id, name, price, product == null ? 0 : product.stock()));
+    recordChange(id, type, name, price);
+  }
+
+  public void deleteProduct(Long id) {
+    products.remove(id);
+    recordChange(id, ProductChangeType.DELETED, null, null);
+  }
+
+  private void recordChange(Long productId, ProductChangeType type, String name, Integer price) {
+    changes.add(new ProductChangeResponse((long) changes.size() + 1, productId, type, name, price,
+        LocalDateTime.now()));
+  }
+
+  public void setCatalogAvailable(boolean catalogAvailable) {
+    this.catalogAvailable = catalogAvailable;
+  }
+
+  public int restoreStocksCalls() {
+    return restoreStocksCalls;
+  }
+
+  public int findProductByIdCalls() {
+    return findProductByIdCalls;
+  }
+
   public void clear() {
     products.clear();
   }
@@ -0,0 +1,153 @@
+package com.example.orderservice.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.entity.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class MyOrdersCacheTest {
+
+  private static final List<OrderResponse> ORDERS = List.of(
+      new OrderResponse(1L, 1L, 1000, OrderStatus.PENDING, LocalDateTime.now()));
+
+  private MyOrdersCache cache;
+  private AtomicInteger dbLoads;
+
+  @BeforeEach
+  void setUp() {
+    cache = new MyOrdersCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), Clock.systemUTC());
+    dbLoads = new AtomicInteger();
+  }
+
+  private List<OrderResponse> load() {
+    dbLoads.incrementAndGet();
+    return ORDERS;
+  }
+
+  @Nested
+  class CacheTest {
+
+    @Test
+    void 두번째_조회부터는_DB_조회_없이_캐시에서_응답한다() {
+      // Act
+      cache.get(1L, MyOrdersCacheTest.this::load);
+      List<OrderResponse> second = cache.get(1L, MyOrdersCacheTest.this::load);
+
+      // Assert
+      assertThat(second).isEqualTo(ORDERS);
+      assertThat(dbLoads).hasValue(1);
+      assertThat(cache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void 주문_상태가_바뀐_회원만_다시_DB에서_조회한다() {
+      // Arrange
+      cache.get(1L, MyOrdersCacheTest.this::load);
+      cache.get(2L, MyOrdersCacheTest.this::load);
+
+      // Act
+      cache.invalidate(1L);
+      cache.get(1L, MyOrdersCacheTest.this::load);
+      cache.get(2L, MyOrdersCacheTest.this::load);
+
+      // Assert
+      assertThat(dbLoads).hasValue(3);
+    }
+
+    @Test
+    void 조회_중에_무효화되면_그_결과는_캐시에_남기지_않는다() {
+      // Act - DB 조회 도중 주문 상태 변경이 커밋됨
+      cache.get(1L, () -> {
+        cache.invalidate(1L);
+        return load();
+      });
+      cache.get(1L, MyOrdersCacheTest.this::load);
+
+      // Assert
+      assertThat(dbLoads).hasValue(2);
+    }
+  }
+
+  @Nested
+  class SingleFlightTest {
+
+    @Test
+    void 같은_회원의_동시_캐시_미스는_DB_조회_한_번으로_합친다() throws Exception {
+      // Arrange
+      int threads = 16;
+      CountDownLatch loading = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+      // Act
+      List<Future<List<OrderResponse>>> results = new ArrayList<>();
+      results.add(executor.submit(() -> cache.get(1L, () -> {
+        loading.countDown();
+        await(release);
+        return load();
+      })));
+      loading.await(5, TimeUnit.SECONDS);
+      for (int i = 1; i < threads; i++) {
+        results.add(executor.submit(() -> cache.get(1L, MyOrdersCacheTest.this::load)));
+      }
+      waitUntil(() -> cache.coalescedCount() == threads - 1);
+      release.countDown();
+
+      // Assert
+      for (Future<List<OrderResponse>> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(ORDERS);
+      }
+      assertThat(dbLoads).hasValue(1);
+      assertThat(cache.loadReduction()).isEqualTo(1.0 - 1.0 / threads);
+      executor.shutdownNow();
+    }
+  }
+
+  @Nested
+  class InvalidationTest {
+
+    @Test
+    void 주문_이력이_갱신되면_해당_회원의_캐시가_무효화된다() {
+      // Arrange
+      cache.get(1L, MyOrdersCacheTest.this::load);
+
+      // Act
+      cache.onHistoryUpdated(new OrderHistoryUpdatedEvent(10L, 1L));
+      cache.get(1L, MyOrdersCacheTest.this::load);
+
+      // Assert
+      assertThat(dbLoads).hasValue(2);
+    }
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package com.example.orderservice.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderItem;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.fake.FakeArchivedOrderRepository;
+import com.example.orderservice.fake.FakeOrderHistoryRepository;
+import com.example.orderservice.fake.FakeOrderItemRepository;
+import com.example.orderservice.fake.FakeOrderRepository;
+import com.example.orderservice.fake.FakeOutboxEventRepository;
+import com.example.orderservice.fake.FakeTransactionManager;
+import com.example.orderservice.outbox.OrderEvent;
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OrderHistoryProjectorTest {
+
+  private FakeOrderRepository fakeOrderRepository;
+  private FakeOrderItemRepository fakeOrderItemRepository;
+  private FakeOrderHistoryRepository fakeOrderHistoryRepository;
+  private FakeOutboxEventRepository fakeOutboxEventRepository;
+  private MyOrdersCache myOrdersCache;
+  private OrderHistoryProjector projector;
+  private OrderHistoryService orderHistoryService;
+
+  @BeforeEach
+  void setUp() {
+    fakeOrderRepository = new FakeOrderRepository();
+    fakeOrderItemRepository = new FakeOrderItemRepository();
+    fakeOrderHistoryRepository = new FakeOrderHistoryRepository();
+    fakeOutboxEventRepository = new FakeOutboxEventRepository();
+    myOrdersCache = new MyOrdersCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), Clock.systemUTC());
+
+    projector = new OrderHistoryProjector(fakeOrderRepository, fakeOrderItemRepository, fakeOrderHistoryRepository,
+        fakeOutboxEventRepository, new TransactionTemplate(new FakeTransactionManager()),
+        event -> myOrdersCache.onHistoryUpdated((OrderHistoryUpdatedEvent) event),
+        new SimpleMeterRegistry(), 2, 100, 0, 100);
+    orderHistoryService = new OrderHistoryService(fakeOrderHistoryRepository, fakeOrderRepository,
+        new FakeArchivedOrderRepository(fakeOrderRepository), myOrdersCache);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    projector.shutdown();
+  }
+
+  private Order createOrder(Long id, Long memberId) {
+    Order order = fakeOrderRepository.saveWithId(id, memberId, 1300, OrderStatus.PENDING);
+    fakeOrderItemRepository.save(new OrderItem(id, 1L, "연필", 500, 2));
+    fakeOrderItemRepository.save(new OrderItem(id, 2L, "지우개", 300, 1));
+    return order;
+  }
+
+  private OutboxEvent outboxEvent(Long orderId) {
+    return fakeOutboxEventRepository.save(new OutboxEvent(orderId, OrderEventType.ORDER_CREATED, "{}",
+        LocalDateTime.now().minusSeconds(1)));
+  }
+
+  private OrderHistoryRebuilder rebuilder(int chunkSize, int parallelism) {
+    return new OrderHistoryRebuilder(fakeOrderRepository, fakeOrderItemRepository, fakeOrderHistoryRepository,
+        projector, new TransactionTemplate(new FakeTransactionManager()), chunkSize, parallelism);
+  }
+
+  @Nested
+  class ProjectTest {
+
+    @Test
+    void 주문과_주문_상품으로_이력_행을_만든다() {
+      // Arrange
+      createOrder(1L, 1L);
+
+      // Act
+      projector.project(1L);
+
+      // Assert
+      OrderHistory history = fakeOrderHistoryRepository.findById(1L).orElseThrow();
+      assertThat(history.getStatus()).isEqualTo(OrderStatus.PENDING);
+      assertThat(history.getTotalPrice()).isEqualTo(1300);
+      assertThat(history.getItemCount()).isEqualTo(3);
+      assertThat(history.getItemSummary()).isEqualTo("연필 x2, 지우개 x1");
+    }
+
+    @Test
+    void 상태가_바뀌면_같은_행을_갱신하고_내_주문_목록_캐시를_무효화한다() {
+      // Arrange
+      Order order = createOrder(1L, 1L);
+      projector.project(1L);
+      assertThat(orderHistoryService.findMyOrders(1L)).extracting(OrderResponse::status)
+          .containsExactly(OrderStatus.PENDING);
+
+      // Act
+      order.markAsPaid();
+      projector.project(1L);
+
+      // Assert
+      assertThat(fakeOrderHistoryRepository.size()).isEqualTo(1);
+      assertThat(orderHistoryService.findMyOrders(1L)).extracting(OrderResponse::status)
+          .containsExactly(OrderStatus.PAID);
+    }
+
+    @Test
+    void 주문_이벤트를_받으면_비동기로_반영한다() throws InterruptedException {
+      // Arrange
+      Order order = createOrder(1L, 1L);
+
+      // Act
+      projector.onOrderChanged(OrderEvent.of(order, OrderEventType.ORDER_CREATED));
+
+      // Assert
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (fakeOrderHistoryRepository.findById(1L).isEmpty() && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(fakeOrderHistoryRepository.findById(1L)).isPresent();
+    }
+
+    @Test
+    void 반영하면_그_주문의_아웃박스_이벤트를_반영_완료로_표시한다() {
+      // Arrange
+      createOrder(1L, 1L);
+      createOrder(2L, 2L);
+      OutboxEvent first = outboxEvent(1L);
+      OutboxEvent other = outboxEvent(2L);
+
+      // Act
+      projector.project(1L);
+
+      // Assert
+      assertThat(first.isHistoryProjected()).isTrue();
+      assertThat(other.isHistoryProjected()).isFalse();
+    }
+
+    @Test
+    void 이벤트를_놓쳐도_미반영_아웃박스_이벤트로_다시_반영한다() throws InterruptedException {
+      // Arrange - 커밋 직후 프로세스가 종료돼 커밋 후 이벤트가 사라진 주문
+      createOrder(1L, 1L);
+      OutboxEvent event = outboxEvent(1L);
+
+      // Act
+      int drained = projector.drainUnprojected();
+
+      // Assert
+      assertThat(drained).isEqualTo(1);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (fakeOrderHistoryRepository.findById(1L).isEmpty() && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(fakeOrderHistoryRepository.findById(1L)).isPresent();
+      assertThat(event.isHistoryProjected()).isTrue();
+      assertThat(projector.drainUnprojected()).isZero();
+    }
+
+    @Test
+    void 이력에_아직_없는_주문의_상세는_원본에서_조회한다() {
+      // Arrange
+      createOrder(1L, 1L);
+
+      // Act
+      OrderResponse response = orderHistoryService.findOrderById(1L);
+
+      // Assert
+      assertThat(response.id()).isEqualTo(1L);
+      assertThat(response.status()).isEqualTo(OrderStatus.PENDING);
+    }
+  }
+
+  @Nested
+  class RebuildTest {
+
+    @Test
+    void 주문_ID_구간을_나눠_병렬로_재구축한다() {
+      // Arrange
+      for (long id = 1; id <= 25; id++) {
+        createOrder(id, id % 3);
+      }
+
+      // Act
+      OrderHistoryRebuilder.RebuildResult result = rebuilder(10, 3).rebuild();
+
+      // Assert
+      assertThat(result.chunks()).isEqualTo(3);
+      assertThat(result.rows()).isEqualTo(25);
+      assertThat(fakeOrderHistoryRepository.size()).isEqualTo(25);
+      assertThat(fakeOrderHistoryRepository.findById(25L).orElseThrow().getItemSummary())
+          .isEqualTo("연필 x2, 지우개 x1");
+    }
+
+    @Test
+    void ID_사이_간격이_커도_주문_수_기준으로_구간을_나눈다() {
+      // Arrange - Snowflake ID 처럼 값이 띄엄띄엄한 주문
+      for (long i = 1; i <= 15; i++) {
+        createOrder(i << 40, i % 3);
+      }
+
+      // Act
+      OrderHistoryRebuilder.RebuildResult result = rebuilder(10, 2).rebuild();
+
+      // Assert
+      assertThat(result.chunks()).isEqualTo(2);
+      assertThat(result.rows()).isEqualTo(15);
+    }
+
+    @Test
+    void 이미_있는_이력은_원본_상태로_덮어쓴다() {
+      // Arrange
+      Order order = createOrder(1L, 1L);
+      projector.project(1L);
+      order.cancel();
+
+      // Act
+      rebuilder(10, 2).rebuild();
+
+      // Assert
+      assertThat(fakeOrderHistoryRepository.findById(1L).orElseThrow().getStatus())
+          .isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void 주문이_없으면_아무것도_하지_않는다() {
+      // Act
+      OrderHistoryRebuilder.RebuildResult result = rebuilder(10, 2).rebuild();
+
+      // Assert
+      assertThat(result.rows()).isZero();
+      assertThat(result.chunks()).isZero();
+    }
+
+    @Test
+    void 재구축이_진행_중이면_다시_요청해도_409_로_거절한다() throws Exception {
+      // Arrange
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      FakeOrderRepository blockingRepository = new FakeOrderRepository() {
+        @Override
+        public List<Long> findOrderIdsAfter(final Long afterId, final int limit) {
+          started.countDown();
+          try {
+            release.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return super.findOrderIdsAfter(afterId, limit);
+        }
+      };
+      OrderHistoryRebuildEndpoint endpoint = new OrderHistoryRebuildEndpoint(new OrderHistoryRebuilder(
+          blockingRepository, fakeOrderItemRepository, fakeOrderHistoryRepository, projector,
+          new TransactionTemplate(new FakeTransactionManager()), 10, 2));
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      Future<WebEndpointResponse<Object>> first = executor.submit(endpoint::rebuild);
+      started.await(5, TimeUnit.SECONDS);
+
+      // Act
+      WebEndpointResponse<Object> second = endpoint.rebuild();
+      release.countDown();
+
+      // Assert
+      assertThat(second.getStatus()).isEqualTo(HttpStatus.CONFLICT.value());
+      assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.example.orderservice.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Snowflake ID 발급 처리량 (JMH)
+ * - 단일 스레드 / 8 스레드 경합, 기준선: AtomicLong 증가, UUID v4
+ * - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+public class SnowflakeIdGeneratorBenchmarkTest {
+
+  @Test
+  void ID_발급_처리량() throws RunnerException {
+    Collection<RunResult> results = new Runner(new OptionsBuilder()
+        .include(SnowflakeIdGeneratorBenchmarkTest.class.getName() + ".Benchmarks")
+        .build()).run();
+
+    assertThat(results).isNotEmpty();
+  }
+
+  @State(Scope.Benchmark)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  @Fork(1)
+  public static class Benchmarks {
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+    private final AtomicLong counter = new AtomicLong();
+
+    @Benchmark
+    public long snowflake() {
+      return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long snowflakeContended() {
+      return generator.nextId();
+    }
+
+    @Benchmark
+    public long atomicIncrement() {
+      return counter.incrementAndGet();
+    }
+
+    @Benchmark
+    public UUID randomUuid() {
+      return UUID.randomUUID();
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.example.orderservice.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+  private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+  @Nested
+  class LayoutTest {
+
+    @Test
+    void ID_에서_타임스탬프_노드_시퀀스를_다시_꺼낼_수_있다() {
+      // Arrange
+      SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, () -> NOW);
+
+      // Act
+      generator.nextId();
+      long id = generator.nextId();
+
+      // Assert
+      assertThat(id).isPositive();
+      assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(NOW);
+      assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(7);
+      assertThat(SnowflakeIdGenerator.sequenceOf(id)).isEqualTo(1);
+    }
+
+    @Test
+    void 범위를_벗어난_노드_ID_는_거부한다() {
+      assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 노드_ID_가_다르면_같은_시각에도_ID_가_겹치지_않는다() {
+      // Arrange
+      SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, () -> NOW);
+      SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2, () -> NOW);
+
+      // Act & Assert
+      assertThat(node1.nextId()).isNotEqualTo(node2.nextId());
+    }
+  }
+
+  @Nested
+  class OrderingTest {
+
+    @Test
+    void 같은_ms_에_시퀀스를_다_쓰면_다음_ms_를_앞당겨_쓰고_계속_증가한다() {
+      // Arrange
+      SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+      // Act
+      long previous = 0;
+      for (int i = 0; i < 4096 * 3; i++) {
+        long id = generator.nextId();
+        assertThat(id).isGreaterThan(previous);
+        previous = id;
+      }
+
+      // Assert
+      assertThat(SnowflakeIdGenerator.timestampOf(previous)).isEqualTo(NOW + 2);
+    }
+
+    @Test
+    void 시계가_뒤로_가도_ID_는_줄어들지_않는다() {
+      // Arrange
+      AtomicLong clock = new AtomicLong(NOW);
+      SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+      long before = generator.nextId();
+
+      // Act
+      clock.set(NOW - 5_000);
+      long after = generator.nextId();
+
+      // Assert
+      assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void 시간이_지나면_시퀀스는_0_부터_다시_시작한다() {
+      // Arrange
+      AtomicLong clock = new AtomicLong(NOW);
+      SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+      generator.nextId();
+      generator.nextId();
+
+      // Act
+      clock.incrementAndGet();
+      long id = generator.nextId();
+
+      // Assert
+      assertThat(SnowflakeIdGenerator.sequenceOf(id)).isZero();
+      assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(NOW + 1);
+    }
+  }
+
+  @Nested
+  class ConcurrencyTest {
+
+    @Test
+    void 여러_스레드가_동시에_발급해도_ID_가_겹치지_않고_스레드별로_증가한다() throws Exception {
+      // Arrange
+      int threads = 16;
+      int idsPerThread = 50_000;
+      SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+      Set<Long> ids = ConcurrentHashMap.newKeySet(threads * idsPerThread);
+      CountDownLatch start = new CountDownLatch(1);
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+      // Act
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          long previous = 0;
+          boolean increasing = true;
+          for (int i = 0; i < idsPerThread; i++) {
+            long id = generator.nextId();
+            increasing &= id > previous;
+            previous = id;
+            ids.add(id);
+          }
+          return increasing;
+        }));
+      }
+      start.countDown();
+
+      // Assert
+      for (Future<Boolean> result : results) {
+        assertThat(result.get()).isTrue();
+      }
+      executor.shutdown();
+      assertThat(ids).hasSize(threads * idsPerThread);
+    }
+  }
+}
@@ -0,0 +1,270 @@
+package com.example.orderservice.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.fake.FakeIdempotencyRecordRepository;
+import com.example.orderservice.fake.FakeTransactionManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class IdempotencyServiceTest {
+
+  private FakeIdempotencyRecordRepository fakeRepository;
+  private IdempotencyService idempotencyService;
+  private AtomicInteger executions;
+
+  @BeforeEach
+  void setUp() {
+    fakeRepository = new FakeIdempotencyRecordRepository();
+    idempotencyService = newService(100);
+    executions = new AtomicInteger();
+  }
+
+  @Test
+  void 같은_키로_재시도하면_저장된_응답을_재생하고_다시_실행하지_않는다() {
+    // Act
+    OrderResponse first = idempotencyService.execute("create-order", "key-1", "request", OrderResponse.class,
+        this::createOrder);
+    OrderResponse retried = idempotencyService.execute("create-order", "key-1", "request", OrderResponse.class,
+        this::createOrder);
+
+    // Assert
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(retried).isEqualTo(first);
+    assertThat(fakeRepository.size()).isEqualTo(1);
+  }
+
+  @Test
+  void 키가_없으면_매번_실행한다() {
+    // Act
+    idempotencyService.execute("create-order", null, "request", OrderResponse.class, this::createOrder);
+    idempotencyService.execute("create-order", " ", "request", OrderResponse.class, this::createOrder);
+
+    // Assert
+    assertThat(executions.get()).isEqualTo(2);
+    assertThat(fakeRepository.size()).isZero();
+  }
+
+  @Test
+  void 같은_키로_다른_요청을_보내면_예외가_발생한다() {
+    // Arrange
+    idempotencyService.execute("create-order", "key-1", "request-A", OrderResponse.class, this::createOrder);
+
+    // Act & Assert
+    assertThatThrownBy(() -> idempotencyService.execute("create-order", "key-1", "request-B",
+        OrderResponse.class, this::createOrder))
+        .isInstanceOf(IdempotencyConflictException.class);
+  }
+
+  @Test
+  void 메모리에서_밀려난_키도_DB_기록으로_재생한다() {
+    // Arrange
+    OrderResponse first = idempotencyService.execute("create-order", "key-1", "request", OrderResponse.class,
+        this::createOrder);
+    IdempotencyService restarted = newService(100);
+
+    // Act
+    OrderResponse replayed = restarted.execute("create-order", "key-1", "request", OrderResponse.class,
+        this::createOrder);
+
+    // Assert
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(replayed).isEqualTo(first);
+  }
+
+  @Test
+  void 인메모리_캐시는_최대_개수를_넘지_않는다() {
+    // Arrange
+    IdempotencyService bounded = newService(10);
+
+    // Act
+    for (int i = 0; i < 100; i++) {
+      bounded.execute("create-order", "key-" + i, "request", OrderResponse.class, this::createOrder);
+    }
+
+    // Assert
+    assertThat(bounded.cachedEntries()).isEqualTo(10);
+  }
+
+  @Test
+  void 동시에_들어온_같은_키의_요청은_한_번만_실행된다() throws Exception {
+    // Arrange
+    int threadCount = 10;
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    List<Future<OrderResponse>> futures = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < threadCount; i++) {
+      futures.add(executor.submit(() -> idempotencyService.execute("pay-order", "key-1", 1L, OrderResponse.class,
+          () -> {
+            awaitQuietly(release);
+            return createOrder();
+          })));
+    }
+    Thread.sleep(200);
+    release.countDown();
+
+    List<OrderResponse> responses = new ArrayList<>();
+    for (Future<OrderResponse> future : futures) {
+      responses.add(future.get(5, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+
+    // Assert
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(responses).hasSize(threadCount).containsOnly(responses.get(0));
+  }
+
+  @Test
+  void 키를_선점해_커밋한_뒤에_작업을_실행한다() {
+    // Arrange
+    List<IdempotencyStatus> statusDuringAction = new ArrayList<>();
+
+    // Act
+    idempotencyService.execute("pay-order", "key-1", 1L, OrderResponse.class, () -> {
+      fakeRepository.findById("pay-order:key-1")
+          .ifPresent(record -> statusDuringAction.add(record.getStatus()));
+      return createOrder();
+    });
+
+    // Assert
+    assertThat(statusDuringAction).containsExactly(IdempotencyStatus.IN_PROGRESS);
+    assertThat(fakeRepository.findById("pay-order:key-1"))
+        .get()
+        .extracting(IdempotencyRecord::getStatus)
+        .isEqualTo(IdempotencyStatus.COMPLETED);
+  }
+
+  @Test
+  void 다른_인스턴스가_처리_중인_키는_실행하지_않고_충돌로_응답한다() {
+    // Arrange
+    IdempotencyService otherInstance = newService(100);
+    List<RuntimeException> otherResults = new ArrayList<>();
+
+    // Act
+    idempotencyService.execute("pay-order", "key-1", 1L, OrderResponse.class, () -> {
+      try {
+        otherInstance.execute("pay-order", "key-1", 1L, OrderResponse.class, this::createOrder);
+      } catch (RuntimeException e) {
+        otherResults.add(e);
+      }
+      return createOrder();
+    });
+
+    // Assert
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(otherResults).singleElement().isInstanceOf(IdempotencyConflictException.class);
+  }
+
+  @Test
+  void 작업이_실패하면_선점을_풀어_같은_키로_다시_실행할_수_있다() {
+    // Arrange
+    assertThatThrownBy(() -> idempotencyService.execute("pay-order", "key-1", 1L, OrderResponse.class, () -> {
+      throw new IllegalStateException("포인트 차감 실패");
+    })).isInstanceOf(IllegalStateException.class);
+
+    // Act
+    OrderResponse retried = idempotencyService.execute("pay-order", "key-1", 1L, OrderResponse.class,
+        this::createOrder);
+
+    // Assert
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(retried.id()).isEqualTo(1L);
+  }
+
+  @Test
+  void 처리_도중_종료되어_선점이_만료된_키는_다시_실행한다() {
+    // Arrange
+    LocalDateTime past = LocalDateTime.now().minusMinutes(2);
+    fakeRepository.save(IdempotencyRecord.claim("pay-order:key-1", "stale", past, past.plusMinutes(1)));
+
+    // Act
+    idempotencyService.execute("pay-order", "key-1", 1L, OrderResponse.class, this::createOrder);
+
+    // Assert
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(fakeRepository.findById("pay-order:key-1"))
+        .get()
+        .extracting(IdempotencyRecord::isCompleted)
+        .isEqualTo(true);
+  }
+
+  @Test
+  void 응답_저장이_일시적으로_실패하면_다시_시도해_완료한다() {
+    // Arrange
+    fakeRepository.failCompletions(2);
+
+    // Act
+    idempotencyService.execute("pay-order", "key-1", 1L, OrderResponse.class, this::createOrder);
+
+    // Assert
+    assertThat(fakeRepository.findById("pay-order:key-1"))
+        .get()
+        .extracting(IdempotencyRecord::getStatus)
+        .isEqualTo(IdempotencyStatus.COMPLETED);
+  }
+
+  @Test
+  void 응답_저장이_계속_실패하면_확인_필요로_남기고_다시_실행하지_않는다() {
+    // Arrange
+    fakeRepository.failCompletions(Integer.MAX_VALUE);
+    OrderResponse first = idempotencyService.execute("pay-order", "key-1", 1L, OrderResponse.class,
+        this::createOrder);
+    IdempotencyService otherInstance = newService(100);
+
+    // Act
+    OrderResponse replayed = idempotencyService.execute("pay-order", "key-1", 1L, OrderResponse.class,
+        this::createOrder);
+
+    // Assert
+    assertThat(replayed).isEqualTo(first);
+    assertThatThrownBy(() -> otherInstance.execute("pay-order", "key-1", 1L, OrderResponse.class,
+        this::createOrder))
+        .isInstanceOf(IdempotencyConflictException.class);
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(fakeRepository.findById("pay-order:key-1"))
+        .get()
+        .satisfies(record -> {
+          assertThat(record.getStatus()).isEqualTo(IdempotencyStatus.NEEDS_RECONCILIATION);
+          // 선점 유효 시간(1분)이 아니라 보관 기간(60분) 동안 남는다
+          assertThat(record.getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(30));
+        });
+  }
+
+  private IdempotencyService newService(int maxEntries) {
+    return new IdempotencyService(
+        fakeRepository,
+        new ObjectMapper().findAndRegisterModules(),
+        new TransactionTemplate(new FakeTransactionManager()),
+        maxEntries, 60, 5000, 60000
+    );
+  }
+
+  private OrderResponse createOrder() {
+    long id = executions.incrementAndGet();
+    return new OrderResponse(id, 1L, 1000, OrderStatus.PENDING, LocalDateTime.of(2025, 1, 1, 0, 0));
+  }
+
+  private void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.example.orderservice.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.fake.FakeOutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OutboxRelayTest {
+
+  private FakeOutboxEventRepository fakeOutboxEventRepository;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    fakeOutboxEventRepository = new FakeOutboxEventRepository();
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void 대기_중인_이벤트를_배치로_전달하고_SENT_처리한다() {
+    // Arrange
+    appendEvents(250);
+    InMemoryOutboxSink sink = new InMemoryOutboxSink(1000);
+    OutboxRelay relay = new OutboxRelay(fakeOutboxEventRepository, sink, meterRegistry, 100, 10, 500, 30000);
+
+    // Act
+    int relayed = relay.relay();
+
+    // Assert
+    assertThat(relayed).isEqualTo(250);
+    assertThat(sink.size()).isEqualTo(250);
+    assertThat(fakeOutboxEventRepository.countPendingEvents()).isZero();
+    assertThat(relay.getBacklog()).isZero();
+    assertThat(meterRegistry.counter("order.outbox.relay.published").count()).isEqualTo(250);
+  }
+
+  @Test
+  void 한_번의_폴링에서는_최대_배치_수만큼만_전달한다() {
+    // Arrange
+    appendEvents(250);
+    InMemoryOutboxSink sink = new InMemoryOutboxSink(1000);
+    OutboxRelay relay = new OutboxRelay(fakeOutboxEventRepository, sink, meterRegistry, 100, 2, 500, 30000);
+
+    // Act
+    int relayed = relay.relay();
+
+    // Assert
+    assertThat(relayed).isEqualTo(200);
+    assertThat(relay.getBacklog()).isEqualTo(50);
+  }
+
+  @Test
+  void 싱크가_거절하면_이벤트는_대기_상태로_남고_백오프한다() {
+    // Arrange
+    appendEvents(100);
+    AtomicBoolean sinkAvailable = new AtomicBoolean(false);
+    OutboxSink sink = messages -> {
+      if (!sinkAvailable.get()) {
+        throw new ApplicationException("싱크 장애");
+      }
+    };
+    OutboxRelay relay = new OutboxRelay(fakeOutboxEventRepository, sink, meterRegistry, 100, 10, 60000, 60000);
+
+    // Act
+    int firstAttempt = relay.relay();
+    sinkAvailable.set(true);
+    int duringBackoff = relay.relay();
+
+    // Assert
+    assertThat(firstAttempt).isZero();
+    assertThat(duringBackoff).isZero();
+    assertThat(fakeOutboxEventRepository.countPendingEvents()).isEqualTo(100);
+    assertThat(meterRegistry.counter("order.outbox.relay.failures").count()).isEqualTo(1);
+  }
+
+  @Test
+  void 인메모리_싱크가_가득_차면_오래된_메시지를_버리고_릴레이는_멈추지_않는다() {
+    // Arrange
+    appendEvents(100);
+    InMemoryOutboxSink sink = new InMemoryOutboxSink(50);
+    OutboxRelay relay = new OutboxRelay(fakeOutboxEventRepository, sink, meterRegistry, 30, 10, 500, 30000);
+
+    // Act
+    int relayed = relay.relay();
+
+    // Assert
+    assertThat(relayed).isEqualTo(100);
+    assertThat(sink.size()).isEqualTo(50);
+    assertThat(sink.droppedCount()).isEqualTo(50);
+    assertThat(sink.drain(1).get(0).orderId()).isEqualTo(51L);
+    assertThat(fakeOutboxEventRepository.countPendingEvents()).isZero();
+  }
+
+  private void appendEvents(int count) {
+    for (long orderId = 1; orderId <= count; orderId++) {
+      fakeOutboxEventRepository.save(
+          new OutboxEvent(orderId, OrderEventType.ORDER_CREATED, "{}", LocalDateTime.now())
+      );
+    }
+  }
+}
@@ -0,0 +1,266 @@
+package com.example.orderservice.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.orderservice.dto.request.PaymentRequest;
+import com.example.orderservice.dto.response.PaymentResponse;
+import com.example.orderservice.dto.response.PaymentStatusResponse;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.fake.FakeOrderRepository;
+import com.example.orderservice.fake.FakeOutboxEventRepository;
+import com.example.orderservice.fake.FakePaymentRepository;
+import com.example.orderservice.fake.FakePointClient;
+import com.example.orderservice.fake.FakeTransactionManager;
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OrderOutbox;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class AsyncPaymentServiceTest {
+
+  private FakeOrderRepository fakeOrderRepository;
+  private FakePaymentRepository fakePaymentRepository;
+  private FakeOutboxEventRepository fakeOutboxEventRepository;
+  private FakePointClient fakePointClient;
+  private CountDownLatch pointServiceGate;
+  private AsyncPaymentService asyncPaymentService;
+
+  @BeforeEach
+  void setUp() {
+    fakeOrderRepository = new FakeOrderRepository();
+    fakePaymentRepository = new FakePaymentRepository();
+    fakeOutboxEventRepository = new FakeOutboxEventRepository();
+    fakePointClient = new FakePointClient();
+    pointServiceGate = new CountDownLatch(0);
+
+    fakePointClient.charge(1L, 10000);
+    fakeOrderRepository.saveWithId(1L, 1L, 3000, OrderStatus.PENDING);
+
+    asyncPaymentService = createService(4, 100);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    pointServiceGate.countDown();
+    asyncPaymentService.shutdown();
+  }
+
+  private AsyncPaymentService createService(int workers, int queueCapacity) {
+    PointPaymentProcessor pointPaymentProcessor = new PointPaymentProcessor(fakePointClient);
+    // point-service 지연을 흉내 내기 위해 게이트가 열릴 때까지 대기
+    PaymentProcessor slowProcessor = new PaymentProcessor() {
+      @Override
+      public PaymentMethod method() {
+        return PaymentMethod.POINT;
+      }
+
+      @Override
+      public PaymentResponse processPayment(PaymentRequest request) {
+        try {
+          pointServiceGate.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return pointPaymentProcessor.processPayment(request);
+      }
+    };
+
+    return new AsyncPaymentService(
+        fakeOrderRepository,
+        fakePaymentRepository,
+        new PaymentProcessorRegistry(List.of(slowProcessor), new SimpleMeterRegistry(), Map.of(), 100),
+        fakePointClient,
+        new OrderOutbox(fakeOutboxEventRepository, new ObjectMapper().findAndRegisterModules()),
+        new PaymentStatusNotifier(60000),
+        new TransactionTemplate(new FakeTransactionManager()),
+        new SimpleMeterRegistry(),
+        workers,
+        queueCapacity,
+        60000,
+        100
+    );
+  }
+
+  private PaymentStatusResponse awaitFinished(Long paymentId) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    PaymentStatusResponse status = asyncPaymentService.findPaymentStatus(paymentId);
+    while (!status.status().isFinished() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+      status = asyncPaymentService.findPaymentStatus(paymentId);
+    }
+    return status;
+  }
+
+  @Nested
+  class RequestPaymentTest {
+
+    @Test
+    void 결제_요청은_포인트_차감을_기다리지_않고_PENDING_으로_접수된다() throws InterruptedException {
+      // Arrange
+      pointServiceGate = new CountDownLatch(1);
+
+      // Act
+      PaymentStatusResponse accepted = asyncPaymentService.requestPayment(1L);
+
+      // Assert
+      assertThat(accepted.paymentId()).isNotNull();
+      assertThat(accepted.status()).isEqualTo(PaymentStatus.PENDING);
+      assertThat(fakePointClient.balanceOf(1L)).isEqualTo(10000);
+
+      pointServiceGate.countDown();
+      PaymentStatusResponse finished = awaitFinished(accepted.paymentId());
+      assertThat(finished.status()).isEqualTo(PaymentStatus.SUCCESS);
+      assertThat(finished.transactionId()).startsWith("POINT_");
+      assertThat(fakePointClient.balanceOf(1L)).isEqualTo(7000);
+      assertThat(fakeOrderRepository.findById(1L).get().getStatus()).isEqualTo(OrderStatus.PAID);
+      assertThat(fakeOutboxEventRepository.findEventTypesByOrderId(1L)).containsExactly(OrderEventType.ORDER_PAID);
+    }
+
+    @Test
+    void 포인트가_부족하면_결제는_FAILED_이고_주문은_PENDING_으로_남는다() throws InterruptedException {
+      // Arrange
+      fakeOrderRepository.saveWithId(2L, 2L, 5000, OrderStatus.PENDING);
+
+      // Act
+      PaymentStatusResponse accepted = asyncPaymentService.requestPayment(2L);
+
+      // Assert
+      PaymentStatusResponse finished = awaitFinished(accepted.paymentId());
+      assertThat(finished.status()).isEqualTo(PaymentStatus.FAILED);
+      assertThat(finished.failureReason()).isNotBlank();
+      assertThat(fakeOrderRepository.findById(2L).get().getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+
+    @Test
+    void 같은_주문을_다시_요청하면_새_결제를_만들지_않고_기존_결제를_반환한다() throws InterruptedException {
+      // Arrange
+      pointServiceGate = new CountDownLatch(1);
+      PaymentStatusResponse first = asyncPaymentService.requestPayment(1L);
+
+      // Act
+      PaymentStatusResponse second = asyncPaymentService.requestPayment(1L);
+
+      // Assert
+      assertThat(second.paymentId()).isEqualTo(first.paymentId());
+      pointServiceGate.countDown();
+      awaitFinished(first.paymentId());
+      assertThat(fakePaymentRepository.findAll()).hasSize(1);
+      assertThat(fakePointClient.balanceOf(1L)).isEqualTo(7000);
+    }
+
+    @Test
+    void 주문_잠금을_기다리는_동안_다른_요청이_결제를_만들었으면_그_결제를_반환한다() {
+      // Arrange
+      Payment concurrent = new Payment(1L, 1L, 3000, PaymentMethod.POINT);
+      fakeOrderRepository.beforeLock(() -> {
+        if (fakePaymentRepository.findAll().isEmpty()) {
+          fakePaymentRepository.save(concurrent);
+        }
+      });
+
+      // Act
+      PaymentStatusResponse response = asyncPaymentService.requestPayment(1L);
+
+      // Assert
+      assertThat(response.paymentId()).isEqualTo(concurrent.getId());
+      assertThat(fakePaymentRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    void 결제_대기_중이_아닌_주문은_접수할_수_없다() {
+      // Arrange
+      fakeOrderRepository.saveWithId(3L, 1L, 1000, OrderStatus.CANCELLED);
+
+      // Act & Assert
+      assertThatThrownBy(() -> asyncPaymentService.requestPayment(3L))
+          .isInstanceOf(ApplicationException.class)
+          .hasMessageContaining("결제 대기 중인 주문이 아닙니다");
+      assertThat(fakePaymentRepository.findAll()).isEmpty();
+    }
+  }
+
+  @Nested
+  class BackpressureTest {
+
+    @Test
+    void 대기열이_가득_차면_503_예외를_던지고_결제를_FAILED_로_남긴다() throws InterruptedException {
+      // Arrange - 워커 1개, 대기열 1개
+      asyncPaymentService.shutdown();
+      pointServiceGate = new CountDownLatch(1);
+      asyncPaymentService = createService(1, 1);
+      fakeOrderRepository.saveWithId(2L, 1L, 1000, OrderStatus.PENDING);
+      fakeOrderRepository.saveWithId(3L, 1L, 1000, OrderStatus.PENDING);
+
+      asyncPaymentService.requestPayment(1L); // 워커가 처리 중
+      awaitStatus(1L, PaymentStatus.PROCESSING);
+      asyncPaymentService.requestPayment(2L); // 대기열
+
+      // Act & Assert
+      assertThatThrownBy(() -> asyncPaymentService.requestPayment(3L))
+          .isInstanceOf(PaymentQueueFullException.class);
+      assertThat(fakePaymentRepository.findActivePaymentByOrderId(3L)).isEmpty();
+      assertThat(fakeOrderRepository.findById(3L).get().getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+
+    @Test
+    void 결제_응답이_유실되면_UNKNOWN_으로_남기고_같은_주문의_재결제를_막는다() throws InterruptedException {
+      // Arrange
+      fakePointClient.setTimeoutAfterDeduct(true);
+
+      // Act
+      PaymentStatusResponse accepted = asyncPaymentService.requestPayment(1L);
+      awaitStatus(accepted.paymentId(), PaymentStatus.UNKNOWN);
+      PaymentStatusResponse retried = asyncPaymentService.requestPayment(1L);
+
+      // Assert
+      PaymentStatusResponse status = asyncPaymentService.findPaymentStatus(accepted.paymentId());
+      assertThat(status.status()).isEqualTo(PaymentStatus.UNKNOWN);
+      assertThat(status.failureReason()).startsWith("결제 결과 확인 필요");
+      assertThat(retried.paymentId()).isEqualTo(accepted.paymentId());
+      assertThat(fakePaymentRepository.findAll()).hasSize(1);
+      assertThat(fakePointClient.balanceOf(1L)).isEqualTo(7000);
+      assertThat(fakeOrderRepository.findById(1L).get().getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+
+    private void awaitStatus(Long paymentId, PaymentStatus expected) throws InterruptedException {
+      long deadline = System.currentTimeMillis() + 5000;
+      while (asyncPaymentService.findPaymentStatus(paymentId).status() != expected
+          && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+    }
+  }
+
+  @Nested
+  class CancelledDuringPaymentTest {
+
+    @Test
+    void 결제_중_주문이_취소되면_결제는_FAILED_이고_차감된_포인트를_환불한다() throws InterruptedException {
+      // Arrange
+      pointServiceGate = new CountDownLatch(1);
+      PaymentStatusResponse accepted = asyncPaymentService.requestPayment(1L);
+
+      // Act
+      fakeOrderRepository.findById(1L).get().cancel();
+      pointServiceGate.countDown();
+
+      // Assert
+      PaymentStatusResponse finished = awaitFinished(accepted.paymentId());
+      assertThat(finished.status()).isEqualTo(PaymentStatus.FAILED);
+      assertThat(finished.failureReason()).contains("CANCELLED");
+      assertThat(fakePointClient.balanceOf(1L)).isEqualTo(10000);
+      assertThat(fakeOrderRepository.findById(1L).get().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+  }
+}
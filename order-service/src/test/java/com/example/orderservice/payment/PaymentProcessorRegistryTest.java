@@ -0,0 +1,169 @@
+package com.example.orderservice.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.orderservice.dto.request.PaymentRequest;
+import com.example.orderservice.dto.response.PaymentResponse;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.fake.FakePointClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PaymentProcessorRegistryTest {
+
+  private FakePointClient fakePointClient;
+  private CountDownLatch cardGatewayGate;
+  private SimpleMeterRegistry meterRegistry;
+  private PaymentProcessorRegistry registry;
+  private ExecutorService callers;
+
+  @BeforeEach
+  void setUp() {
+    fakePointClient = new FakePointClient();
+    fakePointClient.charge(1L, 10000);
+    cardGatewayGate = new CountDownLatch(1);
+    meterRegistry = new SimpleMeterRegistry();
+    callers = Executors.newFixedThreadPool(4);
+
+    // 게이트가 열릴 때까지 응답하지 않는 카드 게이트웨이
+    PaymentProcessor hangingCardProcessor = new PaymentProcessor() {
+      @Override
+      public PaymentMethod method() {
+        return PaymentMethod.CARD;
+      }
+
+      @Override
+      public PaymentResponse processPayment(PaymentRequest request) {
+        try {
+          cardGatewayGate.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return PaymentResponse.success("CARD_TEST");
+      }
+    };
+
+    registry = new PaymentProcessorRegistry(
+        List.of(new PointPaymentProcessor(fakePointClient), hangingCardProcessor),
+        meterRegistry,
+        Map.of(PaymentMethod.POINT, 5, PaymentMethod.CARD, 2),
+        50
+    );
+  }
+
+  @AfterEach
+  void tearDown() {
+    cardGatewayGate.countDown();
+    callers.shutdownNow();
+  }
+
+  private PaymentRequest request(PaymentMethod method) {
+    return new PaymentRequest(1L, 1L, 1000, method);
+  }
+
+  private void occupyCardBulkhead() throws InterruptedException {
+    callers.submit(() -> registry.processPayment(request(PaymentMethod.CARD)));
+    callers.submit(() -> registry.processPayment(request(PaymentMethod.CARD)));
+    long deadline = System.currentTimeMillis() + 5000;
+    while (registry.availableCalls(PaymentMethod.CARD) > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  @Nested
+  class RoutingTest {
+
+    @Test
+    void 결제_수단에_맞는_프로세서로_라우팅한다() {
+      // Arrange
+      cardGatewayGate.countDown();
+
+      // Act
+      PaymentResponse point = registry.processPayment(request(PaymentMethod.POINT));
+      PaymentResponse card = registry.processPayment(request(PaymentMethod.CARD));
+
+      // Assert
+      assertThat(point.transactionId()).startsWith("POINT_");
+      assertThat(card.transactionId()).isEqualTo("CARD_TEST");
+      assertThat(fakePointClient.balanceOf(1L)).isEqualTo(9000);
+    }
+
+    @Test
+    void 등록되지_않은_결제_수단은_예외를_던진다() {
+      // Arrange
+      PaymentProcessorRegistry pointOnly = new PaymentProcessorRegistry(
+          List.of(new PointPaymentProcessor(fakePointClient)), meterRegistry, Map.of(), 50);
+
+      // Act & Assert
+      assertThat(pointOnly.supports(PaymentMethod.CARD)).isFalse();
+      assertThatThrownBy(() -> pointOnly.processPayment(request(PaymentMethod.CARD)))
+          .isInstanceOf(ApplicationException.class)
+          .hasMessageContaining("지원하지 않는 결제 수단");
+    }
+
+    @Test
+    void 같은_결제_수단의_프로세서가_둘이면_등록에_실패한다() {
+      // Act & Assert
+      assertThatThrownBy(() -> new PaymentProcessorRegistry(
+          List.of(new PointPaymentProcessor(fakePointClient), new PointPaymentProcessor(fakePointClient)),
+          meterRegistry, Map.of(), 50))
+          .isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Nested
+  class BulkheadTest {
+
+    @Test
+    void 카드_벌크헤드가_가득_차면_카드_결제는_거절된다() throws InterruptedException {
+      // Arrange
+      occupyCardBulkhead();
+
+      // Act & Assert
+      assertThatThrownBy(() -> registry.processPayment(request(PaymentMethod.CARD)))
+          .isInstanceOf(PaymentBulkheadFullException.class);
+      assertThat(meterRegistry.get("order.payment.bulkhead.rejected").tag("method", "CARD").counter().count())
+          .isEqualTo(1.0);
+    }
+
+    @Test
+    void 카드_게이트웨이가_멈춰도_포인트_결제는_영향을_받지_않는다() throws InterruptedException {
+      // Arrange
+      occupyCardBulkhead();
+
+      // Act
+      long start = System.nanoTime();
+      PaymentResponse response = registry.processPayment(request(PaymentMethod.POINT));
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      // Assert
+      assertThat(response.status()).isEqualTo(PaymentStatus.SUCCESS);
+      assertThat(elapsedMillis).isLessThan(1000);
+      assertThat(meterRegistry.get("order.payment.bulkhead.saturation").tag("method", "CARD").gauge().value())
+          .isEqualTo(1.0);
+      assertThat(meterRegistry.get("order.payment.bulkhead.saturation").tag("method", "POINT").gauge().value())
+          .isEqualTo(0.0);
+    }
+
+    @Test
+    void 결제가_끝나면_허용량을_반환하고_지연_시간을_기록한다() {
+      // Act
+      registry.processPayment(request(PaymentMethod.POINT));
+
+      // Assert
+      assertThat(registry.availableCalls(PaymentMethod.POINT)).isEqualTo(5);
+      assertThat(meterRegistry.get("order.payment.latency")
+          .tags("method", "POINT", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.orderservice.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 주문 요청 제한 판정 지연 (JMH)
+ * - 서로 다른 회원 1만 명, 8 스레드 경합: 허용 위주(넉넉한 제한) / 거절 위주(회원별 제한 소진)
+ * - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+public class OrderRateLimiterBenchmarkTest {
+
+  private static final int MEMBERS = 10_000;
+
+  @Test
+  void 요청_제한_판정_지연() throws RunnerException {
+    Collection<RunResult> results = new Runner(new OptionsBuilder()
+        .include(OrderRateLimiterBenchmarkTest.class.getName() + ".Benchmarks")
+        .build()).run();
+
+    assertThat(results).isNotEmpty();
+  }
+
+  @State(Scope.Benchmark)
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  @Fork(1)
+  public static class Benchmarks {
+
+    private final OrderRateLimiter permissive = new OrderRateLimiter(new SimpleMeterRegistry(), true,
+        1_000_000, 1_000_000, 100_000_000, 100_000_000, 16, System::nanoTime);
+    private final OrderRateLimiter saturated = new OrderRateLimiter(new SimpleMeterRegistry(), true,
+        0.001, 1, 100_000_000, 100_000_000, 16, System::nanoTime);
+
+    @Benchmark
+    @Threads(8)
+    public boolean allowed() {
+      return tryAcquire(permissive);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean rejected() {
+      return tryAcquire(saturated);
+    }
+
+    private static boolean tryAcquire(final OrderRateLimiter limiter) {
+      try {
+        limiter.acquire((long) ThreadLocalRandom.current().nextInt(MEMBERS));
+        return true;
+      } catch (RateLimitExceededException e) {
+        return false;
+      }
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.example.orderservice.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OrderRateLimiterTest {
+
+  private AtomicLong clock;
+  private SimpleMeterRegistry meterRegistry;
+  private OrderRateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    clock = new AtomicLong();
+    meterRegistry = new SimpleMeterRegistry();
+    // 회원별 초당 1건(burst 2), 전체 초당 100건(burst 5)
+    rateLimiter = new OrderRateLimiter(meterRegistry, true, 1, 2, 100, 5, 4, clock::get);
+  }
+
+  @Test
+  void 회원별_제한을_넘으면_429_예외와_재시도_시간을_알려준다() {
+    // Arrange
+    rateLimiter.acquire(1L);
+    rateLimiter.acquire(1L);
+
+    // Act & Assert
+    assertThatThrownBy(() -> rateLimiter.acquire(1L))
+        .isInstanceOf(RateLimitExceededException.class)
+        .satisfies(e -> assertThat(((RateLimitExceededException) e).getRetryAfterSeconds()).isEqualTo(1));
+    assertThat(meterRegistry.counter("order.rate-limit.rejected", "scope", "member").count()).isEqualTo(1);
+  }
+
+  @Test
+  void 한_회원이_제한에_걸려도_다른_회원은_주문할_수_있다() {
+    // Arrange
+    rateLimiter.acquire(1L);
+    rateLimiter.acquire(1L);
+
+    // Act & Assert
+    assertThatNoException().isThrownBy(() -> rateLimiter.acquire(2L));
+  }
+
+  @Test
+  void 회원별_제한에_걸린_요청은_전체_버킷을_소진하지_않는다() {
+    // Arrange - 회원 1이 10번 시도 (2건만 통과)
+    for (int i = 0; i < 10; i++) {
+      try {
+        rateLimiter.acquire(1L);
+      } catch (RateLimitExceededException ignored) {
+      }
+    }
+
+    // Act & Assert - 전체 burst 5 중 3건이 남아 있다
+    rateLimiter.acquire(2L);
+    rateLimiter.acquire(3L);
+    rateLimiter.acquire(4L);
+    assertThatThrownBy(() -> rateLimiter.acquire(5L)).isInstanceOf(RateLimitExceededException.class);
+    assertThat(meterRegistry.counter("order.rate-limit.rejected", "scope", "global").count()).isEqualTo(1);
+  }
+
+  @Test
+  void 시간이_지나면_다시_주문할_수_있다() {
+    // Arrange
+    rateLimiter.acquire(1L);
+    rateLimiter.acquire(1L);
+
+    // Act
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+    // Assert
+    assertThatNoException().isThrownBy(() -> rateLimiter.acquire(1L));
+  }
+
+  @Test
+  void 한동안_요청이_없던_회원의_버킷만_제거한다() {
+    // Arrange
+    rateLimiter.acquire(1L);
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+    rateLimiter.acquire(2L);
+
+    // Act
+    int evicted = rateLimiter.evictIdle();
+
+    // Assert
+    assertThat(evicted).isEqualTo(1);
+    assertThat(rateLimiter.trackedMembers()).isEqualTo(1);
+  }
+
+  @Test
+  void 비활성화하면_모든_요청을_허용한다() {
+    // Arrange
+    OrderRateLimiter disabled = new OrderRateLimiter(meterRegistry, false, 1, 1, 1, 1, 4, clock::get);
+
+    // Act & Assert
+    assertThatNoException().isThrownBy(() -> {
+      for (int i = 0; i < 100; i++) {
+        disabled.acquire(1L);
+      }
+    });
+    assertThat(disabled.trackedMembers()).isZero();
+  }
+}
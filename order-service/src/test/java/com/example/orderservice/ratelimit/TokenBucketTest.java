@@ -0,0 +1,79 @@
+package com.example.orderservice.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  void 가득_찬_버킷은_burst_만큼_허용하고_그_다음은_거절한다() {
+    // Arrange
+    TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+    // Act & Assert
+    assertThat(bucket.tryAcquire(0)).isTrue();
+    assertThat(bucket.tryAcquire(0)).isTrue();
+    assertThat(bucket.tryAcquire(0)).isTrue();
+    assertThat(bucket.tryAcquire(0)).isFalse();
+  }
+
+  @Test
+  void 시간이_지나면_초당_rate_만큼_다시_채워진다() {
+    // Arrange - 초당 10개 = 100ms 마다 1개
+    TokenBucket bucket = new TokenBucket(10, 1, 0);
+    bucket.tryAcquire(0);
+
+    // Act & Assert
+    assertThat(bucket.tryAcquire(SECOND / 20)).isFalse();
+    assertThat(bucket.nanosUntilAvailable(SECOND / 20)).isEqualTo(SECOND / 20);
+    assertThat(bucket.tryAcquire(SECOND / 10)).isTrue();
+  }
+
+  @Test
+  void 오래_쉬어도_burst_이상은_쌓이지_않는다() {
+    // Arrange
+    TokenBucket bucket = new TokenBucket(10, 2, 0);
+
+    // Act
+    long later = 60 * SECOND;
+
+    // Assert
+    assertThat(bucket.isFull(later)).isTrue();
+    assertThat(bucket.tryAcquire(later)).isTrue();
+    assertThat(bucket.tryAcquire(later)).isTrue();
+    assertThat(bucket.tryAcquire(later)).isFalse();
+    assertThat(bucket.isFull(later)).isFalse();
+  }
+
+  @Test
+  void 동시에_요청해도_burst_를_초과해_허용하지_않는다() throws InterruptedException {
+    // Arrange
+    TokenBucket bucket = new TokenBucket(1, 100, 0);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch done = new CountDownLatch(1000);
+    AtomicInteger allowed = new AtomicInteger();
+
+    // Act - 시각 고정: 보충 없이 burst 만 사용
+    for (int i = 0; i < 1000; i++) {
+      executor.submit(() -> {
+        if (bucket.tryAcquire(0)) {
+          allowed.incrementAndGet();
+        }
+        done.countDown();
+      });
+    }
+    done.await(5, TimeUnit.SECONDS);
+    executor.shutdown();
+
+    // Assert
+    assertThat(allowed.get()).isEqualTo(100);
+  }
+}
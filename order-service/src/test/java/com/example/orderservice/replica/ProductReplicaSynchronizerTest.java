@@ -0,0 +1,199 @@
+package com.example.orderservice.replica;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.dto.request.OrderItemRequest;
+import com.example.orderservice.dto.response.ProductChangeResponse;
+import com.example.orderservice.dto.response.ProductResponse;
+import com.example.orderservice.fake.FakeOrderItemRepository;
+import com.example.orderservice.fake.FakeProductClient;
+import com.example.orderservice.service.OrderItemService;
+import com.example.orderservice.service.OrderLine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProductReplicaSynchronizerTest {
+
+  private static final Duration MAX_STALENESS = Duration.ofSeconds(10);
+
+  private FakeProductClient fakeProductClient;
+  private MutableClock clock;
+  private ProductReplica replica;
+  private ProductReplicaSynchronizer synchronizer;
+
+  @BeforeEach
+  void setUp() {
+    fakeProductClient = new FakeProductClient();
+    fakeProductClient.addProduct(1L, "연필", 500, 10);
+    fakeProductClient.addProduct(2L, "지우개", 300, 20);
+
+    clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    replica = new ProductReplica(new SimpleMeterRegistry(), MAX_STALENESS, clock);
+    synchronizer = createSynchronizer(replica, "");
+  }
+
+  private ProductReplicaSynchronizer createSynchronizer(ProductReplica target, String snapshotPath) {
+    return new ProductReplicaSynchronizer(fakeProductClient, target, new ObjectMapper().findAndRegisterModules(),
+        2, 10, 1, snapshotPath);
+  }
+
+  @Nested
+  class SyncTest {
+
+    @Test
+    void 최초_동기화에서_전체_상품을_적재한다() {
+      // Act
+      synchronizer.sync();
+
+      // Assert
+      assertThat(replica.isFresh()).isTrue();
+      assertThat(replica.find(1L)).contains(new ProductResponse(1L, "연필", 500, null));
+      assertThat(replica.find(2L)).contains(new ProductResponse(2L, "지우개", 300, null));
+    }
+
+    @Test
+    void 이후_동기화는_변경_이력만_반영한다() {
+      // Arrange
+      synchronizer.sync();
+      fakeProductClient.updateProduct(1L, "연필", 700);
+      fakeProductClient.updateProduct(3L, "공책", 1000);
+      fakeProductClient.updateProduct(3L, "공책(대)", 1500);
+      fakeProductClient.deleteProduct(2L);
+
+      // Act
+      int applied = synchronizer.sync();
+
+      // Assert - 배치 크기(2)를 넘는 변경도 한 주기 안에 모두 반영
+      assertThat(applied).isEqualTo(4);
+      assertThat(replica.find(1L).map(ProductResponse::price)).contains(700);
+      assertThat(replica.find(3L).map(ProductResponse::name)).contains("공책(대)");
+      assertThat(replica.find(2L)).isEmpty();
+      assertThat(replica.cursor()).isEqualTo(4L);
+    }
+
+    @Test
+    void 이미_더_최신_변경을_반영한_상품에는_오래된_변경을_덮어쓰지_않는다() {
+      // Arrange
+      synchronizer.sync();
+      replica.apply(new ProductChangeResponse(5L, 1L, ProductChangeType.UPDATED, "연필", 900, null));
+
+      // Act - 커밋이 늦게 도착한 이전 변경
+      replica.apply(new ProductChangeResponse(4L, 1L, ProductChangeType.UPDATED, "연필", 600, null));
+
+      // Assert
+      assertThat(replica.find(1L).map(ProductResponse::price)).contains(900);
+    }
+  }
+
+  @Nested
+  class StalenessTest {
+
+    @Test
+    void 동기화가_허용_지연보다_오래_실패하면_복제본을_조회하지_않는다() {
+      // Arrange
+      synchronizer.sync();
+      fakeProductClient.setCatalogAvailable(false);
+
+      // Act
+      clock.advance(MAX_STALENESS.plusSeconds(1));
+      synchronizer.sync();
+
+      // Assert
+      assertThat(replica.isFresh()).isFalse();
+      assertThat(replica.find(1L)).isEmpty();
+    }
+
+    @Test
+    void 복제본이_최신이면_주문_라인을_원격_조회_없이_만든다() {
+      // Arrange
+      synchronizer.sync();
+      OrderItemService orderItemService =
+          new OrderItemService(new FakeOrderItemRepository(), fakeProductClient, replica);
+
+      // Act
+      List<OrderLine> lines = orderItemService.loadOrderLines(List.of(new OrderItemRequest(1L, 2)));
+
+      // Assert
+      assertThat(lines.get(0).totalPrice()).isEqualTo(1000);
+      assertThat(fakeProductClient.findProductByIdCalls()).isZero();
+    }
+
+    @Test
+    void 복제본이_오래되면_원격으로_조회하고_재고를_검증한다() {
+      // Arrange
+      synchronizer.sync();
+      clock.advance(MAX_STALENESS.plusSeconds(1));
+      OrderItemService orderItemService =
+          new OrderItemService(new FakeOrderItemRepository(), fakeProductClient, replica);
+
+      // Act
+      List<OrderLine> lines = orderItemService.loadOrderLines(List.of(new OrderItemRequest(1L, 2)));
+
+      // Assert
+      assertThat(lines.get(0).product().stock()).isEqualTo(10);
+      assertThat(fakeProductClient.findProductByIdCalls()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  class SnapshotTest {
+
+    @Test
+    void 디스크_스냅샷으로_재시작_후_이어서_동기화한다(@TempDir Path dir) {
+      // Arrange
+      String snapshotPath = dir.resolve("product-replica.json").toString();
+      createSynchronizer(replica, snapshotPath).sync();
+      fakeProductClient.updateProduct(1L, "연필", 800);
+
+      // Act - 재시작: 스냅샷 복원 후 변경분만 받음
+      ProductReplica restarted = new ProductReplica(new SimpleMeterRegistry(), MAX_STALENESS, clock);
+      ProductReplicaSynchronizer restartedSynchronizer = createSynchronizer(restarted, snapshotPath);
+      restartedSynchronizer.restoreSnapshot();
+      int applied = restartedSynchronizer.sync();
+
+      // Assert
+      assertThat(applied).isEqualTo(1);
+      assertThat(restarted.find(1L).map(ProductResponse::price)).contains(800);
+      assertThat(restarted.find(2L).map(ProductResponse::name)).contains("지우개");
+    }
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant now;
+
+    private MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
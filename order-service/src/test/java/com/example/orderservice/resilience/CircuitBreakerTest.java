@@ -0,0 +1,128 @@
+package com.example.orderservice.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private AtomicLong clock;
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    clock = new AtomicLong();
+    // 최근 10건 중 최소 4건 이상, 실패율 50% 이상이면 OPEN / 1초 후 2건 시험 호출
+    circuitBreaker = new CircuitBreaker(10, 4, 0.5, Duration.ofSeconds(1), 2, clock::get);
+  }
+
+  private void call(boolean success) {
+    assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    if (success) {
+      circuitBreaker.onSuccess();
+    } else {
+      circuitBreaker.onFailure();
+    }
+  }
+
+  @Nested
+  class ClosedTest {
+
+    @Test
+    void 최소_호출_수_전에는_모두_실패해도_열리지_않는다() {
+      // Act
+      call(false);
+      call(false);
+      call(false);
+
+      // Assert
+      assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 실패율이_임계치를_넘으면_열리고_호출을_거절한다() {
+      // Act
+      call(true);
+      call(true);
+      call(false);
+      call(false);
+
+      // Assert
+      assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+      assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void 오래된_실패는_슬라이딩_윈도우에서_밀려난다() {
+      // Arrange - 최소 호출 수 전의 실패 3건 후 성공 10건 (윈도우에서 실패가 모두 밀려남)
+      for (int i = 0; i < 3; i++) {
+        call(false);
+      }
+      for (int i = 0; i < 10; i++) {
+        call(true);
+      }
+
+      // Act - 최근 10건 중 실패 4건 (40%)
+      for (int i = 0; i < 4; i++) {
+        call(false);
+      }
+
+      // Assert
+      assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+  }
+
+  @Nested
+  class HalfOpenTest {
+
+    @BeforeEach
+    void open() {
+      for (int i = 0; i < 4; i++) {
+        call(false);
+      }
+    }
+
+    @Test
+    void 대기_시간이_지나면_정해진_수만큼만_시험_호출을_허용한다() {
+      // Act
+      clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+      // Assert
+      assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+      assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+      assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+      assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void 시험_호출이_모두_성공하면_닫힌다() {
+      // Arrange
+      clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+      // Act
+      call(true);
+      call(true);
+
+      // Assert
+      assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 시험_호출이_실패하면_다시_열린다() {
+      // Arrange
+      clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+      // Act
+      call(true);
+      call(false);
+
+      // Assert
+      assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+      assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.example.orderservice.resilience;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * product-service 한 대가 느려졌을 때 주문 1건(상품 조회 3회)의 p99 비교
+ * - 스텁 서버 응답 지연: 로그 정규분포 (중앙값 20ms, 꼬리 수 초)
+ * - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class DegradedDependencyBenchmarkTest {
+
+  private static final int ORDERS = 400;
+  private static final int CONCURRENCY = 16;
+  private static final int LOOKUPS_PER_ORDER = 3;
+
+  private WireMockServer productService;
+  private HttpClient httpClient;
+  private DependencyGuard guard;
+
+  @BeforeEach
+  void setUp() {
+    productService = new WireMockServer(options().dynamicPort());
+    productService.start();
+    productService.stubFor(get(urlPathMatching("/api/products/\\d+"))
+        .willReturn(aResponse()
+            .withHeader("Content-Type", "application/json")
+            .withBody("{\"id\":1,\"name\":\"연필\",\"price\":500,\"stock\":100}")
+            .withLogNormalRandomDelay(20, 1.5)));
+
+    httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    guard = new DependencyGuard("product-service",
+        new CircuitBreaker(50, 20, 0.5, Duration.ofSeconds(5), 3),
+        new RetryBudget(0.1, 20),
+        64,
+        new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    guard.shutdown();
+    productService.stop();
+  }
+
+  @Test
+  void 의존_서비스가_느려져도_가드를_거치면_주문_p99가_마감_시간_안에_머문다() throws Exception {
+    // Arrange
+    CallPolicy policy = CallPolicy.idempotent(Duration.ofMillis(500), 1, Duration.ofMillis(100));
+
+    // Act
+    Result unguarded = runOrders(productId -> findProduct(productId));
+    Result guarded = runOrders(productId -> guard.call("findProductById", policy, () -> findProduct(productId)));
+
+    // Assert
+    System.out.printf("[benchmark] 보호 없음  - p50: %dms, p99: %dms, 실패: %d/%d%n",
+        unguarded.percentile(50), unguarded.percentile(99), unguarded.failures, ORDERS);
+    System.out.printf("[benchmark] 가드 적용  - p50: %dms, p99: %dms, 실패: %d/%d%n",
+        guarded.percentile(50), guarded.percentile(99), guarded.failures, ORDERS);
+
+    assertThat(guarded.percentile(99)).isLessThan(unguarded.percentile(99));
+  }
+
+  private String findProduct(Long productId) {
+    HttpRequest request = HttpRequest.newBuilder(
+        URI.create("http://localhost:" + productService.port() + "/api/products/" + productId)).GET().build();
+    try {
+      return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private Result runOrders(Function<Long, String> lookup) throws Exception {
+    ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+    List<Future<Long>> futures = new ArrayList<>();
+    for (int i = 0; i < ORDERS; i++) {
+      futures.add(callers.submit(() -> {
+        long start = System.nanoTime();
+        try {
+          for (long productId = 1; productId <= LOOKUPS_PER_ORDER; productId++) {
+            lookup.apply(productId);
+          }
+          return (System.nanoTime() - start) / 1_000_000;
+        } catch (RuntimeException e) {
+          return -((System.nanoTime() - start) / 1_000_000) - 1; // 실패는 음수로 표시
+        }
+      }));
+    }
+
+    List<Long> latencies = new ArrayList<>();
+    int failures = 0;
+    for (Future<Long> future : futures) {
+      long millis = future.get();
+      if (millis < 0) {
+        failures++;
+        millis = -millis - 1;
+      }
+      latencies.add(millis);
+    }
+    callers.shutdown();
+    Collections.sort(latencies);
+    return new Result(latencies, failures);
+  }
+
+  private record Result(List<Long> sortedLatencies, int failures) {
+
+    long percentile(int percentile) {
+      int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.size()) - 1;
+      return sortedLatencies.get(Math.max(0, index));
+    }
+  }
+}
@@ -0,0 +1,221 @@
+package com.example.orderservice.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.orderservice.exception.ApplicationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DependencyGuardTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private DependencyGuard guard;
+  private AtomicInteger attempts;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    guard = createGuard(new RetryBudget(0.1, 10));
+    attempts = new AtomicInteger();
+  }
+
+  @AfterEach
+  void tearDown() {
+    guard.shutdown();
+  }
+
+  private DependencyGuard createGuard(RetryBudget retryBudget) {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(10, 4, 0.5, Duration.ofSeconds(30), 1);
+    return new DependencyGuard("product-service", circuitBreaker, retryBudget, 8, meterRegistry);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Nested
+  class DeadlineTest {
+
+    @Test
+    void 마감_시간_안에_응답하지_않으면_기다리지_않고_타임아웃_예외를_던진다() {
+      // Arrange
+      CallPolicy policy = CallPolicy.of(Duration.ofMillis(100));
+
+      // Act
+      long start = System.nanoTime();
+      assertThatThrownBy(() -> guard.call("findProductById", policy, () -> {
+        sleep(2000);
+        return "late";
+      })).isInstanceOf(DependencyTimeoutException.class);
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      // Assert
+      assertThat(elapsedMillis).isLessThan(1000);
+    }
+
+    @Test
+    void 마감_시간이_지난_호출은_인터럽트해_풀_스레드를_돌려받는다() throws InterruptedException {
+      // Arrange
+      CallPolicy policy = CallPolicy.of(Duration.ofMillis(100));
+      CountDownLatch interrupted = new CountDownLatch(1);
+
+      // Act
+      assertThatThrownBy(() -> guard.call("findProductById", policy, () -> {
+        try {
+          Thread.sleep(5000);
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+        }
+        return "late";
+      })).isInstanceOf(DependencyTimeoutException.class);
+
+      // Assert
+      assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void 비즈니스_예외는_장애로_세지_않고_그대로_던진다() {
+      // Arrange
+      CallPolicy policy = CallPolicy.idempotent(Duration.ofMillis(500), 3, null);
+
+      // Act & Assert
+      for (int i = 0; i < 10; i++) {
+        assertThatThrownBy(() -> guard.call("findProductById", policy, () -> {
+          attempts.incrementAndGet();
+          throw new ApplicationException("상품 없음");
+        })).isExactlyInstanceOf(ApplicationException.class);
+      }
+      assertThat(attempts.get()).isEqualTo(10); // 재시도 없음
+      assertThat(guard.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+  }
+
+  @Nested
+  class RetryTest {
+
+    @Test
+    void 멱등한_호출은_장애_시_재시도해서_성공한다() {
+      // Arrange
+      CallPolicy policy = CallPolicy.idempotent(Duration.ofMillis(500), 1, null);
+
+      // Act
+      String result = guard.call("findProductById", policy, () -> {
+        if (attempts.incrementAndGet() == 1) {
+          throw new IllegalStateException("503 Service Unavailable");
+        }
+        return "ok";
+      });
+
+      // Assert
+      assertThat(result).isEqualTo("ok");
+      assertThat(attempts.get()).isEqualTo(2);
+      assertThat(meterRegistry.get("order.dependency.retries").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 재시도_예산이_바닥나면_재시도하지_않는다() {
+      // Arrange - 적립 없이 재시도 1회분만 보유
+      guard.shutdown();
+      guard = createGuard(new RetryBudget(0.0, 1));
+      CallPolicy policy = CallPolicy.idempotent(Duration.ofMillis(500), 3, null);
+
+      // Act
+      assertThatThrownBy(() -> guard.call("findProductById", policy, () -> {
+        attempts.incrementAndGet();
+        throw new IllegalStateException("503 Service Unavailable");
+      })).isInstanceOf(IllegalStateException.class);
+
+      // Assert - 최초 1회 + 예산으로 허용된 재시도 1회
+      assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 멱등하지_않은_호출은_재시도하지_않는다() {
+      // Act
+      assertThatThrownBy(() -> guard.call("reduceStock", CallPolicy.of(Duration.ofMillis(500)), () -> {
+        attempts.incrementAndGet();
+        throw new IllegalStateException("503 Service Unavailable");
+      })).isInstanceOf(IllegalStateException.class);
+
+      // Assert
+      assertThat(attempts.get()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  class HedgingTest {
+
+    @Test
+    void 첫_요청이_느리면_헤지_요청의_응답을_사용한다() {
+      // Arrange
+      CallPolicy policy = CallPolicy.idempotent(Duration.ofMillis(1000), 0, Duration.ofMillis(50));
+
+      // Act
+      long start = System.nanoTime();
+      String result = guard.call("findProductById", policy, () -> {
+        if (attempts.incrementAndGet() == 1) {
+          sleep(2000);
+          return "slow";
+        }
+        return "hedged";
+      });
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      // Assert
+      assertThat(result).isEqualTo("hedged");
+      assertThat(elapsedMillis).isLessThan(1000);
+      assertThat(meterRegistry.get("order.dependency.hedges").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 첫_요청이_빠르면_헤지_요청을_보내지_않는다() {
+      // Arrange
+      CallPolicy policy = CallPolicy.idempotent(Duration.ofMillis(1000), 0, Duration.ofMillis(200));
+
+      // Act
+      String result = guard.call("findProductById", policy, () -> {
+        attempts.incrementAndGet();
+        return "fast";
+      });
+
+      // Assert
+      assertThat(result).isEqualTo("fast");
+      assertThat(attempts.get()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  class CircuitTest {
+
+    @Test
+    void 장애가_이어지면_서킷이_열리고_이후_호출은_바로_거절된다() {
+      // Arrange
+      CallPolicy policy = CallPolicy.of(Duration.ofMillis(500));
+      for (int i = 0; i < 4; i++) {
+        assertThatThrownBy(() -> guard.call("reduceStock", policy, () -> {
+          throw new IllegalStateException("503 Service Unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+      }
+
+      // Act & Assert
+      assertThat(guard.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+      assertThatThrownBy(() -> guard.call("reduceStock", policy, () -> {
+        attempts.incrementAndGet();
+        return null;
+      })).isInstanceOf(DependencyUnavailableException.class);
+      assertThat(attempts.get()).isZero();
+    }
+  }
+}
@@ -0,0 +1,246 @@
+package com.example.orderservice.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.orderservice.dto.request.CreateOrderRequest;
+import com.example.orderservice.dto.request.OrderItemRequest;
+import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.fake.FakeCompensationTaskRepository;
+import com.example.orderservice.fake.FakeOrderItemRepository;
+import com.example.orderservice.fake.FakeOrderRepository;
+import com.example.orderservice.fake.FakeOrderSagaRepository;
+import com.example.orderservice.fake.FakeOutboxEventRepository;
+import com.example.orderservice.fake.FakePaymentRepository;
+import com.example.orderservice.fake.FakePointClient;
+import com.example.orderservice.fake.FakeProductClient;
+import com.example.orderservice.fake.FakeTransactionManager;
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OrderOutbox;
+import com.example.orderservice.payment.Payment;
+import com.example.orderservice.payment.PaymentMethod;
+import com.example.orderservice.payment.PaymentProcessorRegistry;
+import com.example.orderservice.payment.PointPaymentProcessor;
+import com.example.orderservice.replica.ProductReplica;
+import com.example.orderservice.service.OrderItemService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OrderCancellationServiceTest {
+
+  private FakeOrderRepository fakeOrderRepository;
+  private FakeOrderSagaRepository fakeOrderSagaRepository;
+  private FakeCompensationTaskRepository fakeCompensationTaskRepository;
+  private FakeOutboxEventRepository fakeOutboxEventRepository;
+  private FakePaymentRepository fakePaymentRepository;
+  private FakeProductClient fakeProductClient;
+  private FakePointClient fakePointClient;
+  private OrderSagaOrchestrator orchestrator;
+  private CompensationWorker compensationWorker;
+  private OrderCancellationService cancellationService;
+
+  @BeforeEach
+  void setUp() {
+    fakeOrderRepository = new FakeOrderRepository();
+    FakeOrderItemRepository fakeOrderItemRepository = new FakeOrderItemRepository();
+    fakeOrderSagaRepository = new FakeOrderSagaRepository();
+    fakeCompensationTaskRepository = new FakeCompensationTaskRepository();
+    fakeOutboxEventRepository = new FakeOutboxEventRepository();
+    fakePaymentRepository = new FakePaymentRepository();
+    fakeProductClient = new FakeProductClient();
+    fakePointClient = new FakePointClient();
+
+    TransactionTemplate transactionTemplate = new TransactionTemplate(new FakeTransactionManager());
+    OrderOutbox orderOutbox = new OrderOutbox(fakeOutboxEventRepository, new ObjectMapper().findAndRegisterModules());
+
+    orchestrator = new OrderSagaOrchestrator(
+        fakeOrderRepository,
+        fakeOrderItemRepository,
+        new OrderItemService(fakeOrderItemRepository, fakeProductClient,
+            new ProductReplica(new SimpleMeterRegistry(), 10000)),
+        fakeOrderSagaRepository,
+        fakeCompensationTaskRepository,
+        fakeProductClient,
+        new PaymentProcessorRegistry(List.of(new PointPaymentProcessor(fakePointClient)),
+            new SimpleMeterRegistry(), Map.of(), 100),
+        orderOutbox,
+        transactionTemplate
+    );
+    compensationWorker = new CompensationWorker(
+        fakeCompensationTaskRepository, fakeOrderSagaRepository, fakeProductClient, fakePointClient,
+        transactionTemplate, 50, 3, 60000, 4
+    );
+    cancellationService = new OrderCancellationService(
+        fakeOrderRepository, fakeOrderItemRepository, fakeOrderSagaRepository, fakeCompensationTaskRepository,
+        fakePaymentRepository, compensationWorker, orderOutbox, transactionTemplate, 30000
+    );
+
+    // 테스트 상품 데이터 세팅
+    fakeProductClient.addProduct(1L, "연필", 500, 10);
+    fakeProductClient.addProduct(2L, "지우개", 300, 20);
+    fakePointClient.charge(1L, 10000);
+  }
+
+  @Test
+  void 결제_완료_주문을_취소하면_재고를_한_번에_복구하고_포인트를_환불한다() {
+    // Arrange
+    OrderResponse paid = orchestrator.checkout(checkoutRequest());
+
+    // Act
+    OrderResponse cancelled = cancellationService.cancel(paid.id());
+
+    // Assert
+    assertThat(cancelled.status()).isEqualTo(OrderStatus.CANCELLED);
+    assertThat(fakeProductClient.stockOf(1L)).isEqualTo(10);
+    assertThat(fakeProductClient.stockOf(2L)).isEqualTo(20);
+    assertThat(fakeProductClient.restoreStocksCalls()).isEqualTo(1);
+    assertThat(fakePointClient.balanceOf(1L)).isEqualTo(10000);
+    assertThat(sagaState()).isEqualTo(OrderSagaState.COMPENSATED);
+    assertThat(fakeCompensationTaskRepository.findAll())
+        .hasSize(3)
+        .allSatisfy(task -> assertThat(task.getStatus()).isEqualTo(CompensationStatus.DONE));
+    assertThat(fakeOutboxEventRepository.findEventTypesByOrderId(paid.id()))
+        .containsExactly(OrderEventType.ORDER_CREATED, OrderEventType.ORDER_PAID, OrderEventType.ORDER_CANCELLED);
+  }
+
+  @Test
+  void 환불이_실패해도_주문은_취소되고_재고_복구는_완료되며_환불은_재시도로_남는다() {
+    // Arrange
+    OrderResponse paid = orchestrator.checkout(checkoutRequest());
+    fakePointClient.setAvailable(false);
+
+    // Act
+    OrderResponse cancelled = cancellationService.cancel(paid.id());
+
+    // Assert
+    assertThat(cancelled.status()).isEqualTo(OrderStatus.CANCELLED);
+    assertThat(fakeProductClient.stockOf(1L)).isEqualTo(10);
+    assertThat(fakeCompensationTaskRepository.findAll())
+        .filteredOn(task -> task.getType() == CompensationType.REFUND_POINTS)
+        .singleElement()
+        .satisfies(task -> {
+          assertThat(task.getStatus()).isEqualTo(CompensationStatus.PENDING);
+          assertThat(task.getAttempts()).isEqualTo(1);
+        });
+    assertThat(sagaState()).isEqualTo(OrderSagaState.COMPENSATING);
+  }
+
+  @Test
+  void 바로_실행_중인_보상_작업은_워커가_중복_실행하지_않는다() {
+    // Arrange
+    OrderResponse paid = orchestrator.checkout(checkoutRequest());
+    Order order = fakeOrderRepository.findById(paid.id()).orElseThrow();
+    order.cancelPaid();
+    OrderSaga saga = fakeOrderSagaRepository.findByOrderId(paid.id()).orElseThrow();
+    saga.startCancellation("주문 취소");
+    CompensationTask refund = CompensationTask.refundPoints(saga);
+    refund.deferUntil(LocalDateTime.now().plusSeconds(30));
+    fakeCompensationTaskRepository.save(refund);
+
+    // Act
+    int succeeded = compensationWorker.runDueTasks();
+
+    // Assert
+    assertThat(succeeded).isZero();
+    assertThat(fakePointClient.balanceOf(1L)).isEqualTo(8100);
+  }
+
+  @Test
+  void 사가_없이_결제된_주문은_포인트만_환불한다() {
+    // Arrange
+    Order order = fakeOrderRepository.saveWithId(1L, 1L, 1000, OrderStatus.PAID);
+    fakePaymentRepository.save(Payment.completed(order.getId(), 1L, 1000, PaymentMethod.POINT, "POINT_1"));
+
+    // Act
+    cancellationService.cancel(order.getId());
+
+    // Assert
+    assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    assertThat(fakePointClient.balanceOf(1L)).isEqualTo(11000);
+    assertThat(fakeProductClient.restoreStocksCalls()).isZero();
+  }
+
+  @Test
+  void 사가_없이_카드로_결제된_주문은_포인트로_환불하지_않고_수동_환불로_남긴다() {
+    // Arrange
+    Order order = fakeOrderRepository.saveWithId(1L, 1L, 1000, OrderStatus.PAID);
+    fakePaymentRepository.save(Payment.completed(order.getId(), 1L, 1000, PaymentMethod.CARD, "CARD_1"));
+
+    // Act
+    cancellationService.cancel(order.getId());
+
+    // Assert
+    assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    assertThat(fakePointClient.balanceOf(1L)).isEqualTo(10000);
+    assertThat(fakeCompensationTaskRepository.findAll())
+        .singleElement()
+        .satisfies(task -> {
+          assertThat(task.getType()).isEqualTo(CompensationType.MANUAL_REFUND);
+          assertThat(task.getStatus()).isEqualTo(CompensationStatus.FAILED);
+          assertThat(task.getLastError()).contains("CARD_1");
+        });
+    assertThat(compensationWorker.runDueTasks()).isZero();
+  }
+
+  @Test
+  void 결제_기록이_없는_결제_완료_주문은_수동_환불로_남긴다() {
+    // Arrange
+    Order order = fakeOrderRepository.saveWithId(1L, 1L, 1000, OrderStatus.PAID);
+
+    // Act
+    cancellationService.cancel(order.getId());
+
+    // Assert
+    assertThat(fakePointClient.balanceOf(1L)).isEqualTo(10000);
+    assertThat(fakeCompensationTaskRepository.findAll())
+        .extracting(CompensationTask::getType)
+        .containsExactly(CompensationType.MANUAL_REFUND);
+  }
+
+  @Test
+  void 결제_전_주문은_되돌릴_것_없이_취소만_한다() {
+    // Arrange
+    Order order = fakeOrderRepository.saveWithId(1L, 1L, 1000, OrderStatus.PENDING);
+
+    // Act
+    cancellationService.cancel(order.getId());
+
+    // Assert
+    assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    assertThat(fakeCompensationTaskRepository.findAll()).isEmpty();
+    assertThat(fakePointClient.balanceOf(1L)).isEqualTo(10000);
+  }
+
+  @Test
+  void 사가가_진행_중인_주문은_취소할_수_없다() {
+    // Arrange
+    Order order = fakeOrderRepository.saveWithId(1L, 1L, 1000, OrderStatus.PENDING);
+    fakeOrderSagaRepository.save(new OrderSaga(order));
+
+    // Act & Assert
+    assertThatThrownBy(() -> cancellationService.cancel(order.getId()))
+        .isInstanceOf(ApplicationException.class)
+        .hasMessageContaining("처리 중인 주문은 취소할 수 없습니다");
+    assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+  }
+
+  private CreateOrderRequest checkoutRequest() {
+    return new CreateOrderRequest(1L, List.of(
+        new OrderItemRequest(1L, 2), // 연필 2개 = 1000원
+        new OrderItemRequest(2L, 3)  // 지우개 3개 = 900원
+    ));
+  }
+
+  private OrderSagaState sagaState() {
+    return fakeOrderSagaRepository.findAll().get(0).getState();
+  }
+}
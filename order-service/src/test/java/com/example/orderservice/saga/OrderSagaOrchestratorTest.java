@@ -0,0 +1,326 @@
+package com.example.orderservice.saga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.orderservice.dto.request.CreateOrderRequest;
+import com.example.orderservice.dto.request.OrderItemRequest;
+import com.example.orderservice.dto.request.ReduceProductRequest;
+import com.example.orderservice.dto.response.OrderResponse;
+import com.example.orderservice.entity.Order;
+import com.example.orderservice.entity.OrderItem;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.fake.FakeCompensationTaskRepository;
+import com.example.orderservice.fake.FakeOrderItemRepository;
+import com.example.orderservice.fake.FakeOrderRepository;
+import com.example.orderservice.fake.FakeOrderSagaRepository;
+import com.example.orderservice.fake.FakeOutboxEventRepository;
+import com.example.orderservice.fake.FakePointClient;
+import com.example.orderservice.fake.FakeProductClient;
+import com.example.orderservice.fake.FakeTransactionManager;
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OrderOutbox;
+import com.example.orderservice.payment.PaymentProcessorRegistry;
+import com.example.orderservice.payment.PointPaymentProcessor;
+import com.example.orderservice.replica.ProductReplica;
+import com.example.orderservice.service.OrderItemService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OrderSagaOrchestratorTest {
+
+  private FakeOrderRepository fakeOrderRepository;
+  private FakeOrderItemRepository fakeOrderItemRepository;
+  private FakeOrderSagaRepository fakeOrderSagaRepository;
+  private FakeCompensationTaskRepository fakeCompensationTaskRepository;
+  private FakeOutboxEventRepository fakeOutboxEventRepository;
+  private FakeProductClient fakeProductClient;
+  private FakePointClient fakePointClient;
+  private OrderSagaOrchestrator orchestrator;
+  private CompensationWorker compensationWorker;
+
+  @BeforeEach
+  void setUp() {
+    fakeOrderRepository = new FakeOrderRepository();
+    fakeOrderItemRepository = new FakeOrderItemRepository();
+    fakeOrderSagaRepository = new FakeOrderSagaRepository();
+    fakeCompensationTaskRepository = new FakeCompensationTaskRepository();
+    fakeOutboxEventRepository = new FakeOutboxEventRepository();
+    fakeProductClient = new FakeProductClient();
+    fakePointClient = new FakePointClient();
+
+    TransactionTemplate transactionTemplate = new TransactionTemplate(new FakeTransactionManager());
+    OrderOutbox orderOutbox = new OrderOutbox(fakeOutboxEventRepository, new ObjectMapper().findAndRegisterModules());
+
+    orchestrator = new OrderSagaOrchestrator(
+        fakeOrderRepository,
+        fakeOrderItemRepository,
+        new OrderItemService(fakeOrderItemRepository, fakeProductClient,
+            new ProductReplica(new SimpleMeterRegistry(), 10000)),
+        fakeOrderSagaRepository,
+        fakeCompensationTaskRepository,
+        fakeProductClient,
+        new PaymentProcessorRegistry(List.of(new PointPaymentProcessor(fakePointClient)),
+            new SimpleMeterRegistry(), Map.of(), 100),
+        orderOutbox,
+        transactionTemplate
+    );
+    compensationWorker = new CompensationWorker(
+        fakeCompensationTaskRepository, fakeOrderSagaRepository, fakeProductClient, fakePointClient,
+        transactionTemplate, 50, 3, 60000, 4
+    );
+
+    // 테스트 상품 데이터 세팅
+    fakeProductClient.addProduct(1L, "연필", 500, 10);
+    fakeProductClient.addProduct(2L, "지우개", 300, 20);
+  }
+
+  @Nested
+  class CheckoutTest {
+
+    @Test
+    void 모든_단계가_성공하면_재고가_차감되고_주문이_결제_완료된다() {
+      // Arrange
+      fakePointClient.charge(1L, 10000);
+
+      // Act
+      OrderResponse response = orchestrator.checkout(checkoutRequest());
+
+      // Assert
+      assertThat(response.status()).isEqualTo(OrderStatus.PAID);
+      assertThat(response.totalPrice()).isEqualTo(1900);
+      assertThat(fakeProductClient.stockOf(1L)).isEqualTo(8);
+      assertThat(fakeProductClient.stockOf(2L)).isEqualTo(17);
+      assertThat(fakePointClient.balanceOf(1L)).isEqualTo(8100);
+      assertThat(sagaState()).isEqualTo(OrderSagaState.CONFIRMED);
+      assertThat(fakeOutboxEventRepository.findEventTypesByOrderId(response.id()))
+          .containsExactly(OrderEventType.ORDER_CREATED, OrderEventType.ORDER_PAID);
+    }
+
+    @Test
+    void 재고_차감_중_실패하면_차감된_재고만_보상하고_주문을_취소한다() {
+      // Arrange
+      fakePointClient.charge(1L, 10000);
+      fakeProductClient.makeUnavailable(2L);
+
+      // Act & Assert
+      assertThatThrownBy(() -> orchestrator.checkout(checkoutRequest()))
+          .isInstanceOf(ApplicationException.class)
+          .hasMessageContaining("재고 차감 실패");
+
+      assertThat(sagaState()).isEqualTo(OrderSagaState.COMPENSATING);
+      // 실패한 항목도 예약 키와 함께 보상 대상에 넣고, 실제 차감 여부는 product-service 가 확인한다
+      assertThat(fakeCompensationTaskRepository.findAll())
+          .extracting(CompensationTask::getType, CompensationTask::getTargetId, CompensationTask::getAmount)
+          .containsExactly(
+              tuple(CompensationType.RESTORE_STOCK, 1L, 2),
+              tuple(CompensationType.RESTORE_STOCK, 2L, 3));
+      assertThat(fakeCompensationTaskRepository.findAll())
+          .allSatisfy(task -> assertThat(task.getReservationKey()).isNotBlank());
+      fakeProductClient.makeAvailable(2L);
+      compensationWorker.runDueTasks();
+      assertThat(fakeProductClient.stockOf(1L)).isEqualTo(10);
+      assertThat(fakeProductClient.stockOf(2L)).isEqualTo(20);
+      assertThat(fakeOrderRepository.findAll())
+          .singleElement()
+          .extracting(Order::getStatus)
+          .isEqualTo(OrderStatus.CANCELLED);
+      assertThat(fakePointClient.balanceOf(1L)).isEqualTo(10000);
+    }
+
+    @Test
+    void 재고_차감_응답이_유실되어도_차감된_재고를_보상한다() {
+      // Arrange
+      fakePointClient.charge(1L, 10000);
+      fakeProductClient.timeoutAfterReduce(2L);
+
+      // Act
+      assertThatThrownBy(() -> orchestrator.checkout(checkoutRequest()))
+          .isInstanceOf(ApplicationException.class)
+          .hasMessageContaining("재고 차감 실패");
+      compensationWorker.runDueTasks();
+
+      // Assert
+      assertThat(fakeProductClient.stockOf(1L)).isEqualTo(10);
+      assertThat(fakeProductClient.stockOf(2L)).isEqualTo(20);
+      assertThat(sagaState()).isEqualTo(OrderSagaState.COMPENSATED);
+    }
+
+    @Test
+    void 결제에_실패하면_재고_복구_작업만_남고_환불은_하지_않는다() {
+      // Arrange - 포인트 잔액 없음
+
+      // Act & Assert
+      assertThatThrownBy(() -> orchestrator.checkout(checkoutRequest()))
+          .isInstanceOf(ApplicationException.class)
+          .hasMessageContaining("결제 실패");
+
+      assertThat(fakeCompensationTaskRepository.findAll())
+          .hasSize(2)
+          .allSatisfy(task -> assertThat(task.getType()).isEqualTo(CompensationType.RESTORE_STOCK));
+    }
+
+    @Test
+    void 결제_응답이_유실되면_보상하지_않고_FAILED_로_남긴다() {
+      // Arrange
+      fakePointClient.charge(1L, 10000);
+      fakePointClient.setTimeoutAfterDeduct(true);
+
+      // Act & Assert
+      assertThatThrownBy(() -> orchestrator.checkout(checkoutRequest()))
+          .isInstanceOf(ApplicationException.class)
+          .hasMessageContaining("결제 결과 확인 필요");
+
+      assertThat(sagaState()).isEqualTo(OrderSagaState.FAILED);
+      assertThat(fakeCompensationTaskRepository.findAll()).isEmpty();
+      assertThat(fakeOrderRepository.findAll())
+          .singleElement()
+          .extracting(Order::getStatus)
+          .isEqualTo(OrderStatus.PENDING);
+      assertThat(fakePointClient.balanceOf(1L)).isEqualTo(8100);
+    }
+  }
+
+  @Nested
+  class CompensationTest {
+
+    @Test
+    void 보상_작업이_끝나면_재고가_복구되고_사가가_보상_완료된다() {
+      // Arrange
+      assertThatThrownBy(() -> orchestrator.checkout(checkoutRequest()))
+          .isInstanceOf(ApplicationException.class);
+
+      // Act
+      int succeeded = compensationWorker.runDueTasks();
+
+      // Assert
+      assertThat(succeeded).isEqualTo(2);
+      assertThat(fakeProductClient.stockOf(1L)).isEqualTo(10);
+      assertThat(fakeProductClient.stockOf(2L)).isEqualTo(20);
+      assertThat(sagaState()).isEqualTo(OrderSagaState.COMPENSATED);
+    }
+
+    @Test
+    void 보상_호출이_실패하면_백오프_후_재시도하도록_예약한다() {
+      // Arrange
+      assertThatThrownBy(() -> orchestrator.checkout(checkoutRequest()))
+          .isInstanceOf(ApplicationException.class);
+      fakeProductClient.makeUnavailable(1L);
+
+      // Act
+      int firstRun = compensationWorker.runDueTasks();
+      int secondRun = compensationWorker.runDueTasks();
+
+      // Assert - 같은 주문의 재고 복구는 일괄 호출 하나로 묶여 함께 실패하고 함께 재시도된다
+      assertThat(firstRun).isZero();
+      assertThat(secondRun).isZero();
+      assertThat(fakeCompensationTaskRepository.findAll())
+          .hasSize(2)
+          .allSatisfy(task -> {
+            assertThat(task.getStatus()).isEqualTo(CompensationStatus.PENDING);
+            assertThat(task.getAttempts()).isEqualTo(1);
+          });
+      assertThat(fakeProductClient.stockOf(2L)).isEqualTo(17);
+      assertThat(sagaState()).isEqualTo(OrderSagaState.COMPENSATING);
+    }
+
+    @Test
+    void 같은_주문의_재고_복구는_상품_수와_관계없이_한_번에_호출한다() {
+      // Arrange
+      assertThatThrownBy(() -> orchestrator.checkout(checkoutRequest()))
+          .isInstanceOf(ApplicationException.class);
+
+      // Act
+      compensationWorker.runDueTasks();
+
+      // Assert
+      assertThat(fakeProductClient.restoreStocksCalls()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  class RecoveryTest {
+
+    @Test
+    void 재고_차감까지_끝난_사가는_결제부터_이어서_진행한다() {
+      // Arrange
+      fakePointClient.charge(1L, 10000);
+      OrderSaga saga = stuckSaga(OrderSagaState.STOCK_RESERVED);
+
+      // Act
+      OrderResponse response = orchestrator.resume(saga.getId());
+
+      // Assert
+      assertThat(response.status()).isEqualTo(OrderStatus.PAID);
+      assertThat(fakeProductClient.stockOf(1L)).isEqualTo(10); // 재고는 다시 차감하지 않는다
+      assertThat(fakePointClient.balanceOf(1L)).isEqualTo(9000);
+    }
+
+    @Test
+    void 차감_후_기록_전에_중단된_사가를_재개해도_같은_항목을_다시_차감하지_않는다() {
+      // Arrange - 첫 항목 차감은 반영됐지만 사가에 기록되기 전에 중단
+      fakePointClient.charge(1L, 10000);
+      OrderSaga saga = stuckSaga(OrderSagaState.ORDER_CREATED);
+      OrderItem first = fakeOrderItemRepository.findByOrderId(saga.getOrderId()).get(0);
+      fakeProductClient.reduceStock(first.getProductId(), new ReduceProductRequest(first.getProductId(),
+          first.getOrderQuantity(), first.reservationKey()));
+
+      // Act
+      OrderResponse response = orchestrator.resume(saga.getId());
+
+      // Assert
+      assertThat(response.status()).isEqualTo(OrderStatus.PAID);
+      assertThat(fakeProductClient.stockOf(1L)).isEqualTo(10 - first.getOrderQuantity());
+    }
+
+    @Test
+    void 결제_도중_중단된_사가는_자동으로_진행하지_않고_FAILED_처리한다() {
+      // Arrange
+      fakePointClient.charge(1L, 10000);
+      OrderSaga saga = stuckSaga(OrderSagaState.PAYING);
+
+      // Act & Assert
+      assertThatThrownBy(() -> orchestrator.resume(saga.getId()))
+          .isInstanceOf(ApplicationException.class)
+          .hasMessageContaining("결제 결과를 확인할 수 없는 주문");
+
+      assertThat(sagaState()).isEqualTo(OrderSagaState.FAILED);
+      assertThat(fakePointClient.balanceOf(1L)).isEqualTo(10000);
+    }
+  }
+
+  private CreateOrderRequest checkoutRequest() {
+    return new CreateOrderRequest(1L, List.of(
+        new OrderItemRequest(1L, 2), // 연필 2개 = 1000원
+        new OrderItemRequest(2L, 3)  // 지우개 3개 = 900원
+    ));
+  }
+
+  private OrderSaga stuckSaga(OrderSagaState state) {
+    Order order = fakeOrderRepository.saveWithId(1L, 1L, 1000, OrderStatus.PENDING);
+    fakeOrderItemRepository.save(new OrderItem(order.getId(), 1L, "연필", 500, 2));
+
+    OrderSaga saga = new OrderSaga(order);
+    if (state == OrderSagaState.ORDER_CREATED) {
+      return fakeOrderSagaRepository.save(saga);
+    }
+    saga.recordReservation();
+    saga.markStockReserved();
+    if (state == OrderSagaState.PAYING) {
+      saga.markPaying();
+    }
+    return fakeOrderSagaRepository.save(saga);
+  }
+
+  private OrderSagaState sagaState() {
+    return fakeOrderSagaRepository.findAll().get(0).getState();
+  }
+}
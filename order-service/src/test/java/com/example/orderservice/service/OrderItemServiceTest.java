@@ -7,6 +7,8 @@ import com.example.orderservice.entity.OrderStatus;
 import com.example.orderservice.exception.ApplicationException;
 import com.example.orderservice.fake.FakeOrderItemRepository;
 import com.example.orderservice.fake.FakeProductClient;
+import com.example.orderservice.replica.ProductReplica;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -26,7 +28,8 @@ class OrderItemServiceTest {
   void setUp() {
     fakeRepository = new FakeOrderItemRepository();
     fakeProductClient = new FakeProductClient();
-    orderItemService = new OrderItemService(fakeRepository, fakeProductClient);
+    orderItemService = new OrderItemService(fakeRepository, fakeProductClient,
+        new ProductReplica(new SimpleMeterRegistry(), 10000));
 
     // 테스트 상품 데이터 세팅
     fakeProductClient.addProduct(1L, "연필", 500, 10);
@@ -35,7 +38,7 @@ class OrderItemServiceTest {
   }
 
   @Nested
-  class SaveOrderItemsTest {
+  class SaveOrderLinesTest {
 
     @Test
     void 단일_상품으로_OrderItem을_저장할_수_있다() {
@@ -44,7 +47,7 @@ class OrderItemServiceTest {
       List<OrderItemRequest> items = List.of(orderItem(1L, 2));
 
       // Act
-      orderItemService.saveOrderItems(items, savedOrder);
+      orderItemService.saveOrderLines(orderItemService.loadOrderLinesWithStockCheck(items), savedOrder);
 
       // Assert
       List<OrderItem> savedItems = fakeRepository.findAll();
@@ -70,7 +73,7 @@ class OrderItemServiceTest {
       );
 
       // Act
-      orderItemService.saveOrderItems(items, savedOrder);
+      orderItemService.saveOrderLines(orderItemService.loadOrderLinesWithStockCheck(items), savedOrder);
 
       // Assert
       List<OrderItem> savedItems = fakeRepository.findAll();
@@ -88,11 +91,10 @@ class OrderItemServiceTest {
     @Test
     void 존재하지_않는_상품으로_저장_시_예외가_발생한다() {
       // Arrange
-      Order savedOrder = createOrder(1L);
       List<OrderItemRequest> items = List.of(orderItem(999L, 1));
 
       // Act & Assert
-      assertThatThrownBy(() -> orderItemService.saveOrderItems(items, savedOrder))
+      assertThatThrownBy(() -> orderItemService.loadOrderLinesWithStockCheck(items))
           .isInstanceOf(RuntimeException.class)
           .hasMessageContaining("상품을 찾을 수 없습니다")
           .hasMessageEndingWith("999");
@@ -100,7 +102,7 @@ class OrderItemServiceTest {
   }
 
   @Nested
-  class CalculateTotalPriceTest {
+  class TotalPriceTest {
 
     @Test
     void 단일_상품의_총_가격을_계산할_수_있다() {
@@ -108,7 +110,7 @@ class OrderItemServiceTest {
       List<OrderItemRequest> items = List.of(orderItem(1L, 3));
 
       // Act
-      int totalPrice = orderItemService.calculateTotalPrice(items);
+      int totalPrice = totalPrice(items);
 
       // Assert
       assertThat(totalPrice)
@@ -127,7 +129,7 @@ class OrderItemServiceTest {
       );
 
       // Act
-      int totalPrice = orderItemService.calculateTotalPrice(items);
+      int totalPrice = totalPrice(items);
 
       // Assert
       assertThat(totalPrice)
@@ -142,7 +144,7 @@ class OrderItemServiceTest {
 
       // Act & Assert
       assertThatExceptionOfType(ApplicationException.class)
-          .isThrownBy(() -> orderItemService.calculateTotalPrice(items))
+          .isThrownBy(() -> totalPrice(items))
           .withMessage("재고 부족: 공책");
     }
 
@@ -156,7 +158,7 @@ class OrderItemServiceTest {
 
       // Act & Assert
       assertThatExceptionOfType(ApplicationException.class)
-          .isThrownBy(() -> orderItemService.calculateTotalPrice(items))
+          .isThrownBy(() -> totalPrice(items))
           .withMessageContaining("재고 부족")
           .withMessageContaining("공책");
     }
@@ -167,7 +169,7 @@ class OrderItemServiceTest {
       List<OrderItemRequest> items = List.of(orderItem(3L, 5)); // 재고 5개 = 주문 5개
 
       // Act
-      int totalPrice = orderItemService.calculateTotalPrice(items);
+      int totalPrice = totalPrice(items);
 
       // Assert
       assertThat(totalPrice)
@@ -182,7 +184,7 @@ class OrderItemServiceTest {
       List<OrderItemRequest> items = List.of(orderItem(1L, 0));
 
       // Act
-      int totalPrice = orderItemService.calculateTotalPrice(items);
+      int totalPrice = totalPrice(items);
 
       // Assert
       assertThat(totalPrice)
@@ -197,7 +199,7 @@ class OrderItemServiceTest {
       List<OrderItemRequest> items = List.of(orderItem(999L, 1));
 
       // Act & Assert
-      assertThatCode(() -> orderItemService.calculateTotalPrice(items))
+      assertThatCode(() -> totalPrice(items))
           .isInstanceOf(RuntimeException.class)
           .hasMessageStartingWith("상품을 찾을 수 없습니다");
     }
@@ -212,7 +214,7 @@ class OrderItemServiceTest {
       );
 
       // Act
-      int totalPrice = orderItemService.calculateTotalPrice(items);
+      int totalPrice = totalPrice(items);
 
       // Assert
       assertThat(totalPrice)
@@ -231,7 +233,7 @@ class OrderItemServiceTest {
       List<OrderItemRequest> items = List.of();
 
       // Act
-      int totalPrice = orderItemService.calculateTotalPrice(items);
+      int totalPrice = totalPrice(items);
 
       // Assert
       assertThat(totalPrice).isZero();
@@ -247,7 +249,7 @@ class OrderItemServiceTest {
       );
 
       // Act
-      int totalPrice = orderItemService.calculateTotalPrice(items);
+      int totalPrice = totalPrice(items);
 
       // Assert
       assertThat(totalPrice)
@@ -257,6 +259,12 @@ class OrderItemServiceTest {
     }
   }
 
+  private int totalPrice(List<OrderItemRequest> items) {
+    return orderItemService.loadOrderLinesWithStockCheck(items).stream()
+        .mapToInt(OrderLine::totalPrice)
+        .sum();
+  }
+
   private Order createOrder(Long memberId) {
     return new Order(memberId, 1000, OrderStatus.PENDING, LocalDateTime.now());
   }
@@ -2,6 +2,7 @@ package com.example.orderservice.service;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,6 +35,10 @@ public class OrderServiceIntegrationTest {
   private static WireMockServer wireMockServer;
   public static final int PRODUCT_SERVICE_PORT = 8082;
 
+  /* point-service:8084 mocking */
+  private static WireMockServer pointServiceMockServer;
+  public static final int POINT_SERVICE_PORT = 8084;
+
   @Autowired
   private OrderService orderService;
 
@@ -47,6 +52,10 @@ public class OrderServiceIntegrationTest {
     WireMock.configureFor("localhost", PRODUCT_SERVICE_PORT);
 
     setUpMockProduct();
+
+    pointServiceMockServer = new WireMockServer(POINT_SERVICE_PORT);
+    pointServiceMockServer.start();
+    setUpMockPoint();
   }
 
   @Test
@@ -107,39 +116,6 @@ public class OrderServiceIntegrationTest {
         .hasMessageContaining("404");
   }
 
-  @Test
-  @DisplayName("주문 조회 - 성공")
-  void 주문_조회_성공() {
-    // given
-    List<OrderItemRequest> items = List.of(
-        new OrderItemRequest(1L, 10),
-        new OrderItemRequest(2L, 20)
-    );
-    CreateOrderRequest request = new CreateOrderRequest(1L, items);
-    final OrderResponse createdOrder = orderService.createOrder(request);
-
-    // when
-    final OrderResponse foundOrder = orderService.findOrderById(createdOrder.id()); // 실제 생성된 ID 사용
-
-    // then
-    assertThat(foundOrder).isNotNull();
-    assertThat(foundOrder.id()).isEqualTo(createdOrder.id());
-    assertThat(foundOrder.memberId()).isEqualTo(createdOrder.memberId());
-    assertThat(foundOrder.totalPrice()).isEqualTo(createdOrder.totalPrice());
-  }
-
-  @Test
-  @DisplayName("주문 조회 실패 - 존재하지 않는 주문 ID")
-  void 주문_조회_실패_존재하지않는_ID() {
-    // given
-    Long nonExistentOrderId = 999L;
-
-    // when & then
-    assertThatThrownBy(() -> orderService.findOrderById(nonExistentOrderId))
-        .isInstanceOf(ApplicationException.class)
-        .hasMessage("주문 정보를 찾을 수 없습니다.");
-  }
-
   @Test
   @DisplayName("전체 주문 조회")
   void 전체_주문_조회() {
@@ -160,62 +136,6 @@ public class OrderServiceIntegrationTest {
     assertThat(orders).hasSize(2);
   }
 
-  @Test
-  @DisplayName("내 주문 조회")
-  void 내_주문_조회() {
-    // given
-    Long userId1 = 1L;
-    Long userId2 = 2L;
-
-    List<OrderItemRequest> items1 = List.of(new OrderItemRequest(1L, 5));
-    List<OrderItemRequest> items2 = List.of(new OrderItemRequest(2L, 3));
-    List<OrderItemRequest> items3 = List.of(new OrderItemRequest(3L, 2));
-
-    CreateOrderRequest request1 = new CreateOrderRequest(userId1, items1);
-    CreateOrderRequest request2 = new CreateOrderRequest(userId2, items2);
-    CreateOrderRequest request3 = new CreateOrderRequest(userId1, items3);
-
-    orderService.createOrder(request1);
-    orderService.createOrder(request2);
-    orderService.createOrder(request3);
-
-    // when
-    List<OrderResponse> user1Orders = orderService.findMyOrders(userId1);
-
-    // then
-    assertThat(user1Orders).hasSize(2);
-    assertThat(user1Orders).allMatch(order -> order.memberId().equals(userId1));
-  }
-
-  @Test
-  @DisplayName("주문 취소 - 성공")
-  void 주문_취소_성공() {
-    // given
-    List<OrderItemRequest> items = List.of(new OrderItemRequest(1L, 5));
-    CreateOrderRequest request = new CreateOrderRequest(1L, items);
-    OrderResponse createdOrder = orderService.createOrder(request);
-
-    // when
-    OrderResponse cancelledOrder = orderService.cancelOrder(createdOrder.id());
-
-    // then
-    assertThat(cancelledOrder).isNotNull();
-    assertThat(cancelledOrder.id()).isEqualTo(createdOrder.id());
-    // 주문 상태가 CANCELLED로 변경되었는지 확인 (실제 Order 엔티티 구조에 따라)
-  }
-
-  @Test
-  @DisplayName("주문 취소 실패 - 존재하지 않는 주문")
-  void 주문_취소_실패_존재하지않는_주문() {
-    // given
-    Long nonExistentOrderId = 999L;
-
-    // when & then
-    assertThatThrownBy(() -> orderService.cancelOrder(nonExistentOrderId))
-        .isInstanceOf(ApplicationException.class)
-        .hasMessage("주문 정보를 찾을 수 없습니다.");
-  }
-
   @Test
   @DisplayName("주문 결제 처리 - 성공")
   void 주문_결제_처리_성공() {
@@ -278,6 +198,25 @@ public class OrderServiceIntegrationTest {
     if (wireMockServer != null) {
       wireMockServer.stop();
     }
+    if (pointServiceMockServer != null) {
+      pointServiceMockServer.stop();
+    }
+  }
+
+  private void setUpMockPoint() {
+    // 포인트 차감 API 응답 모킹
+    pointServiceMockServer.stubFor(post(urlEqualTo("/api/points/deduct"))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader("Content-Type", "application/json")
+            .withBody("""
+                {
+                    "userId": 1,
+                    "remainingPoints": 50000,
+                    "deductedAmount": 50000,
+                    "transactionId": "POINT_TEST"
+                }
+                """)));
   }
 
   private void setUpMockProduct() {
@@ -9,14 +9,24 @@ import com.example.orderservice.entity.OrderStatus;
 import com.example.orderservice.exception.ApplicationException;
 import com.example.orderservice.fake.FakeOrderItemRepository;
 import com.example.orderservice.fake.FakeOrderRepository;
+import com.example.orderservice.fake.FakeOutboxEventRepository;
+import com.example.orderservice.fake.FakePaymentRepository;
 import com.example.orderservice.fake.FakeProductClient;
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OrderOutbox;
+import com.example.orderservice.payment.PaymentMethod;
 import com.example.orderservice.payment.PaymentProcessor;
+import com.example.orderservice.payment.PaymentProcessorRegistry;
+import com.example.orderservice.replica.ProductReplica;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -28,6 +38,7 @@ class OrderServiceTest {
   private FakeOrderItemRepository fakeOrderItemRepository;
   private FakeProductClient fakeProductClient;
   private PaymentProcessor paymentProcessor;
+  private FakeOutboxEventRepository fakeOutboxEventRepository;
 
   @BeforeEach
   void setUp() {
@@ -35,9 +46,16 @@ class OrderServiceTest {
     fakeOrderItemRepository = new FakeOrderItemRepository();
     fakeProductClient = new FakeProductClient();
     paymentProcessor = Mockito.mock(PaymentProcessor.class); // Mock 객체로 생성
+    Mockito.when(paymentProcessor.method()).thenReturn(PaymentMethod.POINT);
+    fakeOutboxEventRepository = new FakeOutboxEventRepository();
 
-    orderItemService = new OrderItemService(fakeOrderItemRepository, fakeProductClient);
-    orderService = new OrderService(fakeOrderRepository, orderItemService, paymentProcessor);
+    orderItemService = new OrderItemService(fakeOrderItemRepository, fakeProductClient,
+        new ProductReplica(new SimpleMeterRegistry(), 10000));
+    OrderOutbox orderOutbox = new OrderOutbox(fakeOutboxEventRepository, new ObjectMapper().findAndRegisterModules());
+    PaymentProcessorRegistry paymentProcessorRegistry = new PaymentProcessorRegistry(
+        List.of(paymentProcessor), new SimpleMeterRegistry(), Map.of(), 100);
+    orderService = new OrderService(fakeOrderRepository, orderItemService, paymentProcessorRegistry, orderOutbox,
+        new FakePaymentRepository());
 
     // 테스트 상품 데이터 세팅
     fakeProductClient.addProduct(1L, "연필", 500, 10);
@@ -100,6 +118,22 @@ class OrderServiceTest {
           .containsExactlyInAnyOrder("연필", "지우개");
     }
 
+    @Test
+    void 주문_생성_시_상품마다_원격_조회는_한_번만_한다() {
+      // Arrange
+      CreateOrderRequest request = new CreateOrderRequest(1L, List.of(
+          new OrderItemRequest(1L, 2),
+          new OrderItemRequest(2L, 1),
+          new OrderItemRequest(3L, 1)
+      ));
+
+      // Act
+      orderService.createOrder(request);
+
+      // Assert
+      assertThat(fakeProductClient.findProductByIdCalls()).isEqualTo(3);
+    }
+
     @Test
     void 재고가_부족하면_주문_생성이_실패한다() {
       // Arrange
@@ -157,37 +191,6 @@ class OrderServiceTest {
   @Nested
   class FindOrderTest {
 
-    @Test
-    void 주문_ID로_주문을_조회할_수_있다() {
-      // Arrange
-      CreateOrderRequest request = new CreateOrderRequest(1L, List.of(
-          new OrderItemRequest(1L, 2)
-      ));
-      OrderResponse createdOrder = orderService.createOrder(request);
-
-      // Act
-      OrderResponse foundOrder = orderService.findOrderById(createdOrder.id());
-
-      // Assert
-      assertThat(foundOrder)
-          .satisfies(order -> {
-            assertThat(order.id()).isEqualTo(createdOrder.id());
-            assertThat(order.memberId()).isEqualTo(1L);
-            assertThat(order.totalPrice()).isEqualTo(1000);
-          });
-    }
-
-    @Test
-    void 존재하지_않는_주문_ID로_조회_시_예외가_발생한다() {
-      // Arrange
-      Long nonExistentOrderId = 999L;
-
-      // Act & Assert
-      assertThatExceptionOfType(ApplicationException.class)
-          .isThrownBy(() -> orderService.findOrderById(nonExistentOrderId))
-          .withMessageContaining("주문 정보를 찾을 수 없습니다.");
-    }
-
     @Test
     void 모든_주문을_조회할_수_있다() {
       // Arrange
@@ -213,32 +216,34 @@ class OrderServiceTest {
   }
 
   @Nested
-  class CancelOrderTest {
+  class OutboxTest {
 
     @Test
-    void PENDING_상태의_주문을_취소할_수_있다() {
+    void 주문_생성과_완료는_아웃박스에_기록된다() {
       // Arrange
       CreateOrderRequest request = new CreateOrderRequest(1L, List.of(
           new OrderItemRequest(1L, 2)
       ));
       OrderResponse createdOrder = orderService.createOrder(request);
+      fakeOrderRepository.findById(createdOrder.id()).orElseThrow().markAsPaid();
 
       // Act
-      OrderResponse cancelledOrder = orderService.cancelOrder(createdOrder.id());
+      orderService.completeOrder(createdOrder.id());
 
       // Assert
-      assertThat(cancelledOrder.status()).isEqualTo(OrderStatus.CANCELLED);
+      assertThat(fakeOutboxEventRepository.findEventTypesByOrderId(createdOrder.id()))
+          .containsExactly(OrderEventType.ORDER_CREATED, OrderEventType.ORDER_COMPLETED);
     }
 
     @Test
-    void 존재하지_않는_주문_취소_시_예외가_발생한다() {
+    void 상태_변경에_실패하면_아웃박스에_기록되지_않는다() {
       // Arrange
-      Long nonExistentOrderId = 999L;
+      fakeOrderRepository.saveWithId(10L, 1L, 1000, OrderStatus.CANCELLED);
 
       // Act & Assert
-      assertThatExceptionOfType(ApplicationException.class)
-          .isThrownBy(() -> orderService.cancelOrder(nonExistentOrderId))
-          .withMessageContaining("주문 정보를 찾을 수 없습니다.");
+      assertThatThrownBy(() -> orderService.completeOrder(10L))
+          .isInstanceOf(ApplicationException.class);
+      assertThat(fakeOutboxEventRepository.size()).isZero();
     }
   }
 
@@ -283,37 +288,4 @@ class OrderServiceTest {
           .allSatisfy(order -> assertThat(order.getMemberId()).isEqualTo(1L));
     }
   }
-
-  @Nested
-  class MyOrdersTest {
-
-    @Test
-    void 특정_사용자의_주문만_조회할_수_있다() {
-      // Arrange
-      Long userId1 = 1L;
-      Long userId2 = 2L;
-
-      CreateOrderRequest request1 = new CreateOrderRequest(userId1, List.of(
-          new OrderItemRequest(1L, 1)
-      ));
-      CreateOrderRequest request2 = new CreateOrderRequest(userId2, List.of(
-          new OrderItemRequest(2L, 1)
-      ));
-      CreateOrderRequest request3 = new CreateOrderRequest(userId1, List.of(
-          new OrderItemRequest(3L, 1)
-      ));
-
-      orderService.createOrder(request1);
-      orderService.createOrder(request2);
-      orderService.createOrder(request3);
-
-      // Act
-      List<OrderResponse> user1Orders = orderService.findMyOrders(userId1);
-
-      // Assert
-      assertThat(user1Orders)
-          .hasSize(2)
-          .allSatisfy(order -> assertThat(order.memberId()).isEqualTo(userId1));
-    }
-  }
-}
\ No newline at end of file
+}
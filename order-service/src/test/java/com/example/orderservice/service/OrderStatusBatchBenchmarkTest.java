@@ -0,0 +1,77 @@
+package com.example.orderservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.orderservice.dto.request.BatchStatusChangeRequest;
+import com.example.orderservice.dto.response.BatchStatusChangeResponse;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.id.SnowflakeIdGenerator;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 결제 완료 주문 10만 건을 한 번의 호출로 SHIPPED 로 바꾸는 처리량
+ * - H2 인메모리 기준, ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.format_sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+    "logging.level.org.springframework.orm=WARN"
+})
+@ActiveProfiles("test")
+class OrderStatusBatchBenchmarkTest {
+
+  private static final int ORDERS = 100_000;
+
+  @Autowired
+  private OrderStatusBatchService orderStatusBatchService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void 주문_10만건_일괄_상태_변경_처리량() {
+    // Arrange
+    List<Long> orderIds = insertPaidOrders(ORDERS);
+
+    // Act
+    long start = System.nanoTime();
+    BatchStatusChangeResponse response = orderStatusBatchService.changeStatus(
+        new BatchStatusChangeRequest(orderIds, OrderStatus.SHIPPED));
+    double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+    // Assert
+    System.out.printf("일괄 상태 변경 - %d건, %.2fs, %.0f orders/s%n", response.updated(), seconds,
+        response.updated() / seconds);
+    assertThat(response.updated()).isEqualTo(ORDERS);
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE status = 'SHIPPED'", Long.class))
+        .isEqualTo(ORDERS);
+  }
+
+  private List<Long> insertPaidOrders(final int count) {
+    // 애플리케이션(노드 0)과 겹치지 않도록 다른 노드 ID 로 발급
+    SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(1);
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Long> ids = new ArrayList<>(count);
+    List<Object[]> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      long id = idGenerator.nextId();
+      ids.add(id);
+      rows.add(new Object[]{id, (long) (i % 5000) + 1, 10000, OrderStatus.PAID.name(), now});
+    }
+    jdbcTemplate.batchUpdate("INSERT INTO orders (id, member_id, total_price, status, order_date) VALUES (?, ?, ?, ?, ?)",
+        rows);
+    return ids;
+  }
+}
@@ -0,0 +1,131 @@
+package com.example.orderservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.orderservice.dto.request.BatchStatusChangeRequest;
+import com.example.orderservice.dto.response.BatchStatusChangeResponse;
+import com.example.orderservice.dto.response.OrderStatusChangeResult;
+import com.example.orderservice.dto.response.OrderStatusChangeResult.Outcome;
+import com.example.orderservice.entity.OrderStatus;
+import com.example.orderservice.exception.ApplicationException;
+import com.example.orderservice.fake.FakeOrderHistoryRepository;
+import com.example.orderservice.fake.FakeOrderRepository;
+import com.example.orderservice.fake.FakeOutboxEventRepository;
+import com.example.orderservice.fake.FakeTransactionManager;
+import com.example.orderservice.history.OrderHistoryUpdatedEvent;
+import com.example.orderservice.outbox.OrderEventType;
+import com.example.orderservice.outbox.OrderOutbox;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OrderStatusBatchServiceTest {
+
+  private FakeOrderRepository fakeOrderRepository;
+  private FakeOutboxEventRepository fakeOutboxEventRepository;
+  private List<Object> publishedEvents;
+  private OrderStatusBatchService orderStatusBatchService;
+
+  @BeforeEach
+  void setUp() {
+    fakeOrderRepository = new FakeOrderRepository();
+    fakeOutboxEventRepository = new FakeOutboxEventRepository();
+    publishedEvents = new ArrayList<>();
+
+    orderStatusBatchService = new OrderStatusBatchService(fakeOrderRepository, new FakeOrderHistoryRepository(),
+        new OrderOutbox(fakeOutboxEventRepository, new ObjectMapper().findAndRegisterModules()),
+        new TransactionTemplate(new FakeTransactionManager()), publishedEvents::add,
+        new SimpleMeterRegistry(), 2, 100);
+  }
+
+  @Nested
+  class ChangeStatusTest {
+
+    @Test
+    void 전이_가능한_주문만_변경하고_주문별_결과를_반환한다() {
+      // Arrange
+      fakeOrderRepository.saveWithId(1L, 1L, 1000, OrderStatus.PAID);
+      fakeOrderRepository.saveWithId(2L, 1L, 1000, OrderStatus.PENDING);
+      fakeOrderRepository.saveWithId(3L, 2L, 1000, OrderStatus.PAID);
+      fakeOrderRepository.saveWithId(4L, 2L, 1000, OrderStatus.CANCELLED);
+
+      // Act - 청크 크기 2 → 3개 청크
+      BatchStatusChangeResponse response = orderStatusBatchService.changeStatus(
+          new BatchStatusChangeRequest(List.of(1L, 2L, 3L, 4L, 99L), OrderStatus.SHIPPED));
+
+      // Assert
+      assertThat(response.updated()).isEqualTo(2);
+      assertThat(response.failed()).isEqualTo(3);
+      assertThat(response.results())
+          .extracting(OrderStatusChangeResult::orderId, OrderStatusChangeResult::outcome)
+          .containsExactly(
+              tuple(1L, Outcome.UPDATED),
+              tuple(2L, Outcome.INVALID_TRANSITION),
+              tuple(3L, Outcome.UPDATED),
+              tuple(4L, Outcome.INVALID_TRANSITION),
+              tuple(99L, Outcome.NOT_FOUND));
+      assertThat(fakeOrderRepository.findById(1L).get().getStatus()).isEqualTo(OrderStatus.SHIPPED);
+      assertThat(fakeOrderRepository.findById(2L).get().getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+
+    @Test
+    void 변경된_주문마다_아웃박스_이벤트를_남기고_조회_모델_캐시를_무효화한다() {
+      // Arrange
+      fakeOrderRepository.saveWithId(1L, 1L, 1000, OrderStatus.PAID);
+      fakeOrderRepository.saveWithId(2L, 2L, 1000, OrderStatus.PAID);
+
+      // Act
+      orderStatusBatchService.changeStatus(new BatchStatusChangeRequest(List.of(1L, 2L), OrderStatus.COMPLETED));
+
+      // Assert
+      assertThat(fakeOutboxEventRepository.findEventTypesByOrderId(1L)).containsExactly(OrderEventType.ORDER_COMPLETED);
+      assertThat(fakeOutboxEventRepository.findEventTypesByOrderId(2L)).containsExactly(OrderEventType.ORDER_COMPLETED);
+      assertThat(publishedEvents).containsExactly(
+          new OrderHistoryUpdatedEvent(1L, 1L), new OrderHistoryUpdatedEvent(2L, 2L));
+    }
+
+    @Test
+    void 중복된_주문_ID는_한_번만_처리한다() {
+      // Arrange
+      fakeOrderRepository.saveWithId(1L, 1L, 1000, OrderStatus.SHIPPED);
+
+      // Act
+      BatchStatusChangeResponse response = orderStatusBatchService.changeStatus(
+          new BatchStatusChangeRequest(List.of(1L, 1L, 1L), OrderStatus.DELIVERED));
+
+      // Assert
+      assertThat(response.requested()).isEqualTo(1);
+      assertThat(response.results()).extracting(OrderStatusChangeResult::outcome).containsExactly(Outcome.UPDATED);
+    }
+
+    @Test
+    void 결제나_취소는_일괄_변경할_수_없다() {
+      // Act & Assert
+      assertThatThrownBy(() -> orderStatusBatchService.changeStatus(
+          new BatchStatusChangeRequest(List.of(1L), OrderStatus.CANCELLED)))
+          .isInstanceOf(ApplicationException.class)
+          .hasMessage("일괄 변경할 수 없는 상태입니다: CANCELLED");
+    }
+
+    @Test
+    void 한_번에_변경할_수_있는_주문_수를_넘으면_거절한다() {
+      // Arrange
+      List<Long> orderIds = new ArrayList<>();
+      for (long id = 1; id <= 101; id++) {
+        orderIds.add(id);
+      }
+
+      // Act & Assert
+      assertThatThrownBy(() -> orderStatusBatchService.changeStatus(
+          new BatchStatusChangeRequest(orderIds, OrderStatus.SHIPPED)))
+          .isInstanceOf(ApplicationException.class);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.example.pointservice.controller;
+
+import com.example.pointservice.dto.request.CreateAirdropRequest;
+import com.example.pointservice.dto.response.PointAirdropResponse;
+import com.example.pointservice.service.PointAirdropService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/points/airdrops")
+public class PointAirdropController {
+
+  private final PointAirdropService pointAirdropService;
+
+  public PointAirdropController(final PointAirdropService pointAirdropService) {
+    this.pointAirdropService = pointAirdropService;
+  }
+
+  // 일괄 지급 등록 (백그라운드에서 실행)
+  @PostMapping
+  public PointAirdropResponse createAirdrop(@RequestBody CreateAirdropRequest request) {
+    return pointAirdropService.create(request);
+  }
+
+  // 진행 상황 / 처리량 조회
+  @GetMapping("/{airdropId}")
+  public PointAirdropResponse findAirdrop(@PathVariable Long airdropId) {
+    return pointAirdropService.find(airdropId);
+  }
+
+  // 실패 / 중단된 작업을 체크포인트부터 재개
+  @PostMapping("/{airdropId}/resume")
+  public PointAirdropResponse resumeAirdrop(@PathVariable Long airdropId) {
+    return pointAirdropService.resume(airdropId);
+  }
+}
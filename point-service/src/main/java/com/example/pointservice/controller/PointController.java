@@ -1,16 +1,30 @@
 package com.example.pointservice.controller;
 
 import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.CaptureHoldsRequest;
 import com.example.pointservice.dto.request.CreateAccountRequest;
+import com.example.pointservice.dto.request.DeductPointRequest;
+import com.example.pointservice.dto.request.DeductPointsRequest;
+import com.example.pointservice.dto.request.HoldPointRequest;
 import com.example.pointservice.dto.request.RefundPointRequest;
 import com.example.pointservice.dto.request.UsePointRequest;
+import com.example.pointservice.dto.response.CaptureHoldsResponse;
+import com.example.pointservice.dto.response.DeductPointResponse;
+import com.example.pointservice.dto.response.DeductPointsResponse;
+import com.example.pointservice.dto.response.PointHoldResponse;
 import com.example.pointservice.dto.response.PointResponse;
+import com.example.pointservice.dto.response.PointTransactionResponse;
+import com.example.pointservice.service.PointBatchDeductService;
+import com.example.pointservice.service.PointBatcher;
+import com.example.pointservice.service.PointHoldService;
 import com.example.pointservice.service.PointService;
+import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -18,9 +32,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class PointController {
 
   private final PointService pointService;
+  private final PointHoldService pointHoldService;
+  private final PointBatcher pointBatcher;
+  private final PointBatchDeductService pointBatchDeductService;
 
-  public PointController(final PointService pointService) {
+  public PointController(final PointService pointService, final PointHoldService pointHoldService,
+      final PointBatcher pointBatcher, final PointBatchDeductService pointBatchDeductService) {
     this.pointService = pointService;
+    this.pointHoldService = pointHoldService;
+    this.pointBatcher = pointBatcher;
+    this.pointBatchDeductService = pointBatchDeductService;
   }
 
   // UserId를 통해 포인트 조회
@@ -29,16 +50,35 @@ public class PointController {
     return pointService.findPointByUserId(userId);
   }
 
-  // 포인트 추가
+  // 포인트 거래 내역 (최신순)
+  @GetMapping("/{userId}/transactions")
+  public List<PointTransactionResponse> findTransactions(@PathVariable Long userId,
+      @RequestParam(defaultValue = "20") int limit) {
+    return pointService.findTransactions(userId, limit);
+  }
+
+  // 포인트 추가 (point.batching.enabled 이면 같은 계좌 요청과 묶어서 처리)
   @PostMapping("/add")
   public PointResponse addPointByUserId(@RequestBody AddPointRequest request) {
-    return pointService.addPoint(request);
+    return pointBatcher.addPoint(request);
   }
 
-  // 포인트 사용
+  // 포인트 사용 (point.batching.enabled 이면 같은 계좌 요청과 묶어서 처리)
   @PostMapping("/use")
   public PointResponse usePointByUserId(@RequestBody UsePointRequest request) {
-    return pointService.usePoint(request);
+    return pointBatcher.usePoint(request);
+  }
+
+  // 결제용 포인트 차감 (order-service PointClient)
+  @PostMapping("/deduct")
+  public DeductPointResponse deductPointByUserId(@RequestBody DeductPointRequest request) {
+    return pointService.deductPoint(request);
+  }
+
+  // 일괄 결제 차감 (마켓플레이스 일괄 결제) - 건별 결과 반환
+  @PostMapping("/deduct/batch")
+  public DeductPointsResponse deductPoints(@RequestBody DeductPointsRequest request) {
+    return pointBatchDeductService.deductAll(request);
   }
 
   // 포인트 환불
@@ -46,4 +86,28 @@ public class PointController {
   public PointResponse refundPointByUserId(@RequestBody RefundPointRequest request) {
     return pointService.refundPoint(request);
   }
+
+  // 포인트 홀드 (결제 예약 - 사용 가능 잔액만 줄이고 차감하지 않음)
+  @PostMapping("/holds")
+  public PointHoldResponse holdPoint(@RequestBody HoldPointRequest request) {
+    return pointHoldService.hold(request);
+  }
+
+  // 홀드 확정 (차감)
+  @PostMapping("/holds/{holdId}/capture")
+  public PointHoldResponse captureHold(@PathVariable Long holdId) {
+    return pointHoldService.capture(holdId);
+  }
+
+  // 홀드 일괄 확정 (주문 확정)
+  @PostMapping("/holds/capture")
+  public CaptureHoldsResponse captureHolds(@RequestBody CaptureHoldsRequest request) {
+    return pointHoldService.captureAll(request);
+  }
+
+  // 홀드 취소
+  @PostMapping("/holds/{holdId}/release")
+  public PointHoldResponse releaseHold(@PathVariable Long holdId) {
+    return pointHoldService.release(holdId);
+  }
 }
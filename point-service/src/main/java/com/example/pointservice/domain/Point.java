@@ -8,7 +8,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
@@ -25,10 +27,21 @@ public class Point {
   @Column(nullable = false)
   private Integer balance;
 
+  // 홀드(결제 예약)로 묶인 금액 - 잔액에서 빠지지는 않았지만 사용할 수 없다
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private Integer held = 0;
+
   @UpdateTimestamp
   @Column(nullable = false)
   private LocalDateTime lastUpdated;
 
+  // 낙관적 락 모드에서 동시 수정 감지 (조건부 UPDATE 쿼리도 함께 올린다)
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private Long version;
+
   public Point() {
   }
 
@@ -53,14 +66,21 @@ public class Point {
     return new Point(userId, 0);
   }
 
+  // 일괄 지급 등으로 잔액을 가진 채 개설
+  public static Point openAccount(Long userId, int initialBalance) {
+    final Point point = openAccount(userId);
+    point.addPoint(initialBalance);
+    return point;
+  }
+
   // 포인트 추가
   public void addPoint(final Integer balance) {
     this.balance = this.balance + balance;
   }
 
-  // 포인트 사용
+  // 포인트 사용 (홀드된 금액은 쓸 수 없다)
   public void usePoint(final Integer balance) {
-    if (this.balance < balance) {
+    if (getAvailableBalance() < balance) {
       throw new PointException(ErrorCode.INSUFFICIENT_BALANCE);
     }
 
@@ -72,6 +92,39 @@ public class Point {
     this.balance = this.balance + balance;
   }
 
+  // 유효기간이 지난 포인트 차감 (만료 스윕이 사용 가능 잔액 안에서만 호출)
+  public void expirePoints(final int amount) {
+    this.balance = this.balance - amount;
+  }
+
+  // 홀드 - 사용 가능 잔액이 부족하면 false
+  public boolean hold(final int amount) {
+    if (getAvailableBalance() < amount) {
+      return false;
+    }
+    this.held = this.held + amount;
+    return true;
+  }
+
+  // 홀드 해제 (취소 / 만료)
+  public boolean releaseHold(final int amount) {
+    if (this.held < amount) {
+      return false;
+    }
+    this.held = this.held - amount;
+    return true;
+  }
+
+  // 홀드 확정 - 묶인 금액을 실제로 차감
+  public boolean captureHold(final int amount) {
+    if (this.held < amount) {
+      return false;
+    }
+    this.held = this.held - amount;
+    this.balance = this.balance - amount;
+    return true;
+  }
+
   public Long getId() {
     return id;
   }
@@ -84,6 +137,18 @@ public class Point {
     return balance;
   }
 
+  public Integer getHeld() {
+    return held;
+  }
+
+  public int getAvailableBalance() {
+    return balance - held;
+  }
+
+  public Long getVersion() {
+    return version;
+  }
+
   public LocalDateTime getLastUpdated() {
     return lastUpdated;
   }
@@ -0,0 +1,198 @@
+package com.example.pointservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 일괄 지급 작업과 진행 상황
+ * - position(체크포인트)과 누적 건수는 청크를 적용한 트랜잭션에서 함께 갱신되므로, 실패 후 재개해도 중복 / 누락이 없다
+ */
+@Entity
+@Table(name = "point_airdrops")
+public class PointAirdrop {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, length = 20)
+  @Enumerated(EnumType.STRING)
+  private PointAirdropSourceType sourceType;
+
+  // FILE: 지급 목록 파일 경로
+  @Column(length = 500)
+  private String source;
+
+  // ALL_ACCOUNTS: 회원당 지급 금액
+  private Integer amount;
+
+  @Column(nullable = false, length = 20)
+  @Enumerated(EnumType.STRING)
+  private PointAirdropStatus status;
+
+  // FILE: 처리한 줄 수, ALL_ACCOUNTS: 처리한 마지막 회원 ID
+  @Column(nullable = false)
+  private Long position;
+
+  @Column(nullable = false)
+  private Long processedRecipients;
+
+  @Column(nullable = false)
+  private Long skippedLines;
+
+  @Column(nullable = false)
+  private Long createdAccounts;
+
+  @Column(nullable = false)
+  private Long grantedAmount;
+
+  // 청크 처리에 걸린 시간 합계 (처리량 계산용 - 멈춰 있던 시간은 빠진다)
+  @Column(nullable = false)
+  private Long elapsedMillis;
+
+  @Column(length = 500)
+  private String lastError;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  private LocalDateTime startedAt;
+
+  private LocalDateTime updatedAt;
+
+  private LocalDateTime finishedAt;
+
+  public PointAirdrop() {
+  }
+
+  private PointAirdrop(final PointAirdropSourceType sourceType, final String source, final Integer amount) {
+    this.sourceType = sourceType;
+    this.source = source;
+    this.amount = amount;
+    this.status = PointAirdropStatus.READY;
+    this.position = 0L;
+    this.processedRecipients = 0L;
+    this.skippedLines = 0L;
+    this.createdAccounts = 0L;
+    this.grantedAmount = 0L;
+    this.elapsedMillis = 0L;
+    this.createdAt = LocalDateTime.now();
+  }
+
+  public static PointAirdrop fromFile(final String path) {
+    return new PointAirdrop(PointAirdropSourceType.FILE, path, null);
+  }
+
+  public static PointAirdrop toAllAccounts(final int amount) {
+    return new PointAirdrop(PointAirdropSourceType.ALL_ACCOUNTS, null, amount);
+  }
+
+  public void start() {
+    this.status = PointAirdropStatus.RUNNING;
+    this.lastError = null;
+    if (this.startedAt == null) {
+      this.startedAt = LocalDateTime.now();
+    }
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  // 청크 하나를 적용한 결과를 반영하고 체크포인트를 옮긴다
+  public void advance(final long position, final int recipients, final int skipped, final int created,
+      final long granted, final long elapsedMillis) {
+    this.position = position;
+    this.processedRecipients += recipients;
+    this.skippedLines += skipped;
+    this.createdAccounts += created;
+    this.grantedAmount += granted;
+    this.elapsedMillis += elapsedMillis;
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  public void complete() {
+    this.status = PointAirdropStatus.COMPLETED;
+    this.finishedAt = LocalDateTime.now();
+    this.updatedAt = this.finishedAt;
+  }
+
+  public void fail(final String error) {
+    this.status = PointAirdropStatus.FAILED;
+    this.lastError = error == null ? null : error.substring(0, Math.min(error.length(), 500));
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  // 초당 처리 회원 수
+  public double recipientsPerSecond() {
+    return elapsedMillis == 0 ? 0 : processedRecipients * 1000.0 / elapsedMillis;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public PointAirdropSourceType getSourceType() {
+    return sourceType;
+  }
+
+  public String getSource() {
+    return source;
+  }
+
+  public Integer getAmount() {
+    return amount;
+  }
+
+  public PointAirdropStatus getStatus() {
+    return status;
+  }
+
+  public Long getPosition() {
+    return position;
+  }
+
+  public Long getProcessedRecipients() {
+    return processedRecipients;
+  }
+
+  public Long getSkippedLines() {
+    return skippedLines;
+  }
+
+  public Long getCreatedAccounts() {
+    return createdAccounts;
+  }
+
+  public Long getGrantedAmount() {
+    return grantedAmount;
+  }
+
+  public Long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  public String getLastError() {
+    return lastError;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public LocalDateTime getStartedAt() {
+    return startedAt;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public LocalDateTime getFinishedAt() {
+    return finishedAt;
+  }
+}
@@ -0,0 +1,6 @@
+package com.example.pointservice.domain;
+
+public enum PointAirdropSourceType {
+  FILE,         // "userId,amount" 한 줄에 한 명인 CSV 파일 - 체크포인트는 읽은 줄 수
+  ALL_ACCOUNTS  // 포인트 계좌가 있는 모든 회원에게 같은 금액 - 체크포인트는 마지막 회원 ID
+}
@@ -0,0 +1,8 @@
+package com.example.pointservice.domain;
+
+public enum PointAirdropStatus {
+  READY,
+  RUNNING,
+  COMPLETED,
+  FAILED     // 체크포인트부터 재개 가능
+}
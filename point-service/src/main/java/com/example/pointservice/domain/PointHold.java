@@ -0,0 +1,140 @@
+package com.example.pointservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 홀드 (결제 예약)
+ * - HELD 인 동안 amount 만큼 계좌의 held 가 늘어 사용 가능 잔액이 줄고, 잔액 자체는 그대로다
+ * - HELD 에서 CAPTURED / RELEASED / EXPIRED 중 하나로 한 번만 바뀐다
+ */
+@Entity
+@Table(name = "point_holds", indexes = {
+    @Index(name = "idx_point_holds_status_expires", columnList = "status, expiresAt"),
+    @Index(name = "idx_point_holds_user_status", columnList = "userId, status")
+})
+public class PointHold {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_hold_seq")
+  @SequenceGenerator(name = "point_hold_seq", sequenceName = "point_holds_seq", allocationSize = 50)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  @Column(nullable = false)
+  private Integer amount;
+
+  private Long orderId;
+
+  @Column(nullable = false, unique = true, length = 100)
+  private String holdKey;
+
+  @Column(nullable = false, length = 20)
+  @Enumerated(EnumType.STRING)
+  private PointHoldStatus status;
+
+  @Column(nullable = false)
+  private LocalDateTime expiresAt;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  private LocalDateTime closedAt;
+
+  public PointHold() {
+  }
+
+  public PointHold(final Long userId, final Integer amount, final Long orderId, final String holdKey,
+      final LocalDateTime createdAt, final LocalDateTime expiresAt) {
+    this.userId = userId;
+    this.amount = amount;
+    this.orderId = orderId;
+    this.holdKey = holdKey;
+    this.status = PointHoldStatus.HELD;
+    this.createdAt = createdAt;
+    this.expiresAt = expiresAt;
+  }
+
+  // 만료 전 HELD 일 때만 확정
+  public boolean capture(final LocalDateTime now) {
+    if (status != PointHoldStatus.HELD || !expiresAt.isAfter(now)) {
+      return false;
+    }
+    close(PointHoldStatus.CAPTURED, now);
+    return true;
+  }
+
+  // HELD 일 때만 취소
+  public boolean release(final LocalDateTime now) {
+    if (status != PointHoldStatus.HELD) {
+      return false;
+    }
+    close(PointHoldStatus.RELEASED, now);
+    return true;
+  }
+
+  // 만료 시각이 지난 HELD 만 만료
+  public boolean expire(final LocalDateTime now) {
+    if (status != PointHoldStatus.HELD || expiresAt.isAfter(now)) {
+      return false;
+    }
+    close(PointHoldStatus.EXPIRED, now);
+    return true;
+  }
+
+  public boolean isHeld() {
+    return status == PointHoldStatus.HELD;
+  }
+
+  private void close(final PointHoldStatus status, final LocalDateTime now) {
+    this.status = status;
+    this.closedAt = now;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public Integer getAmount() {
+    return amount;
+  }
+
+  public Long getOrderId() {
+    return orderId;
+  }
+
+  public String getHoldKey() {
+    return holdKey;
+  }
+
+  public PointHoldStatus getStatus() {
+    return status;
+  }
+
+  public LocalDateTime getExpiresAt() {
+    return expiresAt;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public LocalDateTime getClosedAt() {
+    return closedAt;
+  }
+}
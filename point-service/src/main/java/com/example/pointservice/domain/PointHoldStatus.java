@@ -0,0 +1,8 @@
+package com.example.pointservice.domain;
+
+public enum PointHoldStatus {
+  HELD,      // 사용 가능 잔액에서 빠져 있음
+  CAPTURED,  // 확정되어 잔액에서 차감됨
+  RELEASED,  // 취소되어 사용 가능 잔액으로 돌아감
+  EXPIRED    // 만료되어 사용 가능 잔액으로 돌아감
+}
@@ -0,0 +1,142 @@
+package com.example.pointservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+
+/**
+ * 유효기간이 있는 포인트 묶음 (무상 지급분)
+ * - 같은 회원, 같은 만료 시각(일 단위)의 지급은 한 묶음으로 합쳐 회원당 ACTIVE 묶음 수가 유효기간 일수를 넘지 않는다
+ * - 계좌 잔액 중 ACTIVE 묶음의 remaining 합계를 뺀 나머지는 만료되지 않는 포인트(유상 충전, 환불 등)다
+ * - ACTIVE 에서 EXHAUSTED / EXPIRED 중 하나로 한 번만 바뀐다
+ */
+@Entity
+@Table(name = "point_lots", indexes = {
+    @Index(name = "idx_point_lots_user_status_expires", columnList = "userId, status, expiresAt"),
+    @Index(name = "idx_point_lots_status_expires", columnList = "status, expiresAt")
+})
+public class PointLot {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_lot_seq")
+  @SequenceGenerator(name = "point_lot_seq", sequenceName = "point_lots_seq", allocationSize = 50)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  @Column(nullable = false)
+  private Integer amount;
+
+  @Column(nullable = false)
+  private Integer remaining;
+
+  @Column(nullable = false, length = 20)
+  @Enumerated(EnumType.STRING)
+  private PointLotStatus status;
+
+  @Column(nullable = false)
+  private LocalDateTime expiresAt;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  private LocalDateTime closedAt;
+
+  // 사용과 만료 스윕이 같은 묶음을 동시에 고치면 한쪽만 반영
+  @Version
+  private Long version;
+
+  public PointLot() {
+  }
+
+  public PointLot(final Long userId, final Integer amount, final LocalDateTime expiresAt,
+      final LocalDateTime createdAt) {
+    this.userId = userId;
+    this.amount = amount;
+    this.remaining = amount;
+    this.status = PointLotStatus.ACTIVE;
+    this.expiresAt = expiresAt;
+    this.createdAt = createdAt;
+  }
+
+  // 같은 만료 시각의 지급을 합친다
+  public void add(final int amount) {
+    this.amount = this.amount + amount;
+    this.remaining = this.remaining + amount;
+  }
+
+  // 최대 max 만큼 사용하고 실제 사용한 금액을 반환 (다 쓰면 EXHAUSTED)
+  public int consume(final int max, final LocalDateTime now) {
+    if (status != PointLotStatus.ACTIVE) {
+      return 0;
+    }
+    final int taken = Math.min(remaining, max);
+    this.remaining = this.remaining - taken;
+    if (this.remaining == 0) {
+      close(PointLotStatus.EXHAUSTED, now);
+    }
+    return taken;
+  }
+
+  // 만료 시각이 지난 ACTIVE 묶음만 만료하고 남아 있던 금액을 반환
+  public int expire(final LocalDateTime now) {
+    if (status != PointLotStatus.ACTIVE || expiresAt.isAfter(now)) {
+      return 0;
+    }
+    final int expired = remaining;
+    this.remaining = 0;
+    close(PointLotStatus.EXPIRED, now);
+    return expired;
+  }
+
+  public boolean isActive() {
+    return status == PointLotStatus.ACTIVE;
+  }
+
+  private void close(final PointLotStatus status, final LocalDateTime now) {
+    this.status = status;
+    this.closedAt = now;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public Integer getAmount() {
+    return amount;
+  }
+
+  public Integer getRemaining() {
+    return remaining;
+  }
+
+  public PointLotStatus getStatus() {
+    return status;
+  }
+
+  public LocalDateTime getExpiresAt() {
+    return expiresAt;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public LocalDateTime getClosedAt() {
+    return closedAt;
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.pointservice.domain;
+
+public enum PointLotStatus {
+  ACTIVE,     // 남은 금액이 있고 아직 만료 처리되지 않음
+  EXHAUSTED,  // 모두 사용됨
+  EXPIRED     // 만료 처리됨 (남은 금액은 잔액에서 차감)
+}
@@ -0,0 +1,65 @@
+package com.example.pointservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 원장 잔액 스냅샷 - lastTransactionId 까지의 거래를 합산한 잔액
+ * 원장 기준 잔액 = balance + (lastTransactionId 이후 거래 합계)
+ */
+@Entity
+@Table(name = "point_snapshots")
+public class PointSnapshot {
+
+  @Id
+  private Long userId;
+
+  @Column(nullable = false)
+  private Integer balance;
+
+  @Column(nullable = false)
+  private Long lastTransactionId;
+
+  @Column(nullable = false)
+  private LocalDateTime snapshotAt;
+
+  public PointSnapshot() {
+  }
+
+  public PointSnapshot(final Long userId, final Integer balance, final Long lastTransactionId) {
+    this.userId = userId;
+    this.balance = balance;
+    this.lastTransactionId = lastTransactionId;
+    this.snapshotAt = LocalDateTime.now();
+  }
+
+  public static PointSnapshot empty(final Long userId) {
+    return new PointSnapshot(userId, 0, 0L);
+  }
+
+  // lastTransactionId 이후 거래 합계를 반영
+  public void apply(final long amount, final Long lastTransactionId) {
+    this.balance = Math.toIntExact(this.balance + amount);
+    this.lastTransactionId = lastTransactionId;
+    this.snapshotAt = LocalDateTime.now();
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public Integer getBalance() {
+    return balance;
+  }
+
+  public Long getLastTransactionId() {
+    return lastTransactionId;
+  }
+
+  public LocalDateTime getSnapshotAt() {
+    return snapshotAt;
+  }
+}
@@ -0,0 +1,90 @@
+package com.example.pointservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 거래 원장 (추가만 하고 수정/삭제하지 않는다)
+ * - amount 는 잔액 변화량 (추가/환불은 +, 사용/차감은 -)
+ * - ID 는 시퀀스에서 미리 할당받아(allocationSize) 여러 건을 JDBC 배치 INSERT 로 묶을 수 있다
+ */
+@Entity
+@Table(name = "point_transactions", indexes = {
+    @Index(name = "idx_point_tx_user", columnList = "userId, id"),
+    @Index(name = "idx_point_tx_created", columnList = "createdAt")
+})
+public class PointTransaction {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_tx_seq")
+  @SequenceGenerator(name = "point_tx_seq", sequenceName = "point_transactions_seq", allocationSize = 100)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  @Column(nullable = false, length = 20)
+  @Enumerated(EnumType.STRING)
+  private PointTransactionType type;
+
+  @Column(nullable = false)
+  private Integer amount;
+
+  private Long orderId;
+
+  @Column(unique = true, length = 100)
+  private String idempotencyKey;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  public PointTransaction() {
+  }
+
+  public PointTransaction(final Long userId, final PointTransactionType type, final Integer amount,
+      final Long orderId, final String idempotencyKey) {
+    this.userId = userId;
+    this.type = type;
+    this.amount = amount;
+    this.orderId = orderId;
+    this.idempotencyKey = idempotencyKey;
+    this.createdAt = LocalDateTime.now();
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public PointTransactionType getType() {
+    return type;
+  }
+
+  public Integer getAmount() {
+    return amount;
+  }
+
+  public Long getOrderId() {
+    return orderId;
+  }
+
+  public String getIdempotencyKey() {
+    return idempotencyKey;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+}
@@ -0,0 +1,10 @@
+package com.example.pointservice.domain;
+
+public enum PointTransactionType {
+  CHARGE,  // 포인트 추가 (+)
+  USE,     // 포인트 사용 (-)
+  DEDUCT,  // 주문 결제 차감 (-)
+  CAPTURE, // 홀드 확정 (-)
+  EXPIRE,  // 유효기간 만료 (-)
+  REFUND   // 환불 (+)
+}
@@ -1,5 +1,9 @@
 package com.example.pointservice.dto.request;
 
-public record AddPointRequest(Long userId, Integer amount) {
+// validDays 가 있으면 무상 지급 - 그 기간이 지나면 남은 만큼 만료된다 (없으면 만료 없음)
+public record AddPointRequest(Long userId, Integer amount, Integer validDays) {
 
+  public AddPointRequest(Long userId, Integer amount) {
+    this(userId, amount, null);
+  }
 }
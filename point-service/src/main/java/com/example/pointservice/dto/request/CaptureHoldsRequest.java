@@ -0,0 +1,6 @@
+package com.example.pointservice.dto.request;
+
+import java.util.List;
+
+public record CaptureHoldsRequest(List<Long> holdIds) {
+}
@@ -0,0 +1,7 @@
+package com.example.pointservice.dto.request;
+
+import com.example.pointservice.domain.PointAirdropSourceType;
+
+// FILE: file 은 point.airdrop.base-dir 아래 상대 경로, ALL_ACCOUNTS: amount 는 회원당 지급 금액
+public record CreateAirdropRequest(PointAirdropSourceType sourceType, String file, Integer amount) {
+}
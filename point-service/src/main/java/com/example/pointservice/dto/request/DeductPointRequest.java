@@ -0,0 +1,9 @@
+package com.example.pointservice.dto.request;
+
+// order-service PointClient 요청 형식 - balance 는 차감할 금액, idempotencyKey 가 같으면 한 번만 차감
+public record DeductPointRequest(Long userId, Integer balance, Long orderId, String idempotencyKey) {
+
+  public DeductPointRequest(Long userId, Integer balance) {
+    this(userId, balance, null, null);
+  }
+}
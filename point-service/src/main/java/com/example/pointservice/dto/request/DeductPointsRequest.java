@@ -0,0 +1,11 @@
+package com.example.pointservice.dto.request;
+
+import java.util.List;
+
+// 일괄 결제 차감 - allOrNothing 이면 한 건이라도 실패할 때 전체를 되돌리고, 아니면 가능한 건만 차감 (기본)
+public record DeductPointsRequest(List<DeductPointRequest> entries, Boolean allOrNothing) {
+
+  public boolean isAllOrNothing() {
+    return Boolean.TRUE.equals(allOrNothing);
+  }
+}
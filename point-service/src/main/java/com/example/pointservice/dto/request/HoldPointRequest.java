@@ -0,0 +1,9 @@
+package com.example.pointservice.dto.request;
+
+// holdKey 가 같으면 한 번만 홀드, ttlSeconds 가 없으면 기본 만료 시간
+public record HoldPointRequest(Long userId, Integer amount, Long orderId, String holdKey, Integer ttlSeconds) {
+
+  public HoldPointRequest(Long userId, Integer amount, String holdKey) {
+    this(userId, amount, null, holdKey, null);
+  }
+}
@@ -1,5 +1,9 @@
 package com.example.pointservice.dto.request;
 
-public record RefundPointRequest(Long userId, Integer amount) {
+// idempotencyKey 가 같으면 한 번만 환불
+public record RefundPointRequest(Long userId, Integer amount, Long orderId, String idempotencyKey) {
 
+  public RefundPointRequest(Long userId, Integer amount) {
+    this(userId, amount, null, null);
+  }
 }
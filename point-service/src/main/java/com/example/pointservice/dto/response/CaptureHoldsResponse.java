@@ -0,0 +1,6 @@
+package com.example.pointservice.dto.response;
+
+import java.util.List;
+
+public record CaptureHoldsResponse(int requested, int captured, List<HoldCaptureResult> results) {
+}
@@ -0,0 +1,5 @@
+package com.example.pointservice.dto.response;
+
+public record DeductPointResponse(Long userId, Integer remainingPoints, Integer deductedAmount, String transactionId) {
+
+}
@@ -0,0 +1,6 @@
+package com.example.pointservice.dto.response;
+
+import java.util.List;
+
+public record DeductPointsResponse(int requested, int deducted, boolean rolledBack, List<PointDeductResult> results) {
+}
@@ -0,0 +1,14 @@
+package com.example.pointservice.dto.response;
+
+import com.example.pointservice.domain.PointHoldStatus;
+
+// 일괄 확정의 홀드별 결과 - status 는 처리 후 홀드 상태 (없으면 null)
+public record HoldCaptureResult(Long holdId, Outcome outcome, PointHoldStatus status) {
+
+  public enum Outcome {
+    CAPTURED,          // 이번 요청으로 확정
+    ALREADY_CAPTURED,  // 이미 확정되어 있음 (재시도)
+    NOT_ACTIVE,        // 취소 / 만료되어 확정 불가
+    NOT_FOUND
+  }
+}
@@ -0,0 +1,22 @@
+package com.example.pointservice.dto.response;
+
+import com.example.pointservice.domain.PointAirdrop;
+import com.example.pointservice.domain.PointAirdropSourceType;
+import com.example.pointservice.domain.PointAirdropStatus;
+import java.time.LocalDateTime;
+
+public record PointAirdropResponse(
+    Long id, PointAirdropSourceType sourceType, PointAirdropStatus status, Long position,
+    Long processedRecipients, Long skippedLines, Long createdAccounts, Long grantedAmount,
+    double recipientsPerSecond, String lastError, LocalDateTime startedAt, LocalDateTime finishedAt
+) {
+
+  public static PointAirdropResponse of(final PointAirdrop airdrop) {
+    return new PointAirdropResponse(
+        airdrop.getId(), airdrop.getSourceType(), airdrop.getStatus(), airdrop.getPosition(),
+        airdrop.getProcessedRecipients(), airdrop.getSkippedLines(), airdrop.getCreatedAccounts(),
+        airdrop.getGrantedAmount(), airdrop.recipientsPerSecond(), airdrop.getLastError(),
+        airdrop.getStartedAt(), airdrop.getFinishedAt()
+    );
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.pointservice.dto.response;
+
+// 일괄 차감의 건별 결과 (요청 순서) - remainingPoints / transactionId 는 차감된 건만 채운다
+public record PointDeductResult(Long userId, Integer amount, Outcome outcome, Integer remainingPoints,
+    String transactionId) {
+
+  public enum Outcome {
+    DEDUCTED,              // 이번 요청으로 차감
+    ALREADY_DEDUCTED,      // 같은 멱등 키로 이미 차감됨 (재시도)
+    INSUFFICIENT_BALANCE,
+    ACCOUNT_NOT_FOUND,
+    INVALID_ENTRY,         // userId 가 없거나 금액이 0 이하
+    NOT_APPLIED            // allOrNothing 요청에서 다른 건이 실패해 되돌림
+  }
+
+  public boolean isSucceeded() {
+    return outcome == Outcome.DEDUCTED || outcome == Outcome.ALREADY_DEDUCTED;
+  }
+}
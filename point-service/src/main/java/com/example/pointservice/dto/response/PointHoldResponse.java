@@ -0,0 +1,16 @@
+package com.example.pointservice.dto.response;
+
+import com.example.pointservice.domain.PointHold;
+import com.example.pointservice.domain.PointHoldStatus;
+import java.time.LocalDateTime;
+
+public record PointHoldResponse(
+    Long holdId, Long userId, Integer amount, Long orderId, PointHoldStatus status, LocalDateTime expiresAt
+) {
+
+  public static PointHoldResponse of(final PointHold hold) {
+    return new PointHoldResponse(
+        hold.getId(), hold.getUserId(), hold.getAmount(), hold.getOrderId(), hold.getStatus(), hold.getExpiresAt()
+    );
+  }
+}
@@ -4,12 +4,12 @@ import com.example.pointservice.domain.Point;
 import java.time.LocalDateTime;
 
 public record PointResponse(
-    Long id, Long userId, Integer balance, LocalDateTime lastUpdated
+    Long id, Long userId, Integer balance, Integer availableBalance, LocalDateTime lastUpdated
 ) {
 
   public static PointResponse of(final Point point) {
     return new PointResponse(
-        point.getId(), point.getUserId(), point.getBalance(), point.getLastUpdated()
+        point.getId(), point.getUserId(), point.getBalance(), point.getAvailableBalance(), point.getLastUpdated()
     );
   }
 }
@@ -0,0 +1,17 @@
+package com.example.pointservice.dto.response;
+
+import com.example.pointservice.domain.PointTransaction;
+import com.example.pointservice.domain.PointTransactionType;
+import java.time.LocalDateTime;
+
+public record PointTransactionResponse(
+    Long id, Long userId, PointTransactionType type, Integer amount, Long orderId, LocalDateTime createdAt
+) {
+
+  public static PointTransactionResponse of(final PointTransaction transaction) {
+    return new PointTransactionResponse(
+        transaction.getId(), transaction.getUserId(), transaction.getType(), transaction.getAmount(),
+        transaction.getOrderId(), transaction.getCreatedAt()
+    );
+  }
+}
@@ -15,6 +15,20 @@ public enum ErrorCode {
   NEGATIVE_AMOUNT(HttpStatus.BAD_REQUEST, "NEGATIVE_AMOUNT", "추가할 포인트는 0보다 커야 합니다."),
   ZERO_OR_NEGATIVE_USE_AMOUNT(HttpStatus.BAD_REQUEST, "ZERO_OR_NEGATIVE_USE_AMOUNT", "사용할 포인트는 0보다 커야 합니다."),
   ZERO_OR_NEGATIVE_REFUND_AMOUNT(HttpStatus.BAD_REQUEST, "ZERO_OR_NEGATIVE_REFUND_AMOUNT", "환불할 포인트는 0보다 커야 합니다."),
+  INVALID_VALID_DAYS(HttpStatus.BAD_REQUEST, "INVALID_VALID_DAYS", "유효기간은 1일 이상이어야 합니다."),
+
+  CONCURRENT_UPDATE_CONFLICT(HttpStatus.CONFLICT, "CONCURRENT_UPDATE_CONFLICT", "동시에 처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+  // 홀드 관련 에러
+  HOLD_KEY_NOT_NULL(HttpStatus.BAD_REQUEST, "HOLD_KEY_NOT_NULL", "홀드 키는 비어있을 수 없습니다."),
+  HOLD_NOT_FOUND(HttpStatus.NOT_FOUND, "HOLD_NOT_FOUND", "홀드가 존재하지 않습니다."),
+  HOLD_NOT_ACTIVE(HttpStatus.BAD_REQUEST, "HOLD_NOT_ACTIVE", "이미 종료되었거나 만료된 홀드입니다."),
+
+  // 일괄 지급 관련 에러
+  AIRDROP_NOT_FOUND(HttpStatus.NOT_FOUND, "AIRDROP_NOT_FOUND", "일괄 지급 작업이 존재하지 않습니다."),
+  AIRDROP_INVALID_SOURCE(HttpStatus.BAD_REQUEST, "AIRDROP_INVALID_SOURCE", "일괄 지급 대상을 읽을 수 없습니다."),
+  AIRDROP_ALREADY_RUNNING(HttpStatus.CONFLICT, "AIRDROP_ALREADY_RUNNING", "이미 실행 중인 일괄 지급 작업입니다."),
+  AIRDROP_ALREADY_COMPLETED(HttpStatus.BAD_REQUEST, "AIRDROP_ALREADY_COMPLETED", "이미 완료된 일괄 지급 작업입니다."),
 
   // 일반 에러
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다."),
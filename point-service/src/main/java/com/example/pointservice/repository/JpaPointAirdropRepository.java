@@ -0,0 +1,7 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointAirdrop;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaPointAirdropRepository extends PointAirdropRepository, JpaRepository<PointAirdrop, Long> {
+}
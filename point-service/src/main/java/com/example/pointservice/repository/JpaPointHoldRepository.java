@@ -0,0 +1,47 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointHold;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 상태 변경은 모두 "현재 HELD 일 때만" 조건부 UPDATE 로 처리해, 확정 / 취소 / 만료가 동시에 와도 하나만 반영된다
+ * (변경 후 같은 트랜잭션에서 다시 읽을 수 있도록 영속성 컨텍스트를 비운다)
+ */
+public interface JpaPointHoldRepository extends PointHoldRepository, JpaRepository<PointHold, Long> {
+
+  @Override
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE PointHold h SET h.status = com.example.pointservice.domain.PointHoldStatus.CAPTURED,"
+      + " h.closedAt = :now WHERE h.id = :holdId"
+      + " AND h.status = com.example.pointservice.domain.PointHoldStatus.HELD AND h.expiresAt > :now")
+  int markCaptured(@Param("holdId") Long holdId, @Param("now") LocalDateTime now);
+
+  @Override
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE PointHold h SET h.status = com.example.pointservice.domain.PointHoldStatus.RELEASED,"
+      + " h.closedAt = :now WHERE h.id = :holdId"
+      + " AND h.status = com.example.pointservice.domain.PointHoldStatus.HELD")
+  int markReleased(@Param("holdId") Long holdId, @Param("now") LocalDateTime now);
+
+  @Override
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE PointHold h SET h.status = com.example.pointservice.domain.PointHoldStatus.EXPIRED,"
+      + " h.closedAt = :now WHERE h.id = :holdId"
+      + " AND h.status = com.example.pointservice.domain.PointHoldStatus.HELD AND h.expiresAt <= :now")
+  int markExpired(@Param("holdId") Long holdId, @Param("now") LocalDateTime now);
+
+  @Query("SELECT h.id FROM PointHold h WHERE h.status = com.example.pointservice.domain.PointHoldStatus.HELD"
+      + " AND h.expiresAt <= :now ORDER BY h.expiresAt")
+  List<Long> findExpiredHoldIds(@Param("now") LocalDateTime now, Limit limit);
+
+  @Override
+  default List<Long> findExpiredIds(final LocalDateTime now, final int limit) {
+    return findExpiredHoldIds(now, Limit.of(limit));
+  }
+}
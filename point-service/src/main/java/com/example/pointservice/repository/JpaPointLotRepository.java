@@ -0,0 +1,44 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointLot;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 사용은 인덱스(userId, status, expiresAt), 만료 스윕은 인덱스(status, expiresAt) 범위만 읽는다
+ */
+public interface JpaPointLotRepository extends PointLotRepository, JpaRepository<PointLot, Long> {
+
+  @Override
+  @Query("SELECT l FROM PointLot l WHERE l.userId = :userId"
+      + " AND l.status = com.example.pointservice.domain.PointLotStatus.ACTIVE AND l.expiresAt = :expiresAt")
+  Optional<PointLot> findActiveLot(@Param("userId") Long userId, @Param("expiresAt") LocalDateTime expiresAt);
+
+  @Query("SELECT l FROM PointLot l WHERE l.userId = :userId"
+      + " AND l.status = com.example.pointservice.domain.PointLotStatus.ACTIVE ORDER BY l.expiresAt, l.id")
+  List<PointLot> findActiveLotsOrdered(@Param("userId") Long userId, Limit limit);
+
+  @Query("SELECT l FROM PointLot l WHERE l.status = com.example.pointservice.domain.PointLotStatus.ACTIVE"
+      + " AND l.expiresAt <= :now ORDER BY l.expiresAt, l.id")
+  List<PointLot> findDueLotsOrdered(@Param("now") LocalDateTime now, Limit limit);
+
+  @Override
+  @Query("SELECT COALESCE(SUM(l.remaining), 0) FROM PointLot l WHERE l.userId = :userId"
+      + " AND l.status = com.example.pointservice.domain.PointLotStatus.ACTIVE")
+  int sumActiveRemaining(@Param("userId") Long userId);
+
+  @Override
+  default List<PointLot> findActiveLots(final Long userId, final int limit) {
+    return findActiveLotsOrdered(userId, Limit.of(limit));
+  }
+
+  @Override
+  default List<PointLot> findDueLots(final LocalDateTime now, final int limit) {
+    return findDueLotsOrdered(now, Limit.of(limit));
+  }
+}
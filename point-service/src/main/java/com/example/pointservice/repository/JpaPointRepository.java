@@ -2,11 +2,19 @@ package com.example.pointservice.repository;
 
 import com.example.pointservice.domain.Point;
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+/**
+ * 조건부 UPDATE 쿼리는 version 도 올려, 낙관적 락 모드에서 먼저 읽어둔 엔티티가 이 변경을 덮어쓰지 못하게 한다
+ */
 public interface JpaPointRepository extends PointRepository, JpaRepository<Point, Long> {
 
   @Lock(LockModeType.PESSIMISTIC_WRITE)
@@ -14,4 +22,66 @@ public interface JpaPointRepository extends PointRepository, JpaRepository<Point
   Optional<Point> findByUserIdWithLock(Long userId);
 
   Optional<Point> findByUserId(Long userId);
+
+  // 같은 회원의 INSERT 가 동시에 오면 나중 것은 먼저 것이 커밋될 때까지 기다렸다가 무시된다 (unique userId)
+  @Override
+  @Modifying
+  @Query(value = "INSERT IGNORE INTO points (user_id, balance, held, version, last_updated)"
+      + " VALUES (:userId, 0, 0, 0, CURRENT_TIMESTAMP)", nativeQuery = true)
+  int insertIfAbsent(@Param("userId") Long userId);
+
+  @Override
+  @Modifying
+  @Query("UPDATE Point p SET p.balance = p.balance - :amount,"
+      + " p.lastUpdated = LOCAL_DATETIME, p.version = p.version + 1"
+      + " WHERE p.userId = :userId AND p.balance - p.held >= :amount")
+  int deductIfSufficient(@Param("userId") Long userId, @Param("amount") int amount);
+
+  @Override
+  @Modifying
+  @Query("UPDATE Point p SET p.held = p.held + :amount,"
+      + " p.lastUpdated = LOCAL_DATETIME, p.version = p.version + 1"
+      + " WHERE p.userId = :userId AND p.balance - p.held >= :amount")
+  int holdIfAvailable(@Param("userId") Long userId, @Param("amount") int amount);
+
+  @Override
+  @Modifying
+  @Query("UPDATE Point p SET p.held = p.held - :amount,"
+      + " p.lastUpdated = LOCAL_DATETIME, p.version = p.version + 1"
+      + " WHERE p.userId = :userId AND p.held >= :amount")
+  int releaseHeld(@Param("userId") Long userId, @Param("amount") int amount);
+
+  @Override
+  @Modifying
+  @Query("UPDATE Point p SET p.balance = p.balance - :amount, p.held = p.held - :amount,"
+      + " p.lastUpdated = LOCAL_DATETIME, p.version = p.version + 1"
+      + " WHERE p.userId = :userId AND p.held >= :amount")
+  int captureHeld(@Param("userId") Long userId, @Param("amount") int amount);
+
+  @Override
+  @Query("SELECT p.balance FROM Point p WHERE p.userId = :userId")
+  Optional<Integer> findBalanceByUserId(@Param("userId") Long userId);
+
+  @Override
+  @Query("SELECT p.balance - p.held FROM Point p WHERE p.userId = :userId")
+  Optional<Integer> findAvailableBalanceByUserId(@Param("userId") Long userId);
+
+  @Override
+  @Query("SELECT p.userId FROM Point p WHERE p.userId IN :userIds")
+  List<Long> findExistingUserIds(@Param("userIds") Collection<Long> userIds);
+
+  @Override
+  @Modifying
+  @Query("UPDATE Point p SET p.balance = p.balance + :amount,"
+      + " p.lastUpdated = LOCAL_DATETIME, p.version = p.version + 1"
+      + " WHERE p.userId IN :userIds")
+  int addToBalances(@Param("userIds") Collection<Long> userIds, @Param("amount") int amount);
+
+  @Query("SELECT p.userId FROM Point p WHERE p.userId > :afterUserId ORDER BY p.userId")
+  List<Long> findUserIdsOrdered(@Param("afterUserId") Long afterUserId, Limit limit);
+
+  @Override
+  default List<Long> findUserIdsAfter(final Long afterUserId, final int limit) {
+    return findUserIdsOrdered(afterUserId, Limit.of(limit));
+  }
 }
@@ -0,0 +1,18 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointSnapshot;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface JpaPointSnapshotRepository extends PointSnapshotRepository, JpaRepository<PointSnapshot, Long> {
+
+  @Override
+  default Optional<PointSnapshot> findByUserId(final Long userId) {
+    return findById(userId);
+  }
+
+  @Override
+  @Query("SELECT MAX(s.lastTransactionId) FROM PointSnapshot s")
+  Optional<Long> findMaxLastTransactionId();
+}
@@ -0,0 +1,48 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointTransaction;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JpaPointTransactionRepository extends PointTransactionRepository,
+    JpaRepository<PointTransaction, Long> {
+
+  List<PointTransaction> findByUserIdOrderByIdDesc(Long userId, Limit limit);
+
+  @Override
+  @Query("SELECT COALESCE(SUM(t.amount), 0) FROM PointTransaction t WHERE t.userId = :userId AND t.id > :afterId")
+  long sumAmountAfter(@Param("userId") Long userId, @Param("afterId") Long afterId);
+
+  @Override
+  @Query("SELECT MAX(t.id) FROM PointTransaction t WHERE t.createdAt <= :before")
+  Optional<Long> findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+  @Query("SELECT DISTINCT t.userId FROM PointTransaction t"
+      + " WHERE t.id > :fromId AND t.id <= :toId AND t.userId > :afterUserId ORDER BY t.userId")
+  List<Long> findUserIds(@Param("fromId") Long fromId, @Param("toId") Long toId,
+      @Param("afterUserId") Long afterUserId, Limit limit);
+
+  @Override
+  @Query("SELECT new com.example.pointservice.repository.PointDelta(t.userId, SUM(t.amount), MAX(t.id))"
+      + " FROM PointTransaction t WHERE t.userId IN :userIds AND t.id <= :toId"
+      + " AND NOT EXISTS (SELECT 1 FROM PointSnapshot s WHERE s.userId = t.userId AND s.lastTransactionId >= t.id)"
+      + " GROUP BY t.userId")
+  List<PointDelta> sumUnsnapshotted(@Param("userIds") Collection<Long> userIds, @Param("toId") Long toId);
+
+  @Override
+  default List<PointTransaction> findRecentByUserId(final Long userId, final int limit) {
+    return findByUserIdOrderByIdDesc(userId, Limit.of(limit));
+  }
+
+  @Override
+  default List<Long> findUserIdsInRange(final Long fromId, final Long toId, final Long afterUserId,
+      final int limit) {
+    return findUserIds(fromId, toId, afterUserId, Limit.of(limit));
+  }
+}
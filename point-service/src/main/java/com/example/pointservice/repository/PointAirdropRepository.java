@@ -0,0 +1,11 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointAirdrop;
+import java.util.Optional;
+
+public interface PointAirdropRepository {
+
+  PointAirdrop save(PointAirdrop airdrop);
+
+  Optional<PointAirdrop> findById(Long id);
+}
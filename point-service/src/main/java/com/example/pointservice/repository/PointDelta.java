@@ -0,0 +1,6 @@
+package com.example.pointservice.repository;
+
+// 회원별 스냅샷 이후 거래 합계
+public record PointDelta(Long userId, Long amount, Long lastTransactionId) {
+
+}
@@ -0,0 +1,29 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointHold;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointHoldRepository {
+
+  PointHold save(PointHold hold);
+
+  Optional<PointHold> findById(Long id);
+
+  List<PointHold> findAllById(Iterable<Long> ids);
+
+  Optional<PointHold> findByHoldKey(String holdKey);
+
+  // HELD 이고 만료 전일 때만 CAPTURED 로 변경 (변경된 행 수 반환)
+  int markCaptured(Long holdId, LocalDateTime now);
+
+  // HELD 일 때만 RELEASED 로 변경
+  int markReleased(Long holdId, LocalDateTime now);
+
+  // HELD 이고 만료 시각이 지났을 때만 EXPIRED 로 변경
+  int markExpired(Long holdId, LocalDateTime now);
+
+  // 만료 시각이 지난 HELD 홀드 ID (만료 시각 순, 최대 limit 개)
+  List<Long> findExpiredIds(LocalDateTime now, int limit);
+}
@@ -0,0 +1,25 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointLot;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointLotRepository {
+
+  PointLot save(PointLot lot);
+
+  <S extends PointLot> List<S> saveAll(Iterable<S> lots);
+
+  // 같은 만료 시각의 ACTIVE 묶음 (지급을 합칠 대상)
+  Optional<PointLot> findActiveLot(Long userId, LocalDateTime expiresAt);
+
+  // 회원의 ACTIVE 묶음을 만료 시각이 이른 순으로 최대 limit 개
+  List<PointLot> findActiveLots(Long userId, int limit);
+
+  // 만료 시각이 지난 ACTIVE 묶음 (만료 시각 순, 최대 limit 개)
+  List<PointLot> findDueLots(LocalDateTime now, int limit);
+
+  // 회원의 ACTIVE 묶음 남은 금액 합계 (만료 예정 포인트)
+  int sumActiveRemaining(Long userId);
+}
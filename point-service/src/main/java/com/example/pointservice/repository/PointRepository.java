@@ -1,6 +1,8 @@
 package com.example.pointservice.repository;
 
 import com.example.pointservice.domain.Point;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PointRepository {
@@ -9,7 +11,38 @@ public interface PointRepository {
 
   Optional<Point> findByUserIdWithLock(Long userId);
 
+  // 계좌가 없을 때만 잔액 0 으로 생성 (이미 있으면 아무것도 하지 않음, 생성된 행 수 반환)
+  int insertIfAbsent(Long userId);
+
+  // 사용 가능 잔액(잔액 - 홀드)이 amount 이상일 때만 차감 (엔티티 로드 / 락 없이 UPDATE 1회, 변경된 행 수 반환)
+  int deductIfSufficient(Long userId, int amount);
+
+  // 사용 가능 잔액이 amount 이상일 때만 홀드
+  int holdIfAvailable(Long userId, int amount);
+
+  // 홀드 해제
+  int releaseHeld(Long userId, int amount);
+
+  // 홀드된 금액을 잔액에서 차감
+  int captureHeld(Long userId, int amount);
+
+  Optional<Integer> findBalanceByUserId(Long userId);
+
+  // 사용 가능 잔액(잔액 - 홀드)
+  Optional<Integer> findAvailableBalanceByUserId(Long userId);
+
+  // 주어진 회원 중 계좌가 있는 회원 ID
+  List<Long> findExistingUserIds(Collection<Long> userIds);
+
+  // 여러 계좌에 같은 금액을 한 번에 추가 (변경된 행 수 반환)
+  int addToBalances(Collection<Long> userIds, int amount);
+
+  // afterUserId 다음 계좌의 회원 ID 를 오름차순으로 최대 limit 개
+  List<Long> findUserIdsAfter(Long afterUserId, int limit);
+
   Point save(Point point);
 
+  <S extends Point> List<S> saveAll(Iterable<S> points);
+
   void deleteAll();
 }
@@ -0,0 +1,17 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointSnapshot;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointSnapshotRepository {
+
+  Optional<PointSnapshot> findByUserId(Long userId);
+
+  List<PointSnapshot> findAllById(Iterable<Long> userIds);
+
+  <S extends PointSnapshot> List<S> saveAll(Iterable<S> snapshots);
+
+  // 가장 최근에 반영된 거래 ID (스냅샷이 없으면 empty)
+  Optional<Long> findMaxLastTransactionId();
+}
@@ -0,0 +1,33 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointTransaction;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointTransactionRepository {
+
+  PointTransaction save(PointTransaction transaction);
+
+  <S extends PointTransaction> List<S> saveAll(Iterable<S> transactions);
+
+  Optional<PointTransaction> findByIdempotencyKey(String idempotencyKey);
+
+  List<PointTransaction> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+  // 최신순 최대 limit 건
+  List<PointTransaction> findRecentByUserId(Long userId, int limit);
+
+  // afterId 이후 거래 합계 (없으면 0)
+  long sumAmountAfter(Long userId, Long afterId);
+
+  // before 까지 기록된 거래 중 가장 큰 ID
+  Optional<Long> findMaxIdCreatedBefore(LocalDateTime before);
+
+  // (fromId, toId] 범위에 거래가 있는 회원 ID 를 afterUserId 다음부터 오름차순으로 최대 limit 개
+  List<Long> findUserIdsInRange(Long fromId, Long toId, Long afterUserId, int limit);
+
+  // 회원별로 스냅샷에 아직 반영되지 않은 toId 이하 거래 합계
+  List<PointDelta> sumUnsnapshotted(Collection<Long> userIds, Long toId);
+}
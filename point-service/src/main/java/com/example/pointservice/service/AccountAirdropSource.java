@@ -0,0 +1,34 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.repository.PointRepository;
+import java.util.List;
+
+/**
+ * 포인트 계좌가 있는 모든 회원에게 같은 금액 - 회원 ID 오름차순 키셋 페이징
+ * - 체크포인트는 마지막으로 처리한 회원 ID
+ */
+class AccountAirdropSource implements AirdropSource {
+
+  private final PointRepository pointRepository;
+  private final int amount;
+  private long lastUserId;
+
+  AccountAirdropSource(final PointRepository pointRepository, final int amount, final long lastUserId) {
+    this.pointRepository = pointRepository;
+    this.amount = amount;
+    this.lastUserId = lastUserId;
+  }
+
+  @Override
+  public Chunk next(final int chunkSize) {
+    final List<Long> userIds = pointRepository.findUserIdsAfter(lastUserId, chunkSize);
+    if (!userIds.isEmpty()) {
+      lastUserId = userIds.get(userIds.size() - 1);
+    }
+    return new Chunk(userIds.stream().map(userId -> new Recipient(userId, amount)).toList(), 0, lastUserId);
+  }
+
+  @Override
+  public void close() {
+  }
+}
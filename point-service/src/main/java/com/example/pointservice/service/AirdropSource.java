@@ -0,0 +1,29 @@
+package com.example.pointservice.service;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 일괄 지급 대상을 청크 단위로 순서대로 읽는다 - 전체 목록을 메모리에 올리지 않는다
+ */
+interface AirdropSource extends AutoCloseable {
+
+  /**
+   * 다음 청크 (최대 chunkSize 명) - 더 읽을 것이 없으면 recipients 가 빈 청크
+   */
+  Chunk next(int chunkSize) throws IOException;
+
+  @Override
+  void close() throws IOException;
+
+  record Recipient(long userId, int amount) {
+  }
+
+  // position 은 이 청크까지 처리했을 때의 체크포인트, skipped 는 형식이 잘못되어 건너뛴 줄 수
+  record Chunk(List<Recipient> recipients, int skipped, long position) {
+
+    boolean isEmpty() {
+      return recipients.isEmpty() && skipped == 0;
+    }
+  }
+}
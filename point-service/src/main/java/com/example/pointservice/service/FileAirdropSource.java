@@ -0,0 +1,62 @@
+package com.example.pointservice.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * "userId,amount" CSV 를 한 줄씩 읽는 지급 대상 (헤더 / 빈 줄 / 형식 오류 / 0 이하 금액은 건너뛴다)
+ * - 체크포인트는 읽은 줄 수 - 재개하면 그만큼 건너뛰고 이어서 읽는다
+ */
+class FileAirdropSource implements AirdropSource {
+
+  private final BufferedReader reader;
+  private long lineNumber;
+
+  FileAirdropSource(final Path path, final long startLine) throws IOException {
+    this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+    while (lineNumber < startLine && reader.readLine() != null) {
+      lineNumber++;
+    }
+  }
+
+  @Override
+  public Chunk next(final int chunkSize) throws IOException {
+    final List<Recipient> recipients = new ArrayList<>(chunkSize);
+    int skipped = 0;
+    String line;
+    while (recipients.size() < chunkSize && (line = reader.readLine()) != null) {
+      lineNumber++;
+      final Recipient recipient = parse(line);
+      if (recipient != null) {
+        recipients.add(recipient);
+      } else if (!line.isBlank()) {
+        skipped++;
+      }
+    }
+    return new Chunk(recipients, skipped, lineNumber);
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private static Recipient parse(final String line) {
+    final int comma = line.indexOf(',');
+    if (comma < 0) {
+      return null;
+    }
+    try {
+      final long userId = Long.parseLong(line.substring(0, comma).trim());
+      final int amount = Integer.parseInt(line.substring(comma + 1).trim());
+      return amount > 0 ? new Recipient(userId, amount) : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.example.pointservice.service;
+
+import java.time.Duration;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 홀드 만료 타이머 - 만료 시각 순으로 정렬된 DelayQueue 를 스레드 하나가 꺼내 처리
+ * - 등록 / 꺼내기 모두 O(log n), 만료 전에는 스레드가 가장 이른 만료 시각까지 잠들어 있어 폴링하지 않는다
+ * - 메모리에만 있으므로 재시작하면 사라진다 - 놓친 만료는 PointHoldService 의 DB 스윕이 처리한다
+ */
+class HoldExpiryTimer {
+
+  private static final Logger log = LoggerFactory.getLogger(HoldExpiryTimer.class);
+
+  private final DelayQueue<Expiry> queue = new DelayQueue<>();
+  private final LongConsumer onExpire;
+  private final int capacity;
+  private Thread worker;
+
+  HoldExpiryTimer(final LongConsumer onExpire, final int capacity) {
+    this.onExpire = onExpire;
+    this.capacity = capacity;
+  }
+
+  synchronized void start() {
+    if (worker != null) {
+      return;
+    }
+    worker = new Thread(this::run, "point-hold-expiry");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  synchronized void stop() {
+    if (worker != null) {
+      worker.interrupt();
+      worker = null;
+    }
+  }
+
+  /**
+   * @return 등록 여부 - 가득 차 있으면 등록하지 않고 DB 스윕에 맡긴다
+   */
+  boolean schedule(final long holdId, final Duration delay) {
+    if (queue.size() >= capacity) {
+      return false;
+    }
+    return queue.offer(new Expiry(holdId, System.nanoTime() + delay.toNanos()));
+  }
+
+  int size() {
+    return queue.size();
+  }
+
+  private void run() {
+    while (!Thread.currentThread().isInterrupted()) {
+      final Expiry expiry;
+      try {
+        expiry = queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      try {
+        onExpire.accept(expiry.holdId());
+      } catch (RuntimeException e) {
+        // 실패한 만료는 DB 스윕이 다시 처리한다
+        log.warn("홀드 만료 처리 실패 - holdId: {}, 에러: {}", expiry.holdId(), e.getMessage());
+      }
+    }
+  }
+
+  private record Expiry(long holdId, long deadlineNanos) implements Delayed {
+
+    @Override
+    public long getDelay(final TimeUnit unit) {
+      return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(final Delayed other) {
+      return Long.compare(deadlineNanos, ((Expiry) other).deadlineNanos);
+    }
+  }
+}
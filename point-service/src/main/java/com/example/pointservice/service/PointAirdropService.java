@@ -0,0 +1,293 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.domain.Point;
+import com.example.pointservice.domain.PointAirdrop;
+import com.example.pointservice.domain.PointAirdropSourceType;
+import com.example.pointservice.domain.PointAirdropStatus;
+import com.example.pointservice.domain.PointTransaction;
+import com.example.pointservice.domain.PointTransactionType;
+import com.example.pointservice.dto.request.CreateAirdropRequest;
+import com.example.pointservice.dto.response.PointAirdropResponse;
+import com.example.pointservice.exception.ErrorCode;
+import com.example.pointservice.exception.PointException;
+import com.example.pointservice.repository.PointAirdropRepository;
+import com.example.pointservice.repository.PointRepository;
+import com.example.pointservice.service.AirdropSource.Chunk;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포인트 일괄 지급 (마케팅 에어드롭)
+ * - 지급 대상(CSV 파일 / 전체 계좌)을 청크 단위로 스트리밍하고, 청크마다 한 트랜잭션에서 집합 단위로 반영한다
+ *   계좌 있는 회원 조회 1회 → 금액별 UPDATE ... WHERE userId IN (...) → 없는 회원은 계좌를 잔액과 함께 생성 → 원장 배치 INSERT
+ * - 같은 트랜잭션에서 작업의 체크포인트(position)와 누적 건수를 갱신하므로, 실패 / 재시작 후 재개하면 다음 청크부터 이어진다
+ * - 청크 크기만큼만 메모리에 올리고 트랜잭션마다 영속성 컨텍스트를 비우므로 대상이 천만 명이어도 힙 사용량은 일정하다
+ * - 작업은 전용 스레드 하나에서 순서대로 실행하고, 진행 상황 / 처리량은 작업 조회로 확인한다
+ */
+@Service
+public class PointAirdropService {
+
+  private static final Logger log = LoggerFactory.getLogger(PointAirdropService.class);
+  private static final int LOG_EVERY_CHUNKS = 100;
+
+  private final PointRepository pointRepository;
+  private final PointAirdropRepository pointAirdropRepository;
+  private final PointLedger pointLedger;
+  private final PointBalanceCache pointBalanceCache;
+  private final TransactionTemplate transactionTemplate;
+  private final Executor executor;
+  private final Path baseDir;
+  private final int chunkSize;
+  private final int maxChunkAttempts;
+  private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+  @Autowired
+  public PointAirdropService(final PointRepository pointRepository,
+      final PointAirdropRepository pointAirdropRepository,
+      final PointLedger pointLedger,
+      final PointBalanceCache pointBalanceCache,
+      final TransactionTemplate transactionTemplate,
+      @Value("${point.airdrop.base-dir:./airdrops}") final String baseDir,
+      @Value("${point.airdrop.chunk-size:1000}") final int chunkSize,
+      @Value("${point.airdrop.max-chunk-attempts:3}") final int maxChunkAttempts) {
+    this(pointRepository, pointAirdropRepository, pointLedger, pointBalanceCache, transactionTemplate,
+        newExecutor(), Paths.get(baseDir), chunkSize, maxChunkAttempts);
+  }
+
+  public PointAirdropService(final PointRepository pointRepository,
+      final PointAirdropRepository pointAirdropRepository,
+      final PointLedger pointLedger,
+      final PointBalanceCache pointBalanceCache,
+      final TransactionTemplate transactionTemplate,
+      final Executor executor,
+      final Path baseDir,
+      final int chunkSize,
+      final int maxChunkAttempts) {
+    this.pointRepository = pointRepository;
+    this.pointAirdropRepository = pointAirdropRepository;
+    this.pointLedger = pointLedger;
+    this.pointBalanceCache = pointBalanceCache;
+    this.transactionTemplate = transactionTemplate;
+    this.executor = executor;
+    this.baseDir = baseDir.toAbsolutePath().normalize();
+    this.chunkSize = chunkSize;
+    this.maxChunkAttempts = Math.max(maxChunkAttempts, 1);
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    // 실행 중인 작업은 현재 청크까지 반영하고 FAILED 로 남는다 - 재시작 후 resume 으로 이어서 처리
+    if (executor instanceof ExecutorService service) {
+      service.shutdownNow();
+      service.awaitTermination(30, TimeUnit.SECONDS);
+    }
+  }
+
+  public PointAirdropResponse create(final CreateAirdropRequest request) {
+    final PointAirdrop airdrop = pointAirdropRepository.save(newAirdrop(request));
+    log.info("포인트 일괄 지급 등록 - airdropId: {}, 대상: {}", airdrop.getId(), airdrop.getSourceType());
+    submit(airdrop.getId());
+    return PointAirdropResponse.of(airdrop);
+  }
+
+  // 실패 / 중단된 작업을 체크포인트부터 다시 실행
+  public PointAirdropResponse resume(final Long airdropId) {
+    final PointAirdrop airdrop = findAirdrop(airdropId);
+    if (airdrop.getStatus() == PointAirdropStatus.COMPLETED) {
+      throw new PointException(ErrorCode.AIRDROP_ALREADY_COMPLETED);
+    }
+    submit(airdropId);
+    return PointAirdropResponse.of(airdrop);
+  }
+
+  public PointAirdropResponse find(final Long airdropId) {
+    return PointAirdropResponse.of(findAirdrop(airdropId));
+  }
+
+  private void submit(final Long airdropId) {
+    if (!running.add(airdropId)) {
+      throw new PointException(ErrorCode.AIRDROP_ALREADY_RUNNING);
+    }
+    try {
+      executor.execute(() -> run(airdropId));
+    } catch (RuntimeException e) {
+      running.remove(airdropId);
+      throw e;
+    }
+  }
+
+  private void run(final Long airdropId) {
+    try {
+      final PointAirdrop started = transactionTemplate.execute(status -> {
+        final PointAirdrop airdrop = findAirdrop(airdropId);
+        airdrop.start();
+        return pointAirdropRepository.save(airdrop);
+      });
+      log.info("포인트 일괄 지급 시작 - airdropId: {}, 체크포인트: {}", airdropId, started.getPosition());
+
+      long chunks = 0;
+      PointAirdrop current = started;
+      try (AirdropSource source = openSource(started)) {
+        while (true) {
+          if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("서비스 종료로 중단");
+          }
+          final long chunkStart = System.nanoTime();
+          final Chunk chunk = source.next(chunkSize);
+          if (chunk.isEmpty()) {
+            break;
+          }
+          current = applyChunk(airdropId, chunk, chunkStart);
+          if (++chunks % LOG_EVERY_CHUNKS == 0) {
+            log.info("포인트 일괄 지급 진행 - airdropId: {}, 처리: {}명, 체크포인트: {}, {}명/s",
+                airdropId, current.getProcessedRecipients(), current.getPosition(),
+                Math.round(current.recipientsPerSecond()));
+          }
+        }
+      }
+
+      final PointAirdrop completed = transactionTemplate.execute(status -> {
+        final PointAirdrop airdrop = findAirdrop(airdropId);
+        airdrop.complete();
+        return pointAirdropRepository.save(airdrop);
+      });
+      log.info("포인트 일괄 지급 완료 - airdropId: {}, 처리: {}명, 건너뜀: {}줄, 신규 계좌: {}개, 지급: {}P, {}명/s",
+          airdropId, completed.getProcessedRecipients(), completed.getSkippedLines(),
+          completed.getCreatedAccounts(), completed.getGrantedAmount(), Math.round(completed.recipientsPerSecond()));
+    } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      log.error("포인트 일괄 지급 실패 - airdropId: {}, 에러: {}", airdropId, e.getMessage());
+      markFailed(airdropId, e.getMessage());
+    } finally {
+      running.remove(airdropId);
+    }
+  }
+
+  // 계좌 생성이 다른 요청과 겹쳐 유니크 제약에 걸리면 청크 전체가 롤백되므로 다시 시도한다
+  private PointAirdrop applyChunk(final Long airdropId, final Chunk chunk, final long chunkStart) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionTemplate.execute(status -> grant(airdropId, chunk, chunkStart));
+      } catch (DataIntegrityViolationException e) {
+        if (attempt >= maxChunkAttempts) {
+          throw e;
+        }
+        log.warn("포인트 일괄 지급 청크 재시도 - airdropId: {}, 체크포인트: {}, 시도: {}", airdropId, chunk.position(),
+            attempt);
+      }
+    }
+  }
+
+  private PointAirdrop grant(final Long airdropId, final Chunk chunk, final long chunkStart) {
+    // 같은 회원이 여러 줄이면 합산
+    final Map<Long, Integer> amounts = new LinkedHashMap<>();
+    chunk.recipients().forEach(recipient -> amounts.merge(recipient.userId(), recipient.amount(), Math::addExact));
+
+    int created = 0;
+    long granted = 0;
+    if (!amounts.isEmpty()) {
+      final Set<Long> existing = new HashSet<>(pointRepository.findExistingUserIds(amounts.keySet()));
+
+      // 보통 전원 같은 금액이라 UPDATE 1회
+      final Map<Integer, List<Long>> existingByAmount = amounts.entrySet().stream()
+          .filter(entry -> existing.contains(entry.getKey()))
+          .collect(Collectors.groupingBy(entry -> entry.getValue(),
+              Collectors.mapping(entry -> entry.getKey(), Collectors.toList())));
+      existingByAmount.forEach((amount, userIds) -> pointRepository.addToBalances(userIds, amount));
+
+      final List<Point> newAccounts = amounts.entrySet().stream()
+          .filter(entry -> !existing.contains(entry.getKey()))
+          .map(entry -> Point.openAccount(entry.getKey(), entry.getValue()))
+          .toList();
+      pointRepository.saveAll(newAccounts);
+      created = newAccounts.size();
+
+      final List<PointTransaction> transactions = new ArrayList<>(amounts.size());
+      for (final Map.Entry<Long, Integer> entry : amounts.entrySet()) {
+        transactions.add(new PointTransaction(entry.getKey(), PointTransactionType.CHARGE, entry.getValue(), null,
+            null));
+        granted += entry.getValue();
+      }
+      pointLedger.recordAll(transactions);
+      pointBalanceCache.evictAll(amounts.keySet());
+    }
+
+    final PointAirdrop airdrop = findAirdrop(airdropId);
+    airdrop.advance(chunk.position(), amounts.size(), chunk.skipped(), created, granted,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStart));
+    return pointAirdropRepository.save(airdrop);
+  }
+
+  private void markFailed(final Long airdropId, final String error) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        final PointAirdrop airdrop = findAirdrop(airdropId);
+        airdrop.fail(error);
+        pointAirdropRepository.save(airdrop);
+      });
+    } catch (RuntimeException e) {
+      log.error("포인트 일괄 지급 실패 기록 실패 - airdropId: {}, 에러: {}", airdropId, e.getMessage());
+    }
+  }
+
+  private AirdropSource openSource(final PointAirdrop airdrop) throws IOException {
+    return switch (airdrop.getSourceType()) {
+      case FILE -> new FileAirdropSource(Paths.get(airdrop.getSource()), airdrop.getPosition());
+      case ALL_ACCOUNTS -> new AccountAirdropSource(pointRepository, airdrop.getAmount(), airdrop.getPosition());
+    };
+  }
+
+  private PointAirdrop newAirdrop(final CreateAirdropRequest request) {
+    if (request.sourceType() == PointAirdropSourceType.ALL_ACCOUNTS) {
+      if (request.amount() == null || request.amount() <= 0) {
+        throw new PointException(ErrorCode.NEGATIVE_AMOUNT);
+      }
+      return PointAirdrop.toAllAccounts(request.amount());
+    }
+    if (request.sourceType() == PointAirdropSourceType.FILE && request.file() != null) {
+      // 지정된 디렉터리 밖의 파일은 읽지 않는다
+      final Path path = baseDir.resolve(request.file()).normalize();
+      if (path.startsWith(baseDir) && Files.isRegularFile(path) && Files.isReadable(path)) {
+        return PointAirdrop.fromFile(path.toString());
+      }
+    }
+    throw new PointException(ErrorCode.AIRDROP_INVALID_SOURCE);
+  }
+
+  private PointAirdrop findAirdrop(final Long airdropId) {
+    return pointAirdropRepository.findById(airdropId)
+        .orElseThrow(() -> new PointException(ErrorCode.AIRDROP_NOT_FOUND));
+  }
+
+  private static ExecutorService newExecutor() {
+    return Executors.newSingleThreadExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "point-airdrop");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+}
@@ -0,0 +1,158 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.domain.Point;
+import com.example.pointservice.dto.response.PointResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원별 포인트 잔액 캐시 (잔액 조회 / 사용 가능 여부 확인용)
+ * - 계좌 엔티티를 바꾼 쪽은 커밋 후 새 값으로 바로 갱신한다 (write-through)
+ * - 조건부 UPDATE 로만 바꾼 쪽(홀드, 일괄 지급)은 새 값을 모르므로 커밋 후 항목을 무효화한다
+ * - 항목마다 계좌 version 을 두어 늦게 도착한 이전 값이 새 값을 덮지 못하고,
+ *   무효화보다 먼저 시작된 DB 조회 결과는 캐시에 넣지 않는다
+ * - 캐시는 조회용이고, 실제 차감은 항상 DB 에서 다시 확인한다
+ */
+@Component
+public class PointBalanceCache {
+
+  private final Map<Long, Entry> entries;
+  private final Duration ttl;
+  private final Clock clock;
+  private final AtomicLong invalidations = new AtomicLong();
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+
+  @Autowired
+  public PointBalanceCache(final MeterRegistry meterRegistry,
+      @Value("${point.balance-cache.max-entries:100000}") final int maxEntries,
+      @Value("${point.balance-cache.ttl-ms:5000}") final long ttlMillis) {
+    this(meterRegistry, maxEntries, Duration.ofMillis(ttlMillis), Clock.systemUTC());
+  }
+
+  public PointBalanceCache(final MeterRegistry meterRegistry, final int maxEntries, final Duration ttl,
+      final Clock clock) {
+    this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Long, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    });
+    this.ttl = ttl;
+    this.clock = clock;
+
+    FunctionCounter.builder("point.balance.cache.requests", requests, LongAdder::sum)
+        .register(meterRegistry);
+    FunctionCounter.builder("point.balance.cache.hits", hits, LongAdder::sum)
+        .register(meterRegistry);
+    Gauge.builder("point.balance.cache.hit.ratio", this, PointBalanceCache::hitRatio)
+        .description("DB 조회 없이 캐시에서 응답한 비율")
+        .register(meterRegistry);
+    Gauge.builder("point.balance.cache.size", entries, Map::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 캐시에 있으면 바로, 없거나 만료됐으면 loader 로 읽어 넣는다 (계좌가 없으면 캐시하지 않는다)
+   */
+  public Optional<PointResponse> find(final Long userId, final Supplier<Optional<Point>> loader) {
+    requests.increment();
+
+    final Entry cached = entries.get(userId);
+    if (cached != null && cached.response() != null && isLive(cached)) {
+      hits.increment();
+      return Optional.of(cached.response());
+    }
+
+    final long invalidationsBeforeLoad = invalidations.get();
+    final Optional<Point> loaded = loader.get();
+    loaded.ifPresent(point -> entries.compute(userId, (id, current) ->
+        current != null && current.invalidation() > invalidationsBeforeLoad && isLive(current)
+            ? current
+            : newer(current, entryOf(point))));
+    return loaded.map(PointResponse::of);
+  }
+
+  /**
+   * 변경된 계좌를 캐시에 반영 - 트랜잭션 안이면 커밋된 뒤에 반영한다 (롤백되면 반영하지 않음)
+   */
+  public void put(final Point point) {
+    // flush 로 올라간 version 과 커밋된 값으로 반영하도록 엔티티를 커밋 후에 읽는다
+    afterCommit(() -> entries.merge(point.getUserId(), entryOf(point), PointBalanceCache::newer));
+  }
+
+  // 트랜잭션 안이면 커밋 후 무효화
+  public void evict(final Long userId) {
+    evictAll(List.of(userId));
+  }
+
+  public void evictAll(final Collection<Long> userIds) {
+    afterCommit(() -> {
+      final long invalidation = invalidations.incrementAndGet();
+      final Entry tombstone = new Entry(null, -1L, invalidation, clock.instant().plus(ttl));
+      userIds.forEach(userId -> entries.put(userId, tombstone));
+    });
+  }
+
+  public double hitRatio() {
+    final long total = requests.sum();
+    return total == 0 ? 0.0 : (double) hits.sum() / total;
+  }
+
+  long requestCount() {
+    return requests.sum();
+  }
+
+  long hitCount() {
+    return hits.sum();
+  }
+
+  private Entry entryOf(final Point point) {
+    final long version = point.getVersion() == null ? 0L : point.getVersion();
+    return new Entry(PointResponse.of(point), version, 0L, clock.instant().plus(ttl));
+  }
+
+  private boolean isLive(final Entry entry) {
+    return entry.expiresAt().isAfter(clock.instant());
+  }
+
+  // 이미 더 새로운 version 이 있으면 그대로 둔다 (무효화 표시는 version -1 이라 항상 교체된다)
+  private static Entry newer(final Entry current, final Entry candidate) {
+    return current != null && current.version() > candidate.version() ? current : candidate;
+  }
+
+  private static void afterCommit(final Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  // response 가 null 이면 무효화 표시 - invalidation 보다 먼저 시작된 조회 결과는 받지 않는다
+  private record Entry(PointResponse response, long version, long invalidation, Instant expiresAt) {
+  }
+}
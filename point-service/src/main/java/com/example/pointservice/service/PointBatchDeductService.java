@@ -0,0 +1,196 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.domain.PointTransaction;
+import com.example.pointservice.domain.PointTransactionType;
+import com.example.pointservice.dto.request.DeductPointRequest;
+import com.example.pointservice.dto.request.DeductPointsRequest;
+import com.example.pointservice.dto.response.DeductPointsResponse;
+import com.example.pointservice.dto.response.PointDeductResult;
+import com.example.pointservice.dto.response.PointDeductResult.Outcome;
+import com.example.pointservice.exception.ErrorCode;
+import com.example.pointservice.exception.PointException;
+import com.example.pointservice.repository.PointRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 회원의 결제 차감(마켓플레이스 일괄 결제)을 한 트랜잭션에서 처리
+ * - 건마다 단건 차감(PointService.deductPoint)과 같은 "잔액 >= 금액" 조건부 UPDATE 를 쓰고,
+ *   계좌 행 갱신 순서를 userId 순으로 맞춰 회원이 겹치는 일괄 차감끼리 교착 상태가 생기지 않는다
+ * - 멱등 키는 한 번에 조회하고 원장은 recordAll 로 한 번에 저장한다 (배치 INSERT)
+ * - allOrNothing 이면 첫 실패에서 멈추고 전체를 롤백, 아니면 실패한 건만 빼고 차감한다 - 결과는 건별로 요청 순서대로
+ * - 잔액을 조건부 UPDATE 로만 바꾸므로 잔액 캐시는 커밋 후 무효화한다
+ */
+@Service
+public class PointBatchDeductService {
+
+  private static final Logger log = LoggerFactory.getLogger(PointBatchDeductService.class);
+
+  private final PointRepository pointRepository;
+  private final PointLedger pointLedger;
+  private final PointLotTracker pointLotTracker;
+  private final PointBalanceCache pointBalanceCache;
+  private final TransactionTemplate transactionTemplate;
+  private final int maxEntriesPerRequest;
+
+  public PointBatchDeductService(final PointRepository pointRepository,
+      final PointLedger pointLedger,
+      final PointLotTracker pointLotTracker,
+      final PointBalanceCache pointBalanceCache,
+      final TransactionTemplate transactionTemplate,
+      @Value("${point.deduct.max-entries-per-request:10000}") final int maxEntriesPerRequest) {
+    this.pointRepository = pointRepository;
+    this.pointLedger = pointLedger;
+    this.pointLotTracker = pointLotTracker;
+    this.pointBalanceCache = pointBalanceCache;
+    this.transactionTemplate = transactionTemplate;
+    this.maxEntriesPerRequest = maxEntriesPerRequest;
+  }
+
+  public DeductPointsResponse deductAll(final DeductPointsRequest request) {
+    final List<DeductPointRequest> entries = request.entries();
+    if (entries == null || entries.isEmpty() || entries.size() > maxEntriesPerRequest) {
+      throw new PointException(ErrorCode.INVALID_REQUEST);
+    }
+
+    final BatchResult batch = transactionTemplate.execute(status -> {
+      final BatchResult result = deductInTransaction(entries, request.isAllOrNothing());
+      if (result.rolledBack()) {
+        status.setRollbackOnly();
+      }
+      return result;
+    });
+
+    final int deducted = (int) batch.results().stream()
+        .filter(result -> result.outcome() == Outcome.DEDUCTED)
+        .count();
+    log.info("포인트 일괄 차감 - 요청: {}건, 차감: {}건, 롤백: {}", entries.size(), deducted, batch.rolledBack());
+    return new DeductPointsResponse(entries.size(), deducted, batch.rolledBack(), batch.results());
+  }
+
+  private BatchResult deductInTransaction(final List<DeductPointRequest> entries, final boolean allOrNothing) {
+    final PointDeductResult[] results = new PointDeductResult[entries.size()];
+
+    // DB 를 건드리기 전에 전부 검증
+    final List<Integer> ordered = new ArrayList<>();
+    for (int i = 0; i < entries.size(); i++) {
+      if (isValid(entries.get(i))) {
+        ordered.add(i);
+      } else {
+        results[i] = failed(entries.get(i), Outcome.INVALID_ENTRY);
+      }
+    }
+    if (allOrNothing && ordered.size() < entries.size()) {
+      return rollBack(entries, results);
+    }
+    ordered.sort(Comparator.<Integer, Long>comparing(i -> entries.get(i).userId())
+        .thenComparing(Comparator.naturalOrder()));
+
+    final Map<String, PointTransaction> processed = pointLedger.findProcessedAll(ordered.stream()
+        .map(i -> entries.get(i).idempotencyKey())
+        .filter(PointBatchDeductService::hasKey)
+        .collect(Collectors.toSet()));
+
+    final Map<Integer, Deduction> deductions = new LinkedHashMap<>();
+    final Map<String, Integer> firstIndexByKey = new HashMap<>();
+    final Map<Integer, Integer> duplicates = new HashMap<>();
+    // 이번 요청에서 차감한 회원 - 행은 첫 UPDATE 로 커밋까지 잠겨 있어 이어지는 건의 잔여 포인트(사용 가능 잔액)는 계산으로 구한다
+    Long lockedUserId = null;
+    int lockedBalance = 0;
+
+    for (final int i : ordered) {
+      final DeductPointRequest entry = entries.get(i);
+      final Long userId = entry.userId();
+      final int amount = entry.balance();
+      if (hasKey(entry.idempotencyKey())) {
+        final PointTransaction done = processed.get(entry.idempotencyKey());
+        if (done != null) {
+          results[i] = new PointDeductResult(userId, amount, Outcome.ALREADY_DEDUCTED, null,
+              PointService.transactionIdOf(done));
+          continue;
+        }
+        // 같은 요청 안에서 멱등 키가 겹치면 앞의 건 결과를 따른다
+        final Integer first = firstIndexByKey.putIfAbsent(entry.idempotencyKey(), i);
+        if (first != null) {
+          duplicates.put(i, first);
+          continue;
+        }
+      }
+
+      if (pointRepository.deductIfSufficient(userId, amount) == 0) {
+        final boolean exists = userId.equals(lockedUserId) || pointRepository.findBalanceByUserId(userId).isPresent();
+        results[i] = failed(entry, exists ? Outcome.INSUFFICIENT_BALANCE : Outcome.ACCOUNT_NOT_FOUND);
+        if (allOrNothing) {
+          return rollBack(entries, results);
+        }
+        continue;
+      }
+      pointLotTracker.consume(userId, amount);
+
+      if (userId.equals(lockedUserId)) {
+        lockedBalance -= amount;
+      } else {
+        lockedUserId = userId;
+        lockedBalance = pointRepository.findAvailableBalanceByUserId(userId)
+            .orElseThrow(() -> new PointException(ErrorCode.ACCOUNT_NOT_FOUND));
+      }
+      deductions.put(i, new Deduction(new PointTransaction(userId, PointTransactionType.DEDUCT, -amount,
+          entry.orderId(), hasKey(entry.idempotencyKey()) ? entry.idempotencyKey() : null), lockedBalance));
+    }
+
+    pointLedger.recordAll(deductions.values().stream().map(Deduction::transaction).toList());
+    deductions.forEach((i, deduction) -> results[i] = new PointDeductResult(entries.get(i).userId(),
+        entries.get(i).balance(), Outcome.DEDUCTED, deduction.remaining(),
+        PointService.transactionIdOf(deduction.transaction())));
+    duplicates.forEach((i, first) -> results[i] = results[first].outcome() == Outcome.DEDUCTED
+        ? new PointDeductResult(entries.get(i).userId(), entries.get(i).balance(), Outcome.ALREADY_DEDUCTED, null,
+            results[first].transactionId())
+        : failed(entries.get(i), results[first].outcome()));
+
+    final Set<Long> deductedUserIds = new HashSet<>();
+    deductions.keySet().forEach(i -> deductedUserIds.add(entries.get(i).userId()));
+    pointBalanceCache.evictAll(deductedUserIds);
+    return new BatchResult(Arrays.asList(results), false);
+  }
+
+  // 실패한 건과 이미 처리된 건은 그대로, 나머지는 되돌린 것으로 표시
+  private static BatchResult rollBack(final List<DeductPointRequest> entries, final PointDeductResult[] results) {
+    return new BatchResult(IntStream.range(0, entries.size())
+        .mapToObj(i -> results[i] != null ? results[i] : failed(entries.get(i), Outcome.NOT_APPLIED))
+        .toList(), true);
+  }
+
+  private static boolean isValid(final DeductPointRequest entry) {
+    return entry != null && entry.userId() != null && entry.balance() != null && entry.balance() > 0;
+  }
+
+  private static boolean hasKey(final String idempotencyKey) {
+    return idempotencyKey != null && !idempotencyKey.isBlank();
+  }
+
+  private static PointDeductResult failed(final DeductPointRequest entry, final Outcome outcome) {
+    return entry == null
+        ? new PointDeductResult(null, null, outcome, null, null)
+        : new PointDeductResult(entry.userId(), entry.balance(), outcome, null, null);
+  }
+
+  private record Deduction(PointTransaction transaction, int remaining) {
+  }
+
+  private record BatchResult(List<PointDeductResult> results, boolean rolledBack) {
+  }
+}
@@ -0,0 +1,198 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.UsePointRequest;
+import com.example.pointservice.dto.response.PointResponse;
+import com.example.pointservice.exception.ErrorCode;
+import com.example.pointservice.exception.PointException;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계좌별 포인트 추가 / 사용 마이크로 배치
+ * - 같은 userId 로 들어온 요청을 window 동안 모아 PointService.applyBatch 로 한 트랜잭션에 순서대로 적용하고,
+ *   요청마다 자기 결과(적용 직후 잔액 또는 에러)로 future 를 완료한다
+ * - 계좌마다 동시에 실행되는 묶음은 최대 하나 - 처리 중에 들어온 요청은 다음 묶음으로 바로 이어서 처리한다
+ * - 이벤트성 요청이 한 계좌에 몰릴 때 잠금 트랜잭션 N 번을 1 번으로 줄이는 대신, 요청마다 최대 window 만큼 지연된다
+ * - point.batching.enabled=false(기본) 이면 모으지 않고 PointService 를 바로 호출한다
+ */
+@Component
+public class PointBatcher {
+
+  private static final Logger log = LoggerFactory.getLogger(PointBatcher.class);
+
+  private final PointService pointService;
+  private final boolean enabled;
+  private final long windowMicros;
+  private final int maxBatchSize;
+  private final Map<Long, AccountQueue> queues = new ConcurrentHashMap<>();
+  private final ScheduledThreadPoolExecutor scheduler;
+
+  private final AtomicLong batches = new AtomicLong();
+  private final AtomicLong operations = new AtomicLong();
+
+  public PointBatcher(final PointService pointService,
+      @Value("${point.batching.enabled:false}") final boolean enabled,
+      @Value("${point.batching.window-ms:2}") final long windowMillis,
+      @Value("${point.batching.max-batch-size:500}") final int maxBatchSize,
+      @Value("${point.batching.threads:4}") final int threads) {
+    this.pointService = pointService;
+    this.enabled = enabled;
+    this.windowMicros = TimeUnit.MILLISECONDS.toMicros(windowMillis);
+    this.maxBatchSize = maxBatchSize;
+    this.scheduler = newScheduler(threads);
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    // 이미 예약된 묶음은 실행하고 종료
+    scheduler.shutdown();
+    if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  // 유효기간이 있는 지급은 포인트 묶음을 만들어야 해서 묶지 않고 바로 처리
+  public PointResponse addPoint(final AddPointRequest request) {
+    if (!enabled || request.validDays() != null) {
+      return pointService.addPoint(request);
+    }
+    return await(submit(PointOperation.add(request.userId(), request.amount())));
+  }
+
+  public PointResponse usePoint(final UsePointRequest request) {
+    if (!enabled) {
+      return pointService.usePoint(request);
+    }
+    return await(submit(PointOperation.use(request.userId(), request.amount())));
+  }
+
+  /**
+   * 요청을 계좌 큐에 넣고, 묶음이 적용되면 완료되는 future 를 반환
+   */
+  public CompletableFuture<PointResponse> submit(final PointOperation operation) {
+    final Pending pending = new Pending(operation, new CompletableFuture<>());
+    // 큐 추가와 빈 큐 제거(flush)가 같은 키에서 겹치지 않도록 compute 안에서 넣는다
+    final AccountQueue queue = queues.compute(operation.userId(), (userId, current) -> {
+      final AccountQueue target = current != null ? current : new AccountQueue(userId);
+      target.pending.add(pending);
+      return target;
+    });
+    if (queue.scheduled.compareAndSet(false, true)) {
+      scheduler.schedule(() -> flush(queue), windowMicros, TimeUnit.MICROSECONDS);
+    }
+    return pending.future();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public long batches() {
+    return batches.get();
+  }
+
+  public long operations() {
+    return operations.get();
+  }
+
+  private void flush(final AccountQueue queue) {
+    final List<Pending> drained = new ArrayList<>();
+    Pending next;
+    while (drained.size() < maxBatchSize && (next = queue.pending.poll()) != null) {
+      drained.add(next);
+    }
+
+    try {
+      if (!drained.isEmpty()) {
+        apply(queue.userId, drained);
+      }
+    } finally {
+      queue.scheduled.set(false);
+      // 처리 중에 들어온 요청이 있으면 기다리지 않고 바로 다음 묶음, 없으면 큐를 정리한다
+      if (!queue.pending.isEmpty()) {
+        if (queue.scheduled.compareAndSet(false, true)) {
+          scheduler.execute(() -> flush(queue));
+        }
+      } else {
+        queues.computeIfPresent(queue.userId, (userId, current) ->
+            current.pending.isEmpty() && !current.scheduled.get() ? null : current);
+      }
+    }
+  }
+
+  private void apply(final Long userId, final List<Pending> drained) {
+    final List<PointOperationResult> results;
+    try {
+      results = pointService.applyBatch(userId, drained.stream().map(Pending::operation).toList());
+    } catch (RuntimeException e) {
+      // 묶음 전체가 롤백됨 - 모든 요청을 같은 에러로 완료
+      log.warn("포인트 묶음 적용 실패 - userId: {}, 요청: {}건, 에러: {}", userId, drained.size(), e.getMessage());
+      drained.forEach(pending -> pending.future().completeExceptionally(e));
+      return;
+    }
+
+    batches.incrementAndGet();
+    operations.addAndGet(drained.size());
+    for (int i = 0; i < drained.size(); i++) {
+      final PointOperationResult result = results.get(i);
+      if (result.isSucceeded()) {
+        drained.get(i).future().complete(result.response());
+      } else {
+        drained.get(i).future().completeExceptionally(new PointException(result.errorCode()));
+      }
+    }
+  }
+
+  private static PointResponse await(final CompletableFuture<PointResponse> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new PointException(ErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor newScheduler(final int threads) {
+    final AtomicInteger sequence = new AtomicInteger();
+    final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+      final Thread thread = new Thread(runnable, "point-batcher-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+
+  private static final class AccountQueue {
+
+    private final Long userId;
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private AccountQueue(final Long userId) {
+      this.userId = userId;
+    }
+  }
+
+  private record Pending(PointOperation operation, CompletableFuture<PointResponse> future) {
+  }
+}
@@ -0,0 +1,132 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.domain.Point;
+import com.example.pointservice.domain.PointLot;
+import com.example.pointservice.domain.PointTransaction;
+import com.example.pointservice.domain.PointTransactionType;
+import com.example.pointservice.repository.PointLotRepository;
+import com.example.pointservice.repository.PointRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 만료 시각이 지난 포인트 묶음 정리
+ * - 인덱스(status, expiresAt)로 만료된 ACTIVE 묶음만 batchSize 개씩 읽는다 (전체 계좌를 훑지 않는다)
+ * - 회원 ID 순으로 계좌를 잠그고 남은 금액을 잔액에서 빼며, 원장에 묶음마다 EXPIRE 를 남긴다
+ * - 홀드로 묶인 금액은 빼지 않는다 (사용 가능 잔액까지만 만료) - 홀드가 취소되면 그 금액은 만료 없는 잔액으로 남는다
+ * - 만료는 스윕 주기만큼 늦게 반영될 수 있고, 그 사이 사용하면 만료될 묶음부터 쓰인다
+ */
+@Component
+public class PointExpirySweeper {
+
+  private static final Logger log = LoggerFactory.getLogger(PointExpirySweeper.class);
+  private static final String EXPIRE_KEY_PREFIX = "lot-expire-";
+
+  private final PointRepository pointRepository;
+  private final PointLotRepository pointLotRepository;
+  private final PointLedger pointLedger;
+  private final PointBalanceCache pointBalanceCache;
+  private final TransactionTemplate transactionTemplate;
+  private final Clock clock;
+  private final int batchSize;
+
+  @Autowired
+  public PointExpirySweeper(final PointRepository pointRepository,
+      final PointLotRepository pointLotRepository,
+      final PointLedger pointLedger,
+      final PointBalanceCache pointBalanceCache,
+      final TransactionTemplate transactionTemplate,
+      @Value("${point.lot.expiry.batch-size:500}") final int batchSize) {
+    this(pointRepository, pointLotRepository, pointLedger, pointBalanceCache, transactionTemplate,
+        Clock.systemDefaultZone(), batchSize);
+  }
+
+  public PointExpirySweeper(final PointRepository pointRepository,
+      final PointLotRepository pointLotRepository,
+      final PointLedger pointLedger,
+      final PointBalanceCache pointBalanceCache,
+      final TransactionTemplate transactionTemplate,
+      final Clock clock,
+      final int batchSize) {
+    this.pointRepository = pointRepository;
+    this.pointLotRepository = pointLotRepository;
+    this.pointLedger = pointLedger;
+    this.pointBalanceCache = pointBalanceCache;
+    this.transactionTemplate = transactionTemplate;
+    this.clock = clock;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(initialDelayString = "${point.lot.expiry.interval-ms:60000}",
+      fixedDelayString = "${point.lot.expiry.interval-ms:60000}")
+  public void poll() {
+    try {
+      sweep();
+    } catch (RuntimeException e) {
+      // 사용과 겹쳐 version 충돌이 나면 그 배치만 롤백되고 다음 주기에 다시 처리된다
+      log.error("포인트 만료 스윕 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * @return 만료 처리한 묶음 수
+   */
+  public synchronized int sweep() {
+    final LocalDateTime now = LocalDateTime.now(clock);
+    int expired = 0;
+    while (true) {
+      final int processed = transactionTemplate.execute(status -> expireBatch(now));
+      expired += processed;
+      if (processed < batchSize) {
+        break;
+      }
+    }
+
+    if (expired > 0) {
+      log.info("포인트 만료 스윕 - 묶음: {}건", expired);
+    }
+    return expired;
+  }
+
+  private int expireBatch(final LocalDateTime now) {
+    final List<PointLot> lots = pointLotRepository.findDueLots(now, batchSize);
+    // 회원 ID 순으로 계좌를 잠가 사용 / 다른 스윕과 교착을 피한다
+    final Map<Long, List<PointLot>> lotsByUserId = lots.stream()
+        .collect(Collectors.groupingBy(PointLot::getUserId, TreeMap::new, Collectors.toList()));
+
+    final List<PointTransaction> transactions = new ArrayList<>();
+    lotsByUserId.forEach((userId, userLots) -> {
+      final Optional<Point> point = pointRepository.findByUserIdWithLock(userId);
+      int available = point.map(Point::getAvailableBalance).orElse(0);
+      int total = 0;
+      for (final PointLot lot : userLots) {
+        final int amount = Math.min(lot.expire(now), Math.max(available, 0));
+        available -= amount;
+        total += amount;
+        if (amount > 0) {
+          transactions.add(new PointTransaction(userId, PointTransactionType.EXPIRE, -amount, null,
+              EXPIRE_KEY_PREFIX + lot.getId()));
+        }
+      }
+      if (total > 0) {
+        point.get().expirePoints(total);
+        pointBalanceCache.put(point.get());
+      }
+    });
+    pointLedger.recordAll(transactions);
+    return lots.size();
+  }
+}
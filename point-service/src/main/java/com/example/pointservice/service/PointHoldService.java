@@ -0,0 +1,352 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.domain.PointHold;
+import com.example.pointservice.domain.PointHoldStatus;
+import com.example.pointservice.domain.PointTransaction;
+import com.example.pointservice.domain.PointTransactionType;
+import com.example.pointservice.dto.request.CaptureHoldsRequest;
+import com.example.pointservice.dto.request.HoldPointRequest;
+import com.example.pointservice.dto.response.CaptureHoldsResponse;
+import com.example.pointservice.dto.response.HoldCaptureResult;
+import com.example.pointservice.dto.response.HoldCaptureResult.Outcome;
+import com.example.pointservice.dto.response.PointHoldResponse;
+import com.example.pointservice.exception.ErrorCode;
+import com.example.pointservice.exception.PointException;
+import com.example.pointservice.repository.PointHoldRepository;
+import com.example.pointservice.repository.PointRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포인트 홀드(예약) → 확정 / 취소 2단계 결제
+ * - 홀드: 사용 가능 잔액(잔액 - held)이 충분할 때만 held 를 늘리는 조건부 UPDATE 1회 - 잔액은 그대로, 락을 들고 있지 않는다
+ * - 확정: HELD → CAPTURED 조건부 UPDATE 후 잔액과 held 를 함께 차감하고 원장에 CAPTURE 를 남긴다 (만료가 이른 포인트 묶음부터 사용)
+ * - 취소 / 만료: HELD → RELEASED / EXPIRED 후 held 만 되돌린다 (원장에는 남기지 않는다 - 잔액이 바뀌지 않음)
+ * - 잔액 / held 를 조건부 UPDATE 로만 바꾸므로 잔액 캐시는 커밋 후 무효화한다
+ * - 만료는 메모리 타이머(HoldExpiryTimer)가 제때 처리하고, 재시작 등으로 놓친 것은 DB 스윕이 인덱스(status, expiresAt)로 찾아 처리
+ */
+@Service
+public class PointHoldService {
+
+  private static final Logger log = LoggerFactory.getLogger(PointHoldService.class);
+  // 타이머가 만료 시각보다 아주 조금 먼저 깨어나도 "만료 시각이 지난 홀드만" 조건에 걸리지 않도록 여유를 둔다
+  private static final Duration TIMER_SLACK = Duration.ofMillis(100);
+  private static final String CAPTURE_KEY_PREFIX = "hold-capture-";
+
+  private final PointRepository pointRepository;
+  private final PointHoldRepository pointHoldRepository;
+  private final PointLedger pointLedger;
+  private final PointLotTracker pointLotTracker;
+  private final PointBalanceCache pointBalanceCache;
+  private final TransactionTemplate transactionTemplate;
+  private final Clock clock;
+  private final Duration defaultTtl;
+  private final Duration maxTtl;
+  private final int sweepBatchSize;
+  private final int maxCapturePerRequest;
+  private final HoldExpiryTimer expiryTimer;
+
+  @Autowired
+  public PointHoldService(final PointRepository pointRepository,
+      final PointHoldRepository pointHoldRepository,
+      final PointLedger pointLedger,
+      final PointLotTracker pointLotTracker,
+      final PointBalanceCache pointBalanceCache,
+      final TransactionTemplate transactionTemplate,
+      @Value("${point.hold.ttl-seconds:600}") final long defaultTtlSeconds,
+      @Value("${point.hold.max-ttl-seconds:3600}") final long maxTtlSeconds,
+      @Value("${point.hold.sweep.batch-size:500}") final int sweepBatchSize,
+      @Value("${point.hold.max-capture-per-request:1000}") final int maxCapturePerRequest,
+      @Value("${point.hold.timer-capacity:100000}") final int timerCapacity) {
+    this(pointRepository, pointHoldRepository, pointLedger, pointLotTracker, pointBalanceCache, transactionTemplate,
+        Clock.systemDefaultZone(), defaultTtlSeconds, maxTtlSeconds, sweepBatchSize, maxCapturePerRequest,
+        timerCapacity);
+  }
+
+  public PointHoldService(final PointRepository pointRepository,
+      final PointHoldRepository pointHoldRepository,
+      final PointLedger pointLedger,
+      final PointLotTracker pointLotTracker,
+      final PointBalanceCache pointBalanceCache,
+      final TransactionTemplate transactionTemplate,
+      final Clock clock,
+      final long defaultTtlSeconds,
+      final long maxTtlSeconds,
+      final int sweepBatchSize,
+      final int maxCapturePerRequest,
+      final int timerCapacity) {
+    this.pointRepository = pointRepository;
+    this.pointHoldRepository = pointHoldRepository;
+    this.pointLedger = pointLedger;
+    this.pointLotTracker = pointLotTracker;
+    this.pointBalanceCache = pointBalanceCache;
+    this.transactionTemplate = transactionTemplate;
+    this.clock = clock;
+    this.defaultTtl = Duration.ofSeconds(defaultTtlSeconds);
+    this.maxTtl = Duration.ofSeconds(maxTtlSeconds);
+    this.sweepBatchSize = sweepBatchSize;
+    this.maxCapturePerRequest = maxCapturePerRequest;
+    this.expiryTimer = new HoldExpiryTimer(this::expire, timerCapacity);
+  }
+
+  @PostConstruct
+  public void startTimer() {
+    expiryTimer.start();
+  }
+
+  @PreDestroy
+  public void stopTimer() {
+    expiryTimer.stop();
+  }
+
+  /**
+   * 사용 가능 잔액에서 amount 를 예약 - 같은 holdKey 로 다시 요청하면 기존 홀드를 돌려준다
+   */
+  public PointHoldResponse hold(final HoldPointRequest request) {
+    validate(request);
+    final Duration ttl = ttlOf(request.ttlSeconds());
+
+    final PointHold hold;
+    try {
+      hold = transactionTemplate.execute(status -> pointHoldRepository.findByHoldKey(request.holdKey())
+          .orElseGet(() -> createHold(request, ttl)));
+    } catch (DataIntegrityViolationException e) {
+      // 같은 holdKey 요청이 동시에 들어와 다른 쪽이 먼저 저장 - 이쪽 트랜잭션은 held 증가까지 롤백됨
+      return pointHoldRepository.findByHoldKey(request.holdKey())
+          .map(PointHoldResponse::of)
+          .orElseThrow(() -> e);
+    }
+
+    if (hold.isHeld()) {
+      expiryTimer.schedule(hold.getId(), Duration.between(now(), hold.getExpiresAt()).plus(TIMER_SLACK));
+    }
+    return PointHoldResponse.of(hold);
+  }
+
+  /**
+   * 홀드 확정 - 이미 확정된 홀드는 그대로 돌려준다 (재시도)
+   */
+  public PointHoldResponse capture(final Long holdId) {
+    final HoldCaptureResult result = captureInTransaction(List.of(holdId)).get(0);
+    return switch (result.outcome()) {
+      case CAPTURED, ALREADY_CAPTURED -> PointHoldResponse.of(findHold(holdId));
+      case NOT_ACTIVE -> throw new PointException(ErrorCode.HOLD_NOT_ACTIVE);
+      case NOT_FOUND -> throw new PointException(ErrorCode.HOLD_NOT_FOUND);
+    };
+  }
+
+  /**
+   * 주문 확정 시 여러 홀드를 한 트랜잭션에서 확정
+   * - 계좌 행 갱신 순서를 userId 순으로 맞춰, 같은 회원이 겹치는 일괄 확정끼리 교착 상태가 생기지 않는다
+   * - 확정할 수 없는 홀드가 있어도 나머지는 확정하고, 홀드별 결과를 요청 순서대로 돌려준다
+   */
+  public CaptureHoldsResponse captureAll(final CaptureHoldsRequest request) {
+    if (request.holdIds() == null || request.holdIds().isEmpty()) {
+      throw new PointException(ErrorCode.INVALID_REQUEST);
+    }
+    final List<Long> holdIds = List.copyOf(new LinkedHashSet<>(request.holdIds()));
+    if (holdIds.size() > maxCapturePerRequest) {
+      throw new PointException(ErrorCode.INVALID_REQUEST);
+    }
+
+    final List<HoldCaptureResult> results = captureInTransaction(holdIds);
+    final int captured = (int) results.stream().filter(result -> result.outcome() == Outcome.CAPTURED).count();
+    log.info("포인트 홀드 일괄 확정 - 요청: {}건, 확정: {}건", holdIds.size(), captured);
+    return new CaptureHoldsResponse(holdIds.size(), captured, results);
+  }
+
+  /**
+   * 홀드 취소 - 이미 취소 / 만료된 홀드는 그대로 돌려주고, 확정된 홀드는 취소할 수 없다 (환불로 처리)
+   */
+  public PointHoldResponse release(final Long holdId) {
+    return transactionTemplate.execute(status -> {
+      final PointHold hold = findHold(holdId);
+      if (pointHoldRepository.markReleased(holdId, now()) == 1) {
+        releaseHeld(hold);
+        log.info("포인트 홀드 취소 - holdId: {}, userId: {}, 금액: {}", holdId, hold.getUserId(), hold.getAmount());
+        return PointHoldResponse.of(findHold(holdId));
+      }
+
+      final PointHold current = findHold(holdId);
+      if (current.getStatus() == PointHoldStatus.CAPTURED) {
+        throw new PointException(ErrorCode.HOLD_NOT_ACTIVE);
+      }
+      return PointHoldResponse.of(current);
+    });
+  }
+
+  /**
+   * 만료 시각이 지난 홀드를 만료 처리
+   * @return 이번 호출로 만료되었는지 여부
+   */
+  public boolean expire(final long holdId) {
+    final Boolean expired = transactionTemplate.execute(status -> {
+      final PointHold hold = pointHoldRepository.findById(holdId).orElse(null);
+      if (hold == null || pointHoldRepository.markExpired(holdId, now()) == 0) {
+        return false;
+      }
+      releaseHeld(hold);
+      return true;
+    });
+    return Boolean.TRUE.equals(expired);
+  }
+
+  // 타이머가 놓친 만료(재시작, 타이머 용량 초과)를 DB 에서 찾아 처리
+  @Scheduled(initialDelayString = "${point.hold.sweep.interval-ms:60000}",
+      fixedDelayString = "${point.hold.sweep.interval-ms:60000}")
+  public void poll() {
+    try {
+      sweepExpired();
+    } catch (RuntimeException e) {
+      log.error("포인트 홀드 만료 스윕 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * @return 만료 처리한 홀드 수
+   */
+  public int sweepExpired() {
+    int expired = 0;
+    while (true) {
+      final List<Long> holdIds = pointHoldRepository.findExpiredIds(now(), sweepBatchSize);
+      int expiredInBatch = 0;
+      for (final Long holdId : holdIds) {
+        if (expire(holdId)) {
+          expiredInBatch++;
+        }
+      }
+      expired += expiredInBatch;
+      // 마지막 묶음이거나, 전부 다른 요청이 먼저 처리해 진척이 없으면 종료
+      if (holdIds.size() < sweepBatchSize || expiredInBatch == 0) {
+        break;
+      }
+    }
+    if (expired > 0) {
+      log.info("포인트 홀드 만료 스윕 - {}건", expired);
+    }
+    return expired;
+  }
+
+  int scheduledExpiries() {
+    return expiryTimer.size();
+  }
+
+  private PointHold createHold(final HoldPointRequest request, final Duration ttl) {
+    if (pointRepository.holdIfAvailable(request.userId(), request.amount()) == 0) {
+      final ErrorCode errorCode = pointRepository.findBalanceByUserId(request.userId()).isPresent()
+          ? ErrorCode.INSUFFICIENT_BALANCE
+          : ErrorCode.ACCOUNT_NOT_FOUND;
+      throw new PointException(errorCode);
+    }
+    pointBalanceCache.evict(request.userId());
+
+    final LocalDateTime now = now();
+    final PointHold hold = pointHoldRepository.save(new PointHold(request.userId(), request.amount(),
+        request.orderId(), request.holdKey(), now, now.plus(ttl)));
+
+    log.debug("포인트 홀드 - holdId: {}, userId: {}, 금액: {}, 만료: {}",
+        hold.getId(), hold.getUserId(), hold.getAmount(), hold.getExpiresAt());
+    return hold;
+  }
+
+  private List<HoldCaptureResult> captureInTransaction(final List<Long> holdIds) {
+    return transactionTemplate.execute(status -> {
+      final Map<Long, PointHold> holds = pointHoldRepository.findAllById(holdIds).stream()
+          .collect(Collectors.toMap(PointHold::getId, Function.identity()));
+      final List<PointHold> ordered = holds.values().stream()
+          .sorted(Comparator.comparing(PointHold::getUserId).thenComparing(PointHold::getId))
+          .toList();
+
+      final LocalDateTime now = now();
+      final Map<Long, Outcome> outcomes = new HashMap<>();
+      final List<PointTransaction> transactions = new ArrayList<>();
+      for (final PointHold hold : ordered) {
+        if (pointHoldRepository.markCaptured(hold.getId(), now) == 1) {
+          if (pointRepository.captureHeld(hold.getUserId(), hold.getAmount()) == 0) {
+            // held 는 HELD 홀드 합계 이상이어야 한다 - 깨졌으면 일괄 확정 전체를 롤백
+            log.error("홀드 금액이 계좌에 없음 - holdId: {}, userId: {}", hold.getId(), hold.getUserId());
+            throw new PointException(ErrorCode.INTERNAL_SERVER_ERROR);
+          }
+          pointLotTracker.consume(hold.getUserId(), hold.getAmount());
+          pointBalanceCache.evict(hold.getUserId());
+          transactions.add(new PointTransaction(hold.getUserId(), PointTransactionType.CAPTURE, -hold.getAmount(),
+              hold.getOrderId(), CAPTURE_KEY_PREFIX + hold.getId()));
+          outcomes.put(hold.getId(), Outcome.CAPTURED);
+        } else {
+          outcomes.put(hold.getId(), hold.getStatus() == PointHoldStatus.CAPTURED
+              ? Outcome.ALREADY_CAPTURED
+              : Outcome.NOT_ACTIVE);
+        }
+      }
+      pointLedger.recordAll(transactions);
+
+      return holdIds.stream()
+          .map(holdId -> {
+            final Outcome outcome = outcomes.getOrDefault(holdId, Outcome.NOT_FOUND);
+            final PointHoldStatus holdStatus = switch (outcome) {
+              case CAPTURED, ALREADY_CAPTURED -> PointHoldStatus.CAPTURED;
+              case NOT_ACTIVE -> holds.get(holdId).getStatus();
+              case NOT_FOUND -> null;
+            };
+            return new HoldCaptureResult(holdId, outcome, holdStatus);
+          })
+          .toList();
+    });
+  }
+
+  private void releaseHeld(final PointHold hold) {
+    if (pointRepository.releaseHeld(hold.getUserId(), hold.getAmount()) == 0) {
+      log.error("홀드 금액이 계좌에 없음 - holdId: {}, userId: {}", hold.getId(), hold.getUserId());
+      throw new PointException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+    pointBalanceCache.evict(hold.getUserId());
+  }
+
+  private PointHold findHold(final Long holdId) {
+    return pointHoldRepository.findById(holdId)
+        .orElseThrow(() -> new PointException(ErrorCode.HOLD_NOT_FOUND));
+  }
+
+  private void validate(final HoldPointRequest request) {
+    if (request.userId() == null) {
+      throw new PointException(ErrorCode.USER_ID_NOT_NULL);
+    }
+    if (request.amount() == null || request.amount() <= 0) {
+      throw new PointException(ErrorCode.ZERO_OR_NEGATIVE_USE_AMOUNT);
+    }
+    if (request.holdKey() == null || request.holdKey().isBlank()) {
+      throw new PointException(ErrorCode.HOLD_KEY_NOT_NULL);
+    }
+  }
+
+  private Duration ttlOf(final Integer ttlSeconds) {
+    if (ttlSeconds == null || ttlSeconds <= 0) {
+      return defaultTtl;
+    }
+    final Duration requested = Duration.ofSeconds(ttlSeconds);
+    return requested.compareTo(maxTtl) > 0 ? maxTtl : requested;
+  }
+
+  private LocalDateTime now() {
+    return LocalDateTime.now(clock);
+  }
+}
@@ -0,0 +1,77 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.domain.PointSnapshot;
+import com.example.pointservice.domain.PointTransaction;
+import com.example.pointservice.domain.PointTransactionType;
+import com.example.pointservice.repository.PointSnapshotRepository;
+import com.example.pointservice.repository.PointTransactionRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 거래 원장
+ * - 잔액을 바꾸는 모든 연산은 같은 트랜잭션 안에서 원장에 한 줄씩 남긴다 (유형, 변화량, 주문 번호, 멱등 키)
+ * - 여러 건은 recordAll 로 한 번에 저장해 JDBC 배치 INSERT 로 묶는다
+ * - 원장 기준 잔액은 스냅샷 + 스냅샷 이후 거래 합계 (PointSnapshotCompactor 가 스냅샷을 주기적으로 앞당긴다)
+ */
+@Component
+public class PointLedger {
+
+  private final PointTransactionRepository pointTransactionRepository;
+  private final PointSnapshotRepository pointSnapshotRepository;
+
+  public PointLedger(final PointTransactionRepository pointTransactionRepository,
+      final PointSnapshotRepository pointSnapshotRepository) {
+    this.pointTransactionRepository = pointTransactionRepository;
+    this.pointSnapshotRepository = pointSnapshotRepository;
+  }
+
+  public PointTransaction record(final Long userId, final PointTransactionType type, final int amount) {
+    return record(userId, type, amount, null, null);
+  }
+
+  public PointTransaction record(final Long userId, final PointTransactionType type, final int amount,
+      final Long orderId, final String idempotencyKey) {
+    return pointTransactionRepository.save(new PointTransaction(userId, type, amount, orderId, idempotencyKey));
+  }
+
+  public List<PointTransaction> recordAll(final List<PointTransaction> transactions) {
+    return pointTransactionRepository.saveAll(transactions);
+  }
+
+  // 같은 멱등 키로 이미 처리된 거래
+  public Optional<PointTransaction> findProcessed(final String idempotencyKey) {
+    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+      return Optional.empty();
+    }
+    return pointTransactionRepository.findByIdempotencyKey(idempotencyKey);
+  }
+
+  // 여러 멱등 키를 한 번에 조회 - 멱등 키별 처리된 거래
+  public Map<String, PointTransaction> findProcessedAll(final Collection<String> idempotencyKeys) {
+    if (idempotencyKeys.isEmpty()) {
+      return Map.of();
+    }
+    return pointTransactionRepository.findByIdempotencyKeyIn(idempotencyKeys).stream()
+        .collect(Collectors.toMap(PointTransaction::getIdempotencyKey, Function.identity()));
+  }
+
+  public List<PointTransaction> findRecent(final Long userId, final int limit) {
+    return pointTransactionRepository.findRecentByUserId(userId, limit);
+  }
+
+  /**
+   * 원장 기준 잔액 (감사/대사용) - 스냅샷 이후 거래만 합산하므로 읽는 양은 마지막 압축 이후 거래 수에 비례한다
+   */
+  public int balanceOf(final Long userId) {
+    final PointSnapshot snapshot = pointSnapshotRepository.findByUserId(userId)
+        .orElseGet(() -> PointSnapshot.empty(userId));
+    return Math.toIntExact(snapshot.getBalance()
+        + pointTransactionRepository.sumAmountAfter(userId, snapshot.getLastTransactionId()));
+  }
+}
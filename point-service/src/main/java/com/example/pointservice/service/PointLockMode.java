@@ -0,0 +1,9 @@
+package com.example.pointservice.service;
+
+/**
+ * 포인트 추가 / 사용 / 환불 시 계좌 동시 수정 제어 방식 (point.concurrency.mode)
+ */
+public enum PointLockMode {
+  PESSIMISTIC, // SELECT ... FOR UPDATE 로 계좌 행을 잠그고 수정 - 경합이 잦을 때 유리
+  OPTIMISTIC   // 잠그지 않고 읽은 뒤 version 으로 충돌을 감지해 재시도 - 경합이 드물 때 유리
+}
@@ -0,0 +1,100 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.domain.PointLot;
+import com.example.pointservice.repository.PointLotRepository;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유효기간이 있는 포인트 묶음(PointLot) 지급 / 사용
+ * - 지급: 만료 시각을 "validDays 일째 자정"으로 맞춰 같은 날 만료되는 지급은 한 묶음에 합친다
+ * - 사용: 만료가 이른 묶음부터(FIFO) 필요한 만큼만 읽어 차감하고, 묶음으로 부족한 나머지는 만료 없는 잔액에서 쓴 것으로 본다
+ * - 잔액 변경과 같은 트랜잭션에서 호출해야 하며, 계좌 행 잠금(또는 version)이 같은 회원의 동시 사용을 막는다
+ */
+@Component
+public class PointLotTracker {
+
+  private final PointLotRepository pointLotRepository;
+  private final Clock clock;
+  private final int pageSize;
+  private final AtomicLong consumptions = new AtomicLong();
+  private final AtomicLong lotTouches = new AtomicLong();
+  private final AtomicLong maxLotTouches = new AtomicLong();
+
+  @Autowired
+  public PointLotTracker(final PointLotRepository pointLotRepository,
+      @Value("${point.lot.consume-page-size:16}") final int pageSize) {
+    this(pointLotRepository, Clock.systemDefaultZone(), pageSize);
+  }
+
+  public PointLotTracker(final PointLotRepository pointLotRepository, final Clock clock, final int pageSize) {
+    this.pointLotRepository = pointLotRepository;
+    this.clock = clock;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * validDays 일 동안(지급일 포함 다음 날부터 validDays 일째 끝까지) 쓸 수 있는 포인트를 지급
+   */
+  public PointLot grant(final Long userId, final int amount, final int validDays) {
+    final LocalDateTime expiresAt = LocalDate.now(clock).plusDays(validDays + 1L).atStartOfDay();
+    return pointLotRepository.findActiveLot(userId, expiresAt)
+        .map(lot -> {
+          lot.add(amount);
+          return lot;
+        })
+        .orElseGet(() -> pointLotRepository.save(new PointLot(userId, amount, expiresAt, LocalDateTime.now(clock))));
+  }
+
+  /**
+   * 만료가 이른 묶음부터 amount 만큼 차감하고 건드린 묶음 수를 반환
+   * - 한 번에 pageSize 개씩 읽고, 읽은 묶음을 모두 써도 모자랄 때만 다음 묶음을 읽는다
+   * - 묶음이 없는 회원(만료 없는 잔액만 있는 회원)은 인덱스 조회 1회로 끝난다
+   */
+  public int consume(final Long userId, final int amount) {
+    final LocalDateTime now = LocalDateTime.now(clock);
+    int left = amount;
+    int touched = 0;
+    while (left > 0) {
+      final List<PointLot> lots = pointLotRepository.findActiveLots(userId, pageSize);
+      for (final PointLot lot : lots) {
+        left -= lot.consume(left, now);
+        touched++;
+        if (left == 0) {
+          break;
+        }
+      }
+      if (lots.size() < pageSize) {
+        break;
+      }
+    }
+
+    consumptions.incrementAndGet();
+    lotTouches.addAndGet(touched);
+    maxLotTouches.accumulateAndGet(touched, Math::max);
+    return touched;
+  }
+
+  // 만료 예정(묶음에 남은) 포인트 합계
+  public int expiringBalance(final Long userId) {
+    return pointLotRepository.sumActiveRemaining(userId);
+  }
+
+  public long consumptions() {
+    return consumptions.get();
+  }
+
+  public long lotTouches() {
+    return lotTouches.get();
+  }
+
+  public long maxLotTouches() {
+    return maxLotTouches.get();
+  }
+}
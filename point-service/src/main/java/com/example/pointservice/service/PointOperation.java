@@ -0,0 +1,18 @@
+package com.example.pointservice.service;
+
+// 계좌 하나에 묶어서 적용할 추가 / 사용 요청
+public record PointOperation(Type type, Long userId, int amount) {
+
+  public enum Type {
+    ADD,
+    USE
+  }
+
+  public static PointOperation add(final Long userId, final int amount) {
+    return new PointOperation(Type.ADD, userId, amount);
+  }
+
+  public static PointOperation use(final Long userId, final int amount) {
+    return new PointOperation(Type.USE, userId, amount);
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.dto.response.PointResponse;
+import com.example.pointservice.exception.ErrorCode;
+
+// 묶음 안 요청 하나의 결과 - 성공이면 적용 직후 계좌 상태, 실패면 에러 코드
+public record PointOperationResult(PointResponse response, ErrorCode errorCode) {
+
+  public static PointOperationResult succeeded(final PointResponse response) {
+    return new PointOperationResult(response, null);
+  }
+
+  public static PointOperationResult failed(final ErrorCode errorCode) {
+    return new PointOperationResult(null, errorCode);
+  }
+
+  public boolean isSucceeded() {
+    return errorCode == null;
+  }
+}
@@ -1,13 +1,21 @@
 package com.example.pointservice.service;
 
 import com.example.pointservice.domain.Point;
+import com.example.pointservice.domain.PointTransaction;
+import com.example.pointservice.domain.PointTransactionType;
 import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.DeductPointRequest;
 import com.example.pointservice.dto.request.RefundPointRequest;
+import com.example.pointservice.dto.response.DeductPointResponse;
 import com.example.pointservice.dto.response.PointResponse;
+import com.example.pointservice.dto.response.PointTransactionResponse;
 import com.example.pointservice.dto.request.UsePointRequest;
 import com.example.pointservice.exception.ErrorCode;
 import com.example.pointservice.exception.PointException;
 import com.example.pointservice.repository.PointRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -18,25 +26,47 @@ public class PointService {
 
   private static final Logger log = LoggerFactory.getLogger(PointService.class);
   private static final int INITIAL_POINTS = 0;
+  private static final int MAX_TRANSACTIONS_PER_PAGE = 100;
 
   private final PointRepository pointRepository;
+  private final PointLedger pointLedger;
+  private final PointUpdateExecutor pointUpdateExecutor;
+  private final PointLotTracker pointLotTracker;
+  private final PointBalanceCache pointBalanceCache;
 
-  public PointService(final PointRepository pointRepository) {
+  public PointService(final PointRepository pointRepository, final PointLedger pointLedger,
+      final PointUpdateExecutor pointUpdateExecutor, final PointLotTracker pointLotTracker,
+      final PointBalanceCache pointBalanceCache) {
     this.pointRepository = pointRepository;
+    this.pointLedger = pointLedger;
+    this.pointUpdateExecutor = pointUpdateExecutor;
+    this.pointLotTracker = pointLotTracker;
+    this.pointBalanceCache = pointBalanceCache;
   }
 
+  // 잔액 조회는 캐시 우선 (PointService 의 변경은 커밋 후 바로 캐시에 반영된다)
   public PointResponse findPointByUserId(final Long userId) {
-    final Point point = pointRepository.findByUserId(userId)
+    return pointBalanceCache.find(userId, () -> pointRepository.findByUserId(userId))
         .orElseThrow(() -> new PointException(ErrorCode.ACCOUNT_ALREADY_EXISTS));
-
-    return PointResponse.of(point);
   }
 
-  @Transactional
+  // 추가 / 사용 / 환불은 PointUpdateExecutor 가 설정된 잠금 방식(비관적 / 낙관적)으로 트랜잭션을 실행한다
+  // 사용 / 차감은 만료가 이른 포인트 묶음부터 쓴다 (PointLotTracker)
   public PointResponse addPoint(final AddPointRequest request) {
-    final Point point = findOrCreatePointAccount(request.userId());
+    if (request.validDays() != null && request.validDays() <= 0) {
+      throw new PointException(ErrorCode.INVALID_VALID_DAYS);
+    }
 
-    point.addPoint(request.amount());
+    final Point point = pointUpdateExecutor.execute(() -> {
+      final Point account = findOrCreatePointAccount(request.userId());
+      account.addPoint(request.amount());
+      if (request.validDays() != null) {
+        pointLotTracker.grant(account.getUserId(), request.amount(), request.validDays());
+      }
+      pointLedger.record(account.getUserId(), PointTransactionType.CHARGE, request.amount());
+      pointBalanceCache.put(account);
+      return account;
+    });
 
     log.info("포인트 추가 완료 - userId: {}, 추가금액: {}, 잔여포인트: {}",
         request.userId(), request.amount(), point.getBalance());
@@ -44,11 +74,15 @@ public class PointService {
     return PointResponse.of(point);
   }
 
-  @Transactional
   public PointResponse usePoint(final UsePointRequest request) {
-    final Point point = findOrCreatePointAccount(request.userId());
-
-    point.usePoint(request.amount());
+    final Point point = pointUpdateExecutor.execute(() -> {
+      final Point account = findOrCreatePointAccount(request.userId());
+      account.usePoint(request.amount());
+      pointLotTracker.consume(account.getUserId(), request.amount());
+      pointLedger.record(account.getUserId(), PointTransactionType.USE, -request.amount());
+      pointBalanceCache.put(account);
+      return account;
+    });
 
     log.info("포인트 차감 완료 - userId: {}, 차감금액: {}, 잔여포인트: {}",
         request.userId(), request.amount(), point.getBalance());
@@ -56,55 +90,172 @@ public class PointService {
     return PointResponse.of(point);
   }
 
+  /**
+   * 결제용 포인트 차감 - 조건부 UPDATE 1회 + 잔액 조회 1회
+   * - 엔티티 로드, 비관적 락, 계좌 자동 생성 없이 "잔액 >= 금액" 조건으로만 차감해 동시 차감에도 음수가 되지 않는다
+   * - 차감에 실패했을 때만 계좌 존재 여부를 확인해 실패 사유를 구분한다
+   */
   @Transactional
-  public PointResponse refundPoint(final RefundPointRequest request) {
-    final Point point = pointRepository.findByUserIdWithLock(request.userId())
+  public DeductPointResponse deductPoint(final DeductPointRequest request) {
+    final Long userId = request.userId();
+    final Integer amount = request.balance();
+    if (userId == null) {
+      throw new PointException(ErrorCode.USER_ID_NOT_NULL);
+    }
+    if (amount == null || amount <= 0) {
+      throw new PointException(ErrorCode.ZERO_OR_NEGATIVE_USE_AMOUNT);
+    }
+
+    // 같은 멱등 키로 이미 차감했으면 다시 차감하지 않고 그때 결과를 돌려준다
+    final Optional<PointTransaction> processed = pointLedger.findProcessed(request.idempotencyKey());
+    if (processed.isPresent()) {
+      final Integer available = pointRepository.findAvailableBalanceByUserId(userId)
+          .orElseThrow(() -> new PointException(ErrorCode.ACCOUNT_NOT_FOUND));
+      return new DeductPointResponse(userId, available, -processed.get().getAmount(),
+          transactionIdOf(processed.get()));
+    }
+
+    if (pointRepository.deductIfSufficient(userId, amount) == 0) {
+      final ErrorCode errorCode = pointRepository.findBalanceByUserId(userId).isPresent()
+          ? ErrorCode.INSUFFICIENT_BALANCE
+          : ErrorCode.ACCOUNT_NOT_FOUND;
+      throw new PointException(errorCode);
+    }
+    // 계좌 행은 위 UPDATE 로 커밋까지 잠겨 있어 같은 회원의 묶음 사용과 겹치지 않는다
+    pointLotTracker.consume(userId, amount);
+
+    // 같은 트랜잭션 안이라 방금 차감한 잔액이 보인다 - 엔티티 없이 사용 가능 잔액(잔액 - 홀드)만 읽는다
+    final Integer remaining = pointRepository.findAvailableBalanceByUserId(userId)
         .orElseThrow(() -> new PointException(ErrorCode.ACCOUNT_NOT_FOUND));
+    // 조건부 UPDATE 로만 바꿨으므로 새 version 을 모른다 - 커밋 후 무효화
+    pointBalanceCache.evict(userId);
 
-    point.refundPoint(request.amount());
+    final PointTransaction transaction = pointLedger.record(userId, PointTransactionType.DEDUCT, -amount,
+        request.orderId(), request.idempotencyKey());
 
-    log.info("포인트 환불 완료 - userId: {}, 환불금액: {}, 잔여포인트: {}",
-        request.userId(), request.amount(), point.getBalance());
+    log.debug("포인트 결제 차감 - userId: {}, 차감금액: {}, 잔여포인트: {}", userId, amount, remaining);
 
-    return PointResponse.of(point);
+    return new DeductPointResponse(userId, remaining, amount, transactionIdOf(transaction));
+  }
+
+  /**
+   * 같은 계좌의 추가 / 사용 여러 건을 한 트랜잭션에서 순서대로 적용 (PointBatcher 가 모아서 호출)
+   * - 계좌 조회(잠금) 1회, 원장 저장 1회(배치 INSERT)로 요청 수와 무관하게 트랜잭션 비용이 한 번이다
+   * - 잔액을 넘는 사용은 그 건만 INSUFFICIENT_BALANCE 로 거절하고 나머지는 계속 적용한다
+   */
+  public List<PointOperationResult> applyBatch(final Long userId, final List<PointOperation> operations) {
+    return pointUpdateExecutor.execute(() -> {
+      final Point point = findOrCreatePointAccount(userId);
+      final List<PointTransaction> transactions = new ArrayList<>(operations.size());
+      final List<PointOperationResult> results = new ArrayList<>(operations.size());
+
+      for (final PointOperation operation : operations) {
+        if (operation.type() == PointOperation.Type.USE && point.getAvailableBalance() < operation.amount()) {
+          results.add(PointOperationResult.failed(ErrorCode.INSUFFICIENT_BALANCE));
+          continue;
+        }
+        switch (operation.type()) {
+          case ADD -> {
+            point.addPoint(operation.amount());
+            transactions.add(new PointTransaction(userId, PointTransactionType.CHARGE, operation.amount(), null, null));
+          }
+          case USE -> {
+            point.usePoint(operation.amount());
+            pointLotTracker.consume(userId, operation.amount());
+            transactions.add(new PointTransaction(userId, PointTransactionType.USE, -operation.amount(), null, null));
+          }
+        }
+        results.add(PointOperationResult.succeeded(PointResponse.of(point)));
+      }
+      pointLedger.recordAll(transactions);
+      pointBalanceCache.put(point);
+
+      log.debug("포인트 묶음 적용 - userId: {}, 요청: {}건, 성공: {}건, 잔여포인트: {}",
+          userId, operations.size(), transactions.size(), point.getBalance());
+      return results;
+    });
+  }
+
+  public PointResponse refundPoint(final RefundPointRequest request) {
+    return pointUpdateExecutor.execute(() -> {
+      final Point point = pointUpdateExecutor.findAccount(request.userId())
+          .orElseThrow(() -> new PointException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+      // 보상 재시도 등으로 같은 환불이 다시 와도 한 번만 반영
+      // (비관적 모드는 락을 잡은 뒤 확인하고, 낙관적 모드는 동시 중복이 version 충돌로 재시도되어 여기서 걸린다)
+      if (pointLedger.findProcessed(request.idempotencyKey()).isPresent()) {
+        log.info("이미 처리된 환불 - userId: {}, idempotencyKey: {}", request.userId(), request.idempotencyKey());
+        return PointResponse.of(point);
+      }
+
+      point.refundPoint(request.amount());
+      pointLedger.record(point.getUserId(), PointTransactionType.REFUND, request.amount(),
+          request.orderId(), request.idempotencyKey());
+      pointBalanceCache.put(point);
+
+      log.info("포인트 환불 완료 - userId: {}, 환불금액: {}, 잔여포인트: {}",
+          request.userId(), request.amount(), point.getBalance());
+
+      return PointResponse.of(point);
+    });
+  }
+
+  // 최근 거래 내역 (최신순)
+  public List<PointTransactionResponse> findTransactions(final Long userId, final int limit) {
+    return pointLedger.findRecent(userId, Math.min(Math.max(limit, 1), MAX_TRANSACTIONS_PER_PAGE)).stream()
+        .map(PointTransactionResponse::of)
+        .toList();
   }
 
   @Transactional
   public PointResponse createPointAccount(final Long userId) {
-    if (pointRepository.findByUserId(userId).isPresent()) {
+    if (insertAccountIfAbsent(userId) == 0) {
       throw new PointException(ErrorCode.ACCOUNT_ALREADY_EXISTS);
     }
 
-    final Point newAccount = createNewPointAccount(userId);
+    final Point newAccount = pointRepository.findByUserId(userId)
+        .orElseThrow(() -> new PointException(ErrorCode.ACCOUNT_CREATION_FAILED));
+    pointBalanceCache.put(newAccount);
     return PointResponse.of(newAccount);
   }
 
+  /**
+   * 사용 가능 여부를 캐시된 잔액으로 낙관적으로 판단 (ttl 안의 홀드 / 만료는 놓칠 수 있다)
+   * - 실제 차감(/deduct, /use)은 DB 에서 다시 확인하므로 여기서 true 여도 잔액 부족으로 실패할 수 있다
+   */
   public boolean canUsePoint(final Long userId, final Integer amount) {
-    return pointRepository.findByUserId(userId)
-        .map(point -> point.getBalance() >= amount)
+    return pointBalanceCache.find(userId, () -> pointRepository.findByUserId(userId))
+        .map(point -> point.availableBalance() >= amount)
         .orElse(false);
   }
 
-  private Point findOrCreatePointAccount(Long userId) {
-    return pointRepository.findByUserIdWithLock(userId)
-        .orElseGet(() -> createNewPointAccount(userId));
+  static String transactionIdOf(final PointTransaction transaction) {
+    return "point-tx-" + transaction.getId();
   }
 
-  private Point createNewPointAccount(Long userId) {
-    log.info("포인트 계좌가 없어 새로 생성합니다. userId: {}", userId);
-
-    try {
-      Point newAccount = Point.openAccount(userId);
-      Point savedPoint = pointRepository.save(newAccount);
-
-      log.info("포인트 계좌 생성 완료 - userId: {}, 초기포인트: {}",
-          userId, INITIAL_POINTS);
+  /**
+   * 계좌가 없으면 만들고 현재 잠금 방식으로 다시 조회
+   * - 생성은 "없을 때만 INSERT" 한 번이라, 같은 회원의 첫 요청이 동시에 와도 unique 충돌 예외 없이 모두 같은 계좌를 쓴다
+   * - 생성에 진 요청은 이긴 쪽이 커밋될 때까지 INSERT 에서 기다리므로 다시 조회하면 계좌가 보인다
+   */
+  private Point findOrCreatePointAccount(Long userId) {
+    return pointUpdateExecutor.findAccount(userId)
+        .orElseGet(() -> {
+          insertAccountIfAbsent(userId);
+          return pointUpdateExecutor.findAccount(userId)
+              .orElseThrow(() -> new PointException(ErrorCode.ACCOUNT_CREATION_FAILED));
+        });
+  }
 
-      return savedPoint;
+  private int insertAccountIfAbsent(Long userId) {
+    if (userId == null) {
+      throw new PointException(ErrorCode.USER_ID_NOT_NULL);
+    }
 
-    } catch (Exception e) {
-      log.error("포인트 계좌 생성 실패: userId={}", userId, e);
-      throw new PointException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+    final int inserted = pointRepository.insertIfAbsent(userId);
+    if (inserted == 1) {
+      log.info("포인트 계좌 생성 완료 - userId: {}, 초기포인트: {}", userId, INITIAL_POINTS);
     }
+    return inserted;
   }
 }
\ No newline at end of file
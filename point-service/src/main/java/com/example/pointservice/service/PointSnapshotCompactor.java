@@ -0,0 +1,105 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.domain.PointSnapshot;
+import com.example.pointservice.repository.PointDelta;
+import com.example.pointservice.repository.PointSnapshotRepository;
+import com.example.pointservice.repository.PointTransactionRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 원장 스냅샷 압축
+ * - 지난 실행 이후 (watermark, upTo] 범위에 거래가 있는 회원만 골라 스냅샷에 합산 (전체 회원을 훑지 않는다)
+ * - 커밋 순서가 ID 순서와 다를 수 있어 settleLag 보다 오래된 거래까지만 반영한다
+ * - 합계는 회원별 스냅샷의 lastTransactionId 이후만 더하므로, 중간에 실패하거나 재시작해도 중복/누락 없이 이어진다
+ */
+@Component
+public class PointSnapshotCompactor {
+
+  private static final Logger log = LoggerFactory.getLogger(PointSnapshotCompactor.class);
+
+  private final PointTransactionRepository pointTransactionRepository;
+  private final PointSnapshotRepository pointSnapshotRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration settleLag;
+  private final int batchSize;
+  private Long watermark;
+
+  public PointSnapshotCompactor(final PointTransactionRepository pointTransactionRepository,
+      final PointSnapshotRepository pointSnapshotRepository,
+      final TransactionTemplate transactionTemplate,
+      @Value("${point.ledger.snapshot.settle-lag-ms:5000}") final long settleLagMillis,
+      @Value("${point.ledger.snapshot.batch-size:500}") final int batchSize) {
+    this.pointTransactionRepository = pointTransactionRepository;
+    this.pointSnapshotRepository = pointSnapshotRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.settleLag = Duration.ofMillis(settleLagMillis);
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(initialDelayString = "${point.ledger.snapshot.interval-ms:60000}",
+      fixedDelayString = "${point.ledger.snapshot.interval-ms:60000}")
+  public void poll() {
+    try {
+      compact();
+    } catch (RuntimeException e) {
+      log.error("포인트 원장 스냅샷 압축 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * @return 스냅샷을 갱신한 회원 수
+   */
+  public synchronized int compact() {
+    if (watermark == null) {
+      watermark = pointSnapshotRepository.findMaxLastTransactionId().orElse(0L);
+    }
+    final Long upTo = pointTransactionRepository.findMaxIdCreatedBefore(LocalDateTime.now().minus(settleLag))
+        .orElse(watermark);
+    if (upTo <= watermark) {
+      return 0;
+    }
+
+    int compacted = 0;
+    Long afterUserId = Long.MIN_VALUE;
+    while (true) {
+      final List<Long> userIds = pointTransactionRepository.findUserIdsInRange(watermark, upTo, afterUserId,
+          batchSize);
+      if (userIds.isEmpty()) {
+        break;
+      }
+      compacted += transactionTemplate.execute(status -> compactUsers(userIds, upTo));
+      afterUserId = userIds.get(userIds.size() - 1);
+    }
+
+    log.info("포인트 원장 스냅샷 압축 - 회원: {}명, 거래 ID: ({}, {}]", compacted, watermark, upTo);
+    watermark = upTo;
+    return compacted;
+  }
+
+  private int compactUsers(final List<Long> userIds, final Long upTo) {
+    final List<PointDelta> deltas = pointTransactionRepository.sumUnsnapshotted(userIds, upTo);
+    final Map<Long, PointSnapshot> snapshots = pointSnapshotRepository.findAllById(userIds).stream()
+        .collect(Collectors.toMap(PointSnapshot::getUserId, Function.identity()));
+
+    final List<PointSnapshot> updated = deltas.stream()
+        .map(delta -> {
+          final PointSnapshot snapshot = snapshots.getOrDefault(delta.userId(), PointSnapshot.empty(delta.userId()));
+          snapshot.apply(delta.amount(), delta.lastTransactionId());
+          return snapshot;
+        })
+        .toList();
+    pointSnapshotRepository.saveAll(updated);
+    return updated.size();
+  }
+}
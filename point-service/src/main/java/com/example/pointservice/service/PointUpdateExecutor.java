@@ -0,0 +1,116 @@
+package com.example.pointservice.service;
+
+import com.example.pointservice.domain.Point;
+import com.example.pointservice.exception.ErrorCode;
+import com.example.pointservice.exception.PointException;
+import com.example.pointservice.repository.PointRepository;
+import jakarta.persistence.OptimisticLockException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 계좌를 읽고 수정하는 작업을 트랜잭션으로 실행 (잠금 방식은 배포별 설정 point.concurrency.mode)
+ * - PESSIMISTIC: 비관적 락으로 읽어 한 번에 실행
+ * - OPTIMISTIC: 잠그지 않고 읽고, 커밋 시 version 충돌이면 트랜잭션 전체를 다시 실행
+ *   재시도 간격은 지수 백오프 상한 안에서 무작위(full jitter)로 골라 충돌한 요청끼리 다시 부딪히지 않게 하고,
+ *   maxAttempts 번 모두 충돌하면 CONCURRENT_UPDATE_CONFLICT 로 실패한다
+ */
+@Component
+public class PointUpdateExecutor {
+
+  private static final Logger log = LoggerFactory.getLogger(PointUpdateExecutor.class);
+
+  private final PointRepository pointRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final PointLockMode mode;
+  private final int maxAttempts;
+  private final long initialBackoffMillis;
+  private final long maxBackoffMillis;
+
+  private final AtomicLong executions = new AtomicLong();
+  private final AtomicLong retries = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+
+  @Autowired
+  public PointUpdateExecutor(final PointRepository pointRepository,
+      final TransactionTemplate transactionTemplate,
+      @Value("${point.concurrency.mode:PESSIMISTIC}") final PointLockMode mode,
+      @Value("${point.concurrency.optimistic.max-attempts:5}") final int maxAttempts,
+      @Value("${point.concurrency.optimistic.initial-backoff-ms:5}") final long initialBackoffMillis,
+      @Value("${point.concurrency.optimistic.max-backoff-ms:100}") final long maxBackoffMillis) {
+    this.pointRepository = pointRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.mode = mode;
+    this.maxAttempts = Math.max(maxAttempts, 1);
+    this.initialBackoffMillis = initialBackoffMillis;
+    this.maxBackoffMillis = maxBackoffMillis;
+  }
+
+  public <T> T execute(final Supplier<T> work) {
+    executions.incrementAndGet();
+    if (mode == PointLockMode.PESSIMISTIC) {
+      return transactionTemplate.execute(status -> work.get());
+    }
+
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionTemplate.execute(status -> work.get());
+      } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+        if (attempt >= maxAttempts) {
+          failures.incrementAndGet();
+          log.warn("포인트 계좌 동시 수정 충돌 - 재시도 {}회 초과", maxAttempts);
+          throw new PointException(ErrorCode.CONCURRENT_UPDATE_CONFLICT, e);
+        }
+        retries.incrementAndGet();
+        backoff(attempt);
+      }
+    }
+  }
+
+  // 현재 모드에 맞게 계좌 조회 (PESSIMISTIC 이면 트랜잭션이 끝날 때까지 행을 잠근다)
+  public Optional<Point> findAccount(final Long userId) {
+    return mode == PointLockMode.PESSIMISTIC
+        ? pointRepository.findByUserIdWithLock(userId)
+        : pointRepository.findByUserId(userId);
+  }
+
+  public PointLockMode mode() {
+    return mode;
+  }
+
+  public long executions() {
+    return executions.get();
+  }
+
+  // 충돌로 다시 실행한 횟수
+  public long retries() {
+    return retries.get();
+  }
+
+  // 재시도를 모두 소진해 실패한 횟수
+  public long failures() {
+    return failures.get();
+  }
+
+  private void backoff(final int attempt) {
+    final long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+    if (ceiling <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PointException(ErrorCode.CONCURRENT_UPDATE_CONFLICT, e);
+    }
+  }
+}
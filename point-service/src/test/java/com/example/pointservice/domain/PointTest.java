@@ -118,4 +118,41 @@ class PointTest {
     // Assert
     assertThat(point.getBalance()).isEqualTo(180);
   }
+
+  @Test
+  @DisplayName("홀드한_금액은_사용할_수_없다")
+  void 홀드한_금액은_사용할_수_없다() {
+    // Arrange
+    Point point = Point.openAccount(1L);
+    point.addPoint(1000);
+
+    // Act
+    boolean held = point.hold(700);
+
+    // Assert
+    assertThat(held).isTrue();
+    assertThat(point.getBalance()).isEqualTo(1000);
+    assertThat(point.getAvailableBalance()).isEqualTo(300);
+    assertThatThrownBy(() -> point.usePoint(500))
+        .isInstanceOf(PointException.class)
+        .hasMessage(ErrorCode.INSUFFICIENT_BALANCE.getMessage());
+  }
+
+  @Test
+  @DisplayName("홀드_확정은_잔액과_홀드를_함께_줄인다")
+  void 홀드_확정은_잔액과_홀드를_함께_줄인다() {
+    // Arrange
+    Point point = Point.openAccount(1L);
+    point.addPoint(1000);
+    point.hold(700);
+
+    // Act
+    boolean captured = point.captureHold(700);
+
+    // Assert
+    assertThat(captured).isTrue();
+    assertThat(point.getBalance()).isEqualTo(300);
+    assertThat(point.getHeld()).isZero();
+    assertThat(point.hold(301)).isFalse();
+  }
 }
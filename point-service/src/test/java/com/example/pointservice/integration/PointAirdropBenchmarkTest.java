@@ -0,0 +1,113 @@
+package com.example.pointservice.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.pointservice.domain.PointAirdropSourceType;
+import com.example.pointservice.domain.PointAirdropStatus;
+import com.example.pointservice.dto.request.CreateAirdropRequest;
+import com.example.pointservice.dto.response.PointAirdropResponse;
+import com.example.pointservice.service.PointAirdropService;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 포인트 일괄 지급 처리량 / 힙 사용량
+ * - 회원 수는 -Dairdrop.recipients 로 지정 (기본 20만, 1천만까지 같은 방식으로 실행)
+ * - 절반은 기존 계좌(UPDATE), 절반은 신규 계좌(INSERT)
+ * - 실행 중 GC 직후 힙 사용량을 주기적으로 기록해 대상 수와 무관하게 일정한지 확인
+ * - H2 인메모리 - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    "point.airdrop.chunk-size=1000"
+})
+@ActiveProfiles("test")
+class PointAirdropBenchmarkTest {
+
+  private static final int RECIPIENTS = Integer.getInteger("airdrop.recipients", 200_000);
+
+  @TempDir
+  static Path baseDir;
+
+  @DynamicPropertySource
+  static void airdropProperties(DynamicPropertyRegistry registry) {
+    registry.add("point.airdrop.base-dir", () -> baseDir.toString());
+  }
+
+  @Autowired
+  private PointAirdropService pointAirdropService;
+
+  @Test
+  void 일괄_지급_처리량과_힙_사용량() throws Exception {
+    // Arrange - 앞 절반 회원에게 먼저 지급해 계좌를 만들어 둔다
+    writeFile("warmup.csv", RECIPIENTS / 2);
+    awaitCompletion(pointAirdropService.create(
+        new CreateAirdropRequest(PointAirdropSourceType.FILE, "warmup.csv", null)).id(), null);
+    writeFile("airdrop.csv", RECIPIENTS);
+
+    // Act
+    HeapSampler sampler = new HeapSampler();
+    long start = System.nanoTime();
+    PointAirdropResponse result = awaitCompletion(pointAirdropService.create(
+        new CreateAirdropRequest(PointAirdropSourceType.FILE, "airdrop.csv", null)).id(), sampler);
+    double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+    // Assert
+    System.out.printf("포인트 일괄 지급 - %,d명, %.1fs, %.0f명/s, 신규 계좌 %,d개, GC 후 힙 최소 %,dKB / 최대 %,dKB%n",
+        result.processedRecipients(), seconds, result.recipientsPerSecond(), result.createdAccounts(),
+        sampler.min / 1024, sampler.max / 1024);
+    assertThat(result.status()).isEqualTo(PointAirdropStatus.COMPLETED);
+    assertThat(result.processedRecipients()).isEqualTo(RECIPIENTS);
+    assertThat(result.createdAccounts()).isEqualTo(RECIPIENTS - RECIPIENTS / 2);
+  }
+
+  private PointAirdropResponse awaitCompletion(Long airdropId, HeapSampler sampler) throws InterruptedException {
+    while (true) {
+      PointAirdropResponse response = pointAirdropService.find(airdropId);
+      if (response.status() == PointAirdropStatus.COMPLETED || response.status() == PointAirdropStatus.FAILED) {
+        return response;
+      }
+      if (sampler != null) {
+        sampler.sample();
+      }
+      Thread.sleep(500);
+    }
+  }
+
+  private void writeFile(String name, int recipients) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(baseDir.resolve(name))) {
+      writer.write("userId,amount\n");
+      for (int i = 1; i <= recipients; i++) {
+        writer.write(i + ",100\n");
+      }
+    }
+  }
+
+  private static class HeapSampler {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    void sample() {
+      System.gc();
+      long used = memory.getHeapMemoryUsage().getUsed();
+      min = Math.min(min, used);
+      max = Math.max(max, used);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.example.pointservice.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.DeductPointRequest;
+import com.example.pointservice.dto.request.DeductPointsRequest;
+import com.example.pointservice.dto.response.DeductPointsResponse;
+import com.example.pointservice.service.PointBatchDeductService;
+import com.example.pointservice.service.PointService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 결제 차감 10,000건: 건마다 /deduct 호출(건당 트랜잭션) vs /deduct/batch 한 번(한 트랜잭션)
+ * - 회원 1,000명에게 무작위 순서로 흩어진 차감 - 일괄 차감은 userId 순으로 정렬해 처리
+ * - 가능한 건만 차감 / 전부 아니면 전무 두 방식의 처리량(entries/s)을 출력
+ * - H2 인메모리 - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.com.example.pointservice=WARN"
+})
+@ActiveProfiles("test")
+class PointBatchDeductBenchmarkTest {
+
+  private static final int ENTRIES = 10_000;
+  private static final int MEMBERS = 1_000;
+  private static final int AMOUNT = 10;
+  private static final int INITIAL_BALANCE = 1_000_000;
+
+  @Autowired
+  private PointService pointService;
+
+  @Autowired
+  private PointBatchDeductService pointBatchDeductService;
+
+  @Test
+  void 일괄_차감은_건별_호출보다_처리량이_높다() {
+    // Arrange
+    long base = 200_000L;
+    for (int i = 0; i < MEMBERS; i++) {
+      pointService.addPoint(new AddPointRequest(base + i, INITIAL_BALANCE));
+    }
+    List<DeductPointRequest> warmup = entries(base, "warmup");
+    pointBatchDeductService.deductAll(new DeductPointsRequest(warmup, false));
+
+    // Act
+    List<DeductPointRequest> single = entries(base, "single");
+    long started = System.nanoTime();
+    for (DeductPointRequest entry : single) {
+      pointService.deductPoint(entry);
+    }
+    double singleOps = ENTRIES / seconds(started);
+
+    started = System.nanoTime();
+    DeductPointsResponse bestEffort = pointBatchDeductService.deductAll(
+        new DeductPointsRequest(entries(base, "best-effort"), false));
+    double bestEffortOps = ENTRIES / seconds(started);
+
+    started = System.nanoTime();
+    DeductPointsResponse allOrNothing = pointBatchDeductService.deductAll(
+        new DeductPointsRequest(entries(base, "all-or-nothing"), true));
+    double allOrNothingOps = ENTRIES / seconds(started);
+
+    // Assert
+    System.out.printf("포인트 결제 차감 %d건 - 건별 호출: %.0f entries/s, 일괄(가능한 건만): %.0f entries/s (%.1fx),"
+            + " 일괄(전부 아니면 전무): %.0f entries/s (%.1fx)%n",
+        ENTRIES, singleOps, bestEffortOps, bestEffortOps / singleOps, allOrNothingOps, allOrNothingOps / singleOps);
+    assertThat(bestEffort.deducted()).isEqualTo(ENTRIES);
+    assertThat(allOrNothing.deducted()).isEqualTo(ENTRIES);
+    assertThat(pointService.findPointByUserId(base).balance())
+        .isEqualTo(INITIAL_BALANCE - 4 * (ENTRIES / MEMBERS) * AMOUNT);
+  }
+
+  // 회원마다 ENTRIES / MEMBERS 건, 순서는 섞는다
+  private static List<DeductPointRequest> entries(final long base, final String keyPrefix) {
+    List<DeductPointRequest> entries = new ArrayList<>(ENTRIES);
+    for (int i = 0; i < ENTRIES; i++) {
+      entries.add(new DeductPointRequest(base + i % MEMBERS, AMOUNT, (long) i, keyPrefix + "-" + i));
+    }
+    Collections.shuffle(entries, new Random(42));
+    return entries;
+  }
+
+  private static double seconds(final long started) {
+    return (System.nanoTime() - started) / 1_000_000_000.0;
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.pointservice.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.service.PointBatcher;
+import com.example.pointservice.service.PointService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 한 계좌에 몰리는 추가 요청 - 요청마다 잠금 트랜잭션 vs 계좌별 마이크로 배치
+ * - H2 인메모리, 64 스레드가 같은 userId 로 1포인트씩 추가
+ * - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.com.example.pointservice=WARN"
+})
+@ActiveProfiles("test")
+class PointBatchingBenchmarkTest {
+
+  private static final int THREADS = 64;
+  private static final int CALLS_PER_THREAD = 200;
+
+  @Autowired
+  private PointService pointService;
+
+  @Test
+  void 한_계좌에_몰린_요청_처리량_비교() throws Exception {
+    // Arrange
+    long directUserId = 900_001L;
+    long batchedUserId = 900_002L;
+    PointBatcher batcher = new PointBatcher(pointService, true, 2, 500, 4);
+    run(i -> pointService.addPoint(new AddPointRequest(directUserId, 1)));
+    run(i -> batcher.addPoint(new AddPointRequest(batchedUserId, 1)));
+
+    // Act
+    double directOps = run(i -> pointService.addPoint(new AddPointRequest(directUserId, 1)));
+    long batchesBefore = batcher.batches();
+    long operationsBefore = batcher.operations();
+    double batchedOps = run(i -> batcher.addPoint(new AddPointRequest(batchedUserId, 1)));
+
+    // Assert
+    double averageBatch = (double) (batcher.operations() - operationsBefore) / (batcher.batches() - batchesBefore);
+    System.out.printf("한 계좌 추가 처리량 - 요청별 트랜잭션: %.0f ops/s, 마이크로 배치: %.0f ops/s (%.1fx, 평균 묶음 %.1f건)%n",
+        directOps, batchedOps, batchedOps / directOps, averageBatch);
+    assertThat(pointService.findPointByUserId(batchedUserId).balance())
+        .isEqualTo(pointService.findPointByUserId(directUserId).balance());
+    batcher.shutdown();
+  }
+
+  // 초당 처리 건수
+  private double run(final Consumer<Integer> call) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Callable<Void>> tasks = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        final int offset = t * CALLS_PER_THREAD;
+        tasks.add(() -> {
+          for (int i = 0; i < CALLS_PER_THREAD; i++) {
+            call.accept(offset + i);
+          }
+          return null;
+        });
+      }
+      long start = System.nanoTime();
+      for (Future<Void> future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+      double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+      return THREADS * CALLS_PER_THREAD / seconds;
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
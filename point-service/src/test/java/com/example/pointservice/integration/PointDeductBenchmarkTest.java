@@ -0,0 +1,93 @@
+package com.example.pointservice.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.DeductPointRequest;
+import com.example.pointservice.dto.request.UsePointRequest;
+import com.example.pointservice.service.PointService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 결제용 차감(/deduct, 조건부 UPDATE) vs 기존 사용(/use, 비관적 락 + 엔티티 로드) 처리량
+ * - H2 인메모리, 16 스레드, 회원 100명에게 골고루 차감 (같은 회원 경합 포함)
+ * - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN"
+})
+@ActiveProfiles("test")
+class PointDeductBenchmarkTest {
+
+  private static final int THREADS = 16;
+  private static final int MEMBERS = 100;
+  private static final int CALLS_PER_THREAD = 2_000;
+
+  @Autowired
+  private PointService pointService;
+
+  @Test
+  void 결제용_차감과_기존_사용_처리량_비교() throws Exception {
+    // Arrange - 회원별로 충분한 잔액 (워밍업 + 측정 2회분)
+    long useBase = 10_000L;
+    long deductBase = 20_000L;
+    charge(useBase);
+    charge(deductBase);
+    run(i -> pointService.usePoint(new UsePointRequest(useBase + i % MEMBERS, 1)));
+    run(i -> pointService.deductPoint(new DeductPointRequest(deductBase + i % MEMBERS, 1)));
+
+    // Act
+    double useOps = run(i -> pointService.usePoint(new UsePointRequest(useBase + i % MEMBERS, 1)));
+    double deductOps = run(i -> pointService.deductPoint(new DeductPointRequest(deductBase + i % MEMBERS, 1)));
+
+    // Assert
+    System.out.printf("포인트 차감 처리량 - /use: %.0f ops/s, /deduct: %.0f ops/s (%.1fx)%n",
+        useOps, deductOps, deductOps / useOps);
+    assertThat(pointService.findPointByUserId(deductBase).balance())
+        .isEqualTo(pointService.findPointByUserId(useBase).balance());
+  }
+
+  private void charge(final long baseUserId) {
+    for (int i = 0; i < MEMBERS; i++) {
+      pointService.addPoint(new AddPointRequest(baseUserId + i, THREADS * CALLS_PER_THREAD));
+    }
+  }
+
+  // 초당 처리 건수
+  private double run(final Consumer<Integer> call) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Callable<Void>> tasks = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        final int offset = t * CALLS_PER_THREAD;
+        tasks.add(() -> {
+          for (int i = 0; i < CALLS_PER_THREAD; i++) {
+            call.accept(offset + i);
+          }
+          return null;
+        });
+      }
+      long start = System.nanoTime();
+      for (Future<Void> future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+      double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+      return THREADS * CALLS_PER_THREAD / seconds;
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.example.pointservice.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.UsePointRequest;
+import com.example.pointservice.repository.PointRepository;
+import com.example.pointservice.service.PointBalanceCache;
+import com.example.pointservice.service.PointLedger;
+import com.example.pointservice.service.PointLockMode;
+import com.example.pointservice.service.PointLotTracker;
+import com.example.pointservice.service.PointService;
+import com.example.pointservice.service.PointUpdateExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비관적 락 vs 낙관적 락(version + 재시도) 처리량 비교
+ * - 동시 실행 10 / 100 / 1000, 한 계좌에 몰리는 경우와 계좌 100개에 흩어지는 경우
+ * - 추가 / 사용을 번갈아 실행하고 처리량(ops/s), 재시도 수, 실패 수(재시도 소진 + 잔액 부족)를 출력
+ * - H2 인메모리, 커넥션 풀 50 - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.com.example.pointservice=WARN",
+    "spring.datasource.hikari.maximum-pool-size=50"
+})
+@ActiveProfiles("test")
+class PointLockModeBenchmarkTest {
+
+  private static final int[] CONCURRENCY = {10, 100, 1000};
+  private static final int SPREAD_ACCOUNTS = 100;
+  private static final int OPERATIONS = 5_000;
+  private static final int INITIAL_BALANCE = 1_000_000;
+
+  @Autowired
+  private PointRepository pointRepository;
+
+  @Autowired
+  private PointLedger pointLedger;
+
+  @Autowired
+  private PointLotTracker pointLotTracker;
+
+  @Autowired
+  private PointBalanceCache pointBalanceCache;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private long nextUserId = 100_000L;
+
+  @Test
+  void 비관적_락과_낙관적_락_처리량_비교() throws Exception {
+    // 워밍업
+    run(PointLockMode.PESSIMISTIC, 10, SPREAD_ACCOUNTS);
+    run(PointLockMode.OPTIMISTIC, 10, SPREAD_ACCOUNTS);
+
+    System.out.printf("%-12s %-8s %6s %10s %9s %9s%n", "mode", "accounts", "conc", "ops/s", "retries", "failures");
+    for (int accounts : new int[]{1, SPREAD_ACCOUNTS}) {
+      for (int concurrency : CONCURRENCY) {
+        for (PointLockMode mode : PointLockMode.values()) {
+          Result result = run(mode, concurrency, accounts);
+          System.out.printf("%-12s %-8d %6d %10.0f %9d %9d%n",
+              mode, accounts, concurrency, result.opsPerSecond(), result.retries(), result.failures());
+        }
+      }
+    }
+  }
+
+  private Result run(PointLockMode mode, int concurrency, int accounts) throws Exception {
+    PointUpdateExecutor updateExecutor = new PointUpdateExecutor(pointRepository, transactionTemplate, mode, 5, 5, 100);
+    PointService pointService = new PointService(pointRepository, pointLedger, updateExecutor, pointLotTracker,
+        pointBalanceCache);
+
+    long baseUserId = nextUserId;
+    nextUserId += accounts;
+    for (int i = 0; i < accounts; i++) {
+      pointService.addPoint(new AddPointRequest(baseUserId + i, INITIAL_BALANCE));
+    }
+
+    AtomicInteger added = new AtomicInteger();
+    AtomicInteger used = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    int perWorker = Math.max(OPERATIONS / concurrency, 1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+    try {
+      List<Callable<Void>> tasks = new ArrayList<>();
+      for (int w = 0; w < concurrency; w++) {
+        final int offset = w * perWorker;
+        tasks.add(() -> {
+          start.await();
+          for (int i = 0; i < perWorker; i++) {
+            long userId = baseUserId + (offset + i) % accounts;
+            try {
+              if ((offset + i) % 2 == 0) {
+                pointService.addPoint(new AddPointRequest(userId, 1));
+                added.incrementAndGet();
+              } else {
+                pointService.usePoint(new UsePointRequest(userId, 1));
+                used.incrementAndGet();
+              }
+            } catch (RuntimeException e) {
+              failed.incrementAndGet();
+            }
+          }
+          return null;
+        });
+      }
+
+      List<Future<Void>> futures = new ArrayList<>();
+      tasks.forEach(task -> futures.add(executor.submit(task)));
+      long startedAt = System.nanoTime();
+      start.countDown();
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+      double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+      // 성공한 추가 / 사용만큼만 잔액이 바뀌어야 한다 (유실된 갱신 없음)
+      long total = 0;
+      for (int i = 0; i < accounts; i++) {
+        total += pointRepository.findByUserId(baseUserId + i).orElseThrow().getBalance();
+      }
+      assertThat(total).isEqualTo((long) INITIAL_BALANCE * accounts + added.get() - used.get());
+
+      int operations = perWorker * concurrency;
+      return new Result((operations - failed.get()) / seconds, updateExecutor.retries(), failed.get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private record Result(double opsPerSecond, long retries, int failures) {
+  }
+}
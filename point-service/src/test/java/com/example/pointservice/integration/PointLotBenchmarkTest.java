@@ -0,0 +1,144 @@
+package com.example.pointservice.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.pointservice.domain.PointLot;
+import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.UsePointRequest;
+import com.example.pointservice.repository.PointLotRepository;
+import com.example.pointservice.service.PointExpirySweeper;
+import com.example.pointservice.service.PointLotTracker;
+import com.example.pointservice.service.PointService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 유효기간 포인트 묶음이 사용 / 만료에 주는 비용
+ * - 사용: 묶음 없는 회원 vs 만료일이 다른 묶음 30개를 가진 회원의 /use 처리량, 사용 1건당 건드린 묶음 수(평균 / 최대)
+ * - 만료: 만료되지 않은 묶음 사이에서 만료된 묶음만 골라 처리하는 스윕 처리량
+ * - H2 인메모리, 8 스레드 - ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.com.example.pointservice=WARN"
+})
+@ActiveProfiles("test")
+class PointLotBenchmarkTest {
+
+  private static final int THREADS = 8;
+  private static final int MEMBERS = 100;
+  private static final int CALLS_PER_THREAD = 2_000;
+  private static final int LOTS_PER_MEMBER = 30;
+  private static final int LOT_AMOUNT = 100;
+  private static final int USE_AMOUNT = 7;
+  private static final int DUE_MEMBERS = 2_000;
+  private static final int DUE_LOTS_PER_MEMBER = 10;
+
+  @Autowired
+  private PointService pointService;
+
+  @Autowired
+  private PointLotTracker pointLotTracker;
+
+  @Autowired
+  private PointExpirySweeper pointExpirySweeper;
+
+  @Autowired
+  private PointLotRepository pointLotRepository;
+
+  @Test
+  void 묶음이_있어도_사용_1건이_건드리는_묶음_수는_제한된다() throws Exception {
+    // Arrange - 만료 없는 잔액만 있는 회원 / 만료일이 다른 묶음 30개 + 만료 없는 잔액이 있는 회원
+    long plainBase = 30_000L;
+    long lotBase = 40_000L;
+    for (int i = 0; i < MEMBERS; i++) {
+      pointService.addPoint(new AddPointRequest(plainBase + i, 1_000_000));
+      pointService.addPoint(new AddPointRequest(lotBase + i, 1_000_000));
+      for (int day = 1; day <= LOTS_PER_MEMBER; day++) {
+        pointService.addPoint(new AddPointRequest(lotBase + i, LOT_AMOUNT, day));
+      }
+    }
+    run(i -> pointService.usePoint(new UsePointRequest(plainBase + i % MEMBERS, USE_AMOUNT)));
+
+    // Act
+    double plainOps = run(i -> pointService.usePoint(new UsePointRequest(plainBase + i % MEMBERS, USE_AMOUNT)));
+    long consumptionsBefore = pointLotTracker.consumptions();
+    long touchesBefore = pointLotTracker.lotTouches();
+    double lotOps = run(i -> pointService.usePoint(new UsePointRequest(lotBase + i % MEMBERS, USE_AMOUNT)));
+    double touchesPerUse = (double) (pointLotTracker.lotTouches() - touchesBefore)
+        / (pointLotTracker.consumptions() - consumptionsBefore);
+
+    // Assert - 사용 금액이 묶음 하나보다 작으니 1건당 최대 2개 (앞 묶음 마지막 + 다음 묶음)
+    System.out.printf("포인트 사용 처리량 - 묶음 없음: %.0f ops/s, 묶음 %d개: %.0f ops/s (%.2fx),"
+            + " 1건당 묶음: 평균 %.2f / 최대 %d%n",
+        plainOps, LOTS_PER_MEMBER, lotOps, lotOps / plainOps, touchesPerUse, pointLotTracker.maxLotTouches());
+    assertThat(touchesPerUse).isLessThanOrEqualTo(2.0);
+    assertThat(pointLotTracker.maxLotTouches()).isLessThanOrEqualTo(LOTS_PER_MEMBER);
+  }
+
+  @Test
+  void 만료된_묶음만_골라_처리한다() {
+    // Arrange - 회원마다 만료된 묶음 10개 + 아직 유효한 묶음 10개
+    long base = 50_000L;
+    LocalDateTime now = LocalDateTime.now();
+    List<PointLot> lots = new ArrayList<>();
+    for (int i = 0; i < DUE_MEMBERS; i++) {
+      pointService.addPoint(new AddPointRequest(base + i, 2 * DUE_LOTS_PER_MEMBER * LOT_AMOUNT));
+      for (int j = 0; j < DUE_LOTS_PER_MEMBER; j++) {
+        lots.add(new PointLot(base + i, LOT_AMOUNT, now.minusDays(j + 1L), now.minusDays(30)));
+        lots.add(new PointLot(base + i, LOT_AMOUNT, now.plusDays(j + 1L), now.minusDays(30)));
+      }
+    }
+    pointLotRepository.saveAll(lots);
+
+    // Act
+    long started = System.nanoTime();
+    int expired = pointExpirySweeper.sweep();
+    double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+    // Assert
+    System.out.printf("포인트 만료 스윕 - 묶음: %d건 (유효한 묶음 %d건 제외), %.2fs, %.0f lots/s%n",
+        expired, DUE_MEMBERS * DUE_LOTS_PER_MEMBER, seconds, expired / seconds);
+    assertThat(expired).isGreaterThanOrEqualTo(DUE_MEMBERS * DUE_LOTS_PER_MEMBER);
+    assertThat(pointService.findPointByUserId(base).balance()).isEqualTo(DUE_LOTS_PER_MEMBER * LOT_AMOUNT);
+    assertThat(pointLotTracker.expiringBalance(base)).isEqualTo(DUE_LOTS_PER_MEMBER * LOT_AMOUNT);
+  }
+
+  private double run(Consumer<Integer> call) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Callable<Void>> tasks = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        final int offset = t * CALLS_PER_THREAD;
+        tasks.add(() -> {
+          for (int i = 0; i < CALLS_PER_THREAD; i++) {
+            call.accept(offset + i);
+          }
+          return null;
+        });
+      }
+
+      long started = System.nanoTime();
+      for (Future<Void> future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+      long elapsed = System.nanoTime() - started;
+      return THREADS * CALLS_PER_THREAD / (elapsed / 1_000_000_000.0);
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
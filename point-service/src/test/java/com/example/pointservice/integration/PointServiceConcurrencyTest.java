@@ -2,17 +2,25 @@ package com.example.pointservice.integration;
 
 import com.example.pointservice.domain.Point;
 import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.DeductPointRequest;
 import com.example.pointservice.dto.request.UsePointRequest;
 import com.example.pointservice.repository.PointRepository;
+import com.example.pointservice.service.PointBalanceCache;
+import com.example.pointservice.service.PointLedger;
+import com.example.pointservice.service.PointLockMode;
+import com.example.pointservice.service.PointLotTracker;
 import com.example.pointservice.service.PointService;
+import com.example.pointservice.service.PointUpdateExecutor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -25,6 +33,18 @@ public class PointServiceConcurrencyTest {
   @Autowired
   private PointRepository pointRepository;
 
+  @Autowired
+  private PointLedger pointLedger;
+
+  @Autowired
+  private PointLotTracker pointLotTracker;
+
+  @Autowired
+  private PointBalanceCache pointBalanceCache;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
   @Test
   @DisplayName("포인트_동시_사용_테스트")
   void 포인트_동시_사용_테스트() throws InterruptedException {
@@ -56,4 +76,115 @@ public class PointServiceConcurrencyTest {
     Point point = pointRepository.findByUserId(userId).get();
     assertThat(point.getBalance()).isEqualTo(0);
   }
+
+  @Test
+  @DisplayName("결제용_포인트_동시_차감_테스트")
+  void 결제용_포인트_동시_차감_테스트() throws InterruptedException {
+    // Arrange
+    Long userId = 2L;
+    pointService.createPointAccount(userId);
+    pointService.addPoint(new AddPointRequest(userId, 1000)); // 초기 1000포인트
+
+    int threadCount = 20;
+    int deductAmount = 100;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch latch = new CountDownLatch(threadCount);
+    AtomicInteger succeeded = new AtomicInteger();
+
+    // Act - 20번 중 10번만 성공해야 한다
+    for (int i = 0; i < threadCount; i++) {
+      executor.submit(() -> {
+        try {
+          pointService.deductPoint(new DeductPointRequest(userId, deductAmount));
+          succeeded.incrementAndGet();
+        } catch (Exception e) {
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+
+    latch.await();
+
+    // Assert
+    Point point = pointRepository.findByUserId(userId).get();
+    assertThat(point.getBalance()).isEqualTo(0);
+    assertThat(succeeded.get()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("낙관적_모드_동시_추가_테스트")
+  void 낙관적_모드_동시_추가_테스트() throws InterruptedException {
+    // Arrange - 잠그지 않고 version 충돌 시 재시도하는 서비스
+    PointUpdateExecutor optimistic = new PointUpdateExecutor(pointRepository, transactionTemplate,
+        PointLockMode.OPTIMISTIC, 10, 1, 20);
+    PointService optimisticService = new PointService(pointRepository, pointLedger, optimistic, pointLotTracker,
+        pointBalanceCache);
+    Long userId = 3L;
+    pointService.createPointAccount(userId);
+
+    int threadCount = 10;
+    int addAmount = 100;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch latch = new CountDownLatch(threadCount);
+    AtomicInteger succeeded = new AtomicInteger();
+
+    // Act
+    for (int i = 0; i < threadCount; i++) {
+      executor.submit(() -> {
+        try {
+          optimisticService.addPoint(new AddPointRequest(userId, addAmount));
+          succeeded.incrementAndGet();
+        } catch (Exception e) {
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+
+    latch.await();
+
+    // Assert - 충돌한 요청은 재시도되고, 성공한 추가는 하나도 유실되지 않는다
+    Point point = pointRepository.findByUserId(userId).get();
+    assertThat(point.getBalance()).isEqualTo(succeeded.get() * addAmount);
+    assertThat(succeeded.get() + optimistic.failures()).isEqualTo(threadCount);
+  }
+
+  @Test
+  @DisplayName("새_회원_첫_요청_동시_계좌_생성_테스트")
+  void 새_회원_첫_요청_동시_계좌_생성_테스트() throws InterruptedException {
+    // Arrange - 계좌가 없는 회원에게 첫 추가 요청 100개가 동시에 들어온다
+    Long userId = 4L;
+    int threadCount = 100;
+    int addAmount = 10;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch ready = new CountDownLatch(threadCount);
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch latch = new CountDownLatch(threadCount);
+    AtomicInteger succeeded = new AtomicInteger();
+
+    // Act
+    for (int i = 0; i < threadCount; i++) {
+      executor.submit(() -> {
+        try {
+          ready.countDown();
+          start.await();
+          pointService.addPoint(new AddPointRequest(userId, addAmount));
+          succeeded.incrementAndGet();
+        } catch (Exception e) {
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    ready.await();
+    start.countDown();
+
+    latch.await();
+
+    // Assert - 계좌는 하나만 생기고 모든 요청이 실패 없이 반영된다
+    Point point = pointRepository.findByUserId(userId).get();
+    assertThat(succeeded.get()).isEqualTo(threadCount);
+    assertThat(point.getBalance()).isEqualTo(threadCount * addAmount);
+  }
 }
@@ -0,0 +1,37 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointAirdrop;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FakePointAirdropRepository implements PointAirdropRepository {
+
+  private final Map<Long, PointAirdrop> storage = new HashMap<>();
+  private final AtomicLong idGenerator = new AtomicLong(1L);
+
+  @Override
+  public PointAirdrop save(PointAirdrop airdrop) {
+    if (airdrop.getId() == null) {
+      setIdUsingReflection(airdrop, idGenerator.getAndIncrement());
+    }
+    storage.put(airdrop.getId(), airdrop);
+    return airdrop;
+  }
+
+  @Override
+  public Optional<PointAirdrop> findById(Long id) {
+    return Optional.ofNullable(storage.get(id));
+  }
+
+  private void setIdUsingReflection(PointAirdrop airdrop, Long id) {
+    try {
+      java.lang.reflect.Field idField = PointAirdrop.class.getDeclaredField("id");
+      idField.setAccessible(true);
+      idField.set(airdrop, id);
+    } catch (Exception e) {
+      throw new RuntimeException("리플렉션으로 ID 설정 실패", e);
+    }
+  }
+}
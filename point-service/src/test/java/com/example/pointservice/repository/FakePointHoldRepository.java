@@ -0,0 +1,85 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointHold;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FakePointHoldRepository implements PointHoldRepository {
+
+  private final Map<Long, PointHold> storage = new TreeMap<>();
+  private final AtomicLong idGenerator = new AtomicLong(1L);
+
+  @Override
+  public synchronized PointHold save(PointHold hold) {
+    if (hold.getId() == null) {
+      setIdUsingReflection(hold, idGenerator.getAndIncrement());
+    }
+    storage.put(hold.getId(), hold);
+    return hold;
+  }
+
+  @Override
+  public synchronized Optional<PointHold> findById(Long id) {
+    return Optional.ofNullable(storage.get(id));
+  }
+
+  @Override
+  public synchronized List<PointHold> findAllById(Iterable<Long> ids) {
+    List<PointHold> holds = new ArrayList<>();
+    ids.forEach(id -> findById(id).ifPresent(holds::add));
+    return holds;
+  }
+
+  @Override
+  public synchronized Optional<PointHold> findByHoldKey(String holdKey) {
+    return storage.values().stream()
+        .filter(hold -> holdKey.equals(hold.getHoldKey()))
+        .findFirst();
+  }
+
+  @Override
+  public synchronized int markCaptured(Long holdId, LocalDateTime now) {
+    return findById(holdId).filter(hold -> hold.capture(now)).isPresent() ? 1 : 0;
+  }
+
+  @Override
+  public synchronized int markReleased(Long holdId, LocalDateTime now) {
+    return findById(holdId).filter(hold -> hold.release(now)).isPresent() ? 1 : 0;
+  }
+
+  @Override
+  public synchronized int markExpired(Long holdId, LocalDateTime now) {
+    return findById(holdId).filter(hold -> hold.expire(now)).isPresent() ? 1 : 0;
+  }
+
+  @Override
+  public synchronized List<Long> findExpiredIds(LocalDateTime now, int limit) {
+    return storage.values().stream()
+        .filter(hold -> hold.isHeld() && !hold.getExpiresAt().isAfter(now))
+        .sorted(Comparator.comparing(PointHold::getExpiresAt))
+        .limit(limit)
+        .map(PointHold::getId)
+        .toList();
+  }
+
+  private void setIdUsingReflection(PointHold hold, Long id) {
+    try {
+      java.lang.reflect.Field idField = PointHold.class.getDeclaredField("id");
+      idField.setAccessible(true);
+      idField.set(hold, id);
+    } catch (Exception e) {
+      throw new RuntimeException("리플렉션으로 ID 설정 실패", e);
+    }
+  }
+
+  // 테스트 헬퍼 메서드
+  public synchronized int size() {
+    return storage.size();
+  }
+}
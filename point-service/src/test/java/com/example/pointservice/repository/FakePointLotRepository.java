@@ -0,0 +1,87 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointLot;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FakePointLotRepository implements PointLotRepository {
+
+  private static final Comparator<PointLot> EXPIRY_ORDER =
+      Comparator.comparing(PointLot::getExpiresAt).thenComparing(PointLot::getId);
+
+  private final Map<Long, PointLot> storage = new TreeMap<>();
+  private final AtomicLong idGenerator = new AtomicLong(1L);
+
+  @Override
+  public synchronized PointLot save(PointLot lot) {
+    if (lot.getId() == null) {
+      setIdUsingReflection(lot, idGenerator.getAndIncrement());
+    }
+    storage.put(lot.getId(), lot);
+    return lot;
+  }
+
+  @Override
+  public synchronized <S extends PointLot> List<S> saveAll(Iterable<S> lots) {
+    List<S> saved = new ArrayList<>();
+    lots.forEach(lot -> {
+      save(lot);
+      saved.add(lot);
+    });
+    return saved;
+  }
+
+  @Override
+  public synchronized Optional<PointLot> findActiveLot(Long userId, LocalDateTime expiresAt) {
+    return storage.values().stream()
+        .filter(lot -> lot.isActive() && lot.getUserId().equals(userId) && lot.getExpiresAt().equals(expiresAt))
+        .findFirst();
+  }
+
+  @Override
+  public synchronized List<PointLot> findActiveLots(Long userId, int limit) {
+    return storage.values().stream()
+        .filter(lot -> lot.isActive() && lot.getUserId().equals(userId))
+        .sorted(EXPIRY_ORDER)
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public synchronized List<PointLot> findDueLots(LocalDateTime now, int limit) {
+    return storage.values().stream()
+        .filter(lot -> lot.isActive() && !lot.getExpiresAt().isAfter(now))
+        .sorted(EXPIRY_ORDER)
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public synchronized int sumActiveRemaining(Long userId) {
+    return storage.values().stream()
+        .filter(lot -> lot.isActive() && lot.getUserId().equals(userId))
+        .mapToInt(PointLot::getRemaining)
+        .sum();
+  }
+
+  private void setIdUsingReflection(PointLot lot, Long id) {
+    try {
+      java.lang.reflect.Field idField = PointLot.class.getDeclaredField("id");
+      idField.setAccessible(true);
+      idField.set(lot, id);
+    } catch (Exception e) {
+      throw new RuntimeException("리플렉션으로 ID 설정 실패", e);
+    }
+  }
+
+  // 테스트 헬퍼 메서드
+  public synchronized List<PointLot> findAll() {
+    return List.copyOf(storage.values());
+  }
+}
@@ -2,7 +2,10 @@ package com.example.pointservice.repository;
 
 import com.example.pointservice.domain.Point;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
@@ -24,6 +27,74 @@ public class FakePointRepository implements PointRepository {
     return findByUserId(userId);
   }
 
+  @Override
+  public synchronized int insertIfAbsent(Long userId) {
+    if (findByUserId(userId).isPresent()) {
+      return 0;
+    }
+    save(Point.openAccount(userId));
+    return 1;
+  }
+
+  @Override
+  public int deductIfSufficient(Long userId, int amount) {
+    Optional<Point> point = findByUserId(userId).filter(p -> p.getAvailableBalance() >= amount);
+    point.ifPresent(p -> p.usePoint(amount));
+    return point.isPresent() ? 1 : 0;
+  }
+
+  @Override
+  public int holdIfAvailable(Long userId, int amount) {
+    return findByUserId(userId).filter(p -> p.hold(amount)).isPresent() ? 1 : 0;
+  }
+
+  @Override
+  public int releaseHeld(Long userId, int amount) {
+    return findByUserId(userId).filter(p -> p.releaseHold(amount)).isPresent() ? 1 : 0;
+  }
+
+  @Override
+  public int captureHeld(Long userId, int amount) {
+    return findByUserId(userId).filter(p -> p.captureHold(amount)).isPresent() ? 1 : 0;
+  }
+
+  @Override
+  public Optional<Integer> findBalanceByUserId(Long userId) {
+    return findByUserId(userId).map(Point::getBalance);
+  }
+
+  @Override
+  public Optional<Integer> findAvailableBalanceByUserId(Long userId) {
+    return findByUserId(userId).map(Point::getAvailableBalance);
+  }
+
+  @Override
+  public List<Long> findExistingUserIds(Collection<Long> userIds) {
+    return storage.values().stream()
+        .map(Point::getUserId)
+        .filter(userIds::contains)
+        .toList();
+  }
+
+  @Override
+  public int addToBalances(Collection<Long> userIds, int amount) {
+    List<Point> points = storage.values().stream()
+        .filter(point -> userIds.contains(point.getUserId()))
+        .toList();
+    points.forEach(point -> point.addPoint(amount));
+    return points.size();
+  }
+
+  @Override
+  public List<Long> findUserIdsAfter(Long afterUserId, int limit) {
+    return storage.values().stream()
+        .map(Point::getUserId)
+        .filter(userId -> userId > afterUserId)
+        .sorted()
+        .limit(limit)
+        .toList();
+  }
+
   @Override
   public Point save(Point point) {
     if (point.getId() == null) {
@@ -41,6 +112,14 @@ public class FakePointRepository implements PointRepository {
     }
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public <S extends Point> List<S> saveAll(Iterable<S> points) {
+    List<S> saved = new ArrayList<>();
+    points.forEach(point -> saved.add((S) save(point)));
+    return saved;
+  }
+
   @Override
   public void deleteAll() {
     storage.clear();
@@ -0,0 +1,42 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointSnapshot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FakePointSnapshotRepository implements PointSnapshotRepository {
+
+  private final Map<Long, PointSnapshot> storage = new ConcurrentHashMap<>();
+
+  @Override
+  public Optional<PointSnapshot> findByUserId(Long userId) {
+    return Optional.ofNullable(storage.get(userId));
+  }
+
+  @Override
+  public List<PointSnapshot> findAllById(Iterable<Long> userIds) {
+    List<PointSnapshot> found = new ArrayList<>();
+    userIds.forEach(userId -> findByUserId(userId).ifPresent(found::add));
+    return found;
+  }
+
+  @Override
+  public <S extends PointSnapshot> List<S> saveAll(Iterable<S> snapshots) {
+    List<S> saved = new ArrayList<>();
+    snapshots.forEach(snapshot -> {
+      storage.put(snapshot.getUserId(), snapshot);
+      saved.add(snapshot);
+    });
+    return saved;
+  }
+
+  @Override
+  public Optional<Long> findMaxLastTransactionId() {
+    return storage.values().stream()
+        .map(PointSnapshot::getLastTransactionId)
+        .max(Long::compare);
+  }
+}
@@ -0,0 +1,129 @@
+package com.example.pointservice.repository;
+
+import com.example.pointservice.domain.PointTransaction;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+public class FakePointTransactionRepository implements PointTransactionRepository {
+
+  private final Map<Long, PointTransaction> storage = new TreeMap<>();
+  private final AtomicLong idGenerator = new AtomicLong(1L);
+  private final FakePointSnapshotRepository snapshotRepository;
+
+  // sumUnsnapshotted 는 주어진 스냅샷 저장소를 기준으로 계산한다
+  public FakePointTransactionRepository(FakePointSnapshotRepository snapshotRepository) {
+    this.snapshotRepository = snapshotRepository;
+  }
+
+  @Override
+  public synchronized PointTransaction save(PointTransaction transaction) {
+    if (transaction.getId() == null) {
+      setIdUsingReflection(transaction, idGenerator.getAndIncrement());
+    }
+    storage.put(transaction.getId(), transaction);
+    return transaction;
+  }
+
+  @Override
+  public synchronized <S extends PointTransaction> List<S> saveAll(Iterable<S> transactions) {
+    List<S> saved = new ArrayList<>();
+    transactions.forEach(transaction -> {
+      save(transaction);
+      saved.add(transaction);
+    });
+    return saved;
+  }
+
+  @Override
+  public synchronized Optional<PointTransaction> findByIdempotencyKey(String idempotencyKey) {
+    return storage.values().stream()
+        .filter(transaction -> idempotencyKey.equals(transaction.getIdempotencyKey()))
+        .findFirst();
+  }
+
+  @Override
+  public synchronized List<PointTransaction> findByIdempotencyKeyIn(Collection<String> idempotencyKeys) {
+    return storage.values().stream()
+        .filter(transaction -> idempotencyKeys.contains(transaction.getIdempotencyKey()))
+        .toList();
+  }
+
+  @Override
+  public synchronized List<PointTransaction> findRecentByUserId(Long userId, int limit) {
+    return storage.values().stream()
+        .filter(transaction -> transaction.getUserId().equals(userId))
+        .sorted(Comparator.comparing(PointTransaction::getId).reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public synchronized long sumAmountAfter(Long userId, Long afterId) {
+    return storage.values().stream()
+        .filter(transaction -> transaction.getUserId().equals(userId) && transaction.getId() > afterId)
+        .mapToLong(PointTransaction::getAmount)
+        .sum();
+  }
+
+  @Override
+  public synchronized Optional<Long> findMaxIdCreatedBefore(LocalDateTime before) {
+    return storage.values().stream()
+        .filter(transaction -> !transaction.getCreatedAt().isAfter(before))
+        .map(PointTransaction::getId)
+        .max(Long::compare);
+  }
+
+  @Override
+  public synchronized List<Long> findUserIdsInRange(Long fromId, Long toId, Long afterUserId, int limit) {
+    return storage.values().stream()
+        .filter(transaction -> transaction.getId() > fromId && transaction.getId() <= toId
+            && transaction.getUserId() > afterUserId)
+        .map(PointTransaction::getUserId)
+        .distinct()
+        .sorted()
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public synchronized List<PointDelta> sumUnsnapshotted(Collection<Long> userIds, Long toId) {
+    return storage.values().stream()
+        .filter(transaction -> userIds.contains(transaction.getUserId()) && transaction.getId() <= toId)
+        .filter(transaction -> transaction.getId() > lastSnapshotted(transaction.getUserId()))
+        .collect(Collectors.groupingBy(PointTransaction::getUserId))
+        .entrySet().stream()
+        .map(entry -> new PointDelta(entry.getKey(),
+            entry.getValue().stream().mapToLong(PointTransaction::getAmount).sum(),
+            entry.getValue().stream().mapToLong(PointTransaction::getId).max().orElseThrow()))
+        .toList();
+  }
+
+  private long lastSnapshotted(Long userId) {
+    return snapshotRepository.findByUserId(userId)
+        .map(snapshot -> snapshot.getLastTransactionId())
+        .orElse(0L);
+  }
+
+  private void setIdUsingReflection(PointTransaction transaction, Long id) {
+    try {
+      java.lang.reflect.Field idField = PointTransaction.class.getDeclaredField("id");
+      idField.setAccessible(true);
+      idField.set(transaction, id);
+    } catch (Exception e) {
+      throw new RuntimeException("리플렉션으로 ID 설정 실패", e);
+    }
+  }
+
+  // 테스트 헬퍼 메서드
+  public synchronized List<PointTransaction> findAll() {
+    return new ArrayList<>(storage.values());
+  }
+}
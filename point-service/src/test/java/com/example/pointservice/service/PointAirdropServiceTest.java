@@ -0,0 +1,164 @@
+package com.example.pointservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.pointservice.domain.Point;
+import com.example.pointservice.domain.PointAirdropSourceType;
+import com.example.pointservice.domain.PointAirdropStatus;
+import com.example.pointservice.dto.request.CreateAirdropRequest;
+import com.example.pointservice.dto.response.PointAirdropResponse;
+import com.example.pointservice.exception.ErrorCode;
+import com.example.pointservice.exception.PointException;
+import com.example.pointservice.repository.FakePointAirdropRepository;
+import com.example.pointservice.repository.FakePointRepository;
+import com.example.pointservice.repository.FakePointSnapshotRepository;
+import com.example.pointservice.repository.FakePointTransactionRepository;
+import com.example.pointservice.repository.FakeTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PointAirdropServiceTest {
+
+  @TempDir
+  Path baseDir;
+
+  private FailingPointRepository fakePointRepository;
+  private FakePointTransactionRepository fakePointTransactionRepository;
+  private PointAirdropService pointAirdropService;
+
+  @BeforeEach
+  void setUp() {
+    fakePointRepository = new FailingPointRepository();
+    FakePointSnapshotRepository fakePointSnapshotRepository = new FakePointSnapshotRepository();
+    fakePointTransactionRepository = new FakePointTransactionRepository(fakePointSnapshotRepository);
+    // 작업을 호출한 스레드에서 바로 실행, 청크당 2명
+    pointAirdropService = new PointAirdropService(fakePointRepository, new FakePointAirdropRepository(),
+        new PointLedger(fakePointTransactionRepository, fakePointSnapshotRepository),
+        new PointBalanceCache(new SimpleMeterRegistry(), 1000, Duration.ofSeconds(5), Clock.systemUTC()),
+        new TransactionTemplate(new FakeTransactionManager()), Runnable::run, baseDir, 2, 3);
+  }
+
+  @Test
+  void 파일의_회원에게_청크_단위로_지급하고_없는_계좌는_만든다() throws IOException {
+    // Arrange
+    fakePointRepository.save(Point.openAccount(1L, 100));
+    writeFile("airdrop.csv", "userId,amount", "1,500", "2,500", "", "oops", "3,500", "2,300");
+
+    // Act
+    PointAirdropResponse response = pointAirdropService.create(fileRequest("airdrop.csv"));
+
+    // Assert
+    PointAirdropResponse result = pointAirdropService.find(response.id());
+    assertThat(result.status()).isEqualTo(PointAirdropStatus.COMPLETED);
+    assertThat(result.position()).isEqualTo(7L);
+    assertThat(result.skippedLines()).isEqualTo(2L);
+    assertThat(result.createdAccounts()).isEqualTo(2L);
+    assertThat(result.grantedAmount()).isEqualTo(1800L);
+    assertThat(balanceOf(1L)).isEqualTo(600);
+    assertThat(balanceOf(2L)).isEqualTo(800);
+    assertThat(balanceOf(3L)).isEqualTo(500);
+    assertThat(fakePointTransactionRepository.findAll()).hasSize(4);
+  }
+
+  @Test
+  void 실패한_작업은_체크포인트부터_재개해_중복_지급하지_않는다() throws IOException {
+    // Arrange - 두 번째 청크에서 실패
+    writeFile("airdrop.csv", "1,100", "2,100", "3,100", "4,100", "5,100");
+    fakePointRepository.failOnCall(2);
+    PointAirdropResponse failed = pointAirdropService.create(fileRequest("airdrop.csv"));
+    assertThat(pointAirdropService.find(failed.id()).status()).isEqualTo(PointAirdropStatus.FAILED);
+    assertThat(pointAirdropService.find(failed.id()).position()).isEqualTo(2L);
+
+    // Act
+    pointAirdropService.resume(failed.id());
+
+    // Assert
+    PointAirdropResponse result = pointAirdropService.find(failed.id());
+    assertThat(result.status()).isEqualTo(PointAirdropStatus.COMPLETED);
+    assertThat(result.processedRecipients()).isEqualTo(5L);
+    assertThat(List.of(balanceOf(1L), balanceOf(2L), balanceOf(3L), balanceOf(4L), balanceOf(5L)))
+        .containsOnly(100);
+  }
+
+  @Test
+  void 전체_계좌에_같은_금액을_지급한다() {
+    // Arrange
+    fakePointRepository.save(Point.openAccount(10L, 0));
+    fakePointRepository.save(Point.openAccount(20L, 50));
+    fakePointRepository.save(Point.openAccount(30L, 0));
+
+    // Act
+    PointAirdropResponse response = pointAirdropService.create(
+        new CreateAirdropRequest(PointAirdropSourceType.ALL_ACCOUNTS, null, 1000));
+
+    // Assert
+    PointAirdropResponse result = pointAirdropService.find(response.id());
+    assertThat(result.status()).isEqualTo(PointAirdropStatus.COMPLETED);
+    assertThat(result.position()).isEqualTo(30L);
+    assertThat(result.processedRecipients()).isEqualTo(3L);
+    assertThat(balanceOf(20L)).isEqualTo(1050);
+  }
+
+  @Test
+  void 완료된_작업은_재개할_수_없다() throws IOException {
+    // Arrange
+    writeFile("airdrop.csv", "1,100");
+    PointAirdropResponse response = pointAirdropService.create(fileRequest("airdrop.csv"));
+
+    // Act & Assert
+    assertThatThrownBy(() -> pointAirdropService.resume(response.id()))
+        .isInstanceOf(PointException.class)
+        .hasMessage(ErrorCode.AIRDROP_ALREADY_COMPLETED.getMessage());
+    assertThat(balanceOf(1L)).isEqualTo(100);
+  }
+
+  @Test
+  void 지정된_디렉터리_밖의_파일은_읽지_않는다() {
+    // Act & Assert
+    assertThatThrownBy(() -> pointAirdropService.create(fileRequest("../etc/passwd")))
+        .isInstanceOf(PointException.class)
+        .hasMessage(ErrorCode.AIRDROP_INVALID_SOURCE.getMessage());
+  }
+
+  private CreateAirdropRequest fileRequest(String file) {
+    return new CreateAirdropRequest(PointAirdropSourceType.FILE, file, null);
+  }
+
+  private void writeFile(String name, String... lines) throws IOException {
+    Files.write(baseDir.resolve(name), List.of(lines));
+  }
+
+  private int balanceOf(Long userId) {
+    return fakePointRepository.findByUserId(userId).orElseThrow().getBalance();
+  }
+
+  // n 번째 계좌 조회(청크)에서 한 번 실패하는 저장소
+  private static class FailingPointRepository extends FakePointRepository {
+
+    private int failOnCall;
+    private int calls;
+
+    void failOnCall(int call) {
+      this.failOnCall = call;
+    }
+
+    @Override
+    public List<Long> findExistingUserIds(Collection<Long> userIds) {
+      if (++calls == failOnCall) {
+        throw new IllegalStateException("DB 연결 끊김");
+      }
+      return super.findExistingUserIds(userIds);
+    }
+  }
+}
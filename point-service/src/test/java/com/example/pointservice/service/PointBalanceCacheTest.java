@@ -0,0 +1,209 @@
+package com.example.pointservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.pointservice.domain.Point;
+import com.example.pointservice.dto.response.PointResponse;
+import com.example.pointservice.repository.FakeTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PointBalanceCacheTest {
+
+  private MutableClock clock;
+  private PointBalanceCache cache;
+  private AtomicInteger dbLoads;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    cache = new PointBalanceCache(new SimpleMeterRegistry(), 2, Duration.ofSeconds(5), clock);
+    dbLoads = new AtomicInteger();
+  }
+
+  private Optional<Point> load(final Long userId, final int balance) {
+    dbLoads.incrementAndGet();
+    return Optional.of(pointOf(userId, balance, 0L));
+  }
+
+  @Nested
+  class ReadThroughTest {
+
+    @Test
+    void 두번째_조회부터는_DB_조회_없이_캐시에서_응답한다() {
+      // Act
+      cache.find(1L, () -> load(1L, 1000));
+      Optional<PointResponse> second = cache.find(1L, () -> load(1L, 1000));
+
+      // Assert
+      assertThat(second).map(PointResponse::balance).contains(1000);
+      assertThat(dbLoads).hasValue(1);
+      assertThat(cache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void 계좌가_없으면_캐시하지_않는다() {
+      // Act
+      cache.find(1L, Optional::empty);
+      Optional<PointResponse> second = cache.find(1L, Optional::empty);
+
+      // Assert
+      assertThat(second).isEmpty();
+      assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    void 유효시간이_지나면_DB에서_다시_읽는다() {
+      // Arrange
+      cache.find(1L, () -> load(1L, 1000));
+
+      // Act
+      clock.advance(Duration.ofSeconds(6));
+      cache.find(1L, () -> load(1L, 1000));
+
+      // Assert
+      assertThat(dbLoads).hasValue(2);
+    }
+
+    @Test
+    void 최대_항목_수를_넘으면_가장_오래_안_쓴_회원부터_내보낸다() {
+      // Arrange
+      cache.find(1L, () -> load(1L, 100));
+      cache.find(2L, () -> load(2L, 200));
+      cache.find(1L, () -> load(1L, 100));
+
+      // Act
+      cache.find(3L, () -> load(3L, 300));
+      cache.find(2L, () -> load(2L, 200));
+
+      // Assert - 1, 2, 3, 2 조회
+      assertThat(dbLoads).hasValue(4);
+    }
+  }
+
+  @Nested
+  class WriteTest {
+
+    @Test
+    void 변경된_계좌는_DB_조회_없이_새_잔액으로_응답한다() {
+      // Arrange
+      cache.find(1L, () -> load(1L, 1000));
+
+      // Act
+      cache.put(pointOf(1L, 700, 1L));
+
+      // Assert
+      assertThat(cache.find(1L, () -> load(1L, 1000))).map(PointResponse::balance).contains(700);
+      assertThat(dbLoads).hasValue(1);
+    }
+
+    @Test
+    void 이전_version_의_값은_새_값을_덮지_않는다() {
+      // Arrange
+      cache.put(pointOf(1L, 500, 3L));
+
+      // Act - 늦게 도착한 이전 변경
+      cache.put(pointOf(1L, 900, 2L));
+
+      // Assert
+      assertThat(cache.find(1L, () -> load(1L, 0))).map(PointResponse::balance).contains(500);
+    }
+
+    @Test
+    void 롤백된_변경은_캐시에_반영하지_않는다() {
+      // Arrange
+      cache.find(1L, () -> load(1L, 1000));
+      TransactionTemplate transactionTemplate = new TransactionTemplate(new FakeTransactionManager());
+
+      // Act
+      transactionTemplate.executeWithoutResult(status -> {
+        cache.put(pointOf(1L, 0, 1L));
+        status.setRollbackOnly();
+      });
+
+      // Assert
+      assertThat(cache.find(1L, () -> load(1L, 1000))).map(PointResponse::balance).contains(1000);
+    }
+
+    @Test
+    void 무효화된_회원은_DB에서_다시_읽는다() {
+      // Arrange
+      cache.find(1L, () -> load(1L, 1000));
+      cache.find(2L, () -> load(2L, 2000));
+
+      // Act
+      cache.evictAll(List.of(1L));
+      Optional<PointResponse> reloaded = cache.find(1L, () -> load(1L, 1500));
+      cache.find(2L, () -> load(2L, 2000));
+
+      // Assert
+      assertThat(reloaded).map(PointResponse::balance).contains(1500);
+      assertThat(dbLoads).hasValue(3);
+    }
+
+    @Test
+    void 조회_중에_무효화되면_그_결과는_캐시에_남기지_않는다() {
+      // Act - DB 조회 도중 홀드가 커밋됨
+      cache.find(1L, () -> {
+        cache.evict(1L);
+        return load(1L, 1000);
+      });
+      cache.find(1L, () -> load(1L, 1000));
+
+      // Assert
+      assertThat(dbLoads).hasValue(2);
+    }
+  }
+
+  // 테스트 헬퍼 메서드 - JPA 가 올리는 version 을 직접 지정
+  private static Point pointOf(final Long userId, final int balance, final long version) {
+    final Point point = Point.openAccount(userId, balance);
+    try {
+      final Field field = Point.class.getDeclaredField("version");
+      field.setAccessible(true);
+      field.set(point, version);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+    return point;
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneId.of("UTC");
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
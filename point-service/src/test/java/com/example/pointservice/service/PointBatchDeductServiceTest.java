@@ -0,0 +1,251 @@
+package com.example.pointservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.pointservice.domain.PointTransaction;
+import com.example.pointservice.domain.PointTransactionType;
+import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.DeductPointRequest;
+import com.example.pointservice.dto.request.DeductPointsRequest;
+import com.example.pointservice.dto.response.DeductPointsResponse;
+import com.example.pointservice.dto.response.PointDeductResult;
+import com.example.pointservice.dto.response.PointDeductResult.Outcome;
+import com.example.pointservice.exception.ErrorCode;
+import com.example.pointservice.exception.PointException;
+import com.example.pointservice.repository.FakePointLotRepository;
+import com.example.pointservice.repository.FakePointRepository;
+import com.example.pointservice.repository.FakePointSnapshotRepository;
+import com.example.pointservice.repository.FakePointTransactionRepository;
+import com.example.pointservice.repository.FakeTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PointBatchDeductServiceTest {
+
+  private FakePointRepository fakePointRepository;
+  private FakePointTransactionRepository fakePointTransactionRepository;
+  private PointService pointService;
+  private PointBatchDeductService pointBatchDeductService;
+
+  @BeforeEach
+  void setUp() {
+    fakePointRepository = new FakePointRepository();
+    FakePointSnapshotRepository fakePointSnapshotRepository = new FakePointSnapshotRepository();
+    fakePointTransactionRepository = new FakePointTransactionRepository(fakePointSnapshotRepository);
+    PointLedger pointLedger = new PointLedger(fakePointTransactionRepository, fakePointSnapshotRepository);
+    TransactionTemplate transactionTemplate = new TransactionTemplate(new FakeTransactionManager());
+    PointLotTracker pointLotTracker = new PointLotTracker(new FakePointLotRepository(), 16);
+    PointBalanceCache pointBalanceCache = new PointBalanceCache(new SimpleMeterRegistry(), 1000,
+        Duration.ofSeconds(5), Clock.systemUTC());
+
+    pointService = new PointService(fakePointRepository, pointLedger, new PointUpdateExecutor(fakePointRepository,
+        transactionTemplate, PointLockMode.PESSIMISTIC, 5, 0, 0), pointLotTracker, pointBalanceCache);
+    pointBatchDeductService = new PointBatchDeductService(fakePointRepository, pointLedger, pointLotTracker,
+        pointBalanceCache, transactionTemplate, 5);
+
+    pointService.addPoint(new AddPointRequest(1L, 1000));
+    pointService.addPoint(new AddPointRequest(2L, 500));
+  }
+
+  @Nested
+  @DisplayName("가능한 건만 차감")
+  class BestEffort {
+
+    @Test
+    void 건별_결과를_요청_순서대로_돌려준다() {
+      // Act
+      DeductPointsResponse response = pointBatchDeductService.deductAll(new DeductPointsRequest(List.of(
+          new DeductPointRequest(2L, 300, 10L, "order-10"),
+          new DeductPointRequest(1L, 200, 11L, "order-11"),
+          new DeductPointRequest(2L, 300, 12L, "order-12"),
+          new DeductPointRequest(9L, 100, 13L, "order-13")), false));
+
+      // Assert
+      assertThat(response.results())
+          .extracting(PointDeductResult::userId, PointDeductResult::outcome, PointDeductResult::remainingPoints)
+          .containsExactly(
+              tuple(2L, Outcome.DEDUCTED, 200),
+              tuple(1L, Outcome.DEDUCTED, 800),
+              tuple(2L, Outcome.INSUFFICIENT_BALANCE, null),
+              tuple(9L, Outcome.ACCOUNT_NOT_FOUND, null));
+      assertThat(response.deducted()).isEqualTo(2);
+      assertThat(response.rolledBack()).isFalse();
+      assertThat(balanceOf(1L)).isEqualTo(800);
+      assertThat(balanceOf(2L)).isEqualTo(200);
+    }
+
+    @Test
+    void 같은_회원의_연속된_차감은_잔여_포인트를_차례로_계산한다() {
+      // Act
+      DeductPointsResponse response = pointBatchDeductService.deductAll(new DeductPointsRequest(List.of(
+          new DeductPointRequest(1L, 100),
+          new DeductPointRequest(1L, 200),
+          new DeductPointRequest(1L, 300)), null));
+
+      // Assert
+      assertThat(response.results())
+          .extracting(PointDeductResult::remainingPoints)
+          .containsExactly(900, 700, 400);
+      assertThat(balanceOf(1L)).isEqualTo(400);
+    }
+
+    @Test
+    void 잔여_포인트는_홀드를_뺀_사용_가능_잔액이다() {
+      // Arrange
+      fakePointRepository.holdIfAvailable(1L, 300);
+
+      // Act
+      DeductPointsResponse response = pointBatchDeductService.deductAll(new DeductPointsRequest(List.of(
+          new DeductPointRequest(1L, 100),
+          new DeductPointRequest(1L, 200)), false));
+
+      // Assert
+      assertThat(response.results())
+          .extracting(PointDeductResult::remainingPoints)
+          .containsExactly(600, 400);
+      assertThat(balanceOf(1L)).isEqualTo(700);
+    }
+
+    @Test
+    void 차감한_건마다_원장에_남긴다() {
+      // Act
+      DeductPointsResponse response = pointBatchDeductService.deductAll(new DeductPointsRequest(List.of(
+          new DeductPointRequest(1L, 100, 10L, "order-10"),
+          new DeductPointRequest(2L, 600, 11L, "order-11")), false));
+
+      // Assert
+      assertThat(fakePointTransactionRepository.findAll())
+          .filteredOn(transaction -> transaction.getType() == PointTransactionType.DEDUCT)
+          .extracting(PointTransaction::getUserId, PointTransaction::getAmount)
+          .containsExactly(tuple(1L, -100));
+      assertThat(response.results().get(0).transactionId()).startsWith("point-tx-");
+    }
+
+    @Test
+    void 금액이_0_이하인_건은_차감하지_않는다() {
+      // Act
+      DeductPointsResponse response = pointBatchDeductService.deductAll(new DeductPointsRequest(List.of(
+          new DeductPointRequest(1L, 0),
+          new DeductPointRequest(1L, 100)), false));
+
+      // Assert
+      assertThat(response.results())
+          .extracting(PointDeductResult::outcome)
+          .containsExactly(Outcome.INVALID_ENTRY, Outcome.DEDUCTED);
+    }
+  }
+
+  @Nested
+  @DisplayName("전부 아니면 전무")
+  class AllOrNothing {
+
+    @Test
+    void 한_건이라도_실패하면_전체를_되돌린다() {
+      // Act
+      DeductPointsResponse response = pointBatchDeductService.deductAll(new DeductPointsRequest(List.of(
+          new DeductPointRequest(1L, 200, 10L, "order-10"),
+          new DeductPointRequest(2L, 600, 11L, "order-11"),
+          new DeductPointRequest(1L, 100, 12L, "order-12")), true));
+
+      // Assert
+      assertThat(response.results())
+          .extracting(PointDeductResult::outcome)
+          .containsExactly(Outcome.NOT_APPLIED, Outcome.INSUFFICIENT_BALANCE, Outcome.NOT_APPLIED);
+      assertThat(response.deducted()).isZero();
+      assertThat(response.rolledBack()).isTrue();
+    }
+
+    @Test
+    void 모두_가능하면_모두_차감한다() {
+      // Act
+      DeductPointsResponse response = pointBatchDeductService.deductAll(new DeductPointsRequest(List.of(
+          new DeductPointRequest(1L, 200),
+          new DeductPointRequest(2L, 500)), true));
+
+      // Assert
+      assertThat(response.deducted()).isEqualTo(2);
+      assertThat(response.rolledBack()).isFalse();
+      assertThat(balanceOf(1L)).isEqualTo(800);
+      assertThat(balanceOf(2L)).isZero();
+    }
+
+    @Test
+    void 잘못된_건이_있으면_DB를_건드리지_않고_되돌린다() {
+      // Act
+      DeductPointsResponse response = pointBatchDeductService.deductAll(new DeductPointsRequest(List.of(
+          new DeductPointRequest(1L, 200),
+          new DeductPointRequest(null, 100)), true));
+
+      // Assert
+      assertThat(response.results())
+          .extracting(PointDeductResult::outcome)
+          .containsExactly(Outcome.NOT_APPLIED, Outcome.INVALID_ENTRY);
+      assertThat(balanceOf(1L)).isEqualTo(1000);
+    }
+  }
+
+  @Nested
+  @DisplayName("멱등 키")
+  class Idempotency {
+
+    @Test
+    void 이미_차감한_멱등_키는_다시_차감하지_않는다() {
+      // Arrange
+      pointService.deductPoint(new DeductPointRequest(1L, 300, 10L, "order-10"));
+
+      // Act
+      DeductPointsResponse response = pointBatchDeductService.deductAll(new DeductPointsRequest(List.of(
+          new DeductPointRequest(1L, 300, 10L, "order-10"),
+          new DeductPointRequest(2L, 100, 11L, "order-11")), true));
+
+      // Assert
+      assertThat(response.results())
+          .extracting(PointDeductResult::outcome)
+          .containsExactly(Outcome.ALREADY_DEDUCTED, Outcome.DEDUCTED);
+      assertThat(balanceOf(1L)).isEqualTo(700);
+    }
+
+    @Test
+    void 같은_요청_안의_중복_멱등_키는_한_번만_차감한다() {
+      // Act
+      DeductPointsResponse response = pointBatchDeductService.deductAll(new DeductPointsRequest(List.of(
+          new DeductPointRequest(1L, 300, 10L, "order-10"),
+          new DeductPointRequest(1L, 300, 10L, "order-10")), false));
+
+      // Assert
+      assertThat(response.results())
+          .extracting(PointDeductResult::outcome)
+          .containsExactly(Outcome.DEDUCTED, Outcome.ALREADY_DEDUCTED);
+      assertThat(response.results().get(1).transactionId()).isEqualTo(response.results().get(0).transactionId());
+      assertThat(balanceOf(1L)).isEqualTo(700);
+    }
+  }
+
+  @Test
+  void 최대_건수를_넘으면_예외가_발생한다() {
+    // Arrange
+    List<DeductPointRequest> entries = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      entries.add(new DeductPointRequest(1L, 10));
+    }
+
+    // Act & Assert
+    assertThatThrownBy(() -> pointBatchDeductService.deductAll(new DeductPointsRequest(entries, false)))
+        .isInstanceOf(PointException.class)
+        .hasMessage(ErrorCode.INVALID_REQUEST.getMessage());
+  }
+
+  private int balanceOf(Long userId) {
+    return fakePointRepository.findByUserId(userId).orElseThrow().getBalance();
+  }
+}
@@ -0,0 +1,112 @@
+package com.example.pointservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.pointservice.domain.PointTransaction;
+import com.example.pointservice.domain.PointTransactionType;
+import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.UsePointRequest;
+import com.example.pointservice.dto.response.PointResponse;
+import com.example.pointservice.exception.ErrorCode;
+import com.example.pointservice.exception.PointException;
+import com.example.pointservice.repository.FakePointLotRepository;
+import com.example.pointservice.repository.FakePointRepository;
+import com.example.pointservice.repository.FakePointSnapshotRepository;
+import com.example.pointservice.repository.FakePointTransactionRepository;
+import com.example.pointservice.repository.FakeTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PointBatcherTest {
+
+  private FakePointRepository fakePointRepository;
+  private FakePointTransactionRepository fakePointTransactionRepository;
+  private PointService pointService;
+  private PointBatcher pointBatcher;
+
+  @BeforeEach
+  void setUp() {
+    fakePointRepository = new FakePointRepository();
+    FakePointSnapshotRepository fakePointSnapshotRepository = new FakePointSnapshotRepository();
+    fakePointTransactionRepository = new FakePointTransactionRepository(fakePointSnapshotRepository);
+    pointService = new PointService(fakePointRepository,
+        new PointLedger(fakePointTransactionRepository, fakePointSnapshotRepository),
+        new PointUpdateExecutor(fakePointRepository, new TransactionTemplate(new FakeTransactionManager()),
+            PointLockMode.PESSIMISTIC, 5, 0, 0),
+        new PointLotTracker(new FakePointLotRepository(), 16),
+        new PointBalanceCache(new SimpleMeterRegistry(), 1000, Duration.ofSeconds(5), Clock.systemUTC()));
+    // 50ms 동안 모으고, Fake 저장소가 스레드 안전하지 않으므로 묶음은 스레드 하나에서 적용
+    pointBatcher = new PointBatcher(pointService, true, 50, 100, 1);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    pointBatcher.shutdown();
+  }
+
+  @Test
+  void 같은_계좌_요청을_한_번에_적용하고_요청마다_자기_결과를_받는다() {
+    // Act
+    CompletableFuture<PointResponse> add = pointBatcher.submit(PointOperation.add(1L, 1000));
+    CompletableFuture<PointResponse> use = pointBatcher.submit(PointOperation.use(1L, 300));
+    CompletableFuture<PointResponse> overdraw = pointBatcher.submit(PointOperation.use(1L, 800));
+    CompletableFuture<PointResponse> addAgain = pointBatcher.submit(PointOperation.add(1L, 50));
+
+    // Assert - 잔액을 넘는 사용만 거절되고 나머지는 순서대로 적용
+    assertThat(add.join().balance()).isEqualTo(1000);
+    assertThat(use.join().balance()).isEqualTo(700);
+    assertThatThrownBy(overdraw::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(PointException.class)
+        .hasRootCauseMessage(ErrorCode.INSUFFICIENT_BALANCE.getMessage());
+    assertThat(addAgain.join().balance()).isEqualTo(750);
+
+    assertThat(pointBatcher.batches()).isEqualTo(1);
+    assertThat(fakePointRepository.findByUserId(1L).orElseThrow().getBalance()).isEqualTo(750);
+    assertThat(fakePointTransactionRepository.findAll())
+        .extracting(PointTransaction::getType)
+        .containsExactly(PointTransactionType.CHARGE, PointTransactionType.USE, PointTransactionType.CHARGE);
+  }
+
+  @Test
+  void 계좌가_다르면_따로_묶는다() {
+    // Act
+    CompletableFuture<PointResponse> first = pointBatcher.submit(PointOperation.add(1L, 100));
+    CompletableFuture<PointResponse> second = pointBatcher.submit(PointOperation.add(2L, 200));
+
+    // Assert
+    assertThat(first.join().balance()).isEqualTo(100);
+    assertThat(second.join().balance()).isEqualTo(200);
+    assertThat(pointBatcher.batches()).isEqualTo(2);
+  }
+
+  @Test
+  void 동기_호출은_묶음_결과의_예외를_그대로_던진다() {
+    // Act & Assert
+    assertThatThrownBy(() -> pointBatcher.usePoint(new UsePointRequest(1L, 1)))
+        .isInstanceOf(PointException.class)
+        .hasMessage(ErrorCode.INSUFFICIENT_BALANCE.getMessage());
+  }
+
+  @Test
+  void 비활성화되어_있으면_모으지_않고_바로_처리한다() throws InterruptedException {
+    // Arrange
+    PointBatcher disabled = new PointBatcher(pointService, false, 50, 100, 1);
+
+    // Act
+    PointResponse response = disabled.addPoint(new AddPointRequest(1L, 100));
+
+    // Assert
+    assertThat(response.balance()).isEqualTo(100);
+    assertThat(disabled.batches()).isZero();
+    disabled.shutdown();
+  }
+}
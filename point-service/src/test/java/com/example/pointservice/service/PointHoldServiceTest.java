@@ -0,0 +1,328 @@
+package com.example.pointservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.pointservice.domain.PointHoldStatus;
+import com.example.pointservice.domain.PointTransactionType;
+import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.CaptureHoldsRequest;
+import com.example.pointservice.dto.request.DeductPointRequest;
+import com.example.pointservice.dto.request.HoldPointRequest;
+import com.example.pointservice.dto.response.CaptureHoldsResponse;
+import com.example.pointservice.dto.response.HoldCaptureResult;
+import com.example.pointservice.dto.response.HoldCaptureResult.Outcome;
+import com.example.pointservice.dto.response.PointHoldResponse;
+import com.example.pointservice.exception.ErrorCode;
+import com.example.pointservice.exception.PointException;
+import com.example.pointservice.repository.FakePointHoldRepository;
+import com.example.pointservice.repository.FakePointLotRepository;
+import com.example.pointservice.repository.FakePointRepository;
+import com.example.pointservice.repository.FakePointSnapshotRepository;
+import com.example.pointservice.repository.FakePointTransactionRepository;
+import com.example.pointservice.repository.FakeTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PointHoldServiceTest {
+
+  private static final long TTL_SECONDS = 600;
+
+  private FakePointRepository fakePointRepository;
+  private FakePointHoldRepository fakePointHoldRepository;
+  private FakePointTransactionRepository fakePointTransactionRepository;
+  private MutableClock clock;
+  private PointService pointService;
+  private PointHoldService pointHoldService;
+
+  @BeforeEach
+  void setUp() {
+    fakePointRepository = new FakePointRepository();
+    fakePointHoldRepository = new FakePointHoldRepository();
+    FakePointSnapshotRepository fakePointSnapshotRepository = new FakePointSnapshotRepository();
+    fakePointTransactionRepository = new FakePointTransactionRepository(fakePointSnapshotRepository);
+    PointLedger pointLedger = new PointLedger(fakePointTransactionRepository, fakePointSnapshotRepository);
+    clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    PointLotTracker pointLotTracker = new PointLotTracker(new FakePointLotRepository(), clock, 16);
+    PointBalanceCache pointBalanceCache = new PointBalanceCache(new SimpleMeterRegistry(), 1000,
+        Duration.ofSeconds(5), clock);
+
+    pointService = new PointService(fakePointRepository, pointLedger, new PointUpdateExecutor(fakePointRepository,
+        new TransactionTemplate(new FakeTransactionManager()), PointLockMode.PESSIMISTIC, 5, 0, 0), pointLotTracker,
+        pointBalanceCache);
+    // 타이머는 시작하지 않는다 - 만료는 sweepExpired 로 검증
+    pointHoldService = new PointHoldService(fakePointRepository, fakePointHoldRepository, pointLedger,
+        pointLotTracker, pointBalanceCache, new TransactionTemplate(new FakeTransactionManager()), clock, TTL_SECONDS,
+        3600, 2, 100, 1000);
+
+    pointService.createPointAccount(1L);
+    pointService.addPoint(new AddPointRequest(1L, 10000));
+  }
+
+  @Nested
+  @DisplayName("포인트 홀드")
+  class Hold {
+
+    @Test
+    @DisplayName("홀드하면 잔액은 그대로이고 사용 가능 잔액만 줄어든다")
+    void 홀드하면_잔액은_그대로이고_사용_가능_잔액만_줄어든다() {
+      // Act
+      PointHoldResponse response = pointHoldService.hold(new HoldPointRequest(1L, 3000, 100L, "order-100", null));
+
+      // Assert
+      assertThat(response.status()).isEqualTo(PointHoldStatus.HELD);
+      assertThat(response.expiresAt()).isEqualTo(clock.now().plusSeconds(TTL_SECONDS));
+      assertThat(pointService.findPointByUserId(1L).balance()).isEqualTo(10000);
+      assertThat(pointService.findPointByUserId(1L).availableBalance()).isEqualTo(7000);
+      assertThat(pointService.canUsePoint(1L, 7001)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 홀드 키로 다시 요청하면 한 번만 홀드한다")
+    void 같은_홀드_키로_다시_요청하면_한_번만_홀드한다() {
+      // Arrange
+      PointHoldResponse first = pointHoldService.hold(new HoldPointRequest(1L, 3000, "order-100"));
+
+      // Act
+      PointHoldResponse second = pointHoldService.hold(new HoldPointRequest(1L, 3000, "order-100"));
+
+      // Assert
+      assertThat(second.holdId()).isEqualTo(first.holdId());
+      assertThat(fakePointHoldRepository.size()).isEqualTo(1);
+      assertThat(pointService.findPointByUserId(1L).availableBalance()).isEqualTo(7000);
+    }
+
+    @Test
+    @DisplayName("사용 가능 잔액보다 많이 홀드하면 예외가 발생한다")
+    void 사용_가능_잔액보다_많이_홀드하면_예외가_발생한다() {
+      // Arrange
+      pointHoldService.hold(new HoldPointRequest(1L, 8000, "order-100"));
+
+      // Act & Assert
+      assertThatThrownBy(() -> pointHoldService.hold(new HoldPointRequest(1L, 3000, "order-101")))
+          .isInstanceOf(PointException.class)
+          .hasMessage(ErrorCode.INSUFFICIENT_BALANCE.getMessage());
+      assertThat(fakePointHoldRepository.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("홀드된 금액은 결제 차감에 쓸 수 없다")
+    void 홀드된_금액은_결제_차감에_쓸_수_없다() {
+      // Arrange
+      pointHoldService.hold(new HoldPointRequest(1L, 8000, "order-100"));
+
+      // Act & Assert
+      assertThatThrownBy(() -> pointService.deductPoint(
+          new DeductPointRequest(1L, 3000)))
+          .isInstanceOf(PointException.class)
+          .hasMessage(ErrorCode.INSUFFICIENT_BALANCE.getMessage());
+    }
+  }
+
+  @Nested
+  @DisplayName("홀드 확정 / 취소")
+  class CaptureAndRelease {
+
+    @Test
+    @DisplayName("확정하면 잔액에서 차감하고 원장에 남긴다")
+    void 확정하면_잔액에서_차감하고_원장에_남긴다() {
+      // Arrange
+      PointHoldResponse hold = pointHoldService.hold(new HoldPointRequest(1L, 3000, 100L, "order-100", null));
+
+      // Act
+      PointHoldResponse captured = pointHoldService.capture(hold.holdId());
+
+      // Assert
+      assertThat(captured.status()).isEqualTo(PointHoldStatus.CAPTURED);
+      assertThat(pointService.findPointByUserId(1L).balance()).isEqualTo(7000);
+      assertThat(pointService.findPointByUserId(1L).availableBalance()).isEqualTo(7000);
+      assertThat(fakePointTransactionRepository.findAll())
+          .filteredOn(transaction -> transaction.getType() == PointTransactionType.CAPTURE)
+          .singleElement()
+          .satisfies(transaction -> {
+            assertThat(transaction.getAmount()).isEqualTo(-3000);
+            assertThat(transaction.getOrderId()).isEqualTo(100L);
+          });
+    }
+
+    @Test
+    @DisplayName("이미 확정된 홀드를 다시 확정해도 한 번만 차감한다")
+    void 이미_확정된_홀드를_다시_확정해도_한_번만_차감한다() {
+      // Arrange
+      PointHoldResponse hold = pointHoldService.hold(new HoldPointRequest(1L, 3000, "order-100"));
+      pointHoldService.capture(hold.holdId());
+
+      // Act
+      PointHoldResponse again = pointHoldService.capture(hold.holdId());
+
+      // Assert
+      assertThat(again.status()).isEqualTo(PointHoldStatus.CAPTURED);
+      assertThat(pointService.findPointByUserId(1L).balance()).isEqualTo(7000);
+    }
+
+    @Test
+    @DisplayName("취소하면 사용 가능 잔액이 돌아오고 확정할 수 없다")
+    void 취소하면_사용_가능_잔액이_돌아오고_확정할_수_없다() {
+      // Arrange
+      PointHoldResponse hold = pointHoldService.hold(new HoldPointRequest(1L, 3000, "order-100"));
+
+      // Act
+      PointHoldResponse released = pointHoldService.release(hold.holdId());
+
+      // Assert
+      assertThat(released.status()).isEqualTo(PointHoldStatus.RELEASED);
+      assertThat(pointService.findPointByUserId(1L).availableBalance()).isEqualTo(10000);
+      assertThatThrownBy(() -> pointHoldService.capture(hold.holdId()))
+          .isInstanceOf(PointException.class)
+          .hasMessage(ErrorCode.HOLD_NOT_ACTIVE.getMessage());
+    }
+
+    @Test
+    @DisplayName("확정된 홀드는 취소할 수 없다")
+    void 확정된_홀드는_취소할_수_없다() {
+      // Arrange
+      PointHoldResponse hold = pointHoldService.hold(new HoldPointRequest(1L, 3000, "order-100"));
+      pointHoldService.capture(hold.holdId());
+
+      // Act & Assert
+      assertThatThrownBy(() -> pointHoldService.release(hold.holdId()))
+          .isInstanceOf(PointException.class)
+          .hasMessage(ErrorCode.HOLD_NOT_ACTIVE.getMessage());
+      assertThat(pointService.findPointByUserId(1L).balance()).isEqualTo(7000);
+    }
+
+    @Test
+    @DisplayName("일괄 확정은 홀드별 결과를 요청 순서대로 돌려준다")
+    void 일괄_확정은_홀드별_결과를_요청_순서대로_돌려준다() {
+      // Arrange
+      pointService.createPointAccount(2L);
+      pointService.addPoint(new AddPointRequest(2L, 5000));
+      Long first = pointHoldService.hold(new HoldPointRequest(2L, 1000, "order-1")).holdId();
+      Long second = pointHoldService.hold(new HoldPointRequest(1L, 2000, "order-2")).holdId();
+      Long released = pointHoldService.hold(new HoldPointRequest(1L, 500, "order-3")).holdId();
+      pointHoldService.release(released);
+      pointHoldService.capture(second);
+
+      // Act
+      CaptureHoldsResponse response = pointHoldService.captureAll(
+          new CaptureHoldsRequest(List.of(first, second, released, 999L)));
+
+      // Assert
+      assertThat(response.captured()).isEqualTo(1);
+      assertThat(response.results())
+          .extracting(HoldCaptureResult::holdId, HoldCaptureResult::outcome)
+          .containsExactly(
+              tuple(first, Outcome.CAPTURED),
+              tuple(second, Outcome.ALREADY_CAPTURED),
+              tuple(released, Outcome.NOT_ACTIVE),
+              tuple(999L, Outcome.NOT_FOUND));
+      assertThat(pointService.findPointByUserId(1L).balance()).isEqualTo(8000);
+      assertThat(pointService.findPointByUserId(2L).balance()).isEqualTo(4000);
+    }
+  }
+
+  @Nested
+  @DisplayName("홀드 만료")
+  class Expire {
+
+    @Test
+    @DisplayName("만료 시각이 지난 홀드는 스윕이 만료시키고 사용 가능 잔액을 돌려준다")
+    void 만료_시각이_지난_홀드는_스윕이_만료시키고_사용_가능_잔액을_돌려준다() {
+      // Arrange - 배치 크기 2 보다 많은 3건
+      pointHoldService.hold(new HoldPointRequest(1L, 1000, "order-1"));
+      pointHoldService.hold(new HoldPointRequest(1L, 1000, "order-2"));
+      pointHoldService.hold(new HoldPointRequest(1L, 1000, "order-3"));
+      clock.advance(Duration.ofSeconds(TTL_SECONDS));
+
+      // Act
+      int expired = pointHoldService.sweepExpired();
+
+      // Assert
+      assertThat(expired).isEqualTo(3);
+      assertThat(pointService.findPointByUserId(1L).availableBalance()).isEqualTo(10000);
+      assertThat(pointService.findPointByUserId(1L).balance()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("만료 전 홀드는 만료시키지 않는다")
+    void 만료_전_홀드는_만료시키지_않는다() {
+      // Arrange
+      PointHoldResponse hold = pointHoldService.hold(new HoldPointRequest(1L, 1000, "order-1"));
+      clock.advance(Duration.ofSeconds(TTL_SECONDS - 1));
+
+      // Act & Assert
+      assertThat(pointHoldService.sweepExpired()).isZero();
+      assertThat(pointHoldService.expire(hold.holdId())).isFalse();
+      assertThat(pointService.findPointByUserId(1L).availableBalance()).isEqualTo(9000);
+    }
+
+    @Test
+    @DisplayName("만료된 홀드는 확정할 수 없다")
+    void 만료된_홀드는_확정할_수_없다() {
+      // Arrange
+      PointHoldResponse hold = pointHoldService.hold(new HoldPointRequest(1L, 1000, "order-1"));
+      clock.advance(Duration.ofSeconds(TTL_SECONDS));
+
+      // Act & Assert
+      assertThatThrownBy(() -> pointHoldService.capture(hold.holdId()))
+          .isInstanceOf(PointException.class)
+          .hasMessage(ErrorCode.HOLD_NOT_ACTIVE.getMessage());
+      assertThat(pointService.findPointByUserId(1L).balance()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("홀드하면 만료 타이머에 등록한다")
+    void 홀드하면_만료_타이머에_등록한다() {
+      // Act
+      pointHoldService.hold(new HoldPointRequest(1L, 1000, "order-1"));
+
+      // Assert
+      assertThat(pointHoldService.scheduledExpiries()).isEqualTo(1);
+    }
+  }
+
+  // 테스트에서 시간을 앞당기기 위한 시계
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    LocalDateTime now() {
+      return LocalDateTime.ofInstant(instant, getZone());
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneId.of("UTC");
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,286 @@
+package com.example.pointservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.pointservice.domain.Point;
+import com.example.pointservice.domain.PointLot;
+import com.example.pointservice.domain.PointLotStatus;
+import com.example.pointservice.domain.PointTransactionType;
+import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.DeductPointRequest;
+import com.example.pointservice.dto.request.UsePointRequest;
+import com.example.pointservice.exception.ErrorCode;
+import com.example.pointservice.exception.PointException;
+import com.example.pointservice.repository.FakePointLotRepository;
+import com.example.pointservice.repository.FakePointRepository;
+import com.example.pointservice.repository.FakePointSnapshotRepository;
+import com.example.pointservice.repository.FakePointTransactionRepository;
+import com.example.pointservice.repository.FakeTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PointLotTrackerTest {
+
+  private FakePointRepository fakePointRepository;
+  private FakePointLotRepository fakePointLotRepository;
+  private FakePointTransactionRepository fakePointTransactionRepository;
+  private MutableClock clock;
+  private PointLotTracker pointLotTracker;
+  private PointService pointService;
+  private PointExpirySweeper sweeper;
+
+  @BeforeEach
+  void setUp() {
+    fakePointRepository = new FakePointRepository();
+    fakePointLotRepository = new FakePointLotRepository();
+    FakePointSnapshotRepository fakePointSnapshotRepository = new FakePointSnapshotRepository();
+    fakePointTransactionRepository = new FakePointTransactionRepository(fakePointSnapshotRepository);
+    PointLedger pointLedger = new PointLedger(fakePointTransactionRepository, fakePointSnapshotRepository);
+    TransactionTemplate transactionTemplate = new TransactionTemplate(new FakeTransactionManager());
+    clock = new MutableClock(Instant.parse("2025-01-01T09:00:00Z"));
+
+    // 한 번에 묶음 4개씩 읽고, 스윕은 트랜잭션당 묶음 2개
+    pointLotTracker = new PointLotTracker(fakePointLotRepository, clock, 4);
+    PointBalanceCache pointBalanceCache = new PointBalanceCache(new SimpleMeterRegistry(), 1000,
+        Duration.ofSeconds(5), clock);
+    pointService = new PointService(fakePointRepository, pointLedger, new PointUpdateExecutor(fakePointRepository,
+        transactionTemplate, PointLockMode.PESSIMISTIC, 5, 0, 0), pointLotTracker, pointBalanceCache);
+    sweeper = new PointExpirySweeper(fakePointRepository, fakePointLotRepository, pointLedger, pointBalanceCache,
+        transactionTemplate, clock, 2);
+  }
+
+  @Nested
+  @DisplayName("유효기간 포인트 지급")
+  class Grant {
+
+    @Test
+    void 유효기간_마지막_날_자정에_만료되는_묶음을_만든다() {
+      // Act
+      pointService.addPoint(new AddPointRequest(1L, 300, 10));
+
+      // Assert
+      assertThat(fakePointLotRepository.findAll())
+          .extracting(PointLot::getUserId, PointLot::getRemaining, PointLot::getExpiresAt)
+          .containsExactly(tuple(1L, 300, LocalDateTime.of(2025, 1, 12, 0, 0)));
+      assertThat(balanceOf(1L)).isEqualTo(300);
+    }
+
+    @Test
+    void 같은_날_만료되는_지급은_한_묶음으로_합친다() {
+      // Act
+      pointService.addPoint(new AddPointRequest(1L, 100, 30));
+      pointService.addPoint(new AddPointRequest(1L, 200, 30));
+      clock.advance(Duration.ofDays(1));
+      pointService.addPoint(new AddPointRequest(1L, 50, 30));
+
+      // Assert
+      assertThat(fakePointLotRepository.findAll())
+          .extracting(PointLot::getAmount)
+          .containsExactly(300, 50);
+      assertThat(pointLotTracker.expiringBalance(1L)).isEqualTo(350);
+    }
+
+    @Test
+    void 유효기간이_없으면_묶음을_만들지_않는다() {
+      // Act
+      pointService.addPoint(new AddPointRequest(1L, 1000));
+
+      // Assert
+      assertThat(fakePointLotRepository.findAll()).isEmpty();
+      assertThat(pointLotTracker.expiringBalance(1L)).isZero();
+    }
+
+    @Test
+    void 유효기간이_0일_이하이면_예외가_발생한다() {
+      // Act & Assert
+      assertThatThrownBy(() -> pointService.addPoint(new AddPointRequest(1L, 100, 0)))
+          .isInstanceOf(PointException.class)
+          .hasMessage(ErrorCode.INVALID_VALID_DAYS.getMessage());
+    }
+  }
+
+  @Nested
+  @DisplayName("유효기간 포인트 사용")
+  class Consume {
+
+    @Test
+    void 만료가_이른_묶음부터_쓰고_모자라면_만료_없는_잔액에서_쓴다() {
+      // Arrange
+      pointService.addPoint(new AddPointRequest(1L, 1000));
+      pointService.addPoint(new AddPointRequest(1L, 300, 30));
+      pointService.addPoint(new AddPointRequest(1L, 200, 10));
+
+      // Act
+      pointService.usePoint(new UsePointRequest(1L, 250));
+
+      // Assert - 10일짜리를 다 쓰고 30일짜리에서 50
+      assertThat(fakePointLotRepository.findAll())
+          .extracting(PointLot::getAmount, PointLot::getRemaining, PointLot::getStatus)
+          .containsExactly(
+              tuple(300, 250, PointLotStatus.ACTIVE),
+              tuple(200, 0, PointLotStatus.EXHAUSTED));
+
+      // Act - 묶음 250 을 다 쓰고 150 은 만료 없는 잔액에서
+      pointService.usePoint(new UsePointRequest(1L, 400));
+
+      // Assert
+      assertThat(pointLotTracker.expiringBalance(1L)).isZero();
+      assertThat(balanceOf(1L)).isEqualTo(850);
+    }
+
+    @Test
+    void 결제_차감도_만료가_이른_묶음부터_쓴다() {
+      // Arrange
+      pointService.addPoint(new AddPointRequest(1L, 1000));
+      pointService.addPoint(new AddPointRequest(1L, 500, 10));
+
+      // Act
+      pointService.deductPoint(new DeductPointRequest(1L, 200));
+
+      // Assert
+      assertThat(pointLotTracker.expiringBalance(1L)).isEqualTo(300);
+      assertThat(balanceOf(1L)).isEqualTo(1300);
+    }
+
+    @Test
+    void 필요한_묶음까지만_읽고_고친다() {
+      // Arrange - 만료일이 다른 묶음 10개 (각 10 포인트)
+      for (int day = 0; day < 10; day++) {
+        pointService.addPoint(new AddPointRequest(1L, 10, 30));
+        clock.advance(Duration.ofDays(1));
+      }
+
+      // Act
+      int touched = pointLotTracker.consume(1L, 55);
+
+      // Assert - 앞의 5개를 다 쓰고 6번째에서 5
+      assertThat(touched).isEqualTo(6);
+      assertThat(fakePointLotRepository.findAll())
+          .extracting(PointLot::getRemaining)
+          .containsExactly(0, 0, 0, 0, 0, 5, 10, 10, 10, 10);
+      assertThat(pointLotTracker.maxLotTouches()).isEqualTo(6);
+    }
+  }
+
+  @Nested
+  @DisplayName("만료 스윕")
+  class Sweep {
+
+    @Test
+    void 만료된_묶음의_남은_금액을_잔액에서_빼고_원장에_남긴다() {
+      // Arrange
+      pointService.addPoint(new AddPointRequest(1L, 1000));
+      pointService.addPoint(new AddPointRequest(1L, 300, 10));
+      pointService.addPoint(new AddPointRequest(1L, 200, 30));
+      pointService.usePoint(new UsePointRequest(1L, 100));
+      clock.advance(Duration.ofDays(11));
+
+      // Act
+      int expired = sweeper.sweep();
+
+      // Assert - 10일짜리에 남은 200 만 만료
+      assertThat(expired).isEqualTo(1);
+      assertThat(balanceOf(1L)).isEqualTo(1200);
+      assertThat(pointLotTracker.expiringBalance(1L)).isEqualTo(200);
+      assertThat(fakePointTransactionRepository.findAll())
+          .filteredOn(transaction -> transaction.getType() == PointTransactionType.EXPIRE)
+          .singleElement()
+          .satisfies(transaction -> assertThat(transaction.getAmount()).isEqualTo(-200));
+      assertThat(sweeper.sweep()).isZero();
+    }
+
+    @Test
+    void 홀드로_묶인_금액은_만료하지_않는다() {
+      // Arrange
+      pointService.addPoint(new AddPointRequest(1L, 500, 10));
+      fakePointRepository.holdIfAvailable(1L, 400);
+      clock.advance(Duration.ofDays(11));
+
+      // Act
+      sweeper.sweep();
+
+      // Assert - 사용 가능 잔액 100 만 만료
+      Point point = fakePointRepository.findByUserId(1L).orElseThrow();
+      assertThat(point.getBalance()).isEqualTo(400);
+      assertThat(point.getHeld()).isEqualTo(400);
+      assertThat(fakePointLotRepository.findAll())
+          .extracting(PointLot::getStatus)
+          .containsExactly(PointLotStatus.EXPIRED);
+    }
+
+    @Test
+    void 만료된_묶음을_배치로_나눠_모두_처리한다() {
+      // Arrange
+      for (long userId = 1; userId <= 5; userId++) {
+        pointService.addPoint(new AddPointRequest(userId, 100, 1));
+      }
+      clock.advance(Duration.ofDays(2));
+
+      // Act
+      int expired = sweeper.sweep();
+
+      // Assert
+      assertThat(expired).isEqualTo(5);
+      for (long userId = 1; userId <= 5; userId++) {
+        assertThat(balanceOf(userId)).isZero();
+      }
+    }
+
+    @Test
+    void 만료_시각_전의_묶음은_건드리지_않는다() {
+      // Arrange
+      pointService.addPoint(new AddPointRequest(1L, 100, 10));
+      clock.advance(Duration.ofDays(10));
+
+      // Act
+      int expired = sweeper.sweep();
+
+      // Assert - 1월 11일 09시, 만료는 1월 12일 0시
+      assertThat(expired).isZero();
+      assertThat(balanceOf(1L)).isEqualTo(100);
+    }
+  }
+
+  private int balanceOf(Long userId) {
+    return fakePointRepository.findByUserId(userId).orElseThrow().getBalance();
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneId.of("UTC");
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -2,26 +2,48 @@ package com.example.pointservice.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.example.pointservice.domain.PointTransactionType;
 import com.example.pointservice.dto.request.AddPointRequest;
+import com.example.pointservice.dto.request.DeductPointRequest;
+import com.example.pointservice.dto.request.RefundPointRequest;
 import com.example.pointservice.dto.request.UsePointRequest;
+import com.example.pointservice.dto.response.DeductPointResponse;
 import com.example.pointservice.dto.response.PointResponse;
+import com.example.pointservice.dto.response.PointTransactionResponse;
 import com.example.pointservice.exception.ErrorCode;
 import com.example.pointservice.exception.PointException;
+import com.example.pointservice.repository.FakePointLotRepository;
 import com.example.pointservice.repository.FakePointRepository;
+import com.example.pointservice.repository.FakePointSnapshotRepository;
+import com.example.pointservice.repository.FakePointTransactionRepository;
+import com.example.pointservice.repository.FakeTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
 
 public class PointServiceTest {
 
   private PointService pointService;
   private FakePointRepository fakePointRepository;
+  private FakePointTransactionRepository fakePointTransactionRepository;
+  private PointLedger pointLedger;
 
   @BeforeEach
   void setUp() {
     fakePointRepository = new FakePointRepository();
-    pointService = new PointService(fakePointRepository);
+    FakePointSnapshotRepository fakePointSnapshotRepository = new FakePointSnapshotRepository();
+    fakePointTransactionRepository = new FakePointTransactionRepository(fakePointSnapshotRepository);
+    pointLedger = new PointLedger(fakePointTransactionRepository, fakePointSnapshotRepository);
+    pointService = new PointService(fakePointRepository, pointLedger, new PointUpdateExecutor(fakePointRepository,
+        new TransactionTemplate(new FakeTransactionManager()), PointLockMode.PESSIMISTIC, 5, 0, 0),
+        new PointLotTracker(new FakePointLotRepository(), 16),
+        new PointBalanceCache(new SimpleMeterRegistry(), 1000, Duration.ofSeconds(5), Clock.systemUTC()));
   }
 
   @Nested
@@ -191,6 +213,172 @@ public class PointServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("결제용 포인트를 차감")
+  class DeductPoint {
+
+    @Test
+    @DisplayName("잔액이 충분하면 차감하고 남은 잔액을 반환한다")
+    void 잔액이_충분하면_차감하고_남은_잔액을_반환한다() {
+      // Arrange
+      Long userId = 1L;
+      pointService.addPoint(new AddPointRequest(userId, 5000));
+
+      // Act
+      DeductPointResponse response = pointService.deductPoint(new DeductPointRequest(userId, 2000));
+
+      // Assert
+      assertThat(response.remainingPoints()).isEqualTo(3000);
+      assertThat(response.deductedAmount()).isEqualTo(2000);
+      assertThat(response.transactionId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("차감 후 잔액 조회는 캐시된 이전 잔액이 아니라 차감된 잔액을 보여준다")
+    void 차감_후_잔액_조회는_캐시된_이전_잔액이_아니라_차감된_잔액을_보여준다() {
+      // Arrange
+      Long userId = 1L;
+      pointService.addPoint(new AddPointRequest(userId, 5000));
+      pointService.findPointByUserId(userId);
+
+      // Act
+      pointService.deductPoint(new DeductPointRequest(userId, 2000));
+
+      // Assert
+      assertThat(pointService.findPointByUserId(userId).balance()).isEqualTo(3000);
+    }
+
+    @Test
+    @DisplayName("남은 잔액은 홀드를 뺀 사용 가능 잔액이다")
+    void 남은_잔액은_홀드를_뺀_사용_가능_잔액이다() {
+      // Arrange
+      Long userId = 1L;
+      pointService.addPoint(new AddPointRequest(userId, 5000));
+      fakePointRepository.holdIfAvailable(userId, 1000);
+
+      // Act
+      DeductPointResponse response = pointService.deductPoint(new DeductPointRequest(userId, 2000));
+
+      // Assert
+      assertThat(response.remainingPoints()).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 예외가 발생하고 잔액은 그대로다")
+    void 잔액이_부족하면_예외가_발생하고_잔액은_그대로다() {
+      // Arrange
+      Long userId = 1L;
+      pointService.addPoint(new AddPointRequest(userId, 1000));
+
+      // Act & Assert
+      assertThatThrownBy(() -> pointService.deductPoint(new DeductPointRequest(userId, 1001)))
+          .isInstanceOf(PointException.class)
+          .hasMessage(ErrorCode.INSUFFICIENT_BALANCE.getMessage());
+      assertThat(pointService.findPointByUserId(userId).balance()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("계좌가 없으면 생성하지 않고 예외가 발생한다")
+    void 계좌가_없으면_생성하지_않고_예외가_발생한다() {
+      // Act & Assert
+      assertThatThrownBy(() -> pointService.deductPoint(new DeductPointRequest(1L, 1000)))
+          .isInstanceOf(PointException.class)
+          .hasMessage(ErrorCode.ACCOUNT_NOT_FOUND.getMessage());
+      assertThat(fakePointRepository.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 다시 차감하면 한 번만 차감한다")
+    void 같은_멱등_키로_다시_차감하면_한_번만_차감한다() {
+      // Arrange
+      Long userId = 1L;
+      pointService.addPoint(new AddPointRequest(userId, 5000));
+      DeductPointRequest request = new DeductPointRequest(userId, 2000, 10L, "order-payment-10");
+      DeductPointResponse first = pointService.deductPoint(request);
+
+      // Act
+      DeductPointResponse second = pointService.deductPoint(request);
+
+      // Assert
+      assertThat(second.remainingPoints()).isEqualTo(3000);
+      assertThat(second.deductedAmount()).isEqualTo(2000);
+      assertThat(second.transactionId()).isEqualTo(first.transactionId());
+    }
+
+    @Test
+    @DisplayName("0 이하 금액은 차감할 수 없다")
+    void 영_이하_금액은_차감할_수_없다() {
+      // Act & Assert
+      assertThatThrownBy(() -> pointService.deductPoint(new DeductPointRequest(1L, 0)))
+          .isInstanceOf(PointException.class)
+          .hasMessage(ErrorCode.ZERO_OR_NEGATIVE_USE_AMOUNT.getMessage());
+    }
+  }
+
+  @Nested
+  @DisplayName("포인트 거래 원장")
+  class Ledger {
+
+    @Test
+    @DisplayName("잔액을 바꾸는 연산마다 원장에 기록한다")
+    void 잔액을_바꾸는_연산마다_원장에_기록한다() {
+      // Arrange
+      Long userId = 1L;
+
+      // Act
+      pointService.addPoint(new AddPointRequest(userId, 5000));
+      pointService.usePoint(new UsePointRequest(userId, 1000));
+      pointService.deductPoint(new DeductPointRequest(userId, 2000, 7L, "order-payment-7"));
+      pointService.refundPoint(new RefundPointRequest(userId, 2000, 7L, "refund-7"));
+
+      // Assert
+      List<PointTransactionResponse> transactions = pointService.findTransactions(userId, 10);
+      assertThat(transactions)
+          .extracting(PointTransactionResponse::type, PointTransactionResponse::amount,
+              PointTransactionResponse::orderId)
+          .containsExactly(
+              tuple(PointTransactionType.REFUND, 2000, 7L),
+              tuple(PointTransactionType.DEDUCT, -2000, 7L),
+              tuple(PointTransactionType.USE, -1000, null),
+              tuple(PointTransactionType.CHARGE, 5000, null));
+      assertThat(pointLedger.balanceOf(userId)).isEqualTo(pointService.findPointByUserId(userId).balance());
+    }
+
+    @Test
+    @DisplayName("실패한 연산은 원장에 남지 않는다")
+    void 실패한_연산은_원장에_남지_않는다() {
+      // Arrange
+      Long userId = 1L;
+      pointService.addPoint(new AddPointRequest(userId, 1000));
+
+      // Act
+      assertThatThrownBy(() -> pointService.usePoint(new UsePointRequest(userId, 2000)))
+          .isInstanceOf(PointException.class);
+      assertThatThrownBy(() -> pointService.deductPoint(new DeductPointRequest(userId, 2000)))
+          .isInstanceOf(PointException.class);
+
+      // Assert
+      assertThat(fakePointTransactionRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 다시 환불하면 한 번만 환불한다")
+    void 같은_멱등_키로_다시_환불하면_한_번만_환불한다() {
+      // Arrange
+      Long userId = 1L;
+      pointService.addPoint(new AddPointRequest(userId, 1000));
+      RefundPointRequest request = new RefundPointRequest(userId, 500, 3L, "compensation-3");
+      pointService.refundPoint(request);
+
+      // Act
+      PointResponse response = pointService.refundPoint(request);
+
+      // Assert
+      assertThat(response.balance()).isEqualTo(1500);
+      assertThat(pointLedger.balanceOf(userId)).isEqualTo(1500);
+    }
+  }
+
   @Nested
   @DisplayName("포인트 사용 가능 여부를 확인")
   class CanUsePoint {
@@ -0,0 +1,91 @@
+package com.example.pointservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.pointservice.domain.PointSnapshot;
+import com.example.pointservice.domain.PointTransactionType;
+import com.example.pointservice.repository.FakePointSnapshotRepository;
+import com.example.pointservice.repository.FakePointTransactionRepository;
+import com.example.pointservice.repository.FakeTransactionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PointSnapshotCompactorTest {
+
+  private FakePointSnapshotRepository fakePointSnapshotRepository;
+  private PointLedger pointLedger;
+  private PointSnapshotCompactor compactor;
+
+  @BeforeEach
+  void setUp() {
+    fakePointSnapshotRepository = new FakePointSnapshotRepository();
+    FakePointTransactionRepository fakePointTransactionRepository =
+        new FakePointTransactionRepository(fakePointSnapshotRepository);
+    pointLedger = new PointLedger(fakePointTransactionRepository, fakePointSnapshotRepository);
+    // 정착 대기 없이 기록된 거래를 모두 반영, 트랜잭션당 회원 2명
+    compactor = new PointSnapshotCompactor(fakePointTransactionRepository, fakePointSnapshotRepository,
+        new TransactionTemplate(new FakeTransactionManager()), 0, 2);
+  }
+
+  @Test
+  void 거래가_있는_회원마다_스냅샷을_만든다() {
+    // Arrange
+    pointLedger.record(1L, PointTransactionType.CHARGE, 1000);
+    pointLedger.record(2L, PointTransactionType.CHARGE, 500);
+    pointLedger.record(1L, PointTransactionType.USE, -300);
+    pointLedger.record(3L, PointTransactionType.CHARGE, 100);
+
+    // Act
+    int compacted = compactor.compact();
+
+    // Assert
+    assertThat(compacted).isEqualTo(3);
+    assertThat(fakePointSnapshotRepository.findByUserId(1L))
+        .get()
+        .extracting(PointSnapshot::getBalance, PointSnapshot::getLastTransactionId)
+        .containsExactly(700, 3L);
+    assertThat(pointLedger.balanceOf(2L)).isEqualTo(500);
+  }
+
+  @Test
+  void 다음_압축은_새로_거래가_생긴_회원만_스냅샷에_더한다() {
+    // Arrange
+    pointLedger.record(1L, PointTransactionType.CHARGE, 1000);
+    pointLedger.record(2L, PointTransactionType.CHARGE, 500);
+    compactor.compact();
+    pointLedger.record(1L, PointTransactionType.DEDUCT, -400);
+
+    // Act
+    int compacted = compactor.compact();
+
+    // Assert
+    assertThat(compacted).isEqualTo(1);
+    assertThat(fakePointSnapshotRepository.findByUserId(1L).orElseThrow().getBalance()).isEqualTo(600);
+    assertThat(fakePointSnapshotRepository.findByUserId(2L).orElseThrow().getBalance()).isEqualTo(500);
+  }
+
+  @Test
+  void 스냅샷_이후_거래는_압축_전에도_원장_잔액에_포함된다() {
+    // Arrange
+    pointLedger.record(1L, PointTransactionType.CHARGE, 1000);
+    compactor.compact();
+
+    // Act
+    pointLedger.record(1L, PointTransactionType.REFUND, 200);
+
+    // Assert
+    assertThat(fakePointSnapshotRepository.findByUserId(1L).orElseThrow().getBalance()).isEqualTo(1000);
+    assertThat(pointLedger.balanceOf(1L)).isEqualTo(1200);
+  }
+
+  @Test
+  void 새_거래가_없으면_아무것도_하지_않는다() {
+    // Arrange
+    pointLedger.record(1L, PointTransactionType.CHARGE, 1000);
+    compactor.compact();
+
+    // Act & Assert
+    assertThat(compactor.compact()).isZero();
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.pointservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.pointservice.exception.ErrorCode;
+import com.example.pointservice.exception.PointException;
+import com.example.pointservice.repository.FakePointRepository;
+import com.example.pointservice.repository.FakeTransactionManager;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PointUpdateExecutorTest {
+
+  @Test
+  void 낙관적_모드는_버전_충돌이면_다시_실행한다() {
+    // Arrange
+    PointUpdateExecutor executor = executor(PointLockMode.OPTIMISTIC, 5);
+    AtomicInteger calls = new AtomicInteger();
+
+    // Act - 두 번 충돌 후 성공
+    String result = executor.execute(() -> {
+      if (calls.incrementAndGet() <= 2) {
+        throw new ObjectOptimisticLockingFailureException("Point", 1L);
+      }
+      return "ok";
+    });
+
+    // Assert
+    assertThat(result).isEqualTo("ok");
+    assertThat(calls.get()).isEqualTo(3);
+    assertThat(executor.retries()).isEqualTo(2);
+    assertThat(executor.failures()).isZero();
+  }
+
+  @Test
+  void 낙관적_모드는_재시도를_모두_소진하면_충돌_예외로_실패한다() {
+    // Arrange
+    PointUpdateExecutor executor = executor(PointLockMode.OPTIMISTIC, 3);
+    AtomicInteger calls = new AtomicInteger();
+
+    // Act & Assert
+    assertThatThrownBy(() -> executor.execute(() -> {
+      calls.incrementAndGet();
+      throw new ObjectOptimisticLockingFailureException("Point", 1L);
+    }))
+        .isInstanceOf(PointException.class)
+        .hasMessage(ErrorCode.CONCURRENT_UPDATE_CONFLICT.getMessage());
+    assertThat(calls.get()).isEqualTo(3);
+    assertThat(executor.retries()).isEqualTo(2);
+    assertThat(executor.failures()).isEqualTo(1);
+  }
+
+  @Test
+  void 비관적_모드는_재시도하지_않는다() {
+    // Arrange
+    PointUpdateExecutor executor = executor(PointLockMode.PESSIMISTIC, 5);
+    AtomicInteger calls = new AtomicInteger();
+
+    // Act & Assert
+    assertThatThrownBy(() -> executor.execute(() -> {
+      calls.incrementAndGet();
+      throw new ObjectOptimisticLockingFailureException("Point", 1L);
+    })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(executor.retries()).isZero();
+  }
+
+  @Test
+  void 다른_예외는_재시도하지_않는다() {
+    // Arrange
+    PointUpdateExecutor executor = executor(PointLockMode.OPTIMISTIC, 5);
+    AtomicInteger calls = new AtomicInteger();
+
+    // Act & Assert
+    assertThatThrownBy(() -> executor.execute(() -> {
+      calls.incrementAndGet();
+      throw new PointException(ErrorCode.INSUFFICIENT_BALANCE);
+    })).hasMessage(ErrorCode.INSUFFICIENT_BALANCE.getMessage());
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  private PointUpdateExecutor executor(PointLockMode mode, int maxAttempts) {
+    return new PointUpdateExecutor(new FakePointRepository(), new TransactionTemplate(new FakeTransactionManager()),
+        mode, maxAttempts, 1, 2);
+  }
+}
@@ -2,7 +2,10 @@ package com.example.productservice.controller;
 
 import com.example.productservice.dto.request.CreateProductRequest;
 import com.example.productservice.dto.request.RestoreProductRequest;
+import com.example.productservice.dto.request.RestoreStockBatchRequest;
 import com.example.productservice.dto.request.UpdateProductRequest;
+import com.example.productservice.dto.response.ProductChangeHeadResponse;
+import com.example.productservice.dto.response.ProductChangeResponse;
 import com.example.productservice.dto.response.ProductResponse;
 import com.example.productservice.service.ProductService;
 import com.example.productservice.dto.request.ReduceProductRequest;
@@ -15,6 +18,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -40,6 +44,19 @@ public class ProductController {
     return productService.findAll();
   }
 
+  // 카탈로그 변경 이력 조회 (order-service 상품 복제본 동기화용)
+  @GetMapping("/changes")
+  public List<ProductChangeResponse> findProductChanges(@RequestParam(defaultValue = "0") final Long after,
+      @RequestParam(defaultValue = "500") final int limit) {
+    return productService.findChanges(after, limit);
+  }
+
+  // 가장 최근 변경 ID 조회 (복제본 초기 적재 기준점)
+  @GetMapping("/changes/head")
+  public ProductChangeHeadResponse findProductChangeHead() {
+    return productService.findChangeHead();
+  }
+
   // 상품 상세 조회
   @GetMapping("/{id}")
   public ProductResponse findProductById(@PathVariable final Long id) {
@@ -78,4 +95,11 @@ public class ProductController {
   public void restoreProductStock(@RequestBody RestoreProductRequest request) {
     productService.restoreProduct(request);
   }
+
+  // 여러 상품 재고 일괄 회복 (주문 취소/보상, restoreKey 로 중복 복구 방지)
+  @PostMapping("/restore-stock")
+  @ResponseStatus(HttpStatus.OK)
+  public void restoreProductStocks(@RequestBody final RestoreStockBatchRequest request) {
+    productService.restoreStocks(request);
+  }
 }
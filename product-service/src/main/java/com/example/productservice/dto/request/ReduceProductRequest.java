@@ -1,5 +1,9 @@
 package com.example.productservice.dto.request;
 
-public record ReduceProductRequest(Long id, Integer quantity) {
+// reservationKey 가 있으면 같은 키의 차감은 한 번만 반영한다 (주문 항목 단위)
+public record ReduceProductRequest(Long id, Integer quantity, String reservationKey) {
 
+  public ReduceProductRequest(Long id, Integer quantity) {
+    this(id, quantity, null);
+  }
 }
@@ -0,0 +1,20 @@
+package com.example.productservice.dto.request;
+
+import java.util.List;
+
+/**
+ * 여러 상품 재고 일괄 복구 (주문 취소/보상)
+ * restoreKey 는 항목마다 고유해야 하며, 이미 처리한 키의 항목은 건너뛴다
+ * reservationKey 가 있으면 그 키로 실제로 차감된 경우에만 복구한다
+ */
+public record RestoreStockBatchRequest(
+    List<Item> items
+) {
+
+  public record Item(String restoreKey, Long productId, Integer quantity, String reservationKey) {
+
+    public Item(String restoreKey, Long productId, Integer quantity) {
+      this(restoreKey, productId, quantity, null);
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package com.example.productservice.dto.response;
+
+public record ProductChangeHeadResponse(Long latestChangeId) {
+}
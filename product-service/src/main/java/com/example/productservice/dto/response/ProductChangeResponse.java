@@ -0,0 +1,13 @@
+package com.example.productservice.dto.response;
+
+import com.example.productservice.entity.ProductChange;
+import com.example.productservice.entity.ProductChangeType;
+import java.time.LocalDateTime;
+
+public record ProductChangeResponse(Long changeId, Long productId, ProductChangeType type, String name,
+                                    Integer price, LocalDateTime changedAt) {
+  public static ProductChangeResponse of(ProductChange change) {
+    return new ProductChangeResponse(change.getId(), change.getProductId(), change.getType(), change.getName(),
+        change.getPrice(), change.getChangedAt());
+  }
+}
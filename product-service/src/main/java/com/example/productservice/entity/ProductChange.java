@@ -0,0 +1,86 @@
+package com.example.productservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 카탈로그(이름/가격) 변경 이력
+ * - 상품 변경과 같은 트랜잭션에 저장되며, id 순서가 곧 변경 스트림의 순서
+ * - 재고는 자주 바뀌고 주문 시 원격으로 차감하므로 기록하지 않는다
+ */
+@Entity
+@Table(name = "product_changes")
+public class ProductChange {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long productId;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private ProductChangeType type;
+
+  private String name;
+
+  private Integer price;
+
+  @Column(nullable = false)
+  private LocalDateTime changedAt;
+
+  public ProductChange() {
+  }
+
+  private ProductChange(final Long productId, final ProductChangeType type, final String name, final Integer price) {
+    this.productId = productId;
+    this.type = type;
+    this.name = name;
+    this.price = price;
+    this.changedAt = LocalDateTime.now();
+  }
+
+  public static ProductChange created(final Product product) {
+    return new ProductChange(product.getId(), ProductChangeType.CREATED, product.getName(), product.getPrice());
+  }
+
+  public static ProductChange updated(final Product product) {
+    return new ProductChange(product.getId(), ProductChangeType.UPDATED, product.getName(), product.getPrice());
+  }
+
+  public static ProductChange deleted(final Long productId) {
+    return new ProductChange(productId, ProductChangeType.DELETED, null, null);
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getProductId() {
+    return productId;
+  }
+
+  public ProductChangeType getType() {
+    return type;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Integer getPrice() {
+    return price;
+  }
+
+  public LocalDateTime getChangedAt() {
+    return changedAt;
+  }
+}
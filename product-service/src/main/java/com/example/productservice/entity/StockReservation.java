@@ -0,0 +1,97 @@
+package com.example.productservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 키 단위 재고 차감 기록 (주문 항목마다 하나)
+ * - RESERVED: 차감됨, RELEASED: 차감 후 복구됨
+ * - CANCELLED: 차감 전에 복구 요청이 먼저 도착 - 늦게 도착한 같은 키의 차감은 반영하지 않는다
+ */
+@Entity
+@Table(name = "stock_reservations")
+public class StockReservation {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, unique = true, length = 100)
+  private String reservationKey;
+
+  @Column(nullable = false)
+  private Long productId;
+
+  @Column(nullable = false)
+  private Integer quantity;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private StockReservationStatus status;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  public StockReservation() {
+  }
+
+  private StockReservation(final String reservationKey, final Long productId, final Integer quantity,
+      final StockReservationStatus status) {
+    this.reservationKey = reservationKey;
+    this.productId = productId;
+    this.quantity = quantity;
+    this.status = status;
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  public static StockReservation reserved(final String reservationKey, final Long productId, final Integer quantity) {
+    return new StockReservation(reservationKey, productId, quantity, StockReservationStatus.RESERVED);
+  }
+
+  public static StockReservation cancelled(final String reservationKey, final Long productId, final Integer quantity) {
+    return new StockReservation(reservationKey, productId, quantity, StockReservationStatus.CANCELLED);
+  }
+
+  /**
+   * 차감된 예약만 복구 대상 - 복구해야 하면 true
+   */
+  public boolean release() {
+    if (this.status != StockReservationStatus.RESERVED) {
+      return false;
+    }
+    this.status = StockReservationStatus.RELEASED;
+    this.updatedAt = LocalDateTime.now();
+    return true;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getReservationKey() {
+    return reservationKey;
+  }
+
+  public Long getProductId() {
+    return productId;
+  }
+
+  public Integer getQuantity() {
+    return quantity;
+  }
+
+  public StockReservationStatus getStatus() {
+    return status;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+}
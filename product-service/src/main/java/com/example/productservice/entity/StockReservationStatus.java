@@ -0,0 +1,5 @@
+package com.example.productservice.entity;
+
+public enum StockReservationStatus {
+  RESERVED, RELEASED, CANCELLED
+}
@@ -0,0 +1,64 @@
+package com.example.productservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 처리한 재고 복구 요청 키
+ * - 재고 복구와 같은 트랜잭션에 저장되어, 같은 키로 재시도된 복구는 다시 반영하지 않는다
+ */
+@Entity
+@Table(name = "stock_restorations")
+public class StockRestoration {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, unique = true, length = 100)
+  private String restoreKey;
+
+  @Column(nullable = false)
+  private Long productId;
+
+  @Column(nullable = false)
+  private Integer quantity;
+
+  @Column(nullable = false)
+  private LocalDateTime restoredAt;
+
+  public StockRestoration() {
+  }
+
+  public StockRestoration(final String restoreKey, final Long productId, final Integer quantity) {
+    this.restoreKey = restoreKey;
+    this.productId = productId;
+    this.quantity = quantity;
+    this.restoredAt = LocalDateTime.now();
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getRestoreKey() {
+    return restoreKey;
+  }
+
+  public Long getProductId() {
+    return productId;
+  }
+
+  public Integer getQuantity() {
+    return quantity;
+  }
+
+  public LocalDateTime getRestoredAt() {
+    return restoredAt;
+  }
+}
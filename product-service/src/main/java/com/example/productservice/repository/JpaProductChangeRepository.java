@@ -0,0 +1,22 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.ProductChange;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaProductChangeRepository extends ProductChangeRepository, JpaRepository<ProductChange, Long> {
+
+  List<ProductChange> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+  @Query("SELECT COALESCE(MAX(c.id), 0) FROM ProductChange c")
+  Long findLatestChangeId();
+
+  @Override
+  default List<ProductChange> findChangesAfter(final Long changeId, final int limit) {
+    return findByIdGreaterThanOrderByIdAsc(changeId, Limit.of(limit));
+  }
+}
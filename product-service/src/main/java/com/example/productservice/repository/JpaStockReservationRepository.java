@@ -0,0 +1,10 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.StockReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaStockReservationRepository extends StockReservationRepository,
+    JpaRepository<StockReservation, Long> {
+}
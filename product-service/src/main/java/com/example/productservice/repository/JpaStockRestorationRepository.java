@@ -0,0 +1,23 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.StockRestoration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaStockRestorationRepository extends StockRestorationRepository,
+    JpaRepository<StockRestoration, Long> {
+
+  List<StockRestoration> findByRestoreKeyIn(Collection<String> restoreKeys);
+
+  @Override
+  default Set<String> findRestoredKeys(final Collection<String> restoreKeys) {
+    return findByRestoreKeyIn(restoreKeys).stream()
+        .map(StockRestoration::getRestoreKey)
+        .collect(Collectors.toSet());
+  }
+}
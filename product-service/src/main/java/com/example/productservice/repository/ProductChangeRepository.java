@@ -0,0 +1,10 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.ProductChange;
+import java.util.List;
+
+public interface ProductChangeRepository {
+  ProductChange save(ProductChange change);
+  List<ProductChange> findChangesAfter(Long changeId, int limit);
+  Long findLatestChangeId();
+}
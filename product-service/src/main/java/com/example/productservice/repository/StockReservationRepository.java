@@ -0,0 +1,13 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.StockReservation;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StockReservationRepository {
+  StockReservation save(StockReservation reservation);
+  <S extends StockReservation> List<S> saveAll(Iterable<S> reservations);
+  Optional<StockReservation> findByReservationKey(String reservationKey);
+  List<StockReservation> findByReservationKeyIn(Collection<String> reservationKeys);
+}
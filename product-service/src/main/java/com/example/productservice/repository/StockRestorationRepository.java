@@ -0,0 +1,11 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.StockRestoration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface StockRestorationRepository {
+  <S extends StockRestoration> List<S> saveAll(Iterable<S> restorations);
+  Set<String> findRestoredKeys(Collection<String> restoreKeys);
+}
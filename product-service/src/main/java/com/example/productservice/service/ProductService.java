@@ -3,13 +3,32 @@ package com.example.productservice.service;
 import com.example.productservice.dto.request.CreateProductRequest;
 import com.example.productservice.dto.request.ReduceProductRequest;
 import com.example.productservice.dto.request.RestoreProductRequest;
+import com.example.productservice.dto.request.RestoreStockBatchRequest;
 import com.example.productservice.dto.request.UpdateProductRequest;
+import com.example.productservice.dto.response.ProductChangeHeadResponse;
+import com.example.productservice.dto.response.ProductChangeResponse;
 import com.example.productservice.dto.response.ProductResponse;
 import com.example.productservice.entity.Product;
+import com.example.productservice.entity.ProductChange;
+import com.example.productservice.entity.StockReservation;
+import com.example.productservice.entity.StockRestoration;
+import com.example.productservice.exception.ProductException;
 import com.example.productservice.exception.ProductNotFoundException;
 import com.example.productservice.exception.ProductOutOfStockException;
+import com.example.productservice.repository.ProductChangeRepository;
 import com.example.productservice.repository.ProductRepository;
+import com.example.productservice.repository.StockReservationRepository;
+import com.example.productservice.repository.StockRestorationRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -20,10 +39,22 @@ public class ProductService {
 
   private static final Logger log = LoggerFactory.getLogger(ProductService.class);
 
-  private final ProductRepository productRepository;
+  private static final int MAX_CHANGES_PER_PAGE = 1000;
+  private static final int MAX_RESTORE_ITEMS = 1000;
 
-  public ProductService(final ProductRepository productRepository) {
+  private final ProductRepository productRepository;
+  private final ProductChangeRepository productChangeRepository;
+  private final StockRestorationRepository stockRestorationRepository;
+  private final StockReservationRepository stockReservationRepository;
+
+  public ProductService(final ProductRepository productRepository,
+      final ProductChangeRepository productChangeRepository,
+      final StockRestorationRepository stockRestorationRepository,
+      final StockReservationRepository stockReservationRepository) {
     this.productRepository = productRepository;
+    this.productChangeRepository = productChangeRepository;
+    this.stockRestorationRepository = stockRestorationRepository;
+    this.stockReservationRepository = stockReservationRepository;
   }
 
   public List<ProductResponse> findAll() {
@@ -42,6 +73,8 @@ public class ProductService {
 
     final Product saved = productRepository.save(product);
 
+    productChangeRepository.save(ProductChange.created(saved));
+
     return ProductResponse.of(saved);
   }
 
@@ -51,23 +84,56 @@ public class ProductService {
 
     product.update(request.name(), request.price(), request.stock());
 
+    productChangeRepository.save(ProductChange.updated(product));
+
     return ProductResponse.of(product);
   }
 
   @Transactional
   public void delete(final Long id) {
     productRepository.deleteById(id);
+
+    productChangeRepository.save(ProductChange.deleted(id));
   }
 
+  /**
+   * changeId 이후의 카탈로그 변경 이력 (id 오름차순)
+   */
+  public List<ProductChangeResponse> findChanges(final Long afterChangeId, final int limit) {
+    final int pageSize = Math.max(1, Math.min(limit, MAX_CHANGES_PER_PAGE));
+
+    return productChangeRepository.findChangesAfter(afterChangeId, pageSize).stream()
+        .map(ProductChangeResponse::of)
+        .toList();
+  }
+
+  public ProductChangeHeadResponse findChangeHead() {
+    return new ProductChangeHeadResponse(productChangeRepository.findLatestChangeId());
+  }
+
+  /**
+   * 재고 차감 - reservationKey 가 있으면 같은 키로 이미 차감(또는 취소)된 요청은 다시 반영하지 않는다
+   * 상품 행을 잠근 뒤 키를 확인하므로 같은 키의 동시 요청과 복구 요청은 잠금에서 줄을 선다
+   */
   @Transactional
   public void reduceStock(ReduceProductRequest request) {
     final Product product = findProductByIdForUpdate(request.id());
 
+    final String reservationKey = request.reservationKey();
+    if (reservationKey != null && stockReservationRepository.findByReservationKey(reservationKey).isPresent()) {
+      log.info("이미 처리한 재고 차감 - reservationKey: {}", reservationKey);
+      return;
+    }
+
     if(product.getStock() < request.quantity()) {
       throw new ProductOutOfStockException();
     }
 
     product.reduceStock(request.quantity());
+
+    if (reservationKey != null) {
+      stockReservationRepository.save(StockReservation.reserved(reservationKey, product.getId(), request.quantity()));
+    }
   }
 
   @Transactional
@@ -77,6 +143,77 @@ public class ProductService {
     product.restoreStock(request.restoreQuantity());
   }
 
+  /**
+   * 여러 상품 재고를 한 트랜잭션에서 복구 (주문 취소/보상용)
+   * - 이미 처리한 restoreKey 의 항목은 건너뛰어 재시도해도 두 번 복구되지 않는다
+   * - 상품 ID 오름차순으로 잠가 동시에 들어온 일괄 복구끼리 교착되지 않게 한다
+   * - reservationKey 가 있는 항목은 그 키로 차감된 경우에만 복구하고, 아직 차감 전이면 취소로 기록해
+   *   응답이 유실된 차감이 늦게 도착해도 반영되지 않게 한다
+   * @return 실제로 복구한 항목 수
+   */
+  @Transactional
+  public int restoreStocks(final RestoreStockBatchRequest request) {
+    final List<RestoreStockBatchRequest.Item> items = request.items();
+    if (items == null || items.isEmpty()) {
+      return 0;
+    }
+    if (items.size() > MAX_RESTORE_ITEMS) {
+      throw new ProductException("한 번에 복구할 수 있는 항목은 " + MAX_RESTORE_ITEMS + "개까지입니다.");
+    }
+
+    if (items.stream().anyMatch(item -> item.restoreKey() == null || item.productId() == null)) {
+      throw new ProductException("복구 항목의 restoreKey 와 상품 ID 는 필수입니다.");
+    }
+
+    // 이미 처리한 키와 요청 안에서 중복된 키는 한 번만 반영
+    final Set<String> seenKeys = new HashSet<>(stockRestorationRepository.findRestoredKeys(
+        items.stream().map(RestoreStockBatchRequest.Item::restoreKey).toList()));
+    final List<RestoreStockBatchRequest.Item> pending = items.stream()
+        .filter(item -> seenKeys.add(item.restoreKey()))
+        .toList();
+
+    // 예약 확인도 상품 행 잠금 안에서 해야 같은 키의 차감과 엇갈리지 않는다
+    final Map<Long, Product> lockedProducts = new HashMap<>();
+    pending.stream().map(RestoreStockBatchRequest.Item::productId).distinct().sorted()
+        .forEach(productId -> lockedProducts.put(productId, findProductByIdForUpdate(productId)));
+
+    final Map<String, StockReservation> reservations = stockReservationRepository.findByReservationKeyIn(
+        pending.stream().map(RestoreStockBatchRequest.Item::reservationKey).filter(Objects::nonNull).toList())
+        .stream()
+        .collect(Collectors.toMap(StockReservation::getReservationKey, Function.identity(), (a, b) -> a, HashMap::new));
+    final List<StockReservation> changedReservations = new ArrayList<>();
+    final Map<Long, Integer> quantityByProductId = new TreeMap<>();
+    int restored = 0;
+    for (final RestoreStockBatchRequest.Item item : pending) {
+      if (item.reservationKey() != null) {
+        final StockReservation reservation = reservations.get(item.reservationKey());
+        if (reservation == null) {
+          final StockReservation cancelled =
+              StockReservation.cancelled(item.reservationKey(), item.productId(), item.quantity());
+          reservations.put(item.reservationKey(), cancelled);
+          changedReservations.add(cancelled);
+          continue;
+        }
+        if (!reservation.release()) {
+          continue;
+        }
+        changedReservations.add(reservation);
+      }
+      quantityByProductId.merge(item.productId(), item.quantity(), Integer::sum);
+      restored++;
+    }
+    quantityByProductId.forEach((productId, quantity) -> lockedProducts.get(productId).restoreStock(quantity));
+    stockReservationRepository.saveAll(changedReservations);
+
+    stockRestorationRepository.saveAll(pending.stream()
+        .map(item -> new StockRestoration(item.restoreKey(), item.productId(), item.quantity()))
+        .toList());
+
+    log.info("재고 일괄 복구 - 요청: {}건, 복구: {}건, 상품: {}개", items.size(), restored,
+        quantityByProductId.size());
+    return restored;
+  }
+
   private Product findProductById(final Long id) {
     return productRepository.findById(id)
         .orElseThrow(() -> new ProductNotFoundException(id));
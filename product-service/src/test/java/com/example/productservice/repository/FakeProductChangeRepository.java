@@ -0,0 +1,43 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.ProductChange;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FakeProductChangeRepository implements ProductChangeRepository {
+
+  private final ConcurrentSkipListMap<Long, ProductChange> store = new ConcurrentSkipListMap<>();
+  private final AtomicLong idGenerator = new AtomicLong(1);
+
+  @Override
+  public ProductChange save(ProductChange change) {
+    setChangeId(change, idGenerator.getAndIncrement());
+    store.put(change.getId(), change);
+    return change;
+  }
+
+  @Override
+  public List<ProductChange> findChangesAfter(Long changeId, int limit) {
+    return store.tailMap(changeId, false).values().stream()
+        .limit(limit)
+        .toList();
+  }
+
+  @Override
+  public Long findLatestChangeId() {
+    return store.isEmpty() ? 0L : store.lastKey();
+  }
+
+  private void setChangeId(ProductChange change, Long id) {
+    try {
+      Field idField = ProductChange.class.getDeclaredField("id");
+      idField.setAccessible(true);
+      idField.set(change, id);
+    } catch (Exception e) {
+      throw new RuntimeException("ID 설정 실패", e);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.StockReservation;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FakeStockReservationRepository implements StockReservationRepository {
+
+  private final Map<String, StockReservation> store = new ConcurrentHashMap<>();
+  private final AtomicLong idGenerator = new AtomicLong(1);
+
+  @Override
+  public StockReservation save(StockReservation reservation) {
+    if (reservation.getId() == null) {
+      if (store.putIfAbsent(reservation.getReservationKey(), reservation) != null) {
+        throw new IllegalStateException("중복된 reservationKey: " + reservation.getReservationKey());
+      }
+      setId(reservation, idGenerator.getAndIncrement());
+    }
+    return reservation;
+  }
+
+  @Override
+  public <S extends StockReservation> List<S> saveAll(Iterable<S> reservations) {
+    List<S> saved = new ArrayList<>();
+    reservations.forEach(reservation -> {
+      save(reservation);
+      saved.add(reservation);
+    });
+    return saved;
+  }
+
+  @Override
+  public Optional<StockReservation> findByReservationKey(String reservationKey) {
+    return Optional.ofNullable(store.get(reservationKey));
+  }
+
+  @Override
+  public List<StockReservation> findByReservationKeyIn(Collection<String> reservationKeys) {
+    return reservationKeys.stream()
+        .map(store::get)
+        .filter(reservation -> reservation != null)
+        .toList();
+  }
+
+  private void setId(StockReservation reservation, Long id) {
+    try {
+      Field idField = StockReservation.class.getDeclaredField("id");
+      idField.setAccessible(true);
+      idField.set(reservation, id);
+    } catch (Exception e) {
+      throw new RuntimeException("ID 설정 실패", e);
+    }
+  }
+}
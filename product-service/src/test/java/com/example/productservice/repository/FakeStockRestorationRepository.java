@@ -0,0 +1,39 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.entity.StockRestoration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class FakeStockRestorationRepository implements StockRestorationRepository {
+
+  private final Map<String, StockRestoration> store = new ConcurrentHashMap<>();
+
+  @Override
+  public <S extends StockRestoration> List<S> saveAll(Iterable<S> restorations) {
+    List<S> saved = new ArrayList<>();
+    restorations.forEach(restoration -> {
+      if (store.putIfAbsent(restoration.getRestoreKey(), restoration) != null) {
+        throw new IllegalStateException("중복된 restoreKey: " + restoration.getRestoreKey());
+      }
+      saved.add(restoration);
+    });
+    return saved;
+  }
+
+  @Override
+  public Set<String> findRestoredKeys(Collection<String> restoreKeys) {
+    return restoreKeys.stream()
+        .filter(store::containsKey)
+        .collect(Collectors.toSet());
+  }
+
+  public int size() {
+    return store.size();
+  }
+}
@@ -1,10 +1,18 @@
 package com.example.productservice.service;
 
 import com.example.productservice.dto.request.CreateProductRequest;
+import com.example.productservice.dto.request.ReduceProductRequest;
+import com.example.productservice.dto.request.RestoreStockBatchRequest;
+import com.example.productservice.dto.request.RestoreStockBatchRequest.Item;
 import com.example.productservice.dto.request.UpdateProductRequest;
+import com.example.productservice.dto.response.ProductChangeResponse;
 import com.example.productservice.dto.response.ProductResponse;
+import com.example.productservice.entity.ProductChangeType;
 import com.example.productservice.exception.ProductNotFoundException;
+import com.example.productservice.repository.FakeProductChangeRepository;
 import com.example.productservice.repository.FakeProductRepository;
+import com.example.productservice.repository.FakeStockReservationRepository;
+import com.example.productservice.repository.FakeStockRestorationRepository;
 import com.example.productservice.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,7 +29,8 @@ class ProductServiceTest {
   @BeforeEach
   void setUp() {
     final ProductRepository productRepository = new FakeProductRepository();
-    productService = new ProductService(productRepository);
+    productService = new ProductService(productRepository, new FakeProductChangeRepository(),
+        new FakeStockRestorationRepository(), new FakeStockReservationRepository());
   }
 
   @Test
@@ -92,4 +101,95 @@ class ProductServiceTest {
     assertThatThrownBy(() -> productService.findById(savedProduct.id()))
         .isInstanceOf(RuntimeException.class);
   }
-}
\ No newline at end of file
+
+  @Test
+  void 상품_생성_수정_삭제는_변경_이력으로_순서대로_기록된다() {
+    ProductResponse saved = productService.save(new CreateProductRequest("노트북", 1000000, 10));
+    productService.update(saved.id(), new UpdateProductRequest("노트북 Pro", 1200000, 10));
+    productService.delete(saved.id());
+
+    List<ProductChangeResponse> changes = productService.findChanges(0L, 100);
+
+    assertThat(changes).extracting(ProductChangeResponse::type)
+        .containsExactly(ProductChangeType.CREATED, ProductChangeType.UPDATED, ProductChangeType.DELETED);
+    assertThat(changes.get(1).name()).isEqualTo("노트북 Pro");
+    assertThat(changes.get(1).price()).isEqualTo(1200000);
+    assertThat(productService.findChangeHead().latestChangeId()).isEqualTo(changes.get(2).changeId());
+  }
+
+  @Test
+  void 변경_이력은_지정한_ID_이후부터_limit_만큼_조회된다() {
+    for (int i = 1; i <= 5; i++) {
+      productService.save(new CreateProductRequest("상품" + i, 1000 * i, 1));
+    }
+
+    List<ProductChangeResponse> changes = productService.findChanges(2L, 2);
+
+    assertThat(changes).extracting(ProductChangeResponse::changeId).containsExactly(3L, 4L);
+  }
+
+  @Test
+  void 여러_상품_재고를_한_번에_복구한다() {
+    ProductResponse pencil = productService.save(new CreateProductRequest("연필", 500, 10));
+    ProductResponse eraser = productService.save(new CreateProductRequest("지우개", 300, 20));
+
+    int restored = productService.restoreStocks(new RestoreStockBatchRequest(List.of(
+        new Item("task-1", pencil.id(), 2),
+        new Item("task-2", eraser.id(), 3),
+        new Item("task-3", pencil.id(), 1))));
+
+    assertThat(restored).isEqualTo(3);
+    assertThat(productService.findById(pencil.id()).stock()).isEqualTo(13);
+    assertThat(productService.findById(eraser.id()).stock()).isEqualTo(23);
+  }
+
+  @Test
+  void 이미_처리한_restoreKey_로_재시도하면_다시_복구하지_않는다() {
+    ProductResponse pencil = productService.save(new CreateProductRequest("연필", 500, 10));
+    productService.restoreStocks(new RestoreStockBatchRequest(List.of(new Item("task-1", pencil.id(), 2))));
+
+    int restored = productService.restoreStocks(new RestoreStockBatchRequest(List.of(
+        new Item("task-1", pencil.id(), 2),
+        new Item("task-2", pencil.id(), 5))));
+
+    assertThat(restored).isEqualTo(1);
+    assertThat(productService.findById(pencil.id()).stock()).isEqualTo(17);
+  }
+
+  @Test
+  void 같은_예약_키로_다시_차감하면_한_번만_차감한다() {
+    ProductResponse pencil = productService.save(new CreateProductRequest("연필", 500, 10));
+
+    productService.reduceStock(new ReduceProductRequest(pencil.id(), 3, "order-1-item-1"));
+    productService.reduceStock(new ReduceProductRequest(pencil.id(), 3, "order-1-item-1"));
+
+    assertThat(productService.findById(pencil.id()).stock()).isEqualTo(7);
+  }
+
+  @Test
+  void 예약_키가_있는_복구는_그_키로_차감된_수량만_한_번_복구한다() {
+    ProductResponse pencil = productService.save(new CreateProductRequest("연필", 500, 10));
+    productService.reduceStock(new ReduceProductRequest(pencil.id(), 3, "order-1-item-1"));
+
+    int restored = productService.restoreStocks(new RestoreStockBatchRequest(List.of(
+        new Item("task-1", pencil.id(), 3, "order-1-item-1"),
+        new Item("task-2", pencil.id(), 2, "order-1-item-2"))));
+    int restoredAgain = productService.restoreStocks(new RestoreStockBatchRequest(List.of(
+        new Item("task-3", pencil.id(), 3, "order-1-item-1"))));
+
+    assertThat(restored).isEqualTo(1);
+    assertThat(restoredAgain).isZero();
+    assertThat(productService.findById(pencil.id()).stock()).isEqualTo(10);
+  }
+
+  @Test
+  void 복구가_차감보다_먼저_도착하면_늦게_온_차감은_반영하지_않는다() {
+    ProductResponse pencil = productService.save(new CreateProductRequest("연필", 500, 10));
+    productService.restoreStocks(new RestoreStockBatchRequest(List.of(
+        new Item("task-1", pencil.id(), 3, "order-1-item-1"))));
+
+    productService.reduceStock(new ReduceProductRequest(pencil.id(), 3, "order-1-item-1"));
+
+    assertThat(productService.findById(pencil.id()).stock()).isEqualTo(10);
+  }
+}